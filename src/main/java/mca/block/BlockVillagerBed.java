@@ -11,7 +11,6 @@ import java.util.Random;
 
 import mca.core.MCA;
 import mca.entity.AbstractEntity;
-import mca.network.packets.PacketSetFieldValue;
 import mca.tileentity.TileEntityVillagerBed;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockDirectional;
@@ -226,8 +225,8 @@ public abstract class BlockVillagerBed extends BlockDirectional implements ITile
 							villager.resetBedStatus();
 							villager.texture = villager.texture.replace("/skins/sleeping/", "/skins/");
 
-							MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(villager.getEntityId(), "texture", villager.texture));
-							MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(villager.getEntityId(), "isSleeping", villager.isSleeping));
+							villager.markFieldDirty("texture");
+							villager.markFieldDirty("isSleeping");
 						}
 					}
 
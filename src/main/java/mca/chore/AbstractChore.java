@@ -10,10 +10,10 @@ package mca.chore;
 import java.io.Serializable;
 
 import mca.core.MCA;
+import mca.core.util.NBTFieldCodec;
 import mca.entity.AbstractEntity;
 import mca.entity.EntityPlayerChild;
 import mca.network.packets.PacketNotifyPlayer;
-import mca.network.packets.PacketSetFieldValue;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
@@ -66,18 +66,45 @@ public abstract class AbstractChore implements Serializable
 	public abstract void endChore();
 
 	/**
-	 * Writes the chore to NBT.
+	 * Writes the chore to NBT under its own tag.
 	 * 
 	 * @param nbt The NBTTagCompound to write the chore to.
 	 */
-	public abstract void writeChoreToNBT(NBTTagCompound nbt);
+	public void writeChoreToNBT(NBTTagCompound nbt)
+	{
+		final NBTTagCompound choreNBT = new NBTTagCompound();
+		NBTFieldCodec.forClass(getClass(), AbstractChore.class).write(this, choreNBT);
+		nbt.setTag(getChoreNBTName(), choreNBT);
+	}
 
 	/**
 	 * Reads the chore from NBT.
 	 * 
 	 * @param nbt The NBTTagCompound to read the chore from.
 	 */
-	public abstract void readChoreFromNBT(NBTTagCompound nbt);
+	public void readChoreFromNBT(NBTTagCompound nbt)
+	{
+		final NBTFieldCodec codec = NBTFieldCodec.forClass(getClass(), AbstractChore.class);
+
+		if (nbt.hasKey(getChoreNBTName()))
+		{
+			codec.read(this, nbt.getCompoundTag(getChoreNBTName()));
+		}
+
+		else
+		{
+			//Chores used to be written directly to the entity's NBT.
+			codec.read(this, nbt);
+		}
+	}
+
+	/**
+	 * @return The key of the tag that this chore is saved under.
+	 */
+	protected String getChoreNBTName()
+	{
+		return "chore" + getChoreName();
+	}
 
 	/**
 	 * Calculates delay amount depending on the tool provided.
@@ -135,7 +162,7 @@ public abstract class AbstractChore implements Serializable
 
 			if (!owner.worldObj.isRemote)
 			{
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(owner.getEntityId(), getChoreXpName(), getChoreXp()));
+				owner.markFieldDirty(getChoreXpName());
 			}
 		}
 	}
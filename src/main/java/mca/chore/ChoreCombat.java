@@ -7,16 +7,12 @@
 
 package mca.chore;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.List;
-
 import mca.core.Constants;
 import mca.core.MCA;
+import mca.core.util.ThreatMap;
 import mca.core.util.Utility;
 import mca.entity.AbstractEntity;
 import mca.entity.EntityPlayerChild;
-import mca.network.packets.PacketSetFieldValue;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.monster.EntityCreeper;
@@ -33,8 +29,6 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.projectile.EntityArrow;
 import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.MathHelper;
 
@@ -157,96 +151,6 @@ public class ChoreCombat extends AbstractChore
 		hasEnded = true;
 	}
 
-	@Override
-	public void writeChoreToNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and write to NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						nbt.setInteger(field.getName(), (Integer) field.get(owner.combatChore));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						nbt.setDouble(field.getName(), (Double) field.get(owner.combatChore));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						nbt.setFloat(field.getName(), (Float) field.get(owner.combatChore));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						nbt.setString(field.getName(), (String) field.get(owner.combatChore));
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						nbt.setBoolean(field.getName(), (Boolean) field.get(owner.combatChore));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
-	}
-
-	@Override
-	public void readChoreFromNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and read it from NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						field.set(owner.combatChore, nbt.getInteger(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						field.set(owner.combatChore, nbt.getDouble(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						field.set(owner.combatChore, nbt.getFloat(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						field.set(owner.combatChore, nbt.getString(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						field.set(owner.combatChore, nbt.getBoolean(field.getName()));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
-	}
-
 	@Override
 	protected int getDelayForToolType(ItemStack toolStack)
 	{
@@ -364,13 +268,13 @@ public class ChoreCombat extends AbstractChore
 					if (isWithinSentryArea() && !owner.isStaying)
 					{
 						owner.isStaying = true;
-						MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(owner.getEntityId(), "isStaying", owner.isStaying));
+						owner.markFieldDirty("isStaying");
 					}
 
 					else if (!isWithinSentryArea() && owner.isStaying)
 					{
 						owner.isStaying = false;
-						MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(owner.getEntityId(), "isStaying", owner.isStaying));
+						owner.markFieldDirty("isStaying");
 						owner.getNavigator().setPath(owner.getNavigator().getPathToXYZ(sentryPosX, sentryPosY, sentryPosZ), Constants.SPEED_WALK);
 					}
 				}
@@ -379,7 +283,7 @@ public class ChoreCombat extends AbstractChore
 			else if (owner.target != null && owner.isStaying)
 			{
 				owner.isStaying = false;
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(owner.getEntityId(), "isStaying", owner.isStaying));
+				owner.markFieldDirty("isStaying");
 			}
 		}
 	}
@@ -391,49 +295,27 @@ public class ChoreCombat extends AbstractChore
 	{
 		if (owner.target == null)
 		{
+			final ThreatMap threatMap = ThreatMap.forWorld(owner.worldObj);
+			final double radius = sentryMode ? sentryRadius : 15;
 			EntityLivingBase closestEntity = null;
-			List<Entity> entitiesAroundMe = null;
 
-			if (sentryMode)
+			//Creatures are nearest first, so the first one set as attackable is the closest.
+			for (final EntityLivingBase entity : threatMap.getThreatsByDistance(owner, radius, 3))
 			{
-				entitiesAroundMe = owner.worldObj.getEntitiesWithinAABBExcludingEntity(owner, AxisAlignedBB.getBoundingBox(owner.posX - sentryRadius, owner.posY - 3, owner.posZ - sentryRadius, owner.posX + sentryRadius, owner.posY + 3, owner.posZ + sentryRadius));
-			}
-
-			else
-			{
-				entitiesAroundMe = owner.worldObj.getEntitiesWithinAABBExcludingEntity(owner, AxisAlignedBB.getBoundingBox(owner.posX - 15, owner.posY - 3, owner.posZ - 15, owner.posX + 15, owner.posY + 3, owner.posZ + 15));
-			}
-
-			//Find the closest entity.
-			for (final Entity entity : entitiesAroundMe)
-			{
-				if (entity instanceof EntityLivingBase && !(entity instanceof EntityPlayer) && !(entity instanceof AbstractEntity))
+				//Determine if they should attack by checking the target's class against entities selected as attackable.
+				if (isSetToAttackEntity(entity))
 				{
-					//Determine if they should attack by checking the target's class against entities selected as attackable.
-					if (isSetToAttackEntity(entity))
-					{
-						if (closestEntity == null)
-						{
-							closestEntity = (EntityLivingBase) entity;
-						}
-
-						else
-						{
-							if (owner.getDistanceToEntity(entity) < owner.getDistanceToEntity(closestEntity))
-							{
-								closestEntity = (EntityLivingBase) entity;
-							}
-						}
-					}
+					closestEntity = entity;
+					break;
+				}
 
-					else if (isUnknownEntityValidTarget(entity))
-					{
-						closestEntity = (EntityLivingBase) entity;
-					}
+				else if (closestEntity == null && isUnknownEntityValidTarget(entity))
+				{
+					closestEntity = entity;
 				}
 			}
 
-			if (owner.canEntityBeSeen(closestEntity))
+			if (closestEntity != null && threatMap.canSee(owner, closestEntity))
 			{
 				owner.target = closestEntity;
 			}
@@ -7,14 +7,13 @@
 
 package mca.chore;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.List;
 
 import mca.api.chores.CookableFood;
 import mca.api.registries.ChoreRegistry;
 import mca.core.Constants;
 import mca.core.MCA;
+import mca.core.util.FurnaceReservations;
 import mca.core.util.Utility;
 import mca.entity.AbstractEntity;
 import mca.network.packets.PacketAddAI;
@@ -25,7 +24,6 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntityFurnace;
 
 import com.radixshock.radixcore.constant.Time;
@@ -103,6 +101,18 @@ public class ChoreCooking extends AbstractChore
 	{
 		if (!owner.worldObj.isRemote)
 		{
+			if (hasFurnace)
+			{
+				final FurnaceReservations reservations = FurnaceReservations.forWorld(owner.worldObj);
+
+				//Reservations are not saved, so take the furnace again after the villager's chunk or the world reloads.
+				//Look for another furnace if someone else took it in the meantime.
+				if (!reservations.holdsFurnace(owner.mcaID))
+				{
+					hasFurnace = reservations.tryReserve(furnacePosX, furnacePosY, furnacePosZ, owner.mcaID);
+				}
+			}
+
 			if (hasFurnace)
 			{
 				if (hasFuel)
@@ -156,101 +166,20 @@ public class ChoreCooking extends AbstractChore
 			MCA.packetHandler.sendPacketToAllPlayers(new PacketAddAI(owner.getEntityId()));
 		}
 
-		furnacePosX = 0;
-		furnacePosY = 0;
-		furnacePosZ = 0;
-		BlockFurnace.updateFurnaceBlockState(false, owner.worldObj, furnacePosX, furnacePosY, furnacePosZ);
-		owner.addAI();
-	}
-
-	@Override
-	public void writeChoreToNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and write to NBT.
-		for (final Field field : this.getClass().getFields())
+		if (!owner.worldObj.isRemote)
 		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						nbt.setInteger(field.getName(), (Integer) field.get(owner.fishingChore));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						nbt.setDouble(field.getName(), (Double) field.get(owner.fishingChore));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						nbt.setFloat(field.getName(), (Float) field.get(owner.fishingChore));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						nbt.setString(field.getName(), (String) field.get(owner.fishingChore));
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						nbt.setBoolean(field.getName(), (Boolean) field.get(owner.fishingChore));
-					}
-				}
-			}
+			FurnaceReservations.forWorld(owner.worldObj).release(owner.mcaID);
 
-			catch (final IllegalAccessException e)
+			if (owner.worldObj.getBlock(furnacePosX, furnacePosY, furnacePosZ) == Blocks.lit_furnace)
 			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
+				BlockFurnace.updateFurnaceBlockState(false, owner.worldObj, furnacePosX, furnacePosY, furnacePosZ);
 			}
 		}
-	}
-
-	@Override
-	public void readChoreFromNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and read from NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						field.set(owner.fishingChore, nbt.getInteger(field.getName()));
-					}
 
-					else if (field.getType().toString().contains("double"))
-					{
-						field.set(owner.fishingChore, nbt.getDouble(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						field.set(owner.fishingChore, nbt.getFloat(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						field.set(owner.fishingChore, nbt.getString(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						field.set(owner.fishingChore, nbt.getBoolean(field.getName()));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
+		furnacePosX = 0;
+		furnacePosY = 0;
+		furnacePosZ = 0;
+		owner.addAI();
 	}
 
 	@Override
@@ -321,23 +250,31 @@ public class ChoreCooking extends AbstractChore
 	private boolean isFurnaceNearby()
 	{
 		final List<Point3D> nearbyFurnaces = LogicHelper.getNearbyBlocks_StartAtBottom(owner, Blocks.furnace, 10, 2);
+		final FurnaceReservations reservations = FurnaceReservations.forWorld(owner.worldObj);
 
+		Point3D nearestFurnace = null;
 		double distanceToFurnace = 35.0D;
 
 		for (final Point3D point : nearbyFurnaces)
 		{
 			final double distanceToPoint = LogicHelper.getDistanceToXYZ(owner.posX, owner.posY, owner.posZ, point.dPosX, point.dPosY, point.dPosZ);
 
-			if (distanceToPoint < distanceToFurnace)
+			//Skip furnaces that another villager is cooking at.
+			if (distanceToPoint < distanceToFurnace && reservations.getCookingVillager(point.iPosX, point.iPosY, point.iPosZ) == null)
 			{
-				furnacePosX = point.iPosX;
-				furnacePosY = point.iPosY;
-				furnacePosZ = point.iPosZ;
+				nearestFurnace = point;
 				distanceToFurnace = distanceToPoint;
 			}
 		}
 
-		hasFurnace = !nearbyFurnaces.isEmpty();
+		if (nearestFurnace != null)
+		{
+			furnacePosX = nearestFurnace.iPosX;
+			furnacePosY = nearestFurnace.iPosY;
+			furnacePosZ = nearestFurnace.iPosZ;
+			hasFurnace = reservations.tryReserve(furnacePosX, furnacePosY, furnacePosZ, owner.mcaID);
+		}
+
 		return hasFurnace;
 	}
 
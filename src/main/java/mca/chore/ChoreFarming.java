@@ -7,8 +7,6 @@
 
 package mca.chore;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.List;
 
 import mca.api.chores.FarmableCrop;
@@ -16,6 +14,7 @@ import mca.api.enums.EnumFarmType;
 import mca.api.registries.ChoreRegistry;
 import mca.core.Constants;
 import mca.core.MCA;
+import mca.core.util.ChoreBlockIndex;
 import mca.core.util.LogicExtension;
 import mca.core.util.Utility;
 import mca.entity.AbstractEntity;
@@ -29,7 +28,6 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.Item.ToolMaterial;
 import net.minecraft.item.ItemHoe;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ChatComponentText;
 
 import com.radixshock.radixcore.logic.LogicHelper;
@@ -229,96 +227,6 @@ public class ChoreFarming extends AbstractChore
 		owner.addAI();
 	}
 
-	@Override
-	public void writeChoreToNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and write to NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						nbt.setInteger(field.getName(), Integer.parseInt(field.get(owner.farmingChore).toString()));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						nbt.setDouble(field.getName(), Double.parseDouble(field.get(owner.farmingChore).toString()));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						nbt.setFloat(field.getName(), Float.parseFloat(field.get(owner.farmingChore).toString()));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						nbt.setString(field.getName(), field.get(owner.farmingChore).toString());
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						nbt.setBoolean(field.getName(), Boolean.parseBoolean(field.get(owner.farmingChore).toString()));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
-	}
-
-	@Override
-	public void readChoreFromNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and read from NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						field.set(owner.farmingChore, nbt.getInteger(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						field.set(owner.farmingChore, nbt.getDouble(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						field.set(owner.farmingChore, nbt.getFloat(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						field.set(owner.farmingChore, nbt.getString(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						field.set(owner.farmingChore, nbt.getBoolean(field.getName()));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
-	}
-
 	@Override
 	protected int getDelayForToolType(ItemStack toolStack)
 	{
@@ -645,28 +553,57 @@ public class ChoreFarming extends AbstractChore
 
 			else
 			{
-				final List<Point3D> nearbyDirt = LogicHelper.getNearbyBlocks_StartAtBottom(owner, Blocks.dirt, radius);
+				final Point3D dirt = getNearestDirtBesideCrop(entry);
 
-				for (final Point3D point : nearbyDirt)
+				if (dirt != null)
 				{
-					final Block blockAdj1 = owner.worldObj.getBlock(point.iPosX + 1, point.iPosY + 1, point.iPosZ);
-					final Block blockAdj2 = owner.worldObj.getBlock(point.iPosX - 1, point.iPosY + 1, point.iPosZ);
-					final Block blockAdj3 = owner.worldObj.getBlock(point.iPosX, point.iPosY + 1, point.iPosZ + 1);
-					final Block blockAdj4 = owner.worldObj.getBlock(point.iPosX, point.iPosY + 1, point.iPosZ - 1);
+					cropEntry = entry;
+					targetX = dirt.iPosX;
+					targetY = dirt.iPosY;
+					targetZ = dirt.iPosZ;
+					hasNextPathBlock = true;
 
-					if (blockAdj1 == entry.getBlockCrop() || blockAdj2 == entry.getBlockCrop() || blockAdj3 == entry.getBlockCrop() || blockAdj4 == entry.getBlockCrop())
-					{
-						cropEntry = entry;
-						targetX = point.iPosX;
-						targetY = point.iPosY;
-						targetZ = point.iPosZ;
-						hasNextPathBlock = true;
+					return;
+				}
+			}
+		}
+	}
 
-						return;
+	/**
+	 * Finds the closest dirt block within the farming radius that is diagonally below a crop of the provided type, so
+	 * that it can be tilled and planted.
+	 */
+	private Point3D getNearestDirtBesideCrop(FarmableCrop entry)
+	{
+		final int centerX = (int) owner.posX;
+		final int centerY = (int) owner.posY;
+		final int centerZ = (int) owner.posZ;
+		Point3D nearestDirt = null;
+		double nearestDistanceSq = Double.MAX_VALUE;
+
+		//Dirt is searched 3 blocks above and below the owner, so crops beside it are 2 below to 4 above.
+		for (final Point3D crop : ChoreBlockIndex.forWorld(owner.worldObj).getBlocks(centerX, centerY + 1, centerZ, entry.getBlockCrop(), -1, radius + 1, 3))
+		{
+			for (int side = 0; side < 4; side++)
+			{
+				final int dirtX = crop.iPosX + (side == 0 ? 1 : side == 1 ? -1 : 0);
+				final int dirtY = crop.iPosY - 1;
+				final int dirtZ = crop.iPosZ + (side == 2 ? 1 : side == 3 ? -1 : 0);
+
+				if (Math.abs(dirtX - centerX) <= radius && Math.abs(dirtZ - centerZ) <= radius && Math.abs(dirtY - centerY) <= 3 && owner.worldObj.getBlock(dirtX, dirtY, dirtZ) == Blocks.dirt)
+				{
+					final double distanceSq = owner.getDistanceSq(dirtX, dirtY, dirtZ);
+
+					if (distanceSq < nearestDistanceSq)
+					{
+						nearestDirt = new Point3D(dirtX, dirtY, dirtZ);
+						nearestDistanceSq = distanceSq;
 					}
 				}
 			}
 		}
+
+		return nearestDirt;
 	}
 
 	private boolean canDoNextMaintainTask()
@@ -7,8 +7,6 @@
 
 package mca.chore;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.List;
 
 import mca.api.chores.CatchableFish;
@@ -28,7 +26,6 @@ import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ChatComponentText;
 
 import com.radixshock.radixcore.logic.LogicHelper;
@@ -191,96 +188,6 @@ public class ChoreFishing extends AbstractChore
 		owner.addAI();
 	}
 
-	@Override
-	public void writeChoreToNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and write to NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						nbt.setInteger(field.getName(), (Integer) field.get(owner.fishingChore));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						nbt.setDouble(field.getName(), (Double) field.get(owner.fishingChore));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						nbt.setFloat(field.getName(), (Float) field.get(owner.fishingChore));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						nbt.setString(field.getName(), (String) field.get(owner.fishingChore));
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						nbt.setBoolean(field.getName(), (Boolean) field.get(owner.fishingChore));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
-	}
-
-	@Override
-	public void readChoreFromNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and read from NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						field.set(owner.fishingChore, nbt.getInteger(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						field.set(owner.fishingChore, nbt.getDouble(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						field.set(owner.fishingChore, nbt.getFloat(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						field.set(owner.fishingChore, nbt.getString(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						field.set(owner.fishingChore, nbt.getBoolean(field.getName()));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
-	}
-
 	@Override
 	protected int getDelayForToolType(ItemStack toolStack)
 	{
@@ -7,9 +7,6 @@
 
 package mca.chore;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-
 import mca.api.chores.HuntableAnimal;
 import mca.api.registries.ChoreRegistry;
 import mca.core.MCA;
@@ -24,7 +21,6 @@ import net.minecraft.item.Item;
 import net.minecraft.item.ItemBow;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.ItemSword;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ChatComponentText;
 import net.minecraft.world.World;
 
@@ -120,12 +116,12 @@ public class ChoreHunting extends AbstractChore
 					if (owner instanceof EntityPlayerChild)
 					{
 						final EntityPlayerChild child = (EntityPlayerChild) owner;
-						final WorldPropertiesManager manager = MCA.getInstance().playerWorldManagerMap.get(child.ownerPlayerName);
+						final WorldPropertiesManager manager = MCA.getInstance().getWorldPropertiesManager(child.ownerPlayerName);
 
 						if (manager != null && MCA.getInstance().getWorldProperties(manager).heirId == child.mcaID)
 						{
 							MCA.getInstance().getWorldProperties(manager).heirId = -1;
-							manager.saveWorldProperties();
+							MCA.getInstance().worldPropertiesStore.save(manager);
 						}
 					}
 
@@ -180,96 +176,6 @@ public class ChoreHunting extends AbstractChore
 		MCA.packetHandler.sendPacketToAllPlayers(new PacketSetChore(owner.getEntityId(), this));
 	}
 
-	@Override
-	public void writeChoreToNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and write to NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						nbt.setInteger(field.getName(), Integer.parseInt(field.get(owner.huntingChore).toString()));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						nbt.setDouble(field.getName(), Double.parseDouble(field.get(owner.huntingChore).toString()));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						nbt.setFloat(field.getName(), Float.parseFloat(field.get(owner.huntingChore).toString()));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						nbt.setString(field.getName(), field.get(owner.huntingChore).toString());
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						nbt.setBoolean(field.getName(), Boolean.parseBoolean(field.get(owner.huntingChore).toString()));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
-	}
-
-	@Override
-	public void readChoreFromNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and read from NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						field.set(owner.huntingChore, nbt.getInteger(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						field.set(owner.huntingChore, nbt.getDouble(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						field.set(owner.huntingChore, nbt.getFloat(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						field.set(owner.huntingChore, nbt.getString(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						field.set(owner.huntingChore, nbt.getBoolean(field.getName()));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
-	}
-
 	@Override
 	protected int getDelayForToolType(ItemStack toolStack)
 	{
@@ -7,13 +7,11 @@
 
 package mca.chore;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-
 import mca.api.chores.MineableOre;
 import mca.api.registries.ChoreRegistry;
 import mca.core.Constants;
 import mca.core.MCA;
+import mca.core.util.ChoreBlockIndex;
 import mca.entity.AbstractEntity;
 import mca.entity.EntityPlayerChild;
 import mca.network.packets.PacketAddAI;
@@ -25,7 +23,6 @@ import net.minecraft.item.Item;
 import net.minecraft.item.Item.ToolMaterial;
 import net.minecraft.item.ItemPickaxe;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ChatComponentText;
 
 import com.radixshock.radixcore.constant.Time;
@@ -205,96 +202,6 @@ public class ChoreMining extends AbstractChore
 		owner.addAI();
 	}
 
-	@Override
-	public void writeChoreToNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and write to NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						nbt.setInteger(field.getName(), Integer.parseInt(field.get(owner.miningChore).toString()));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						nbt.setDouble(field.getName(), Double.parseDouble(field.get(owner.miningChore).toString()));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						nbt.setFloat(field.getName(), Float.parseFloat(field.get(owner.miningChore).toString()));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						nbt.setString(field.getName(), field.get(owner.miningChore).toString());
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						nbt.setBoolean(field.getName(), Boolean.parseBoolean(field.get(owner.miningChore).toString()));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
-	}
-
-	@Override
-	public void readChoreFromNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and read from NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						field.set(owner.miningChore, nbt.getInteger(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						field.set(owner.miningChore, nbt.getDouble(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						field.set(owner.miningChore, nbt.getFloat(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						field.set(owner.miningChore, nbt.getString(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						field.set(owner.miningChore, nbt.getBoolean(field.getName()));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
-	}
-
 	@Override
 	protected int getDelayForToolType(ItemStack toolStack)
 	{
@@ -478,20 +385,7 @@ public class ChoreMining extends AbstractChore
 
 	private Point3D getNearestBlockCoordinates()
 	{
-		final double lastDistance = 100D;
-		Point3D nearestPoint = null;
-
-		for (final Point3D point : LogicHelper.getNearbyBlocks_StartAtBottom(owner, searchBlock, 20))
-		{
-			final double thisDistance = LogicHelper.getDistanceToXYZ(owner.posX, owner.posY, owner.posZ, point.dPosX, point.dPosY, point.dPosZ);
-
-			if (thisDistance < lastDistance)
-			{
-				nearestPoint = point;
-			}
-		}
-
-		return nearestPoint;
+		return ChoreBlockIndex.forWorld(owner.worldObj).getNearestBlock(owner, searchBlock, -1, 20, 3);
 	}
 
 	private boolean isNextBlockInvalid()
@@ -7,13 +7,12 @@
 
 package mca.chore;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.List;
 
 import mca.api.chores.CuttableLog;
 import mca.core.Constants;
 import mca.core.MCA;
+import mca.core.util.ChoreBlockIndex;
 import mca.core.util.Utility;
 import mca.entity.AbstractEntity;
 import mca.entity.EntityPlayerChild;
@@ -25,7 +24,6 @@ import net.minecraft.init.Blocks;
 import net.minecraft.item.Item.ToolMaterial;
 import net.minecraft.item.ItemAxe;
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ChatComponentText;
 
 import com.radixshock.radixcore.logic.LogicHelper;
@@ -197,96 +195,6 @@ public class ChoreWoodcutting extends AbstractChore
 		owner.addAI();
 	}
 
-	@Override
-	public void writeChoreToNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and write to NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						nbt.setInteger(field.getName(), (Integer) field.get(owner.woodcuttingChore));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						nbt.setDouble(field.getName(), (Double) field.get(owner.woodcuttingChore));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						nbt.setFloat(field.getName(), (Float) field.get(owner.woodcuttingChore));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						nbt.setString(field.getName(), (String) field.get(owner.woodcuttingChore));
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						nbt.setBoolean(field.getName(), (Boolean) field.get(owner.woodcuttingChore));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
-	}
-
-	@Override
-	public void readChoreFromNBT(NBTTagCompound nbt)
-	{
-		//Loop through each field in this class and read from NBT.
-		for (final Field field : this.getClass().getFields())
-		{
-			try
-			{
-				if (field.getModifiers() != Modifier.TRANSIENT)
-				{
-					if (field.getType().toString().contains("int"))
-					{
-						field.set(owner.woodcuttingChore, nbt.getInteger(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("double"))
-					{
-						field.set(owner.woodcuttingChore, nbt.getDouble(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("float"))
-					{
-						field.set(owner.woodcuttingChore, nbt.getFloat(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("String"))
-					{
-						field.set(owner.woodcuttingChore, nbt.getString(field.getName()));
-					}
-
-					else if (field.getType().toString().contains("boolean"))
-					{
-						field.set(owner.woodcuttingChore, nbt.getBoolean(field.getName()));
-					}
-				}
-			}
-
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
-	}
-
 	@Override
 	protected int getDelayForToolType(ItemStack toolStack)
 	{
@@ -378,9 +286,9 @@ public class ChoreWoodcutting extends AbstractChore
 
 	private void doSetTreeLocation()
 	{
-		final List<Point3D> woodCoordList = LogicHelper.getNearbyBlockCoordinatesWithMetadata(owner, treeEntry.getLogBlock(), treeEntry.getLogDamage(), 10);
+		final Point3D treeCoordinates = ChoreBlockIndex.forWorld(owner.worldObj).getNearestBlock(owner, treeEntry.getLogBlock(), treeEntry.getLogDamage(), 10, 10);
 
-		if (woodCoordList.isEmpty())
+		if (treeCoordinates == null)
 		{
 			if (hasDoneWork)
 			{
@@ -396,51 +304,28 @@ public class ChoreWoodcutting extends AbstractChore
 		else
 		{
 			hasTreeLocation = true;
-			Point3D treeCoordinates = null;
-			double lastDistance = 100D;
-
-			//Get the coordinates of the nearest valid wood block found of the specified ID.
-			for (final Point3D point : woodCoordList)
-			{
-				final double thisDistance = LogicHelper.getDistanceToXYZ(owner.posX, owner.posY, owner.posZ, point.dPosX, point.dPosY, point.dPosZ);
+			treeBaseX = treeCoordinates.dPosX;
+			treeBaseY = treeCoordinates.dPosY;
+			treeBaseZ = treeCoordinates.dPosZ;
 
-				if (thisDistance < lastDistance)
-				{
-					treeCoordinates = point;
-					lastDistance = thisDistance;
-				}
-			}
-
-			if (treeCoordinates == null)
-			{
-				endForNoTrees();
-			}
+			int distanceFromY = 0;
 
-			else
+			while (distanceFromY != 10)
 			{
-				treeBaseX = treeCoordinates.dPosX;
-				treeBaseY = treeCoordinates.dPosY;
-				treeBaseZ = treeCoordinates.dPosZ;
-
-				int distanceFromY = 0;
+				final Block block = owner.worldObj.getBlock((int) treeBaseX, (int) treeBaseY - distanceFromY, (int) treeBaseZ);
 
-				while (distanceFromY != 10)
+				if (block != treeEntry.getLogBlock())
 				{
-					final Block block = owner.worldObj.getBlock((int) treeBaseX, (int) treeBaseY - distanceFromY, (int) treeBaseZ);
-
-					if (block != treeEntry.getLogBlock())
-					{
-						distanceFromY--;
-						break;
-					}
-
-					distanceFromY++;
+					distanceFromY--;
+					break;
 				}
 
-				logX = treeBaseX;
-				logY = treeBaseY - distanceFromY;
-				logZ = treeBaseZ;
+				distanceFromY++;
 			}
+
+			logX = treeBaseX;
+			logY = treeBaseY - distanceFromY;
+			logZ = treeBaseZ;
 		}
 	}
 
@@ -276,13 +276,13 @@ public class GuiDivorceCouple extends AbstractGui
 		if (spouseEntity1 != null)
 		{
 			spouseEntity1.doDivorce = true;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(spouseEntity1.getEntityId(), "doDivorce", spouseEntity1.doDivorce));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(spouseEntity1, "doDivorce", spouseEntity1.doDivorce));
 		}
 
 		if (spouseEntity2 != null)
 		{
 			spouseEntity2.doDivorce = true;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(spouseEntity2.getEntityId(), "doDivorce", spouseEntity2.doDivorce));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(spouseEntity2, "doDivorce", spouseEntity2.doDivorce));
 		}
 	}
 }
@@ -833,7 +833,7 @@ public class GuiInteractionPlayerChild extends AbstractGui
 	private void drawInventoryGui()
 	{
 		entityChild.doOpenInventory = true;
-		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "doOpenInventory", entityChild.doOpenInventory));
+		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "doOpenInventory", entityChild.doOpenInventory));
 		close();
 	}
 
@@ -874,9 +874,9 @@ public class GuiInteractionPlayerChild extends AbstractGui
 				entityChild.isStaying = false;
 				entityChild.followingPlayer = player.getCommandSenderName();
 
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isFollowing", entityChild.isFollowing));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isStaying", entityChild.isStaying));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "followingPlayer", entityChild.followingPlayer));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isFollowing", entityChild.isFollowing));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isStaying", entityChild.isStaying));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "followingPlayer", entityChild.followingPlayer));
 
 				entityChild.say(MCA.getInstance().getLanguageLoader().getString("follow.start", player, entityChild, true));
 				close();
@@ -888,9 +888,9 @@ public class GuiInteractionPlayerChild extends AbstractGui
 				entityChild.isStaying = false;
 				entityChild.followingPlayer = "None";
 
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isFollowing", entityChild.isFollowing));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isStaying", entityChild.isStaying));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "followingPlayer", entityChild.followingPlayer));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isFollowing", entityChild.isFollowing));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isStaying", entityChild.isStaying));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "followingPlayer", entityChild.followingPlayer));
 
 				entityChild.say(MCA.getInstance().getLanguageLoader().getString("follow.stop", player, entityChild, true));
 				close();
@@ -903,9 +903,9 @@ public class GuiInteractionPlayerChild extends AbstractGui
 			entityChild.isFollowing = false;
 			entityChild.idleTicks = 0;
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isStaying", entityChild.isStaying));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isFollowing", entityChild.isFollowing));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "idleTicks", entityChild.idleTicks));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isStaying", entityChild.isStaying));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isFollowing", entityChild.isFollowing));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "idleTicks", entityChild.idleTicks));
 			close();
 		}
 
@@ -917,10 +917,10 @@ public class GuiInteractionPlayerChild extends AbstractGui
 			entityChild.hasHomePoint = true;
 			entityChild.verifyHomePointIsValid();
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "homePointX", entityChild.homePointX));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "homePointY", entityChild.homePointY));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "homePointZ", entityChild.homePointZ));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "hasHomePoint", entityChild.hasHomePoint));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "homePointX", entityChild.homePointX));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "homePointY", entityChild.homePointY));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "homePointZ", entityChild.homePointZ));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "hasHomePoint", entityChild.hasHomePoint));
 
 			close();
 		}
@@ -930,7 +930,7 @@ public class GuiInteractionPlayerChild extends AbstractGui
 			if (entityChild.isInChoreMode)
 			{
 				entityChild.isInChoreMode = false;
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isInChoreMode", entityChild.isInChoreMode));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isInChoreMode", entityChild.isInChoreMode));
 
 				if (entityChild.currentChore.equals("Farming"))
 				{
@@ -980,7 +980,7 @@ public class GuiInteractionPlayerChild extends AbstractGui
 				MCA.packetHandler.sendPacketToServer(new PacketReturnInventory(entityChild.getEntityId()));
 				entityChild.hasReturnedInventory = true;
 
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "hasReturnedInventory", entityChild.hasReturnedInventory));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "hasReturnedInventory", entityChild.hasReturnedInventory));
 				close();
 				return;
 			}
@@ -1001,9 +1001,9 @@ public class GuiInteractionPlayerChild extends AbstractGui
 				entityChild.hasBeenHeir = true;
 				entityChild.doActAsHeir = false;
 				entityChild.hasReturnedInventory = false;
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "hasBeenHeir", entityChild.hasBeenHeir));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "doActAsHeir", entityChild.doActAsHeir));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "hasReturnedInventory", entityChild.hasReturnedInventory));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "hasBeenHeir", entityChild.hasBeenHeir));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "doActAsHeir", entityChild.doActAsHeir));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "hasReturnedInventory", entityChild.hasReturnedInventory));
 
 				close();
 				return;
@@ -1026,7 +1026,7 @@ public class GuiInteractionPlayerChild extends AbstractGui
 					entityChild.say(MCA.getInstance().getLanguageLoader().getString("heir.bad.demandtribute"));
 				}
 
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "playerMemoryMap", entityChild.playerMemoryMap));
+				entityChild.syncPlayerMemory(player);
 				close();
 				return;
 			}
@@ -1035,7 +1035,7 @@ public class GuiInteractionPlayerChild extends AbstractGui
 		else if (button == growUpButton)
 		{
 			entityChild.isGrowthApproved = true;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isGrowthApproved", entityChild.isGrowthApproved));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isGrowthApproved", entityChild.isGrowthApproved));
 			close();
 		}
 	}
@@ -1062,7 +1062,7 @@ public class GuiInteractionPlayerChild extends AbstractGui
 		else if (button == giftButton)
 		{
 			entityChild.playerMemoryMap.get(player.getCommandSenderName()).isInGiftMode = true;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "playerMemoryMap", entityChild.playerMemoryMap));
+			entityChild.syncPlayerMemory(player);
 			close();
 		}
 
@@ -1241,8 +1241,8 @@ public class GuiInteractionPlayerChild extends AbstractGui
 			entityChild.currentChore = entityChild.farmingChore.getChoreName();
 
 			MCA.packetHandler.sendPacketToServer(new PacketSetChore(entityChild.getEntityId(), entityChild.farmingChore));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isInChoreMode", entityChild.isInChoreMode));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "currentChore", entityChild.currentChore));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isInChoreMode", entityChild.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "currentChore", entityChild.currentChore));
 
 			close();
 		}
@@ -1267,8 +1267,8 @@ public class GuiInteractionPlayerChild extends AbstractGui
 			entityChild.currentChore = entityChild.fishingChore.getChoreName();
 
 			MCA.packetHandler.sendPacketToServer(new PacketSetChore(entityChild.getEntityId(), entityChild.fishingChore));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isInChoreMode", entityChild.isInChoreMode));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "currentChore", entityChild.currentChore));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isInChoreMode", entityChild.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "currentChore", entityChild.currentChore));
 
 			close();
 		}
@@ -1428,8 +1428,8 @@ public class GuiInteractionPlayerChild extends AbstractGui
 			entityChild.currentChore = entityChild.woodcuttingChore.getChoreName();
 
 			MCA.packetHandler.sendPacketToServer(new PacketSetChore(entityChild.getEntityId(), entityChild.woodcuttingChore));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isInChoreMode", entityChild.isInChoreMode));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "currentChore", entityChild.currentChore));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isInChoreMode", entityChild.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "currentChore", entityChild.currentChore));
 			close();
 		}
 	}
@@ -1514,8 +1514,8 @@ public class GuiInteractionPlayerChild extends AbstractGui
 			entityChild.currentChore = entityChild.miningChore.getChoreName();
 
 			MCA.packetHandler.sendPacketToServer(new PacketSetChore(entityChild.getEntityId(), entityChild.miningChore));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isInChoreMode", entityChild.isInChoreMode));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "currentChore", entityChild.currentChore));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isInChoreMode", entityChild.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "currentChore", entityChild.currentChore));
 			close();
 		}
 	}
@@ -1554,8 +1554,8 @@ public class GuiInteractionPlayerChild extends AbstractGui
 			entityChild.currentChore = entityChild.huntingChore.getChoreName();
 
 			MCA.packetHandler.sendPacketToServer(new PacketSetChore(entityChild.getEntityId(), entityChild.huntingChore));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "isInChoreMode", entityChild.isInChoreMode));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild.getEntityId(), "currentChore", entityChild.currentChore));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "isInChoreMode", entityChild.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityChild, "currentChore", entityChild.currentChore));
 			close();
 		}
 	}
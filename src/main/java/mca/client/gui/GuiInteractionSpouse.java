@@ -360,7 +360,7 @@ public class GuiInteractionSpouse extends AbstractGui
 	private void drawInventoryGui()
 	{
 		entitySpouse.doOpenInventory = true;
-		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "doOpenInventory", entitySpouse.doOpenInventory));
+		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "doOpenInventory", entitySpouse.doOpenInventory));
 		close();
 	}
 
@@ -491,9 +491,9 @@ public class GuiInteractionSpouse extends AbstractGui
 				entitySpouse.isStaying = false;
 				entitySpouse.followingPlayer = player.getCommandSenderName();
 
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "isFollowing", entitySpouse.isFollowing));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "isStaying", entitySpouse.isStaying));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "followingPlayer", entitySpouse.followingPlayer));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "isFollowing", entitySpouse.isFollowing));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "isStaying", entitySpouse.isStaying));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "followingPlayer", entitySpouse.followingPlayer));
 
 				entitySpouse.say(MCA.getInstance().getLanguageLoader().getString("follow.start", player, entitySpouse, true));
 				close();
@@ -505,9 +505,9 @@ public class GuiInteractionSpouse extends AbstractGui
 				entitySpouse.isStaying = false;
 				entitySpouse.followingPlayer = "None";
 
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "isFollowing", entitySpouse.isFollowing));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "isStaying", entitySpouse.isStaying));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "followingPlayer", entitySpouse.followingPlayer));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "isFollowing", entitySpouse.isFollowing));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "isStaying", entitySpouse.isStaying));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "followingPlayer", entitySpouse.followingPlayer));
 
 				entitySpouse.say(MCA.getInstance().getLanguageLoader().getString("follow.stop", player, entitySpouse, true));
 				close();
@@ -520,9 +520,9 @@ public class GuiInteractionSpouse extends AbstractGui
 			entitySpouse.isFollowing = false;
 			entitySpouse.idleTicks = 0;
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "isStaying", entitySpouse.isStaying));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "isFollowing", entitySpouse.isFollowing));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "idleTicks", entitySpouse.idleTicks));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "isStaying", entitySpouse.isStaying));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "isFollowing", entitySpouse.isFollowing));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "idleTicks", entitySpouse.idleTicks));
 			close();
 		}
 
@@ -533,10 +533,10 @@ public class GuiInteractionSpouse extends AbstractGui
 			entitySpouse.homePointZ = entitySpouse.posZ;
 			entitySpouse.hasHomePoint = true;
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "homePointX", entitySpouse.homePointX));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "homePointY", entitySpouse.homePointY));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "homePointZ", entitySpouse.homePointZ));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "hasHomePoint", entitySpouse.hasHomePoint));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "homePointX", entitySpouse.homePointX));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "homePointY", entitySpouse.homePointY));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "homePointZ", entitySpouse.homePointZ));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "hasHomePoint", entitySpouse.hasHomePoint));
 
 			entitySpouse.verifyHomePointIsValid();
 
@@ -609,8 +609,8 @@ public class GuiInteractionSpouse extends AbstractGui
 				entitySpouse.currentChore = entitySpouse.cookingChore.getChoreName();
 
 				MCA.packetHandler.sendPacketToServer(new PacketSetChore(entitySpouse.getEntityId(), entitySpouse.cookingChore));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "isInChoreMode", entitySpouse.isInChoreMode));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "currentChore", entitySpouse.currentChore));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "isInChoreMode", entitySpouse.isInChoreMode));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "currentChore", entitySpouse.currentChore));
 			}
 
 			close();
@@ -639,7 +639,7 @@ public class GuiInteractionSpouse extends AbstractGui
 		else if (button == giftButton)
 		{
 			entitySpouse.playerMemoryMap.get(player.getCommandSenderName()).isInGiftMode = true;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "playerMemoryMap", entitySpouse.playerMemoryMap));
+			entitySpouse.syncPlayerMemory(player);
 			close();
 		}
 
@@ -825,7 +825,7 @@ public class GuiInteractionSpouse extends AbstractGui
 					//This will modify all surrounding villagers, too.
 					entitySpouse.modifyHearts(player, -30);
 
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "hasBeenExecuted", entitySpouse.hasBeenExecuted));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "hasBeenExecuted", entitySpouse.hasBeenExecuted));
 					close();
 				}
 
@@ -871,7 +871,7 @@ public class GuiInteractionSpouse extends AbstractGui
 
 					//Update, send to server, and stop here.
 					entitySpouse.playerMemoryMap.put(player.getCommandSenderName(), memory);
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "playerMemoryMap", entitySpouse.playerMemoryMap));
+					entitySpouse.syncPlayerMemory(player);
 
 					close();
 					return;
@@ -892,7 +892,7 @@ public class GuiInteractionSpouse extends AbstractGui
 			entitySpouse.playerMemoryMap.put(player.getCommandSenderName(), memory);
 			LogicExtension.getGiftStackFromRelationship(player, entitySpouse);
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "playerMemoryMap", entitySpouse.playerMemoryMap));
+			entitySpouse.syncPlayerMemory(player);
 			MCA.packetHandler.sendPacketToServer(new PacketClickTakeGift(entitySpouse.getEntityId()));
 			close();
 		}
@@ -914,8 +914,8 @@ public class GuiInteractionSpouse extends AbstractGui
 
 					player.addChatMessage(new ChatComponentText(MCA.getInstance().getLanguageLoader().getString("monarch.makepeasant.success")));
 
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "isPeasant", entitySpouse.isPeasant));
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "monarchPlayerName", entitySpouse.monarchPlayerName));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "isPeasant", entitySpouse.isPeasant));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "monarchPlayerName", entitySpouse.monarchPlayerName));
 					close();
 				}
 			}
@@ -944,8 +944,8 @@ public class GuiInteractionSpouse extends AbstractGui
 
 					player.addChatMessage(new ChatComponentText(MCA.getInstance().getLanguageLoader().getString("monarch.makeknight.success")));
 
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "isKnight", entitySpouse.isKnight));
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse.getEntityId(), "monarchPlayerName", entitySpouse.monarchPlayerName));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "isKnight", entitySpouse.isKnight));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entitySpouse, "monarchPlayerName", entitySpouse.monarchPlayerName));
 					close();
 				}
 			}
@@ -1296,9 +1296,9 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 								entityVillager.isStaying = false;
 								entityVillager.followingPlayer = player.getCommandSenderName();
 
-								MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isFollowing", entityVillager.isFollowing));
-								MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isStaying", entityVillager.isStaying));
-								MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "followingPlayer", entityVillager.followingPlayer));
+								MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isFollowing", entityVillager.isFollowing));
+								MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isStaying", entityVillager.isStaying));
+								MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "followingPlayer", entityVillager.followingPlayer));
 
 								entityVillager.say(MCA.getInstance().getLanguageLoader().getString("monarch.knight.follow.start", player, entityVillager, false));
 								close();
@@ -1310,9 +1310,9 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 								entityVillager.isStaying = false;
 								entityVillager.followingPlayer = "None";
 
-								MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isFollowing", entityVillager.isFollowing));
-								MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isStaying", entityVillager.isStaying));
-								MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "followingPlayer", entityVillager.followingPlayer));
+								MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isFollowing", entityVillager.isFollowing));
+								MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isStaying", entityVillager.isStaying));
+								MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "followingPlayer", entityVillager.followingPlayer));
 
 								entityVillager.say(MCA.getInstance().getLanguageLoader().getString("monarch.knight.follow.stop", player, entityVillager, false));
 							}
@@ -1337,9 +1337,9 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 							entityVillager.isStaying = false;
 							entityVillager.followingPlayer = player.getCommandSenderName();
 
-							MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isFollowing", entityVillager.isFollowing));
-							MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isStaying", entityVillager.isStaying));
-							MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "followingPlayer", entityVillager.followingPlayer));
+							MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isFollowing", entityVillager.isFollowing));
+							MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isStaying", entityVillager.isStaying));
+							MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "followingPlayer", entityVillager.followingPlayer));
 
 							entityVillager.say(MCA.getInstance().getLanguageLoader().getString("follow.start", player, entityVillager, true));
 							close();
@@ -1351,9 +1351,9 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 							entityVillager.isStaying = false;
 							entityVillager.followingPlayer = "None";
 
-							MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isFollowing", entityVillager.isFollowing));
-							MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isStaying", entityVillager.isStaying));
-							MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "followingPlayer", entityVillager.followingPlayer));
+							MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isFollowing", entityVillager.isFollowing));
+							MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isStaying", entityVillager.isStaying));
+							MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "followingPlayer", entityVillager.followingPlayer));
 
 							entityVillager.say(MCA.getInstance().getLanguageLoader().getString("follow.stop", player, entityVillager, true));
 						}
@@ -1368,9 +1368,9 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 					entityVillager.isStaying = false;
 					entityVillager.followingPlayer = player.getCommandSenderName();
 
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isFollowing", entityVillager.isFollowing));
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isStaying", entityVillager.isStaying));
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "followingPlayer", entityVillager.followingPlayer));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isFollowing", entityVillager.isFollowing));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isStaying", entityVillager.isStaying));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "followingPlayer", entityVillager.followingPlayer));
 
 					entityVillager.say(MCA.getInstance().getLanguageLoader().getString("follow.start", player, entityVillager, true));
 					close();
@@ -1382,9 +1382,9 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 					entityVillager.isStaying = false;
 					entityVillager.followingPlayer = "None";
 
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isFollowing", entityVillager.isFollowing));
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isStaying", entityVillager.isStaying));
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "followingPlayer", entityVillager.followingPlayer));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isFollowing", entityVillager.isFollowing));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isStaying", entityVillager.isStaying));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "followingPlayer", entityVillager.followingPlayer));
 
 					entityVillager.say(MCA.getInstance().getLanguageLoader().getString("follow.stop", player, entityVillager, true));
 				}
@@ -1406,9 +1406,9 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 				entityVillager.isFollowing = false;
 				entityVillager.idleTicks = 0;
 
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isStaying", entityVillager.isStaying));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isFollowing", entityVillager.isFollowing));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "idleTicks", entityVillager.idleTicks));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isStaying", entityVillager.isStaying));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isFollowing", entityVillager.isFollowing));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "idleTicks", entityVillager.idleTicks));
 			}
 
 			else
@@ -1428,10 +1428,10 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 				entityVillager.homePointZ = entityVillager.posZ;
 				entityVillager.hasHomePoint = true;
 
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "homePointX", entityVillager.homePointX));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "homePointY", entityVillager.homePointY));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "homePointZ", entityVillager.homePointZ));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "hasHomePoint", entityVillager.hasHomePoint));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "homePointX", entityVillager.homePointX));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "homePointY", entityVillager.homePointY));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "homePointZ", entityVillager.homePointZ));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "hasHomePoint", entityVillager.hasHomePoint));
 
 				entityVillager.verifyHomePointIsValid();
 			}
@@ -1483,7 +1483,7 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 
 			LogicExtension.getGiftStackFromRelationship(player, entityVillager);
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "playerMemoryMap", entityVillager.playerMemoryMap));
+			entityVillager.syncPlayerMemory(player);
 			MCA.packetHandler.sendPacketToServer(new PacketClickTakeGift(entityVillager.getEntityId()));
 			close();
 		}
@@ -1525,7 +1525,7 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 		else if (button == giftButton)
 		{
 			entityVillager.playerMemoryMap.get(player.getCommandSenderName()).isInGiftMode = true;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "playerMemoryMap", entityVillager.playerMemoryMap));
+			entityVillager.syncPlayerMemory(player);
 			close();
 		}
 
@@ -1596,7 +1596,7 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 			entityVillager.say(MCA.getInstance().getLanguageLoader().getString("generic.hire.accept"));
 
 			entityVillager.playerMemoryMap.put(player.getCommandSenderName(), memory);
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "playerMemoryMap", entityVillager.playerMemoryMap));
+			entityVillager.syncPlayerMemory(player);
 			close();
 		}
 
@@ -1653,7 +1653,7 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 				{
 					final EntityVillagerAdult spouse = (EntityVillagerAdult) playerSpouse;
 					spouse.doDivorce = true;
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(spouse.getEntityId(), "doDivorce", spouse.doDivorce));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(spouse, "doDivorce", spouse.doDivorce));
 				}
 
 				else
@@ -1672,7 +1672,7 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 					if (spouse != null)
 					{
 						spouse.doDivorce = true;
-						MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(spouse.getEntityId(), "doDivorce", spouse.doDivorce));
+						MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(spouse, "doDivorce", spouse.doDivorce));
 					}
 				}
 			}
@@ -1790,9 +1790,9 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 
 				MCA.packetHandler.sendPacketToServer(new PacketAddAI(villagerToMarry.getEntityId()));
 				MCA.packetHandler.sendPacketToServer(new PacketSetFamilyTree(villagerToMarry.getEntityId(), villagerToMarry.familyTree));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(villagerToMarry.getEntityId(), "isMarriedToPlayer", villagerToMarry.isMarriedToPlayer));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(villagerToMarry.getEntityId(), "spousePlayerName", villagerToMarry.spousePlayerName));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(villagerToMarry.getEntityId(), "isMarriageToPlayerArranged", villagerToMarry.isMarriageToPlayerArranged));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(villagerToMarry, "isMarriedToPlayer", villagerToMarry.isMarriedToPlayer));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(villagerToMarry, "spousePlayerName", villagerToMarry.spousePlayerName));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(villagerToMarry, "isMarriageToPlayerArranged", villagerToMarry.isMarriageToPlayerArranged));
 
 				villagerToMarry.setPosition(player.posX, player.posY, player.posZ);
 				MCA.packetHandler.sendPacketToServer(new PacketSetPosition(villagerToMarry.getEntityId(), player.posX, player.posY, player.posZ));
@@ -1829,9 +1829,9 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 
 			entityVillager.setChoresStopped();
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isFollowing", entityVillager.isFollowing));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isStaying", entityVillager.isStaying));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "playerMemoryMap", entityVillager.playerMemoryMap));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isFollowing", entityVillager.isFollowing));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isStaying", entityVillager.isStaying));
+			entityVillager.syncPlayerMemory(player);
 			close();
 		}
 
@@ -1845,14 +1845,14 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 		{
 			entityVillager.isInChoreMode = false;
 			entityVillager.getInstanceOfCurrentChore().endChore();
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isInChoreMode", entityVillager.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isInChoreMode", entityVillager.isInChoreMode));
 			close();
 		}
 
 		else if (button == inventoryButton)
 		{
 			entityVillager.doOpenInventory = true;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "doOpenInventory", entityVillager.doOpenInventory));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "doOpenInventory", entityVillager.doOpenInventory));
 			close();
 		}
 	}
@@ -1887,7 +1887,7 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 				}
 
 				villager.aidCooldown = 12000;
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(villager.getEntityId(), "aidCooldown", villager.aidCooldown));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(villager, "aidCooldown", villager.aidCooldown));
 			}
 
 			close();
@@ -1920,9 +1920,9 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 
 			entityVillager.setChoresStopped();
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isFollowing", entityVillager.isFollowing));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isStaying", entityVillager.isStaying));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "playerMemoryMap", entityVillager.playerMemoryMap));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isFollowing", entityVillager.isFollowing));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isStaying", entityVillager.isStaying));
+			entityVillager.syncPlayerMemory(player);
 			close();
 		}
 
@@ -1940,14 +1940,14 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 		{
 			entityVillager.isInChoreMode = false;
 			entityVillager.getInstanceOfCurrentChore().endChore();
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isInChoreMode", entityVillager.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isInChoreMode", entityVillager.isInChoreMode));
 			close();
 		}
 
 		else if (button == inventoryButton)
 		{
 			entityVillager.doOpenInventory = true;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "doOpenInventory", entityVillager.doOpenInventory));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "doOpenInventory", entityVillager.doOpenInventory));
 			close();
 		}
 	}
@@ -1982,7 +1982,7 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 				}
 
 				villager.aidCooldown = 12000;
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(villager.getEntityId(), "aidCooldown", villager.aidCooldown));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(villager, "aidCooldown", villager.aidCooldown));
 			}
 
 			close();
@@ -2030,9 +2030,9 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 
 			entityVillager.setChoresStopped();
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isFollowing", entityVillager.isFollowing));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isStaying", entityVillager.isStaying));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "playerMemoryMap", entityVillager.playerMemoryMap));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isFollowing", entityVillager.isFollowing));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isStaying", entityVillager.isStaying));
+			entityVillager.syncPlayerMemory(player);
 			close();
 		}
 
@@ -2059,7 +2059,7 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 				}
 
 				villager.aidCooldown = 12000;
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(villager.getEntityId(), "aidCooldown", villager.aidCooldown));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(villager, "aidCooldown", villager.aidCooldown));
 			}
 
 			close();
@@ -2085,14 +2085,14 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 		{
 			entityVillager.isInChoreMode = false;
 			entityVillager.getInstanceOfCurrentChore().endChore();
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isInChoreMode", entityVillager.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isInChoreMode", entityVillager.isInChoreMode));
 			close();
 		}
 
 		else if (button == inventoryButton)
 		{
 			entityVillager.doOpenInventory = true;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "doOpenInventory", entityVillager.doOpenInventory));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "doOpenInventory", entityVillager.doOpenInventory));
 			close();
 		}
 	}
@@ -2201,8 +2201,8 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 			entityVillager.currentChore = entityVillager.farmingChore.getChoreName();
 
 			MCA.packetHandler.sendPacketToServer(new PacketSetChore(entityVillager.getEntityId(), entityVillager.farmingChore));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isInChoreMode", entityVillager.isInChoreMode));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "currentChore", entityVillager.currentChore));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isInChoreMode", entityVillager.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "currentChore", entityVillager.currentChore));
 
 			close();
 		}
@@ -2232,8 +2232,8 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 			entityVillager.currentChore = entityVillager.fishingChore.getChoreName();
 
 			MCA.packetHandler.sendPacketToServer(new PacketSetChore(entityVillager.getEntityId(), entityVillager.fishingChore));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isInChoreMode", entityVillager.isInChoreMode));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "currentChore", entityVillager.currentChore));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isInChoreMode", entityVillager.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "currentChore", entityVillager.currentChore));
 
 			close();
 		}
@@ -2393,8 +2393,8 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 			entityVillager.currentChore = entityVillager.woodcuttingChore.getChoreName();
 
 			MCA.packetHandler.sendPacketToServer(new PacketSetChore(entityVillager.getEntityId(), entityVillager.woodcuttingChore));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isInChoreMode", entityVillager.isInChoreMode));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "currentChore", entityVillager.currentChore));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isInChoreMode", entityVillager.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "currentChore", entityVillager.currentChore));
 			close();
 		}
 	}
@@ -2478,8 +2478,8 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 			entityVillager.currentChore = entityVillager.miningChore.getChoreName();
 
 			MCA.packetHandler.sendPacketToServer(new PacketSetChore(entityVillager.getEntityId(), entityVillager.miningChore));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isInChoreMode", entityVillager.isInChoreMode));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "currentChore", entityVillager.currentChore));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isInChoreMode", entityVillager.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "currentChore", entityVillager.currentChore));
 
 			close();
 		}
@@ -2519,8 +2519,8 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 			entityVillager.currentChore = entityVillager.huntingChore.getChoreName();
 
 			MCA.packetHandler.sendPacketToServer(new PacketSetChore(entityVillager.getEntityId(), entityVillager.huntingChore));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isInChoreMode", entityVillager.isInChoreMode));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "currentChore", entityVillager.currentChore));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isInChoreMode", entityVillager.isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "currentChore", entityVillager.currentChore));
 			close();
 		}
 	}
@@ -2562,7 +2562,7 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 					//This will modify all surrounding villagers, too.
 					entityVillager.modifyHearts(player, -30);
 
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "hasBeenExecuted", entityVillager.hasBeenExecuted));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "hasBeenExecuted", entityVillager.hasBeenExecuted));
 					close();
 				}
 
@@ -2608,7 +2608,7 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 
 					//Update, send to server, and stop here.
 					entityVillager.playerMemoryMap.put(player.getCommandSenderName(), memory);
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "playerMemoryMap", entityVillager.playerMemoryMap));
+					entityVillager.syncPlayerMemory(player);
 
 					close();
 					return;
@@ -2629,7 +2629,7 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 			entityVillager.playerMemoryMap.put(player.getCommandSenderName(), memory);
 			LogicExtension.getGiftStackFromRelationship(player, entityVillager);
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "playerMemoryMap", entityVillager.playerMemoryMap));
+			entityVillager.syncPlayerMemory(player);
 			MCA.packetHandler.sendPacketToServer(new PacketClickTakeGift(entityVillager.getEntityId()));
 			close();
 		}
@@ -2651,8 +2651,8 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 
 					player.addChatMessage(new ChatComponentText(MCA.getInstance().getLanguageLoader().getString("monarch.makepeasant.success")));
 
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isPeasant", entityVillager.isPeasant));
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "monarchPlayerName", entityVillager.monarchPlayerName));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isPeasant", entityVillager.isPeasant));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "monarchPlayerName", entityVillager.monarchPlayerName));
 					close();
 				}
 			}
@@ -2681,8 +2681,8 @@ public class GuiInteractionVillagerAdult extends AbstractGui
 
 					player.addChatMessage(new ChatComponentText(MCA.getInstance().getLanguageLoader().getString("monarch.makeknight.success")));
 
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "isKnight", entityVillager.isKnight));
-					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager.getEntityId(), "monarchPlayerName", entityVillager.monarchPlayerName));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "isKnight", entityVillager.isKnight));
+					MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillager, "monarchPlayerName", entityVillager.monarchPlayerName));
 					close();
 				}
 			}
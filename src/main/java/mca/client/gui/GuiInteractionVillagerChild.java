@@ -356,9 +356,9 @@ public class GuiInteractionVillagerChild extends AbstractGui
 				entityVillagerChild.isStaying = false;
 				entityVillagerChild.followingPlayer = player.getCommandSenderName();
 
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "isFollowing", entityVillagerChild.isFollowing));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "isStaying", entityVillagerChild.isStaying));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "followingPlayer", entityVillagerChild.followingPlayer));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "isFollowing", entityVillagerChild.isFollowing));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "isStaying", entityVillagerChild.isStaying));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "followingPlayer", entityVillagerChild.followingPlayer));
 
 				entityVillagerChild.say(MCA.getInstance().getLanguageLoader().getString("follow.start", player, entityVillagerChild, true));
 				close();
@@ -370,9 +370,9 @@ public class GuiInteractionVillagerChild extends AbstractGui
 				entityVillagerChild.isStaying = false;
 				entityVillagerChild.followingPlayer = "None";
 
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "isFollowing", entityVillagerChild.isFollowing));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "isStaying", entityVillagerChild.isStaying));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "followingPlayer", entityVillagerChild.followingPlayer));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "isFollowing", entityVillagerChild.isFollowing));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "isStaying", entityVillagerChild.isStaying));
+				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "followingPlayer", entityVillagerChild.followingPlayer));
 
 				entityVillagerChild.say(MCA.getInstance().getLanguageLoader().getString("follow.stop", player, entityVillagerChild, true));
 				close();
@@ -395,9 +395,9 @@ public class GuiInteractionVillagerChild extends AbstractGui
 			entityVillagerChild.isFollowing = false;
 			entityVillagerChild.idleTicks = 0;
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "isStaying", entityVillagerChild.isStaying));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "isFollowing", entityVillagerChild.isFollowing));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "idleTicks", entityVillagerChild.idleTicks));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "isStaying", entityVillagerChild.isStaying));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "isFollowing", entityVillagerChild.isFollowing));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "idleTicks", entityVillagerChild.idleTicks));
 			close();
 		}
 
@@ -418,10 +418,10 @@ public class GuiInteractionVillagerChild extends AbstractGui
 			entityVillagerChild.homePointZ = entityVillagerChild.posZ;
 			entityVillagerChild.hasHomePoint = true;
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "homePointX", entityVillagerChild.homePointX));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "homePointY", entityVillagerChild.homePointY));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "homePointZ", entityVillagerChild.homePointZ));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "hasHomePoint", entityVillagerChild.hasHomePoint));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "homePointX", entityVillagerChild.homePointX));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "homePointY", entityVillagerChild.homePointY));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "homePointZ", entityVillagerChild.homePointZ));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild, "hasHomePoint", entityVillagerChild.hasHomePoint));
 
 			entityVillagerChild.verifyHomePointIsValid();
 
@@ -451,7 +451,7 @@ public class GuiInteractionVillagerChild extends AbstractGui
 		else if (button == giftButton)
 		{
 			entityVillagerChild.playerMemoryMap.get(player.getCommandSenderName()).isInGiftMode = true;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entityVillagerChild.getEntityId(), "playerMemoryMap", entityVillagerChild.playerMemoryMap));
+			entityVillagerChild.syncPlayerMemory(player);
 			close();
 		}
 
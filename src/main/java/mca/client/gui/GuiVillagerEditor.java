@@ -110,7 +110,7 @@ public class GuiVillagerEditor extends AbstractGui
 		editingVillager.isSleeping = false;
 		moodListIndex = moodList.indexOf(editingVillager.mood);
 
-		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager.getEntityId(), "isSleeping", editingVillager.isSleeping));
+		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager, "isSleeping", editingVillager.isSleeping));
 	}
 
 	@Override
@@ -414,7 +414,7 @@ public class GuiVillagerEditor extends AbstractGui
 		else if (guibutton == inventoryButton)
 		{
 			editingVillager.doOpenInventory = true;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager.getEntityId(), "doOpenInventory", editingVillager.doOpenInventory));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager, "doOpenInventory", editingVillager.doOpenInventory));
 			close();
 		}
 
@@ -455,42 +455,42 @@ public class GuiVillagerEditor extends AbstractGui
 		else if (guibutton == shiftHeightUpButton)
 		{
 			editingVillager.heightFactor += 0.01F;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager.getEntityId(), "heightFactor", editingVillager.heightFactor));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager, "heightFactor", editingVillager.heightFactor));
 			drawEditorGuiPage2();
 		}
 
 		else if (guibutton == shiftHeightDownButton)
 		{
 			editingVillager.heightFactor -= 0.01F;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager.getEntityId(), "heightFactor", editingVillager.heightFactor));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager, "heightFactor", editingVillager.heightFactor));
 			drawEditorGuiPage2();
 		}
 
 		else if (guibutton == shiftGirthUpButton)
 		{
 			editingVillager.girthFactor += 0.01F;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager.getEntityId(), "girthFactor", editingVillager.girthFactor));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager, "girthFactor", editingVillager.girthFactor));
 			drawEditorGuiPage2();
 		}
 
 		else if (guibutton == shiftGirthDownButton)
 		{
 			editingVillager.girthFactor -= 0.01F;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager.getEntityId(), "girthFactor", editingVillager.girthFactor));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager, "girthFactor", editingVillager.girthFactor));
 			drawEditorGuiPage2();
 		}
 
 		else if (guibutton == appliesHeightButton)
 		{
 			editingVillager.doApplyHeight = !editingVillager.doApplyHeight;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager.getEntityId(), "doApplyHeight", editingVillager.doApplyHeight));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager, "doApplyHeight", editingVillager.doApplyHeight));
 			drawEditorGuiPage2();
 		}
 
 		else if (guibutton == appliesGirthButton)
 		{
 			editingVillager.doApplyGirth = !editingVillager.doApplyGirth;
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager.getEntityId(), "doApplyGirth", editingVillager.doApplyGirth));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(editingVillager, "doApplyGirth", editingVillager.doApplyGirth));
 			drawEditorGuiPage2();
 		}
 
@@ -9,7 +9,13 @@ package mca.command;
 
 import mca.core.Constants;
 import mca.core.MCA;
+import mca.core.util.DevBenchmark;
+import mca.core.util.HomecomingScheduler;
 import mca.core.util.SelfTester;
+import mca.core.util.UpdateSchedule;
+import mca.core.util.VillageCensus;
+import mca.core.util.WorldPropertiesIndex;
+import mca.core.util.WorldPropertiesStore;
 import mca.network.packets.PacketSayLocalized;
 import net.minecraft.command.ICommandSender;
 import net.minecraft.command.WrongUsageException;
@@ -106,6 +112,7 @@ public class CommandDevControl extends AbstractCommand
 			{
 				MCA.getInstance().setLanguageLoaded(false);
 				MCA.getInstance().getLanguageLoader().loadLanguage();
+				MCA.getInstance().getLanguageParser().onLanguageLoaded(MCA.getInstance().getLanguageLoader().getLanguageIDFromOptions());
 				sender.addChatMessage(new ChatComponentText(Color.GREEN + "Language reloaded."));
 			}
 
@@ -115,6 +122,87 @@ public class CommandDevControl extends AbstractCommand
 				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Querying language system for " + Color.RED + phraseId + Format.RESET + "..."));
 				MCA.packetHandler.sendPacketToPlayer(new PacketSayLocalized((EntityPlayer) sender, null, phraseId, false, Color.YELLOW + "Response: " + Format.RESET, null), (EntityPlayerMP) sender);
 			}
+
+			else if (commandName.equalsIgnoreCase("benchmarkSync"))
+			{
+				DevBenchmark.benchmarkSync(sender, sender.getEntityWorld());
+			}
+
+			else if (commandName.equalsIgnoreCase("benchmarkFieldUpdate"))
+			{
+				DevBenchmark.benchmarkFieldUpdate(sender, sender.getEntityWorld());
+			}
+
+			else if (commandName.equalsIgnoreCase("benchmarkChunkSave"))
+			{
+				DevBenchmark.benchmarkChunkSave(sender, sender.getEntityWorld());
+			}
+
+			else if (commandName.equalsIgnoreCase("benchmarkRelationshipGraph"))
+			{
+				DevBenchmark.benchmarkRelationshipGraph(sender);
+			}
+
+			else if (commandName.equalsIgnoreCase("benchmarkLanguageParser"))
+			{
+				DevBenchmark.benchmarkLanguageParser(sender);
+			}
+
+			else if (commandName.equalsIgnoreCase("benchmarkLanguageIndex"))
+			{
+				DevBenchmark.benchmarkLanguageIndex(sender);
+			}
+
+			else if (commandName.equalsIgnoreCase("benchmarkThreatMap"))
+			{
+				DevBenchmark.benchmarkThreatMap(sender, sender.getEntityWorld());
+			}
+
+			else if (commandName.equalsIgnoreCase("playerIndexStats"))
+			{
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Indexed players: " + Format.RESET + MCA.getInstance().playerIndex.size()));
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Lookups last tick: " + Format.RESET + MCA.getInstance().playerIndex.getLookupsLastTick()));
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Peak lookups per tick: " + Format.RESET + MCA.getInstance().playerIndex.getPeakLookupsPerTick()));
+			}
+
+			else if (commandName.equalsIgnoreCase("updateScheduleStats"))
+			{
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Update phases delayed last tick: " + Format.RESET + UpdateSchedule.getDeferredLastTick()));
+			}
+
+			else if (commandName.equalsIgnoreCase("villageCensusStats"))
+			{
+				final VillageCensus census = VillageCensus.forWorld(sender.getEntityWorld());
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Villages with residents: " + Format.RESET + census.getVillageCount()));
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Counted residents: " + Format.RESET + census.getResidentCount()));
+			}
+
+			else if (commandName.equalsIgnoreCase("homecomingStats"))
+			{
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Villagers waiting to go home: " + Format.RESET + HomecomingScheduler.getQueueDepth() + " (peak " + HomecomingScheduler.getPeakQueueDepth() + ")"));
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Sent home last tick: " + Format.RESET + HomecomingScheduler.getProcessedLastTick()));
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Time spent last tick: " + Format.RESET + HomecomingScheduler.getNanosLastTick() / 1000 + "us (peak " + HomecomingScheduler.getPeakNanosPerTick() / 1000 + "us)"));
+			}
+
+			else if (commandName.equalsIgnoreCase("worldPropertiesStoreStats"))
+			{
+				final WorldPropertiesStore store = MCA.getInstance().worldPropertiesStore;
+				final long[] saveCounts = store.getSaveCounts();
+				final long[] latencyNanos = store.getLatencyNanos();
+
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Saves waiting: " + Format.RESET + store.getQueueDepth() + " (peak " + store.getPeakQueueDepth() + ")"));
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Saves requested: " + Format.RESET + saveCounts[0] + ", coalesced: " + saveCounts[1] + ", written: " + saveCounts[2] + ", failed: " + saveCounts[3]));
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Save latency: " + Format.RESET + latencyNanos[0] / 1000000 + "ms last, " + latencyNanos[1] / 1000000 + "ms average, " + latencyNanos[2] / 1000000 + "ms peak"));
+			}
+
+			else if (commandName.equalsIgnoreCase("worldPropertiesIndexStats"))
+			{
+				final WorldPropertiesIndex index = MCA.getInstance().worldPropertiesIndex;
+
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Players indexed: " + Format.RESET + index.size()));
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Properties in memory: " + Format.RESET + MCA.getInstance().playerWorldManagerMap.size()));
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Properties loaded on demand: " + Format.RESET + index.getManagersLoaded() + ", unloaded: " + index.getManagersEvicted()));
+			}
 		}
 
 		catch (final Exception e)
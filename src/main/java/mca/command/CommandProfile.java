@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * CommandProfile.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.command;
+
+import java.io.File;
+import java.io.IOException;
+
+import mca.core.MCA;
+import mca.core.util.TickProfiler;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.util.ChatComponentText;
+
+import com.radixshock.radixcore.constant.Font.Color;
+import com.radixshock.radixcore.constant.Font.Format;
+import com.radixshock.radixcore.core.RadixCore;
+
+/**
+ * Defines the profile command and what it does.
+ */
+public class CommandProfile extends AbstractCommand
+{
+	@Override
+	public String getCommandUsage(ICommandSender sender)
+	{
+		return "/mca.profile <on/off/reset/phases/chores/top [count]/export>";
+	}
+
+	@Override
+	public boolean canCommandSenderUseCommand(ICommandSender sender)
+	{
+		return sender.canCommandSenderUseCommand(getRequiredPermissionLevel(), getCommandName());
+	}
+
+	@Override
+	public int getRequiredPermissionLevel()
+	{
+		return 4;
+	}
+
+	@Override
+	public String getCommandName()
+	{
+		return "mca.profile";
+	}
+
+	@Override
+	public void processCommand(ICommandSender sender, String[] arguments)
+	{
+		if (arguments.length == 0)
+		{
+			throw new WrongUsageException(getCommandUsage(sender));
+		}
+
+		final TickProfiler profiler = MCA.getInstance().tickProfiler;
+
+		if (arguments[0].equalsIgnoreCase("on"))
+		{
+			profiler.setEnabled(true);
+			sender.addChatMessage(new ChatComponentText("MCA tick profiler is on."));
+		}
+
+		else if (arguments[0].equalsIgnoreCase("off"))
+		{
+			profiler.setEnabled(false);
+			sender.addChatMessage(new ChatComponentText("MCA tick profiler is off."));
+		}
+
+		else if (arguments[0].equalsIgnoreCase("reset"))
+		{
+			profiler.reset();
+			sender.addChatMessage(new ChatComponentText("MCA tick profiler has been reset."));
+		}
+
+		else if (arguments[0].equalsIgnoreCase("phases"))
+		{
+			sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Update phases over " + profiler.getElapsedMillis() / 1000 + " s (mean / p99 / max ns):"));
+
+			for (final TickProfiler.Histogram histogram : profiler.getPhaseHistograms())
+			{
+				if (histogram.getCount() > 0)
+				{
+					addHistogramMessage(sender, histogram);
+				}
+			}
+		}
+
+		else if (arguments[0].equalsIgnoreCase("chores"))
+		{
+			sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Chores over " + profiler.getElapsedMillis() / 1000 + " s (mean / p99 / max ns):"));
+
+			for (final TickProfiler.Histogram histogram : profiler.getChoreHistograms())
+			{
+				addHistogramMessage(sender, histogram);
+			}
+		}
+
+		else if (arguments[0].equalsIgnoreCase("top"))
+		{
+			final int count = arguments.length > 1 ? parseIntBounded(sender, arguments[1], 1, 100) : 10;
+			sender.addChatMessage(new ChatComponentText(Color.YELLOW + "Most expensive villagers over " + profiler.getElapsedMillis() / 1000 + " s:"));
+
+			for (final TickProfiler.VillagerTotal total : profiler.getTopVillagers(count))
+			{
+				sender.addChatMessage(new ChatComponentText(Color.YELLOW + total.name + " #" + total.entityId + ": " + Format.RESET + total.getTotalNanos() / 1000 + " us in " + total.getCount() + " phases, longest " + total.getMaxNanos() + " ns"));
+			}
+		}
+
+		else if (arguments[0].equalsIgnoreCase("export"))
+		{
+			try
+			{
+				final File file = profiler.exportCsv(new File(RadixCore.getInstance().runningDirectory + "/config/MCA/Profiles"));
+				sender.addChatMessage(new ChatComponentText(Color.GREEN + "Tick profile exported to " + file.getPath() + "."));
+			}
+
+			catch (final IOException e)
+			{
+				MCA.getInstance().getLogger().log(e);
+				sender.addChatMessage(new ChatComponentText(Color.RED + "Unable to export tick profile: " + e.getMessage()));
+			}
+		}
+
+		else
+		{
+			throw new WrongUsageException(getCommandUsage(sender));
+		}
+	}
+
+	private static void addHistogramMessage(ICommandSender sender, TickProfiler.Histogram histogram)
+	{
+		sender.addChatMessage(new ChatComponentText(Color.YELLOW + histogram.getName() + ": " + Format.RESET + histogram.getMeanNanos() + " / " + histogram.getPercentileNanos(0.99D) + " / " + histogram.getMaxNanos() + " x" + histogram.getCount()));
+	}
+}
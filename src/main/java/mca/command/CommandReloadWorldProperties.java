@@ -40,6 +40,8 @@ public class CommandReloadWorldProperties extends AbstractCommand
 	{
 		if (arguments.length == 1)
 		{
+			MCA.getInstance().worldPropertiesStore.flush();
+
 			if (arguments[0].equalsIgnoreCase("all"))
 			{
 				for (final WorldPropertiesManager manager : MCA.getInstance().playerWorldManagerMap.values())
@@ -351,6 +351,13 @@ public final class Constants
 	public static final float SCALE_MAX = 1.1F;
 	public static final float SCALE_MIN = 0.85F;
 
+	//Greetings.
+	public static final int GREETING_COOLDOWN_TICKS = 2000;
+	public static final double GREETING_DISTANCE = 5.0D;
+
+	//Networking. Must match the tracking range MCA's entities are registered with.
+	public static final int ENTITY_TRACKING_RANGE = 50;
+
 	private Constants()
 	{
 	}
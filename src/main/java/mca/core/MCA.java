@@ -40,6 +40,7 @@ import mca.command.CommandDevControl;
 import mca.command.CommandFamily;
 import mca.command.CommandHelp;
 import mca.command.CommandModProps;
+import mca.command.CommandProfile;
 import mca.command.CommandReloadModProperties;
 import mca.command.CommandReloadWorldProperties;
 import mca.core.forge.ClientTickHandler;
@@ -47,7 +48,13 @@ import mca.core.forge.CommonProxy;
 import mca.core.forge.EventHooks;
 import mca.core.forge.GuiHandler;
 import mca.core.forge.ServerTickHandler;
+import mca.core.util.MinuteClock;
+import mca.core.util.PlayerIndex;
+import mca.core.util.RelationshipGraph;
 import mca.core.util.SkinLoader;
+import mca.core.util.TickProfiler;
+import mca.core.util.WorldPropertiesIndex;
+import mca.core.util.WorldPropertiesStore;
 import mca.entity.AbstractEntity;
 import mca.entity.EntityChoreFishHook;
 import mca.entity.EntityPlayerChild;
@@ -112,7 +119,6 @@ import com.radixshock.radixcore.core.UnenforcedCore;
 import com.radixshock.radixcore.file.ModPropertiesManager;
 import com.radixshock.radixcore.file.WorldPropertiesManager;
 import com.radixshock.radixcore.lang.ILanguageLoaderHook;
-import com.radixshock.radixcore.lang.ILanguageParser;
 import com.radixshock.radixcore.lang.LanguageLoader;
 import com.radixshock.radixcore.network.AbstractPacketHandler;
 
@@ -153,7 +159,7 @@ public class MCA extends UnenforcedCore
 	/** An instance of the sided proxy. */
 	@SidedProxy(clientSide = "mca.core.forge.ClientProxy", serverSide = "mca.core.forge.CommonProxy")
 	public static CommonProxy proxy;
-	public static AbstractPacketHandler packetHandler;
+	public static PacketRegistry packetHandler;
 	public static boolean packetsRegisteredServerSide;
 
 	public static ServerTickHandler serverTickHandler;
@@ -268,9 +274,30 @@ public class MCA extends UnenforcedCore
 	/** Map of MCA ids and their associated entity. Key = mcaId, Value = abstractEntity. */
 	public Map<Integer, AbstractEntity> entitiesMap = new HashMap<Integer, AbstractEntity>();
 
-	/** Map of all current players and their world properties manager. Server side only. **/
+	/** Map of the world properties managers of players that are online or were used recently. Use getWorldPropertiesManager for players that may be offline. Server side only. **/
 	public Map<String, WorldPropertiesManager> playerWorldManagerMap = new HashMap<String, WorldPropertiesManager>();
 
+	/** Index of player names and player IDs of the managers in playerWorldManagerMap. */
+	public PlayerIndex playerIndex = new PlayerIndex();
+
+	/** Writes the files of the managers in playerWorldManagerMap in the background. */
+	public WorldPropertiesStore worldPropertiesStore = new WorldPropertiesStore();
+
+	/** Summary of the world properties of every player in the current world, including those not in playerWorldManagerMap. */
+	public WorldPropertiesIndex worldPropertiesIndex = new WorldPropertiesIndex();
+
+	/** The family trees of every person the server has loaded, indexed by ID and relation. Server side only. */
+	public RelationshipGraph relationshipGraph = new RelationshipGraph();
+
+	/** Measures the update phases and chores of MCA's entities while turned on with /mca.profile. Server side only. */
+	public TickProfiler tickProfiler = new TickProfiler();
+
+	/** Tells MCA's entities and the server tick handler when a minute of real time has passed on the server. */
+	public MinuteClock serverMinuteClock = new MinuteClock();
+
+	/** Tells MCA's entities when a minute of real time has passed on the client. Client side only. */
+	public MinuteClock clientMinuteClock = new MinuteClock();
+
 	/** Map of the inventory of a player saved just before they died. */
 	public Map<String, ArrayList<EntityItem>> deadPlayerInventories = new HashMap<String, ArrayList<EntityItem>>();
 
@@ -515,6 +542,7 @@ public class MCA extends UnenforcedCore
 	{
 		event.registerServerCommand(new CommandHelp());
 		event.registerServerCommand(new CommandDebugMode());
+		event.registerServerCommand(new CommandProfile());
 		event.registerServerCommand(new CommandDebugRule());
 		event.registerServerCommand(new CommandModProps());
 		event.registerServerCommand(new CommandDevControl());
@@ -536,10 +564,18 @@ public class MCA extends UnenforcedCore
 
 		for (final WorldPropertiesManager manager : playerWorldManagerMap.values())
 		{
-			manager.saveWorldProperties();
+			worldPropertiesStore.save(manager);
 		}
 
+		worldPropertiesIndex.save(worldPropertiesStore);
+		worldPropertiesStore.flush();
+
 		playerWorldManagerMap.clear();
+		playerIndex.clear();
+		worldPropertiesIndex.clear();
+		relationshipGraph.clear();
+		tickProfiler.setEnabled(false);
+		tickProfiler.reset();
 		hasLoadedProperties = false;
 		hasCompletedMainMenuTick = false;
 	}
@@ -856,10 +892,10 @@ public class MCA extends UnenforcedCore
 	@Override
 	public void initializeEntities()
 	{
-		EntityRegistry.registerModEntity(EntityVillagerAdult.class, EntityVillagerAdult.class.getSimpleName(), 3, this, 50, 2, true);
-		EntityRegistry.registerModEntity(EntityVillagerChild.class, EntityVillagerChild.class.getSimpleName(), 4, this, 50, 2, true);
-		EntityRegistry.registerModEntity(EntityPlayerChild.class, EntityPlayerChild.class.getSimpleName(), 5, this, 50, 2, true);
-		EntityRegistry.registerModEntity(EntityChoreFishHook.class, EntityChoreFishHook.class.getSimpleName(), 6, this, 50, 2, true);
+		EntityRegistry.registerModEntity(EntityVillagerAdult.class, EntityVillagerAdult.class.getSimpleName(), 3, this, Constants.ENTITY_TRACKING_RANGE, 2, true);
+		EntityRegistry.registerModEntity(EntityVillagerChild.class, EntityVillagerChild.class.getSimpleName(), 4, this, Constants.ENTITY_TRACKING_RANGE, 2, true);
+		EntityRegistry.registerModEntity(EntityPlayerChild.class, EntityPlayerChild.class.getSimpleName(), 5, this, Constants.ENTITY_TRACKING_RANGE, 2, true);
+		EntityRegistry.registerModEntity(EntityChoreFishHook.class, EntityChoreFishHook.class.getSimpleName(), 6, this, Constants.ENTITY_TRACKING_RANGE, 2, true);
 	}
 
 	@Override
@@ -922,7 +958,7 @@ public class MCA extends UnenforcedCore
 	}
 
 	@Override
-	public ILanguageParser getLanguageParser()
+	public LanguageParser getLanguageParser()
 	{
 		return languageParser;
 	}
@@ -954,15 +990,8 @@ public class MCA extends UnenforcedCore
 	 */
 	public EntityPlayer getPlayerByID(World world, int id)
 	{
-		for (final Map.Entry<String, WorldPropertiesManager> entry : playerWorldManagerMap.entrySet())
-		{
-			if (getWorldProperties(entry.getValue().worldPropertiesInstance).playerID == id)
-			{
-				return world.getPlayerEntityByName(entry.getKey());
-			}
-		}
-
-		return null;
+		final String playerName = playerIndex.getName(id);
+		return playerName != null ? world.getPlayerEntityByName(playerName) : null;
 	}
 
 	/**
@@ -972,15 +1001,34 @@ public class MCA extends UnenforcedCore
 	 * @return The ID of the provided player. 0 if the player doesn't have an ID, which is invalid since all player IDs are negative.
 	 */
 	public int getIdOfPlayer(EntityPlayer player)
+	{
+		return player == null ? 0 : getIdOfPlayer(player.getCommandSenderName());
+	}
+
+	/**
+	 * Gets the ID of a provided player entity.
+	 * 
+	 * @param player The player whose ID should be gotten.
+	 * @return The ID of the provided player. 0 if the player doesn't have an ID, which is invalid since all player IDs are negative.
+	 */
+	public int getIdOfPlayer(String playerName)
 	{
 		try
 		{
-			for (final Map.Entry<String, WorldPropertiesManager> entry : playerWorldManagerMap.entrySet())
+			final Integer playerId = playerIndex.getId(playerName);
+
+			if (playerId != null)
 			{
-				if (entry.getKey().equals(player.getCommandSenderName()))
-				{
-					return getWorldProperties(entry.getValue()).playerID;
-				}
+				return playerId;
+			}
+
+			//Managers put into the map directly are indexed the first time they are looked up.
+			final WorldPropertiesManager manager = playerWorldManagerMap.get(playerName);
+
+			if (manager != null)
+			{
+				indexPlayer(manager, playerName);
+				return getWorldProperties(manager).playerID;
 			}
 
 			return 0;
@@ -993,54 +1041,74 @@ public class MCA extends UnenforcedCore
 		}
 	}
 
+	public String getPlayerName(int id)
+	{
+		return playerIndex.getName(id);
+	}
+
 	/**
-	 * Gets the ID of a provided player entity.
+	 * Updates the player index with the name and ID contained in the provided manager.
 	 * 
-	 * @param player The player whose ID should be gotten.
-	 * @return The ID of the provided player. 0 if the player doesn't have an ID, which is invalid since all player IDs are negative.
+	 * @param manager The world properties manager of a player.
+	 * @param playerName The name of the player that the manager belongs to.
 	 */
-	public int getIdOfPlayer(String playerName)
+	public void indexPlayer(WorldPropertiesManager manager, String playerName)
 	{
-		try
+		playerIndex.update(playerName, getWorldProperties(manager).playerID);
+		worldPropertiesIndex.update(playerName, getWorldProperties(manager));
+	}
+
+	/**
+	 * Gets the world properties manager of a player, loading it from disk if the player has properties that are not in memory.
+	 * 
+	 * @param playerName The name of the player, who may be offline.
+	 * @return The player's world properties manager, or null if they have no world properties.
+	 */
+	public WorldPropertiesManager getWorldPropertiesManager(String playerName)
+	{
+		WorldPropertiesManager manager = playerWorldManagerMap.get(playerName);
+
+		if (manager == null && playerName != null && hasLoadedProperties && FMLCommonHandler.instance().getEffectiveSide().isServer() && worldPropertiesIndex.hasProperties(playerName))
 		{
-			for (final Map.Entry<String, WorldPropertiesManager> entry : playerWorldManagerMap.entrySet())
-			{
-				if (entry.getKey().equals(playerName))
-				{
-					return getWorldProperties(entry.getValue()).playerID;
-				}
-			}
+			//The player's last save may still be waiting to be written.
+			worldPropertiesStore.prepareRead(worldPropertiesIndex.getPropertiesFile(playerName));
 
-			return 0;
+			manager = new WorldPropertiesManager(this, worldPropertiesIndex.getWorldName(), playerName, WorldPropertiesList.class);
+			playerWorldManagerMap.put(playerName, manager);
+			indexPlayer(manager, playerName);
+			worldPropertiesIndex.onManagerLoaded();
 		}
 
-		//Happens in a client side GUI.
-		catch (final NullPointerException e)
+		else if (manager != null)
 		{
-			return 0;
+			worldPropertiesIndex.touch(playerName);
 		}
+
+		return manager;
 	}
 
-	public String getPlayerName(int id)
+	/**
+	 * Removes the world properties managers of offline players that have not been used for a while. Every change to a
+	 * manager is saved when it is made, so nothing is written here other than the player index.
+	 * 
+	 * @param idleMillis How long a manager must have gone unused to be removed.
+	 */
+	public void evictIdleWorldProperties(long idleMillis)
 	{
-		try
+		for (final String playerName : worldPropertiesIndex.getIdlePlayers(idleMillis))
 		{
-			for (final Map.Entry<String, WorldPropertiesManager> entry : playerWorldManagerMap.entrySet())
+			if (RadixCore.getPlayerByName(playerName) != null)
 			{
-				if (getWorldProperties(entry.getValue()).playerID == id)
-				{
-					return entry.getKey();
-				}
+				worldPropertiesIndex.touch(playerName);
 			}
 
-			return null;
+			else
+			{
+				worldPropertiesIndex.onManagerEvicted(playerName, playerWorldManagerMap.remove(playerName) != null);
+			}
 		}
 
-		//Happens in a client side GUI.
-		catch (final NullPointerException e)
-		{
-			return null;
-		}
+		worldPropertiesIndex.save(worldPropertiesStore);
 	}
 
 	@Override
@@ -1048,18 +1116,21 @@ public class MCA extends UnenforcedCore
 	{
 		final WorldPropertiesList list = (WorldPropertiesList) manager.worldPropertiesInstance;
 		list.playerID = (int) Math.abs(list.playerName.hashCode() + System.currentTimeMillis() % (1024 * 1024)) * -1;
+		indexPlayer(manager, manager.getCurrentPlayerName());
 	}
 
 	@Override
 	public void onSaveWorldProperties(WorldPropertiesManager manager)
 	{
 		playerWorldManagerMap.put(manager.getCurrentPlayerName(), manager);
+		indexPlayer(manager, manager.getCurrentPlayerName());
 	}
 
 	@Override
 	public void onLoadWorldProperties(WorldPropertiesManager manager)
 	{
 		playerWorldManagerMap.put(manager.getCurrentPlayerName(), manager);
+		indexPlayer(manager, manager.getCurrentPlayerName());
 	}
 
 	@Override
@@ -52,4 +52,19 @@ public class ModPropertiesList implements Serializable
 
 	/** The prefix to append to villagers' chat */
 	public String villagerChatPrefix = "";
+
+	/** Milliseconds per server tick that may be spent on villager updates that can be delayed to a later tick. */
+	public int server_villagerUpdateBudgetMs = 10;
+
+	/** Hours of world time after which a villager forgets a player who has not been near it. Zero to never forget. */
+	public int server_playerMemoryExpiryHours = 48;
+
+	/** The most players a villager will remember. The least recently seen are forgotten first. Zero for no limit. */
+	public int server_playerMemoryLimit = 64;
+
+	/** The most villagers per world that may teleport home for the night during a single server tick. */
+	public int server_homecomingBatchSize = 8;
+
+	/** Minutes before the world properties of an offline player are unloaded after they were last used. */
+	public int server_worldPropertiesIdleMinutes = 10;
 }
@@ -73,12 +73,14 @@ public class ClientTickHandler
 				//Reset world specific data.
 				MCA.getInstance().hasNotifiedOfBabyReadyToGrow = false;
 				MCA.getInstance().playerWorldManagerMap.clear();
+				MCA.getInstance().playerIndex.clear();
 				MCA.getInstance().hasReceivedClientSetup = false;
 
 				//Check to see if dialogue should be reloaded.
 				if (!MCA.getInstance().languageLoaded)
 				{
 					MCA.getInstance().getLanguageLoader().loadLanguage(Minecraft.getMinecraft().gameSettings.language);
+					MCA.getInstance().getLanguageParser().onLanguageLoaded(Minecraft.getMinecraft().gameSettings.language);
 					MCA.getInstance().languageLoaded = true;
 				}
 
@@ -92,6 +94,7 @@ public class ClientTickHandler
 			if (!MCA.getInstance().languageLoaded)
 			{
 				MCA.getInstance().getLanguageLoader().loadLanguage(Minecraft.getMinecraft().gameSettings.language);
+				MCA.getInstance().getLanguageParser().onLanguageLoaded(Minecraft.getMinecraft().gameSettings.language);
 				MCA.getInstance().languageLoaded = true;
 			}
 		}
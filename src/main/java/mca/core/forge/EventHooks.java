@@ -10,10 +10,14 @@ package mca.core.forge;
 import java.io.File;
 
 import mca.api.registries.VillagerRegistryMCA;
-import mca.chore.ChoreCooking;
 import mca.core.Constants;
 import mca.core.MCA;
 import mca.core.WorldPropertiesList;
+import mca.core.util.ChoreBlockIndex;
+import mca.core.util.FurnaceReservations;
+import mca.core.util.HomecomingScheduler;
+import mca.core.util.PerWorldRegistry;
+import mca.core.util.UpdateSchedule;
 import mca.core.util.Utility;
 import mca.entity.AbstractEntity;
 import mca.entity.AbstractSerializableEntity;
@@ -51,11 +55,13 @@ import net.minecraft.item.ItemBed;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.integrated.IntegratedServer;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.event.entity.item.ItemTossEvent;
 import net.minecraftforge.event.entity.player.EntityInteractEvent;
 import net.minecraftforge.event.entity.player.PlayerDropsEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.WorldEvent;
 
 import com.radixshock.radixcore.core.RadixCore;
@@ -68,6 +74,7 @@ import cpw.mods.fml.common.gameevent.PlayerEvent.ItemCraftedEvent;
 import cpw.mods.fml.common.gameevent.PlayerEvent.ItemSmeltedEvent;
 import cpw.mods.fml.common.gameevent.PlayerEvent.PlayerLoggedInEvent;
 import cpw.mods.fml.common.gameevent.TickEvent.ClientTickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
 import cpw.mods.fml.common.gameevent.TickEvent.ServerTickEvent;
 
 /**
@@ -137,13 +144,17 @@ public class EventHooks
 	@SubscribeEvent
 	public void worldSaveEventHandler(WorldEvent.Unload event)
 	{
+		PerWorldRegistry.onWorldUnload(event.world);
+
 		if (!event.world.isRemote)
 		{
 			for (final WorldPropertiesManager manager : MCA.getInstance().playerWorldManagerMap.values())
 			{
-				manager.saveWorldProperties();
+				MCA.getInstance().worldPropertiesStore.save(manager);
 			}
 
+			MCA.getInstance().worldPropertiesIndex.save(MCA.getInstance().worldPropertiesStore);
+
 			if (!MCA.getInstance().hasSentCrashReport)
 			{
 				final MinecraftServer server = MinecraftServer.getServer();
@@ -174,7 +185,8 @@ public class EventHooks
 	}
 
 	/**
-	 * Fires when the world is loading. Loads world properties for every single player into memory server side only.
+	 * Fires when the world is loading. Loads the index of every player's world properties server side only. The
+	 * properties themselves are loaded when the player logs in or they are first needed.
 	 * 
 	 * @param event An instance of the WorldEvent.Load event.
 	 */
@@ -196,15 +208,30 @@ public class EventHooks
 				folderPath.mkdirs();
 			}
 
-			for (final File propertiesFile : folderPath.listFiles())
-			{
-				MCA.getInstance().playerWorldManagerMap.put(propertiesFile.getName(), new WorldPropertiesManager(MCA.getInstance(), worldName, propertiesFile.getName(), WorldPropertiesList.class));
-			}
+			//Properties still being written from before the world was last unloaded must reach the disk before they are read.
+			MCA.getInstance().worldPropertiesStore.flush();
+
+			MCA.getInstance().worldPropertiesIndex.load(folderPath, worldName);
+			MCA.getInstance().worldPropertiesIndex.addTo(MCA.getInstance().playerIndex);
+			MCA.getInstance().worldPropertiesIndex.save(MCA.getInstance().worldPropertiesStore);
 
 			MCA.getInstance().hasLoadedProperties = true;
 		}
 	}
 
+	/**
+	 * Fires when a chunk is unloaded.
+	 * 
+	 * @param event An instance of the ChunkEvent.Unload event.
+	 */
+	@SubscribeEvent
+	public void chunkUnloadEventHandler(ChunkEvent.Unload event)
+	{
+		final Chunk chunk = event.getChunk();
+		ChoreBlockIndex.onChunkUnload(chunk.worldObj, chunk.xPosition, chunk.zPosition);
+		FurnaceReservations.onChunkUnload(chunk.worldObj, chunk.xPosition, chunk.zPosition);
+	}
+
 	/**
 	 * Fired when the player dies.
 	 * 
@@ -230,17 +257,11 @@ public class EventHooks
 
 			if (block == Blocks.lit_furnace || block == Blocks.furnace)
 			{
-				for (final Object obj : event.entityPlayer.worldObj.loadedEntityList)
-				{
-					if (obj instanceof AbstractEntity)
-					{
-						final AbstractEntity entity = (AbstractEntity) obj;
+				final AbstractEntity entity = FurnaceReservations.forWorld(event.entityPlayer.worldObj).getCookingVillager(event.x, event.y, event.z);
 
-						if (entity.getInstanceOfCurrentChore() instanceof ChoreCooking && entity.cookingChore.hasCookableFood && entity.cookingChore.furnacePosX == event.x && entity.cookingChore.furnacePosY == event.y && entity.cookingChore.furnacePosZ == event.z)
-						{
-							event.setCanceled(true);
-						}
-					}
+				if (entity != null && entity.cookingChore.hasCookableFood)
+				{
+					event.setCanceled(true);
 				}
 			}
 		}
@@ -281,7 +302,25 @@ public class EventHooks
 	@SubscribeEvent
 	public void serverTickEventHandler(ServerTickEvent event)
 	{
+		if (event.phase == Phase.START)
+		{
+			UpdateSchedule.onServerTickStart(MCA.getInstance().getModProperties().server_villagerUpdateBudgetMs);
+			MCA.getInstance().serverMinuteClock.advance();
+		}
+
 		MCA.serverTickHandler.onTick();
+
+		if (event.phase == Phase.END)
+		{
+			MCA.getInstance().playerIndex.onTickEnd();
+			HomecomingScheduler.onServerTickEnd(MCA.getInstance().getModProperties().server_homecomingBatchSize);
+			AbstractEntity.flushAllDirtyFields();
+
+			if (MinecraftServer.getServer().getTickCounter() % 1200 == 0)
+			{
+				MCA.getInstance().evictIdleWorldProperties(MCA.getInstance().getModProperties().server_worldPropertiesIdleMinutes * 60000L);
+			}
+		}
 	}
 
 	/**
@@ -292,6 +331,11 @@ public class EventHooks
 	@SubscribeEvent
 	public void clientTickEventHandler(ClientTickEvent event)
 	{
+		if (event.phase == Phase.START)
+		{
+			MCA.getInstance().clientMinuteClock.advance();
+		}
+
 		MCA.clientTickHandler.onTick();
 	}
 
@@ -303,8 +347,11 @@ public class EventHooks
 	@SubscribeEvent
 	public void playerLoggedInEventHandler(PlayerLoggedInEvent event)
 	{
+		MCA.getInstance().worldPropertiesStore.prepareRead(MCA.getInstance().worldPropertiesIndex.getPropertiesFile(event.player.getCommandSenderName()));
+
 		final WorldPropertiesManager manager = new WorldPropertiesManager(MCA.getInstance(), event.player.worldObj.getSaveHandler().getWorldDirectoryName(), event.player.getCommandSenderName(), WorldPropertiesList.class);
 		MCA.getInstance().playerWorldManagerMap.put(event.player.getCommandSenderName(), manager);
+		MCA.getInstance().indexPlayer(manager, event.player.getCommandSenderName());
 
 		MCA.packetHandler.sendPacketToPlayer(new PacketSetWorldProperties(manager), (EntityPlayerMP) event.player);
 
@@ -329,7 +376,7 @@ public class EventHooks
 			if (!MCA.getInstance().getWorldProperties(manager).isMonarch)
 			{
 				MCA.getInstance().getWorldProperties(manager).isMonarch = true;
-				manager.saveWorldProperties();
+				MCA.getInstance().worldPropertiesStore.save(manager);
 
 				MCA.packetHandler.sendPacketToPlayer(new PacketSayLocalized(event.player, null, "notify.monarch.began", false, null, null), (EntityPlayerMP) event.player);
 				event.player.triggerAchievement(MCA.getInstance().achievementCraftCrown);
@@ -412,7 +459,7 @@ public class EventHooks
 			MCA.getInstance().getWorldProperties(manager).babyReadyToGrow = false;
 			MCA.getInstance().getWorldProperties(manager).minutesBabyExisted = 0;
 
-			manager.saveWorldProperties();
+			MCA.getInstance().worldPropertiesStore.save(manager);
 
 			MCA.packetHandler.sendPacketToPlayer(new PacketSayLocalized(event.player, null, "notify.baby.cooked", false, null, null), (EntityPlayerMP) event.player);
 			event.player.triggerAchievement(MCA.getInstance().achievementCookBaby);
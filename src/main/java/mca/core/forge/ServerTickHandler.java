@@ -7,10 +7,10 @@
 
 package mca.core.forge;
 
-import java.util.Calendar;
 import java.util.Map;
 
 import mca.core.MCA;
+import mca.core.util.MinuteClock;
 import mca.network.packets.PacketNotifyPlayer;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -22,14 +22,20 @@ import com.radixshock.radixcore.file.WorldPropertiesManager;
 /**
  * Handles ticking server-side for MCA.
  */
-public class ServerTickHandler
+public class ServerTickHandler implements MinuteClock.IMinuteListener
 {
 	/** The number of ticks since the loop has been ran. */
 	private int serverTicks = 20;
-	private int timePrevious = Calendar.getInstance().get(Calendar.MINUTE);
-	private int timeCurrent = Calendar.getInstance().get(Calendar.MINUTE);
 	private boolean hasProcessedNewMinute = false;
 
+	/**
+	 * Constructor
+	 */
+	public ServerTickHandler()
+	{
+		MCA.getInstance().serverMinuteClock.subscribe(this);
+	}
+
 	/**
 	 * Fires once per tick in-game.
 	 */
@@ -39,8 +45,6 @@ public class ServerTickHandler
 		{			
 			if (serverTicks >= 20)
 			{
-				doUpdateTime();
-
 				for (final Map.Entry<String, WorldPropertiesManager> entry : MCA.getInstance().playerWorldManagerMap.entrySet())
 				{
 					final EntityPlayer player = worldServer.getPlayerEntityByName(entry.getKey());
@@ -67,19 +71,17 @@ public class ServerTickHandler
 	{
 		if (MCA.getInstance().getWorldProperties(manager).babyExists)
 		{
-			timeCurrent = Calendar.getInstance().get(Calendar.MINUTE);
-
 			if (!hasProcessedNewMinute && !MCA.getInstance().getWorldProperties(manager).babyReadyToGrow)
 			{
 				MCA.getInstance().getWorldProperties(manager).minutesBabyExisted++;
-				manager.saveWorldProperties();
+				MCA.getInstance().worldPropertiesStore.save(manager);
 				hasProcessedNewMinute = true;
 			}
 
 			if (!MCA.getInstance().getWorldProperties(manager).babyReadyToGrow && MCA.getInstance().getWorldProperties(manager).minutesBabyExisted >= MCA.getInstance().getModProperties().babyGrowUpTimeMinutes)
 			{
 				MCA.getInstance().getWorldProperties(manager).babyReadyToGrow = true;
-				manager.saveWorldProperties();
+				MCA.getInstance().worldPropertiesStore.save(manager);
 				return;
 			}
 
@@ -102,15 +104,10 @@ public class ServerTickHandler
 		}
 	}
 
-	private void doUpdateTime()
+	@Override
+	public void onMinuteElapsed(long minute)
 	{
-		timeCurrent = Calendar.getInstance().get(Calendar.MINUTE);
-
-		if (timeCurrent > timePrevious || timeCurrent == 0 && timePrevious == 59)
-		{
-			timePrevious = timeCurrent;
-			hasProcessedNewMinute = false;
-		}
+		hasProcessedNewMinute = false;
 	}
 
 	private void doDebug(WorldPropertiesManager manager)
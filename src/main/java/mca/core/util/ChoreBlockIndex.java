@@ -0,0 +1,332 @@
+/*******************************************************************************
+ * ChoreBlockIndex.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.Entity;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import com.radixshock.radixcore.logic.Point3D;
+
+/**
+ * Remembers where the blocks that chores look for are, so that chores do not have to check every block around them
+ * each time they need a new target. The world is split into 16x16x16 sections that are scanned the first time a chore
+ * searches them. A section is forgotten when a block inside it changes, when its chunk unloads, or after a while.
+ */
+public final class ChoreBlockIndex
+{
+	/** Ticks after which a section is scanned again, in case a change to it was missed. */
+	private static final int SECTION_LIFETIME_TICKS = 6000;
+
+	private static final PerWorldRegistry<ChoreBlockIndex> INDEXES = new PerWorldRegistry<ChoreBlockIndex>(new PerWorldRegistry.Factory<ChoreBlockIndex>()
+	{
+		@Override
+		public ChoreBlockIndex create(World world)
+		{
+			return new ChoreBlockIndex(world);
+		}
+
+		@Override
+		public void attach(World world)
+		{
+			world.addWorldAccess(new BlockChangeListener(world));
+		}
+	});
+
+	private final World world;
+	private final Map<Long, Section> sections = new HashMap<Long, Section>();
+	private final Set<Block> indexedBlocks = new HashSet<Block>();
+	private int sectionsScanned;
+
+	private ChoreBlockIndex(World world)
+	{
+		this.world = world;
+	}
+
+	/**
+	 * Gets the index of the provided world, creating it on first use. Must only be called from the thread that ticks the world.
+	 *
+	 * @param world The world whose blocks should be indexed.
+	 * @return The index for the world.
+	 */
+	public static ChoreBlockIndex forWorld(World world)
+	{
+		return INDEXES.get(world);
+	}
+
+	/**
+	 * Forgets every section in a chunk that is unloading.
+	 *
+	 * @param world The world containing the chunk.
+	 * @param chunkX The chunk's X coordinate.
+	 * @param chunkZ The chunk's Z coordinate.
+	 */
+	public static void onChunkUnload(World world, int chunkX, int chunkZ)
+	{
+		final ChoreBlockIndex index = INDEXES.getIfPresent(world);
+
+		if (index != null)
+		{
+			for (int sectionY = 0; sectionY < 16; sectionY++)
+			{
+				index.sections.remove(getSectionKey(chunkX, sectionY, chunkZ));
+			}
+		}
+	}
+
+	/**
+	 * Finds the closest block of a type within a box around an entity. The box is the same as the one searched by
+	 * LogicHelper, centered on the block the entity is in.
+	 *
+	 * @param entity The entity to search around.
+	 * @param block The block to search for.
+	 * @param meta The metadata the block must have, or -1 to accept any metadata.
+	 * @param radius The distance the box extends along the X and Z axes.
+	 * @param radiusY The distance the box extends along the Y axis.
+	 * @return The coordinates of the closest matching block, or null if there are none.
+	 */
+	public Point3D getNearestBlock(Entity entity, Block block, int meta, int radius, int radiusY)
+	{
+		final List<Point3D> points = getBlocks((int) entity.posX, (int) entity.posY, (int) entity.posZ, block, meta, radius, radiusY);
+		Point3D nearestPoint = null;
+		double nearestDistanceSq = Double.MAX_VALUE;
+
+		for (final Point3D point : points)
+		{
+			final double distanceSq = entity.getDistanceSq(point.dPosX, point.dPosY, point.dPosZ);
+
+			if (distanceSq < nearestDistanceSq)
+			{
+				nearestPoint = point;
+				nearestDistanceSq = distanceSq;
+			}
+		}
+
+		return nearestPoint;
+	}
+
+	/**
+	 * Finds every block of a type within a box. Blocks in unloaded chunks are not found.
+	 *
+	 * @param centerX The X coordinate of the center of the box.
+	 * @param centerY The Y coordinate of the center of the box.
+	 * @param centerZ The Z coordinate of the center of the box.
+	 * @param block The block to search for.
+	 * @param meta The metadata the block must have, or -1 to accept any metadata.
+	 * @param radius The distance the box extends along the X and Z axes.
+	 * @param radiusY The distance the box extends along the Y axis.
+	 * @return The coordinates of each matching block.
+	 */
+	public List<Point3D> getBlocks(int centerX, int centerY, int centerZ, Block block, int meta, int radius, int radiusY)
+	{
+		if (block == null)
+		{
+			return new ArrayList<Point3D>();
+		}
+
+		else if (indexedBlocks.add(block))
+		{
+			//Sections scanned so far did not record this block.
+			sections.clear();
+		}
+
+		final List<Point3D> points = new ArrayList<Point3D>();
+		final int minX = centerX - radius;
+		final int maxX = centerX + radius;
+		final int minY = Math.max(centerY - radiusY, 0);
+		final int maxY = Math.min(centerY + radiusY, 255);
+		final int minZ = centerZ - radius;
+		final int maxZ = centerZ + radius;
+		final long worldTick = world.getTotalWorldTime();
+
+		for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++)
+		{
+			for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++)
+			{
+				if (!world.getChunkProvider().chunkExists(chunkX, chunkZ))
+				{
+					continue;
+				}
+
+				for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++)
+				{
+					final Section section = getSection(chunkX, sectionY, chunkZ, worldTick);
+
+					for (int i = 0; i < section.blocks.length; i++)
+					{
+						final int position = section.positions[i];
+						final int x = (chunkX << 4) + (position & 15);
+						final int y = (sectionY << 4) + (position >> 8 & 15);
+						final int z = (chunkZ << 4) + (position >> 4 & 15);
+
+						if (section.blocks[i] == block && (meta == -1 || meta == (position >> 12 & 15)) && x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ)
+						{
+							points.add(new Point3D(x, y, z));
+						}
+					}
+				}
+			}
+		}
+
+		return points;
+	}
+
+	/**
+	 * @return The number of sections currently remembered.
+	 */
+	public int getSectionCount()
+	{
+		return sections.size();
+	}
+
+	/**
+	 * @return The number of sections that have been scanned since the index was created.
+	 */
+	public int getSectionsScanned()
+	{
+		return sectionsScanned;
+	}
+
+	private Section getSection(int chunkX, int sectionY, int chunkZ, long worldTick)
+	{
+		final Long sectionKey = getSectionKey(chunkX, sectionY, chunkZ);
+		Section section = sections.get(sectionKey);
+
+		if (section == null || worldTick - section.scanTick > SECTION_LIFETIME_TICKS)
+		{
+			section = scanSection(world.getChunkFromChunkCoords(chunkX, chunkZ), sectionY, worldTick);
+			sections.put(sectionKey, section);
+		}
+
+		return section;
+	}
+
+	private Section scanSection(Chunk chunk, int sectionY, long worldTick)
+	{
+		final ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sectionY];
+		final List<Block> foundBlocks = new ArrayList<Block>();
+		final List<Integer> foundPositions = new ArrayList<Integer>();
+
+		sectionsScanned++;
+
+		if (storage != null && !storage.isEmpty())
+		{
+			for (int y = 0; y < 16; y++)
+			{
+				for (int z = 0; z < 16; z++)
+				{
+					for (int x = 0; x < 16; x++)
+					{
+						final Block block = storage.getBlockByExtId(x, y, z);
+
+						if (indexedBlocks.contains(block))
+						{
+							foundBlocks.add(block);
+							foundPositions.add(storage.getExtBlockMetadata(x, y, z) << 12 | y << 8 | z << 4 | x);
+						}
+					}
+				}
+			}
+		}
+
+		final Section section = new Section(worldTick, foundBlocks.size());
+
+		for (int i = 0; i < section.blocks.length; i++)
+		{
+			section.blocks[i] = foundBlocks.get(i);
+			section.positions[i] = foundPositions.get(i);
+		}
+
+		return section;
+	}
+
+	private void invalidate(int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+	{
+		if (sections.isEmpty())
+		{
+			return;
+		}
+
+		for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++)
+		{
+			for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++)
+			{
+				for (int sectionY = Math.max(minY, 0) >> 4; sectionY <= Math.min(maxY, 255) >> 4; sectionY++)
+				{
+					sections.remove(getSectionKey(chunkX, sectionY, chunkZ));
+				}
+			}
+		}
+	}
+
+	private static long getSectionKey(int chunkX, int sectionY, int chunkZ)
+	{
+		return ((long) chunkX & 0x3FFFFFFL) << 30 | ((long) chunkZ & 0x3FFFFFFL) << 4 | sectionY & 15;
+	}
+
+	/**
+	 * The indexed blocks found in one section. Positions hold the block's metadata and its coordinates within the section.
+	 */
+	private static final class Section
+	{
+		private final long scanTick;
+		private final Block[] blocks;
+		private final int[] positions;
+
+		private Section(long scanTick, int size)
+		{
+			this.scanTick = scanTick;
+			this.blocks = new Block[size];
+			this.positions = new int[size];
+		}
+	}
+
+	/**
+	 * Forgets sections as blocks inside them change.
+	 */
+	private static final class BlockChangeListener extends WorldAccessAdapter
+	{
+		private final World world;
+
+		private BlockChangeListener(World world)
+		{
+			this.world = world;
+		}
+
+		@Override
+		public void markBlockForUpdate(int x, int y, int z)
+		{
+			final ChoreBlockIndex index = INDEXES.getIfPresent(world);
+
+			if (index != null)
+			{
+				index.invalidate(x, y, z, x, y, z);
+			}
+		}
+
+		@Override
+		public void markBlockRangeForRenderUpdate(int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+		{
+			final ChoreBlockIndex index = INDEXES.getIfPresent(world);
+
+			if (index != null)
+			{
+				index.invalidate(minX, minY, minZ, maxX, maxY, maxZ);
+			}
+		}
+	}
+}
@@ -0,0 +1,876 @@
+/*******************************************************************************
+ * DevBenchmark.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+
+import mca.chore.AbstractChore;
+import mca.core.MCA;
+import mca.entity.AbstractChild;
+import mca.entity.AbstractEntity;
+import mca.entity.EntityPlayerChild;
+import mca.entity.EntityVillagerAdult;
+import mca.entity.EntityVillagerChild;
+import mca.enums.EnumPlaceholder;
+import mca.enums.EnumRelation;
+import mca.lang.ParseContext;
+import mca.lang.PhraseIndex;
+import mca.lang.PhraseTemplate;
+import mca.network.EntitySyncCodec;
+import mca.network.SyncSchema;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.monster.EntityZombie;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.ChatComponentText;
+import net.minecraft.util.ChunkCoordinates;
+import net.minecraft.world.World;
+
+import com.radixshock.radixcore.constant.Font.Color;
+import com.radixshock.radixcore.constant.Language;
+import com.radixshock.radixcore.logic.NBTHelper;
+import com.radixshock.radixcore.network.ByteBufIO;
+
+/**
+ * Measures the cost of MCA's hot paths against the live world. Run using /mca.devcontrol.
+ */
+public final class DevBenchmark
+{
+	/** Number of times each measured operation is repeated. */
+	private static final int ITERATIONS = 50;
+
+	private DevBenchmark()
+	{
+	}
+
+	/**
+	 * Compares the size and encode/decode time of Java serialized sync data against the binary sync codec,
+	 * using every MCA entity loaded in the provided world.
+	 *
+	 * @param sender The command sender that will receive the results.
+	 * @param world The world containing the entities to measure.
+	 */
+	public static void benchmarkSync(ICommandSender sender, World world)
+	{
+		final List<AbstractEntity> entities = getLoadedEntities(world);
+
+		if (entities.isEmpty())
+		{
+			report(sender, Color.RED + "No MCA entities are loaded in this world.");
+			return;
+		}
+
+		final Map<Class, AbstractEntity> decodeTargets = new HashMap<Class, AbstractEntity>();
+		final ByteBuf buffer = Unpooled.buffer(4096);
+		long serializedBytes = 0;
+		long serializedEncodeNanos = 0;
+		long serializedDecodeNanos = 0;
+		long codecBytes = 0;
+		long codecEncodeNanos = 0;
+		long codecDecodeNanos = 0;
+
+		for (final AbstractEntity entity : entities)
+		{
+			AbstractEntity decodeTarget = decodeTargets.get(entity.getClass());
+
+			if (decodeTarget == null)
+			{
+				try
+				{
+					decodeTarget = entity.getClass().getConstructor(World.class).newInstance(world);
+					decodeTargets.put(entity.getClass(), decodeTarget);
+				}
+
+				catch (final Exception e)
+				{
+					MCA.getInstance().getLogger().log(e);
+					continue;
+				}
+			}
+
+			for (int i = 0; i < ITERATIONS; i++)
+			{
+				buffer.clear();
+				long startTime = System.nanoTime();
+				ByteBufIO.writeObject(buffer, entity);
+				serializedEncodeNanos += System.nanoTime() - startTime;
+				serializedBytes += buffer.readableBytes();
+
+				startTime = System.nanoTime();
+				ByteBufIO.readObject(buffer);
+				serializedDecodeNanos += System.nanoTime() - startTime;
+
+				buffer.clear();
+				startTime = System.nanoTime();
+				EntitySyncCodec.writeEntity(entity, buffer);
+				codecEncodeNanos += System.nanoTime() - startTime;
+				codecBytes += buffer.readableBytes();
+
+				startTime = System.nanoTime();
+				EntitySyncCodec.readEntity(decodeTarget, buffer);
+				codecDecodeNanos += System.nanoTime() - startTime;
+			}
+		}
+
+		final long samples = (long) entities.size() * ITERATIONS;
+		report(sender, Color.YELLOW + "Sync benchmark over " + entities.size() + " entities, " + ITERATIONS + " iterations each:");
+		report(sender, "Serialized: " + serializedBytes / samples + " bytes, encode " + serializedEncodeNanos / samples + " ns, decode " + serializedDecodeNanos / samples + " ns");
+		report(sender, "Binary:     " + codecBytes / samples + " bytes, encode " + codecEncodeNanos / samples + " ns, decode " + codecDecodeNanos / samples + " ns");
+	}
+
+	/**
+	 * Compares applying a field update the way PacketSetFieldValue used to, by scanning the loaded entity list and
+	 * the entity's fields by name, against looking up the entity by ID and setting a precompiled field by schema ID.
+	 *
+	 * @param sender The command sender that will receive the results.
+	 * @param world The world containing the entities to measure.
+	 */
+	public static void benchmarkFieldUpdate(ICommandSender sender, World world)
+	{
+		final List<AbstractEntity> entities = getLoadedEntities(world);
+
+		if (entities.isEmpty())
+		{
+			report(sender, Color.RED + "No MCA entities are loaded in this world.");
+			return;
+		}
+
+		final String fieldName = "idleTicks";
+		long scanNanos = 0;
+		long schemaNanos = 0;
+
+		try
+		{
+			for (int i = 0; i < ITERATIONS; i++)
+			{
+				for (final AbstractEntity entity : entities)
+				{
+					final Object fieldValue = entity.idleTicks;
+					final int entityId = entity.getEntityId();
+
+					long startTime = System.nanoTime();
+
+					for (final Object obj : world.loadedEntityList)
+					{
+						final Entity loadedEntity = (Entity) obj;
+
+						if (loadedEntity.getEntityId() == entityId)
+						{
+							for (final Field field : loadedEntity.getClass().getFields())
+							{
+								if (field.getName().equals(fieldName) && field.getType().getName().contains("int"))
+								{
+									loadedEntity.getClass().getField(fieldName).set(loadedEntity, Integer.parseInt(fieldValue.toString()));
+								}
+							}
+
+							break;
+						}
+					}
+
+					scanNanos += System.nanoTime() - startTime;
+
+					startTime = System.nanoTime();
+					final Entity foundEntity = world.getEntityByID(entityId);
+					final SyncSchema schema = SyncSchema.forClass(foundEntity.getClass());
+					schema.getField(schema.getFieldId(fieldName)).setInt(foundEntity, entity.idleTicks);
+					schemaNanos += System.nanoTime() - startTime;
+				}
+			}
+		}
+
+		catch (final Exception e)
+		{
+			MCA.getInstance().getLogger().log(e);
+			return;
+		}
+
+		final long samples = (long) entities.size() * ITERATIONS;
+		report(sender, Color.YELLOW + "Field update benchmark over " + entities.size() + " MCA entities, " + world.loadedEntityList.size() + " loaded entities:");
+		report(sender, "Scan by name:   " + scanNanos / samples + " ns per update");
+		report(sender, "Lookup by ID:   " + schemaNanos / samples + " ns per update");
+	}
+
+	/**
+	 * Measures the time taken to save every MCA entity in each chunk that contains them. Compares writing MCA's fields
+	 * the way they used to be written, by scanning every field of the entity and its chores on each save, against the
+	 * cached field codecs. Also reports the full entity save time.
+	 *
+	 * @param sender The command sender that will receive the results.
+	 * @param world The world containing the entities to measure.
+	 */
+	public static void benchmarkChunkSave(ICommandSender sender, World world)
+	{
+		final Map<Long, List<AbstractEntity>> entitiesByChunk = new HashMap<Long, List<AbstractEntity>>();
+		int mostEntitiesInChunk = 0;
+
+		for (final AbstractEntity entity : getLoadedEntities(world))
+		{
+			final Long chunkKey = (long) entity.chunkCoordX << 32 | entity.chunkCoordZ & 0xFFFFFFFFL;
+			List<AbstractEntity> chunkEntities = entitiesByChunk.get(chunkKey);
+
+			if (chunkEntities == null)
+			{
+				chunkEntities = new ArrayList<AbstractEntity>();
+				entitiesByChunk.put(chunkKey, chunkEntities);
+			}
+
+			chunkEntities.add(entity);
+			mostEntitiesInChunk = Math.max(mostEntitiesInChunk, chunkEntities.size());
+		}
+
+		if (entitiesByChunk.isEmpty())
+		{
+			report(sender, Color.RED + "No MCA entities are loaded in this world.");
+			return;
+		}
+
+		long reflectiveNanos = 0;
+		long codecNanos = 0;
+		long fullSaveNanos = 0;
+
+		for (int i = 0; i < ITERATIONS; i++)
+		{
+			for (final List<AbstractEntity> chunkEntities : entitiesByChunk.values())
+			{
+				long startTime = System.nanoTime();
+
+				for (final AbstractEntity entity : chunkEntities)
+				{
+					final NBTTagCompound nbt = new NBTTagCompound();
+					NBTHelper.autoWriteEntityToNBT(entity, nbt, AbstractChild.class, EntityPlayerChild.class, EntityVillagerChild.class, EntityVillagerAdult.class, AbstractEntity.class);
+
+					for (final AbstractChore chore : getSavedChores(entity))
+					{
+						writeFieldsReflectively(chore, nbt);
+					}
+				}
+
+				reflectiveNanos += System.nanoTime() - startTime;
+
+				startTime = System.nanoTime();
+
+				for (final AbstractEntity entity : chunkEntities)
+				{
+					final NBTTagCompound nbt = new NBTTagCompound();
+					NBTFieldCodec.forClass(entity.getClass(), AbstractEntity.class).write(entity, nbt);
+
+					for (final AbstractChore chore : getSavedChores(entity))
+					{
+						final NBTTagCompound choreNBT = new NBTTagCompound();
+						NBTFieldCodec.forClass(chore.getClass(), AbstractChore.class).write(chore, choreNBT);
+						nbt.setTag("chore" + chore.getChoreName(), choreNBT);
+					}
+				}
+
+				codecNanos += System.nanoTime() - startTime;
+
+				startTime = System.nanoTime();
+
+				for (final AbstractEntity entity : chunkEntities)
+				{
+					entity.writeToNBT(new NBTTagCompound());
+				}
+
+				fullSaveNanos += System.nanoTime() - startTime;
+			}
+		}
+
+		final long samples = (long) entitiesByChunk.size() * ITERATIONS;
+		report(sender, Color.YELLOW + "Chunk save benchmark over " + entitiesByChunk.size() + " chunks, up to " + mostEntitiesInChunk + " MCA entities per chunk:");
+		report(sender, "Reflective fields: " + reflectiveNanos / samples + " ns per chunk");
+		report(sender, "Codec fields:      " + codecNanos / samples + " ns per chunk");
+		report(sender, "Full entity save:  " + fullSaveNanos / samples + " ns per chunk");
+	}
+
+	/**
+	 * Builds a synthetic world of 10,000 villagers in ten generations, each married and with two parents from the
+	 * generation before, and compares finding relatives by scanning every family tree, the way FamilyTree used to
+	 * resolve relatives against the entities map, with the relationship graph.
+	 *
+	 * @param sender The command sender that will receive the results.
+	 */
+	public static void benchmarkRelationshipGraph(ICommandSender sender)
+	{
+		final int generations = 10;
+		final int villagersPerGeneration = 1000;
+		final Random random = new Random(0);
+		final Map<Integer, Map<Integer, EnumRelation>> trees = new LinkedHashMap<Integer, Map<Integer, EnumRelation>>();
+
+		for (int generation = 0; generation < generations; generation++)
+		{
+			for (int index = 0; index < villagersPerGeneration; index++)
+			{
+				final int id = generation * villagersPerGeneration + index + 1;
+				final Map<Integer, EnumRelation> relationMap = new HashMap<Integer, EnumRelation>();
+				relationMap.put(index % 2 == 0 ? id + 1 : id - 1, EnumRelation.Spouse);
+
+				if (generation > 0)
+				{
+					final int parentPair = (generation - 1) * villagersPerGeneration + random.nextInt(villagersPerGeneration / 2) * 2 + 1;
+					relationMap.put(parentPair, EnumRelation.Parent);
+					relationMap.put(parentPair + 1, EnumRelation.Parent);
+				}
+
+				trees.put(id, relationMap);
+			}
+		}
+
+		final RelationshipGraph graph = new RelationshipGraph();
+		long startTime = System.nanoTime();
+
+		for (final Map.Entry<Integer, Map<Integer, EnumRelation>> entry : trees.entrySet())
+		{
+			graph.setRelatives(entry.getKey(), entry.getValue());
+		}
+
+		final long buildNanos = System.nanoTime() - startTime;
+		long scanSpouseNanos = 0;
+		long graphSpouseNanos = 0;
+		long scanDescendantNanos = 0;
+		long graphDescendantNanos = 0;
+		long graphAncestorNanos = 0;
+		int mismatches = 0;
+
+		for (int i = 0; i < ITERATIONS; i++)
+		{
+			final int ownerId = random.nextInt(trees.size()) + 1;
+			final int founderId = random.nextInt(villagersPerGeneration) + 1;
+
+			startTime = System.nanoTime();
+			final int scannedSpouse = scanForRelative(trees, ownerId, EnumRelation.Spouse);
+			scanSpouseNanos += System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			final Set<Integer> spouseIds = graph.getRelatives(ownerId, EnumRelation.Spouse);
+			final int graphSpouse = spouseIds.isEmpty() ? 0 : spouseIds.iterator().next();
+			graphSpouseNanos += System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			final Set<Integer> scannedDescendants = scanForDescendants(trees, founderId, generations);
+			scanDescendantNanos += System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			final Set<Integer> graphDescendants = graph.getDescendants(founderId, generations);
+			graphDescendantNanos += System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+			graph.getAncestors(trees.size() - random.nextInt(villagersPerGeneration), generations);
+			graphAncestorNanos += System.nanoTime() - startTime;
+
+			if (scannedSpouse != graphSpouse || !scannedDescendants.equals(graphDescendants))
+			{
+				mismatches++;
+			}
+		}
+
+		report(sender, Color.YELLOW + "Relationship benchmark over " + trees.size() + " villagers in " + generations + " generations, " + graph.getEdgeCount() + " relations:");
+		report(sender, "Graph built in " + buildNanos / 1000000 + " ms");
+		report(sender, "Spouse, scan:       " + scanSpouseNanos / ITERATIONS + " ns");
+		report(sender, "Spouse, graph:      " + graphSpouseNanos / ITERATIONS + " ns");
+		report(sender, "Descendants, scan:  " + scanDescendantNanos / ITERATIONS + " ns");
+		report(sender, "Descendants, graph: " + graphDescendantNanos / ITERATIONS + " ns");
+		report(sender, "Ancestors, graph:   " + graphAncestorNanos / ITERATIONS + " ns");
+
+		if (mismatches > 0)
+		{
+			report(sender, Color.RED + mismatches + " lookups gave different results.");
+		}
+	}
+
+	/**
+	 * Compares parsing every loaded phrase the way LanguageParser used to, searching the phrase once for every
+	 * placeholder, with rendering the phrase's compiled template. Placeholders are given fixed values so that only the
+	 * cost of building the text is measured.
+	 *
+	 * @param sender The command sender that will receive the results.
+	 */
+	public static void benchmarkLanguageParser(ICommandSender sender)
+	{
+		final List<String> phrases = new ArrayList<String>(MCA.getInstance().getLanguageLoader().getTranslations().values());
+
+		if (phrases.isEmpty())
+		{
+			report(sender, Color.RED + "No language is loaded. Run loadLanguage first.");
+			return;
+		}
+
+		final EnumPlaceholder[] placeholders = EnumPlaceholder.values();
+		final String[] values = new String[placeholders.length];
+
+		for (final EnumPlaceholder placeholder : placeholders)
+		{
+			values[placeholder.ordinal()] = placeholder.name().toLowerCase();
+		}
+
+		final ParseContext context = new ParseContext(null, null)
+		{
+			@Override
+			public String resolve(EnumPlaceholder placeholder)
+			{
+				return values[placeholder.ordinal()];
+			}
+		};
+
+		long startTime = System.nanoTime();
+		final PhraseTemplate[] templates = new PhraseTemplate[phrases.size()];
+		int placeholderCount = 0;
+
+		for (int index = 0; index < templates.length; index++)
+		{
+			templates[index] = PhraseTemplate.compile(phrases.get(index));
+			placeholderCount += templates[index].getPlaceholderCount();
+		}
+
+		final long compileNanos = System.nanoTime() - startTime;
+		long replaceNanos = 0;
+		long templateNanos = 0;
+		int mismatches = 0;
+
+		for (int i = 0; i < ITERATIONS; i++)
+		{
+			for (int index = 0; index < templates.length; index++)
+			{
+				startTime = System.nanoTime();
+				String replaced = phrases.get(index);
+
+				for (final EnumPlaceholder placeholder : placeholders)
+				{
+					if (replaced.contains(placeholder.getToken()))
+					{
+						replaced = replaced.replace(placeholder.getToken(), values[placeholder.ordinal()]);
+					}
+				}
+
+				replaceNanos += System.nanoTime() - startTime;
+
+				startTime = System.nanoTime();
+				final String rendered = templates[index].render(context);
+				templateNanos += System.nanoTime() - startTime;
+
+				if (i == 0 && !rendered.equals(replaced))
+				{
+					mismatches++;
+				}
+			}
+		}
+
+		report(sender, Color.YELLOW + "Language parser benchmark over " + phrases.size() + " phrases, " + placeholderCount + " placeholders:");
+		report(sender, "Templates compiled in " + compileNanos / 1000 + " us");
+		report(sender, "Parse, replace:  " + replaceNanos / ITERATIONS / phrases.size() + " ns");
+		report(sender, "Parse, template: " + templateNanos / ITERATIONS / phrases.size() + " ns");
+
+		if (mismatches > 0)
+		{
+			report(sender, Color.RED + mismatches + " phrases parsed differently.");
+		}
+	}
+
+	/**
+	 * Indexes the phrases of every language MCA ships with, reporting how long that takes, and compares picking a
+	 * phrase by searching every phrase key, the way phrases were found before they were indexed, with the phrase index.
+	 *
+	 * @param sender The command sender that will receive the results.
+	 */
+	public static void benchmarkLanguageIndex(ICommandSender sender)
+	{
+		int languagesIndexed = 0;
+		int phrasesIndexed = 0;
+		long totalBuildNanos = 0;
+		long slowestBuildNanos = 0;
+		String slowestLanguageId = null;
+
+		for (final Language language : Language.values())
+		{
+			final Map<String, String> translations = readLanguageFile(language.name());
+
+			if (translations != null)
+			{
+				final PhraseIndex index = PhraseIndex.build(language.name(), translations);
+				languagesIndexed++;
+				phrasesIndexed += index.getPhraseCount();
+				totalBuildNanos += index.getBuildNanos();
+
+				if (index.getBuildNanos() > slowestBuildNanos)
+				{
+					slowestBuildNanos = index.getBuildNanos();
+					slowestLanguageId = language.name();
+				}
+			}
+		}
+
+		report(sender, Color.YELLOW + "Language index benchmark over " + languagesIndexed + " languages, " + phrasesIndexed + " phrases:");
+		report(sender, "All languages indexed in " + totalBuildNanos / 1000000 + " ms");
+		report(sender, "Slowest language:  " + slowestLanguageId + ", " + slowestBuildNanos / 1000000 + " ms");
+
+		final Map<String, String> translations = MCA.getInstance().getLanguageLoader().getTranslations();
+		final List<String> phraseIds = new ArrayList<String>();
+
+		for (final String key : translations.keySet())
+		{
+			phraseIds.add(key.replaceAll("[0-9]+$", ""));
+		}
+
+		if (phraseIds.isEmpty())
+		{
+			report(sender, Color.RED + "No language is loaded. Run loadLanguage first.");
+			return;
+		}
+
+		final PhraseIndex index = MCA.getInstance().getLanguageParser().getPhraseIndex();
+		final Random random = new Random(0);
+		long searchNanos = 0;
+		long indexNanos = 0;
+		int misses = 0;
+
+		for (int i = 0; i < ITERATIONS; i++)
+		{
+			final String phraseId = phraseIds.get(random.nextInt(phraseIds.size()));
+
+			long startTime = System.nanoTime();
+			final List<String> matchingValues = new ArrayList<String>();
+
+			for (final Map.Entry<String, String> entry : translations.entrySet())
+			{
+				if (entry.getKey().contains(phraseId))
+				{
+					if (entry.getKey().equals(phraseId))
+					{
+						matchingValues.clear();
+						matchingValues.add(entry.getValue());
+						break;
+					}
+
+					matchingValues.add(entry.getValue());
+				}
+			}
+
+			if (!matchingValues.isEmpty())
+			{
+				matchingValues.get(random.nextInt(matchingValues.size()));
+			}
+
+			searchNanos += System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+
+			if (index.getRandomVariant(phraseId, random) == null)
+			{
+				misses++;
+			}
+
+			indexNanos += System.nanoTime() - startTime;
+		}
+
+		report(sender, "Pick phrase, search: " + searchNanos / ITERATIONS + " ns");
+		report(sender, "Pick phrase, index:  " + indexNanos / ITERATIONS + " ns");
+		report(sender, "Index in use: " + index.getLanguageId() + ", swapped " + MCA.getInstance().getLanguageParser().getPhraseIndexSwaps() + " times");
+
+		if (misses > 0)
+		{
+			report(sender, Color.RED + misses + " phrase IDs were not found in the index.");
+		}
+	}
+
+	/**
+	 * Spawns hostile creatures around the sender and compares fifty guards each finding their closest target the way
+	 * ChoreCombat used to, by sweeping the area around them and measuring the distance to each creature on every
+	 * comparison, against sharing one threat map. Every creature is treated as attackable, and the guards are not
+	 * spawned, so only the creatures are added to the world. The creatures are removed afterwards.
+	 *
+	 * @param sender The command sender that will receive the results.
+	 * @param world The world to spawn the creatures in.
+	 */
+	public static void benchmarkThreatMap(ICommandSender sender, World world)
+	{
+		final ChunkCoordinates origin = sender.getPlayerCoordinates();
+		final Random random = new Random(0);
+		final List<EntityLivingBase> guards = new ArrayList<EntityLivingBase>();
+		final List<EntityLivingBase> mobs = new ArrayList<EntityLivingBase>();
+
+		for (int i = 0; i < 100; i++)
+		{
+			final EntityZombie mob = new EntityZombie(world);
+			mob.setPosition(origin.posX + random.nextInt(33) - 16 + 0.5D, origin.posY, origin.posZ + random.nextInt(33) - 16 + 0.5D);
+
+			if (world.spawnEntityInWorld(mob))
+			{
+				mobs.add(mob);
+			}
+		}
+
+		for (int i = 0; i < 50; i++)
+		{
+			final EntityZombie guard = new EntityZombie(world);
+			guard.setPosition(origin.posX + random.nextInt(33) - 16 + 0.5D, origin.posY, origin.posZ + random.nextInt(33) - 16 + 0.5D);
+			guards.add(guard);
+		}
+
+		final ThreatMap threatMap = ThreatMap.forWorld(world);
+		final long[] countsBefore = threatMap.getCounts();
+		long sweepNanos = 0;
+		long threatMapNanos = 0;
+		int sweepTargets = 0;
+		int threatMapTargets = 0;
+
+		for (int i = 0; i < ITERATIONS; i++)
+		{
+			long startTime = System.nanoTime();
+
+			for (final EntityLivingBase guard : guards)
+			{
+				EntityLivingBase closestEntity = null;
+				final List<Entity> entitiesAroundMe = world.getEntitiesWithinAABBExcludingEntity(guard, AxisAlignedBB.getBoundingBox(guard.posX - 15, guard.posY - 3, guard.posZ - 15, guard.posX + 15, guard.posY + 3, guard.posZ + 15));
+
+				for (final Entity entity : entitiesAroundMe)
+				{
+					if (entity instanceof EntityLivingBase && !(entity instanceof EntityPlayer) && !(entity instanceof AbstractEntity))
+					{
+						if (closestEntity == null || guard.getDistanceToEntity(entity) < guard.getDistanceToEntity(closestEntity))
+						{
+							closestEntity = (EntityLivingBase) entity;
+						}
+					}
+				}
+
+				if (closestEntity != null && guard.canEntityBeSeen(closestEntity))
+				{
+					sweepTargets++;
+				}
+			}
+
+			sweepNanos += System.nanoTime() - startTime;
+
+			startTime = System.nanoTime();
+
+			//Each iteration stands for a new tick.
+			threatMap.clear();
+
+			for (final EntityLivingBase guard : guards)
+			{
+				final List<EntityLivingBase> threats = threatMap.getThreatsByDistance(guard, 15, 3);
+
+				if (!threats.isEmpty() && threatMap.canSee(guard, threats.get(0)))
+				{
+					threatMapTargets++;
+				}
+			}
+
+			threatMapNanos += System.nanoTime() - startTime;
+		}
+
+		threatMap.clear();
+
+		for (final EntityLivingBase mob : mobs)
+		{
+			world.removeEntity(mob);
+		}
+
+		final long[] countsAfter = threatMap.getCounts();
+		report(sender, Color.YELLOW + "Threat map benchmark over " + guards.size() + " guards, " + mobs.size() + " spawned creatures:");
+		report(sender, "Sweep per guard:   " + sweepNanos / ITERATIONS / 1000 + " us per tick, " + sweepTargets / ITERATIONS + " targets");
+		report(sender, "Shared threat map: " + threatMapNanos / ITERATIONS / 1000 + " us per tick, " + threatMapTargets / ITERATIONS + " targets");
+		report(sender, "Chunks collected: " + (countsAfter[0] - countsBefore[0]) + ", reused: " + (countsAfter[1] - countsBefore[1]));
+	}
+
+	/**
+	 * Finds a relative the way FamilyTree.getRelativeAsEntity used to, checking every tree for each of the owner's relatives.
+	 */
+	private static int scanForRelative(Map<Integer, Map<Integer, EnumRelation>> trees, int ownerId, EnumRelation relation)
+	{
+		for (final Integer relativeId : trees.get(ownerId).keySet())
+		{
+			for (final Map.Entry<Integer, Map<Integer, EnumRelation>> entry : trees.entrySet())
+			{
+				if (entry.getKey().equals(relativeId) && trees.get(ownerId).get(relativeId) == relation)
+				{
+					return relativeId;
+				}
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Finds descendants by checking every tree for a parent in the previous generation.
+	 */
+	private static Set<Integer> scanForDescendants(Map<Integer, Map<Integer, EnumRelation>> trees, int ancestorId, int maxDepth)
+	{
+		final Set<Integer> found = new LinkedHashSet<Integer>();
+		Set<Integer> generation = new HashSet<Integer>();
+		generation.add(ancestorId);
+
+		for (int depth = 0; depth < maxDepth && !generation.isEmpty(); depth++)
+		{
+			final Set<Integer> nextGeneration = new HashSet<Integer>();
+
+			for (final Map.Entry<Integer, Map<Integer, EnumRelation>> entry : trees.entrySet())
+			{
+				for (final Map.Entry<Integer, EnumRelation> relative : entry.getValue().entrySet())
+				{
+					if (relative.getValue() == EnumRelation.Parent && generation.contains(relative.getKey()) && found.add(entry.getKey()))
+					{
+						nextGeneration.add(entry.getKey());
+					}
+				}
+			}
+
+			generation = nextGeneration;
+		}
+
+		return found;
+	}
+
+	/**
+	 * @return The chores of an entity that are written when it is saved.
+	 */
+	private static AbstractChore[] getSavedChores(AbstractEntity entity)
+	{
+		return new AbstractChore[] { entity.combatChore, entity.farmingChore, entity.fishingChore, entity.woodcuttingChore, entity.miningChore, entity.huntingChore };
+	}
+
+	/**
+	 * Writes an object's fields to NBT the way chores used to write themselves, for comparison.
+	 */
+	private static void writeFieldsReflectively(Object obj, NBTTagCompound nbt)
+	{
+		for (final Field field : obj.getClass().getFields())
+		{
+			try
+			{
+				if (field.getModifiers() != Modifier.TRANSIENT)
+				{
+					if (field.getType().toString().contains("int"))
+					{
+						nbt.setInteger(field.getName(), Integer.parseInt(field.get(obj).toString()));
+					}
+
+					else if (field.getType().toString().contains("double"))
+					{
+						nbt.setDouble(field.getName(), Double.parseDouble(field.get(obj).toString()));
+					}
+
+					else if (field.getType().toString().contains("float"))
+					{
+						nbt.setFloat(field.getName(), Float.parseFloat(field.get(obj).toString()));
+					}
+
+					else if (field.getType().toString().contains("String"))
+					{
+						nbt.setString(field.getName(), field.get(obj).toString());
+					}
+
+					else if (field.getType().toString().contains("boolean"))
+					{
+						nbt.setBoolean(field.getName(), Boolean.parseBoolean(field.get(obj).toString()));
+					}
+				}
+			}
+
+			catch (final IllegalAccessException e)
+			{
+				continue;
+			}
+		}
+	}
+
+	/**
+	 * Reads a language file of MCA in the same way as the language loader.
+	 *
+	 * @return The phrases in the file, or null if there is no file for the language.
+	 */
+	private static Map<String, String> readLanguageFile(String languageId)
+	{
+		final InputStream inputStream = DevBenchmark.class.getResourceAsStream("/assets/mca/lang/" + languageId + ".lang");
+
+		if (inputStream == null)
+		{
+			return null;
+		}
+
+		final Properties properties = new Properties();
+
+		try
+		{
+			try
+			{
+				properties.load(inputStream);
+			}
+
+			finally
+			{
+				inputStream.close();
+			}
+		}
+
+		catch (final IOException e)
+		{
+			MCA.getInstance().getLogger().log(e);
+			return null;
+		}
+
+		final Map<String, String> translations = new HashMap<String, String>();
+
+		for (final String key : properties.stringPropertyNames())
+		{
+			if (!properties.getProperty(key).equalsIgnoreCase("OMIT"))
+			{
+				translations.put(key, properties.getProperty(key));
+			}
+		}
+
+		return translations;
+	}
+
+	/**
+	 * @return All AbstractEntities loaded in the provided world.
+	 */
+	static List<AbstractEntity> getLoadedEntities(World world)
+	{
+		final List<AbstractEntity> entities = new ArrayList<AbstractEntity>();
+
+		for (final Object obj : world.loadedEntityList)
+		{
+			if (obj instanceof AbstractEntity)
+			{
+				entities.add((AbstractEntity) obj);
+			}
+		}
+
+		return entities;
+	}
+
+	/**
+	 * Sends a line of benchmark output to the command sender and the log.
+	 */
+	static void report(ICommandSender sender, String message)
+	{
+		sender.addChatMessage(new ChatComponentText(message));
+		MCA.getInstance().getLogger().log(message);
+	}
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * FurnaceReservations.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import mca.chore.ChoreCooking;
+import mca.core.MCA;
+import mca.entity.AbstractEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.world.World;
+
+/**
+ * Remembers which villager is cooking at each furnace of a server world, so that villagers do not share a furnace and
+ * players can be kept from using a furnace a villager is cooking at without checking every entity in the world.
+ * Each villager holds at most one furnace.
+ */
+public final class FurnaceReservations
+{
+	private static final PerWorldRegistry<FurnaceReservations> RESERVATIONS = new PerWorldRegistry<FurnaceReservations>(new PerWorldRegistry.Factory<FurnaceReservations>()
+	{
+		@Override
+		public FurnaceReservations create(World world)
+		{
+			return new FurnaceReservations(world);
+		}
+	});
+
+	private final World world;
+	private final Map<Long, Integer> villagersByFurnace = new HashMap<Long, Integer>();
+	private final Map<Integer, Long> furnacesByVillager = new HashMap<Integer, Long>();
+
+	private FurnaceReservations(World world)
+	{
+		this.world = world;
+	}
+
+	/**
+	 * Gets the reservations of the provided world, creating them on first use. Must only be called from the thread that ticks the world.
+	 *
+	 * @param world The world containing the furnaces.
+	 * @return The reservations for the world.
+	 */
+	public static FurnaceReservations forWorld(World world)
+	{
+		return RESERVATIONS.get(world);
+	}
+
+	/**
+	 * Releases every furnace in a chunk that is unloading.
+	 *
+	 * @param world The world containing the chunk.
+	 * @param chunkX The chunk's X coordinate.
+	 * @param chunkZ The chunk's Z coordinate.
+	 */
+	public static void onChunkUnload(World world, int chunkX, int chunkZ)
+	{
+		final FurnaceReservations reservations = RESERVATIONS.getIfPresent(world);
+
+		if (reservations != null)
+		{
+			final Iterator<Map.Entry<Long, Integer>> iterator = reservations.villagersByFurnace.entrySet().iterator();
+
+			while (iterator.hasNext())
+			{
+				final Map.Entry<Long, Integer> entry = iterator.next();
+				final long key = entry.getKey();
+
+				if (getX(key) >> 4 == chunkX && getZ(key) >> 4 == chunkZ)
+				{
+					reservations.furnacesByVillager.remove(entry.getValue());
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reserves a furnace for a villager, releasing any other furnace it held.
+	 *
+	 * @param posX The furnace's X coordinate.
+	 * @param posY The furnace's Y coordinate.
+	 * @param posZ The furnace's Z coordinate.
+	 * @param villagerId The MCA ID of the villager.
+	 * @return True if the villager now holds the furnace. False if another villager is cooking at it.
+	 */
+	public boolean tryReserve(int posX, int posY, int posZ, int villagerId)
+	{
+		final Long key = getKey(posX, posY, posZ);
+		final AbstractEntity holder = getCookingVillager(posX, posY, posZ);
+
+		if (holder != null && holder.mcaID != villagerId)
+		{
+			return false;
+		}
+
+		release(villagerId);
+		villagersByFurnace.put(key, villagerId);
+		furnacesByVillager.put(villagerId, key);
+		return true;
+	}
+
+	/**
+	 * Releases the furnace held by a villager, if any.
+	 *
+	 * @param villagerId The MCA ID of the villager.
+	 */
+	public void release(int villagerId)
+	{
+		final Long key = furnacesByVillager.remove(villagerId);
+
+		if (key != null)
+		{
+			villagersByFurnace.remove(key);
+		}
+	}
+
+	/**
+	 * @param villagerId The MCA ID of a villager.
+	 * @return True if the villager holds a furnace.
+	 */
+	public boolean holdsFurnace(int villagerId)
+	{
+		return furnacesByVillager.containsKey(villagerId);
+	}
+
+	/**
+	 * Gets the villager cooking at a furnace. Reservations left behind by villagers that unloaded, died, or stopped
+	 * cooking at the furnace without releasing it are dropped.
+	 *
+	 * @param posX The furnace's X coordinate.
+	 * @param posY The furnace's Y coordinate.
+	 * @param posZ The furnace's Z coordinate.
+	 * @return The villager cooking at the furnace, or null if the furnace is free.
+	 */
+	public AbstractEntity getCookingVillager(int posX, int posY, int posZ)
+	{
+		final Integer villagerId = villagersByFurnace.get(getKey(posX, posY, posZ));
+
+		if (villagerId == null)
+		{
+			return null;
+		}
+
+		final Integer entityId = MCA.getInstance().idsMap.get(villagerId);
+		final Entity entity = entityId == null ? null : world.getEntityByID(entityId);
+
+		if (entity instanceof AbstractEntity && !entity.isDead)
+		{
+			final AbstractEntity villager = (AbstractEntity) entity;
+			final ChoreCooking chore = villager.cookingChore;
+
+			if (villager.getInstanceOfCurrentChore() == chore && !chore.hasEnded && chore.furnacePosX == posX && chore.furnacePosY == posY && chore.furnacePosZ == posZ)
+			{
+				return villager;
+			}
+		}
+
+		release(villagerId);
+		return null;
+	}
+
+	private static long getKey(int posX, int posY, int posZ)
+	{
+		return ((long) posX & 0x3FFFFFFL) << 38 | ((long) posZ & 0x3FFFFFFL) << 12 | posY & 0xFFF;
+	}
+
+	private static int getX(long key)
+	{
+		return (int) (key >> 38);
+	}
+
+	private static int getZ(long key)
+	{
+		return (int) (key << 26 >> 38);
+	}
+}
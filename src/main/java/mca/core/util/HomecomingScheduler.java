@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * HomecomingScheduler.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+import mca.core.MCA;
+import mca.entity.AbstractEntity;
+import mca.network.PacketRegistry;
+import mca.network.packets.PacketSyncDeltaBatch;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.World;
+
+/**
+ * Spreads villagers teleporting home for the night across several ticks. Every villager becomes ready to go home at
+ * nightfall, so instead of teleporting right away they wait in a queue that is worked through a few villagers per tick.
+ * The field changes of each tick's villagers are sent together, in one packet per player, holding only the villagers
+ * that player may be tracking.
+ */
+public final class HomecomingScheduler
+{
+	private static final PerWorldRegistry<HomecomingScheduler> SCHEDULERS = new PerWorldRegistry<HomecomingScheduler>(new PerWorldRegistry.Factory<HomecomingScheduler>()
+	{
+		@Override
+		public HomecomingScheduler create(World world)
+		{
+			return new HomecomingScheduler(world);
+		}
+	});
+
+	private static int processedLastTick;
+	private static long nanosLastTick;
+	private static long peakNanosPerTick;
+	private static int peakQueueDepth;
+
+	private final World world;
+	private final Queue<AbstractEntity> queue = new ArrayDeque<AbstractEntity>();
+	private final Set<Integer> queuedIds = new HashSet<Integer>();
+
+	private HomecomingScheduler(World world)
+	{
+		this.world = world;
+	}
+
+	/**
+	 * Gets the scheduler of the provided world, creating it on first use. Must only be called from the server thread.
+	 *
+	 * @param world The world whose villagers are scheduled.
+	 * @return The scheduler for the world.
+	 */
+	public static HomecomingScheduler forWorld(World world)
+	{
+		return SCHEDULERS.get(world);
+	}
+
+	/**
+	 * Sends the next batch of each world's villagers home. Called at the end of each server tick.
+	 *
+	 * @param batchSize The most villagers per world that may be sent home.
+	 */
+	public static void onServerTickEnd(int batchSize)
+	{
+		final long startTime = System.nanoTime();
+		int queueDepth = 0;
+
+		processedLastTick = 0;
+
+		for (final HomecomingScheduler scheduler : SCHEDULERS.getAll())
+		{
+			processedLastTick += scheduler.processBatch(batchSize);
+			queueDepth += scheduler.queue.size();
+		}
+
+		nanosLastTick = System.nanoTime() - startTime;
+		peakNanosPerTick = Math.max(peakNanosPerTick, nanosLastTick);
+		peakQueueDepth = Math.max(peakQueueDepth, queueDepth);
+	}
+
+	/**
+	 * Adds a villager to the end of the queue. Villagers already waiting keep their place.
+	 *
+	 * @param entity The villager that is ready to go home.
+	 */
+	public void enqueue(AbstractEntity entity)
+	{
+		if (queuedIds.add(entity.getEntityId()))
+		{
+			queue.add(entity);
+		}
+	}
+
+	/**
+	 * @return The number of villagers waiting to go home across all worlds.
+	 */
+	public static int getQueueDepth()
+	{
+		int queueDepth = 0;
+
+		for (final HomecomingScheduler scheduler : SCHEDULERS.getAll())
+		{
+			queueDepth += scheduler.queue.size();
+		}
+
+		return queueDepth;
+	}
+
+	/**
+	 * @return The highest number of villagers that have been waiting at the end of a tick.
+	 */
+	public static int getPeakQueueDepth()
+	{
+		return peakQueueDepth;
+	}
+
+	/**
+	 * @return The number of villagers sent home during the last tick.
+	 */
+	public static int getProcessedLastTick()
+	{
+		return processedLastTick;
+	}
+
+	/**
+	 * @return Nanoseconds spent sending villagers home during the last tick.
+	 */
+	public static long getNanosLastTick()
+	{
+		return nanosLastTick;
+	}
+
+	/**
+	 * @return The most nanoseconds spent sending villagers home during a single tick.
+	 */
+	public static long getPeakNanosPerTick()
+	{
+		return peakNanosPerTick;
+	}
+
+	private int processBatch(int batchSize)
+	{
+		final List<AbstractEntity> syncedEntities = new ArrayList<AbstractEntity>();
+		final List<int[]> syncedFieldIds = new ArrayList<int[]>();
+		int processed = 0;
+
+		while (processed < batchSize && !queue.isEmpty())
+		{
+			final AbstractEntity entity = queue.poll();
+			queuedIds.remove(entity.getEntityId());
+
+			//Skip villagers that died, unloaded, or were already sent home while they waited. Villagers whose chunk
+			//unloaded are not marked dead, but are no longer found in the world.
+			if (entity.isDead || world.getEntityByID(entity.getEntityId()) != entity || entity.hasTeleportedHome || world.isDaytime())
+			{
+				continue;
+			}
+
+			entity.spawnAtHomePoint();
+			processed++;
+
+			final int[] fieldIds = entity.drainDirtyFields();
+
+			if (fieldIds.length > 0)
+			{
+				syncedEntities.add(entity);
+				syncedFieldIds.add(fieldIds);
+			}
+		}
+
+		if (!syncedEntities.isEmpty())
+		{
+			sendToTrackingPlayers(syncedEntities, syncedFieldIds);
+		}
+
+		return processed;
+	}
+
+	private void sendToTrackingPlayers(List<AbstractEntity> syncedEntities, List<int[]> syncedFieldIds)
+	{
+		for (final Object obj : world.playerEntities)
+		{
+			final EntityPlayerMP player = (EntityPlayerMP) obj;
+			final List<AbstractEntity> trackedEntities = new ArrayList<AbstractEntity>();
+			final List<int[]> trackedFieldIds = new ArrayList<int[]>();
+
+			for (int i = 0; i < syncedEntities.size(); i++)
+			{
+				if (PacketRegistry.mayBeTracking(player, syncedEntities.get(i)))
+				{
+					trackedEntities.add(syncedEntities.get(i));
+					trackedFieldIds.add(syncedFieldIds.get(i));
+				}
+			}
+
+			if (!trackedEntities.isEmpty())
+			{
+				MCA.packetHandler.sendPacketToPlayer(new PacketSyncDeltaBatch(trackedEntities, trackedFieldIds), player);
+			}
+		}
+	}
+}
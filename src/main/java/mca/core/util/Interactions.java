@@ -11,7 +11,6 @@ import mca.core.MCA;
 import mca.core.util.object.PlayerMemory;
 import mca.entity.AbstractEntity;
 import mca.enums.EnumMoodChangeContext;
-import mca.network.packets.PacketSetFieldValue;
 import net.minecraft.entity.player.EntityPlayer;
 
 /**
@@ -62,7 +61,7 @@ public final class Interactions
 
 		memory.interactionFatigue++;
 		entity.playerMemoryMap.put(player.getCommandSenderName(), memory);
-		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entity.getEntityId(), "playerMemoryMap", entity.playerMemoryMap));
+		entity.syncPlayerMemory(player);
 	}
 
 	/**
@@ -109,7 +108,7 @@ public final class Interactions
 
 		memory.interactionFatigue++;
 		entity.playerMemoryMap.put(player.getCommandSenderName(), memory);
-		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entity.getEntityId(), "playerMemoryMap", entity.playerMemoryMap));
+		entity.syncPlayerMemory(player);
 	}
 
 	/**
@@ -159,7 +158,7 @@ public final class Interactions
 
 		memory.interactionFatigue++;
 		entity.playerMemoryMap.put(player.getCommandSenderName(), memory);
-		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entity.getEntityId(), "playerMemoryMap", entity.playerMemoryMap));
+		entity.syncPlayerMemory(player);
 	}
 
 	/**
@@ -206,7 +205,7 @@ public final class Interactions
 
 		memory.interactionFatigue++;
 		entity.playerMemoryMap.put(player.getCommandSenderName(), memory);
-		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entity.getEntityId(), "playerMemoryMap", entity.playerMemoryMap));
+		entity.syncPlayerMemory(player);
 	}
 
 	/**
@@ -253,7 +252,7 @@ public final class Interactions
 
 		memory.interactionFatigue++;
 		entity.playerMemoryMap.put(player.getCommandSenderName(), memory);
-		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entity.getEntityId(), "playerMemoryMap", entity.playerMemoryMap));
+		entity.syncPlayerMemory(player);
 	}
 
 	/**
@@ -308,7 +307,7 @@ public final class Interactions
 
 		memory.interactionFatigue++;
 		entity.playerMemoryMap.put(player.getCommandSenderName(), memory);
-		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entity.getEntityId(), "playerMemoryMap", entity.playerMemoryMap));
+		entity.syncPlayerMemory(player);
 	}
 
 	/**
@@ -369,6 +368,6 @@ public final class Interactions
 
 		memory.interactionFatigue++;
 		entity.playerMemoryMap.put(player.getCommandSenderName(), memory);
-		MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(entity.getEntityId(), "playerMemoryMap", entity.playerMemoryMap));
+		entity.syncPlayerMemory(player);
 	}
 }
@@ -8,6 +8,8 @@
 package mca.core.util;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import mca.api.chores.FarmableCrop;
@@ -120,7 +122,7 @@ public final class LogicExtension
 	}
 
 	/**
-	 * Gets crops nearby that are ready to harvest.
+	 * Gets crops nearby that are ready to harvest, closest to the entity first.
 	 * 
 	 * @param entity The entity performing the chore.
 	 * @param startCoordinatesX The X coordinates that the entity started farming on.
@@ -129,66 +131,42 @@ public final class LogicExtension
 	 * @param radius The radius set in the entity's farming chore.
 	 * @return List containing Point3D objects of each crop within radius that is ready to harvest.
 	 */
-	public static List<Point3D> getNearbyHarvestableCrops(Entity entity, FarmableCrop entry, int startCoordinatesX, int startCoordinatesY, int startCoordinatesZ, int radius)
+	public static List<Point3D> getNearbyHarvestableCrops(final Entity entity, FarmableCrop entry, int startCoordinatesX, int startCoordinatesY, int startCoordinatesZ, int radius)
 	{
-		int xMov = 0 - radius;
-		int yMov = -3;
-		int zMov = 0 - radius;
-
+		final ChoreBlockIndex blockIndex = ChoreBlockIndex.forWorld(entity.worldObj);
 		final List<Point3D> pointsList = new ArrayList<Point3D>();
 
-		while (true)
+		if (entry.getFarmType() == EnumFarmType.NORMAL)
 		{
-			final Block currentBlock = entity.worldObj.getBlock(startCoordinatesX + xMov, startCoordinatesY + yMov, startCoordinatesZ + zMov);
-
-			if (currentBlock == entry.getBlockCrop() || entry.getFarmType() == EnumFarmType.BLOCK && (currentBlock == entry.getBlockYield() || currentBlock == entry.getBlockGrown()))
-			{
-				if (entry.getFarmType() == EnumFarmType.NORMAL)
-				{
-					final int currentBlockMeta = entity.worldObj.getBlockMetadata(startCoordinatesX + xMov, startCoordinatesY + yMov, startCoordinatesZ + zMov);
-
-					if (currentBlockMeta == 7)
-					{
-						pointsList.add(new Point3D(startCoordinatesX + xMov, startCoordinatesY + yMov, startCoordinatesZ + zMov));
-					}
-				}
+			pointsList.addAll(blockIndex.getBlocks(startCoordinatesX, startCoordinatesY, startCoordinatesZ, entry.getBlockCrop(), 7, radius, 3));
+		}
 
-				else if (entry.getFarmType() == EnumFarmType.BLOCK)
-				{
-					pointsList.add(new Point3D(startCoordinatesX + xMov, startCoordinatesY + yMov, startCoordinatesZ + zMov));
-				}
+		else if (entry.getFarmType() == EnumFarmType.BLOCK)
+		{
+			pointsList.addAll(blockIndex.getBlocks(startCoordinatesX, startCoordinatesY, startCoordinatesZ, entry.getBlockCrop(), -1, radius, 3));
+			pointsList.addAll(blockIndex.getBlocks(startCoordinatesX, startCoordinatesY, startCoordinatesZ, entry.getBlockYield(), -1, radius, 3));
+			pointsList.addAll(blockIndex.getBlocks(startCoordinatesX, startCoordinatesY, startCoordinatesZ, entry.getBlockGrown(), -1, radius, 3));
+		}
 
-				else if (entry.getFarmType() == EnumFarmType.SUGARCANE)
+		else if (entry.getFarmType() == EnumFarmType.SUGARCANE)
+		{
+			for (final Point3D point : blockIndex.getBlocks(startCoordinatesX, startCoordinatesY, startCoordinatesZ, entry.getBlockCrop(), -1, radius, 3))
+			{
+				if (entity.worldObj.getBlock(point.iPosX, point.iPosY + 1, point.iPosZ) == entry.getBlockCrop())
 				{
-					if (entity.worldObj.getBlock(startCoordinatesX + xMov, startCoordinatesY + yMov + 1, startCoordinatesZ + zMov) == entry.getBlockCrop())
-					{
-						pointsList.add(new Point3D(startCoordinatesX + xMov, startCoordinatesY + yMov + 1, startCoordinatesZ + zMov));
-					}
+					pointsList.add(new Point3D(point.iPosX, point.iPosY + 1, point.iPosZ));
 				}
 			}
+		}
 
-			if (zMov == radius && xMov == radius && yMov == 3)
-			{
-				break;
-			}
-
-			if (zMov == radius && xMov == radius)
-			{
-				yMov++;
-				xMov = 0 - radius;
-				zMov = 0 - radius;
-				continue;
-			}
-
-			if (xMov == radius)
+		Collections.sort(pointsList, new Comparator<Point3D>()
+		{
+			@Override
+			public int compare(Point3D point1, Point3D point2)
 			{
-				zMov++;
-				xMov = 0 - radius;
-				continue;
+				return Double.compare(entity.getDistanceSq(point1.dPosX, point1.dPosY, point1.dPosZ), entity.getDistanceSq(point2.dPosX, point2.dPosY, point2.dPosZ));
 			}
-
-			xMov++;
-		}
+		});
 
 		return pointsList;
 	}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * MinuteClock.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import mca.core.MCA;
+import net.minecraft.world.World;
+
+/**
+ * Tells MCA's hired villagers, growing children, and babies when a minute of real time has passed. The clock is
+ * advanced once per tick by the tick event of its side, which reads the system time instead of each listener creating
+ * a calendar every tick. Minutes are counted since the epoch, so a minute can be used as an absolute deadline.
+ * Listeners are held weakly, so an entity that is unloaded does not need to unsubscribe. They are compared by identity,
+ * since entities compare by entity ID, which changes after they subscribe on the client.
+ */
+public final class MinuteClock
+{
+	private final List<WeakReference<IMinuteListener>> listeners = new ArrayList<WeakReference<IMinuteListener>>();
+	private long currentMinute = getSystemMinute();
+	private long minutesElapsed;
+
+	/**
+	 * Gets the clock of the side the provided world is on.
+	 *
+	 * @param world The world of the listener.
+	 * @return The client's clock if the world is remote, otherwise the server's clock.
+	 */
+	public static MinuteClock forWorld(World world)
+	{
+		return world.isRemote ? MCA.getInstance().clientMinuteClock : MCA.getInstance().serverMinuteClock;
+	}
+
+	/**
+	 * Checks the system time, telling every listener if the minute has changed since the last check. Must only be
+	 * called once per tick, from the thread of the clock's side.
+	 */
+	public void advance()
+	{
+		final long minute = getSystemMinute();
+
+		if (minute != currentMinute)
+		{
+			currentMinute = minute;
+			minutesElapsed++;
+
+			//Copied so that listeners may subscribe or unsubscribe while being told.
+			for (final WeakReference<IMinuteListener> reference : new ArrayList<WeakReference<IMinuteListener>>(listeners))
+			{
+				final IMinuteListener listener = reference.get();
+
+				if (listener == null)
+				{
+					listeners.remove(reference);
+				}
+
+				else
+				{
+					listener.onMinuteElapsed(minute);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return The current minute, counted since the epoch.
+	 */
+	public long getMinute()
+	{
+		return currentMinute;
+	}
+
+	/**
+	 * @return The number of minutes the clock has announced.
+	 */
+	public long getMinutesElapsed()
+	{
+		return minutesElapsed;
+	}
+
+	/**
+	 * @return The number of listeners that have not been unloaded.
+	 */
+	public int getListenerCount()
+	{
+		int count = 0;
+
+		for (final WeakReference<IMinuteListener> reference : listeners)
+		{
+			if (reference.get() != null)
+			{
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Starts telling a listener when a minute has passed.
+	 *
+	 * @param listener The listener.
+	 */
+	public void subscribe(IMinuteListener listener)
+	{
+		if (indexOf(listener) == -1)
+		{
+			listeners.add(new WeakReference<IMinuteListener>(listener));
+		}
+	}
+
+	/**
+	 * Stops telling a listener when a minute has passed.
+	 *
+	 * @param listener The listener.
+	 */
+	public void unsubscribe(IMinuteListener listener)
+	{
+		final int index = indexOf(listener);
+
+		if (index != -1)
+		{
+			listeners.remove(index);
+		}
+	}
+
+	private int indexOf(IMinuteListener listener)
+	{
+		for (int index = 0; index < listeners.size(); index++)
+		{
+			if (listeners.get(index).get() == listener)
+			{
+				return index;
+			}
+		}
+
+		return -1;
+	}
+
+	private static long getSystemMinute()
+	{
+		return System.currentTimeMillis() / 60000L;
+	}
+
+	/**
+	 * Something that is told when a minute of real time has passed.
+	 */
+	public interface IMinuteListener
+	{
+		/**
+		 * Called once when the minute changes.
+		 *
+		 * @param minute The new minute, counted since the epoch.
+		 */
+		void onMinuteElapsed(long minute);
+	}
+}
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * NBTFieldCodec.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mca.core.MCA;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ * Writes and reads the public fields of a class to and from NBT, using each field's name as its key. The fields
+ * are resolved once per class instead of on every save.
+ */
+public final class NBTFieldCodec
+{
+	private static final byte TYPE_BOOLEAN = 0;
+	private static final byte TYPE_INT = 1;
+	private static final byte TYPE_LONG = 2;
+	private static final byte TYPE_FLOAT = 3;
+	private static final byte TYPE_DOUBLE = 4;
+	private static final byte TYPE_STRING = 5;
+
+	private static final Map<Class, NBTFieldCodec> CODECS = new HashMap<Class, NBTFieldCodec>();
+
+	private final Field[] fields;
+	private final String[] names;
+	private final byte[] types;
+
+	private NBTFieldCodec(Class codecClass, Class rootClass)
+	{
+		final List<Field> foundFields = new ArrayList<Field>();
+
+		for (final Field field : codecClass.getFields())
+		{
+			final int modifiers = field.getModifiers();
+
+			if (rootClass.isAssignableFrom(field.getDeclaringClass()) && !Modifier.isTransient(modifiers) && !Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && getType(field.getType()) != -1)
+			{
+				foundFields.add(field);
+			}
+		}
+
+		this.fields = foundFields.toArray(new Field[foundFields.size()]);
+		this.names = new String[fields.length];
+		this.types = new byte[fields.length];
+
+		for (int i = 0; i < fields.length; i++)
+		{
+			names[i] = fields[i].getName();
+			types[i] = getType(fields[i].getType());
+		}
+	}
+
+	/**
+	 * Gets the codec for the provided class, building it on first use.
+	 *
+	 * @param codecClass The class whose fields will be written and read.
+	 * @param rootClass The highest class in codecClass's hierarchy whose fields are included. Fields declared above it are ignored.
+	 * @return The codec for codecClass.
+	 */
+	public static synchronized NBTFieldCodec forClass(Class codecClass, Class rootClass)
+	{
+		NBTFieldCodec codec = CODECS.get(codecClass);
+
+		if (codec == null)
+		{
+			codec = new NBTFieldCodec(codecClass, rootClass);
+			CODECS.put(codecClass, codec);
+		}
+
+		return codec;
+	}
+
+	/**
+	 * Writes every field of an object to NBT.
+	 *
+	 * @param obj The object to write. Must be an instance of the codec's class.
+	 * @param nbt The NBTTagCompound to write to.
+	 */
+	public void write(Object obj, NBTTagCompound nbt)
+	{
+		for (int i = 0; i < fields.length; i++)
+		{
+			try
+			{
+				switch (types[i])
+				{
+					case TYPE_BOOLEAN:
+						nbt.setBoolean(names[i], fields[i].getBoolean(obj));
+						break;
+					case TYPE_INT:
+						nbt.setInteger(names[i], fields[i].getInt(obj));
+						break;
+					case TYPE_LONG:
+						nbt.setLong(names[i], fields[i].getLong(obj));
+						break;
+					case TYPE_FLOAT:
+						nbt.setFloat(names[i], fields[i].getFloat(obj));
+						break;
+					case TYPE_DOUBLE:
+						nbt.setDouble(names[i], fields[i].getDouble(obj));
+						break;
+					case TYPE_STRING:
+						final String value = (String) fields[i].get(obj);
+
+						if (value != null)
+						{
+							nbt.setString(names[i], value);
+						}
+
+						break;
+					default:
+						break;
+				}
+			}
+
+			catch (final IllegalAccessException e)
+			{
+				MCA.getInstance().getLogger().log(e);
+			}
+		}
+	}
+
+	/**
+	 * Reads every field of an object from NBT. Fields missing from the NBT are set to NBT's default value for their type.
+	 *
+	 * @param obj The object to read into. Must be an instance of the codec's class.
+	 * @param nbt The NBTTagCompound to read from.
+	 */
+	public void read(Object obj, NBTTagCompound nbt)
+	{
+		for (int i = 0; i < fields.length; i++)
+		{
+			try
+			{
+				switch (types[i])
+				{
+					case TYPE_BOOLEAN:
+						fields[i].setBoolean(obj, nbt.getBoolean(names[i]));
+						break;
+					case TYPE_INT:
+						fields[i].setInt(obj, nbt.getInteger(names[i]));
+						break;
+					case TYPE_LONG:
+						fields[i].setLong(obj, nbt.getLong(names[i]));
+						break;
+					case TYPE_FLOAT:
+						fields[i].setFloat(obj, nbt.getFloat(names[i]));
+						break;
+					case TYPE_DOUBLE:
+						fields[i].setDouble(obj, nbt.getDouble(names[i]));
+						break;
+					case TYPE_STRING:
+						fields[i].set(obj, nbt.getString(names[i]));
+						break;
+					default:
+						break;
+				}
+			}
+
+			catch (final IllegalAccessException e)
+			{
+				MCA.getInstance().getLogger().log(e);
+			}
+		}
+	}
+
+	/**
+	 * @return The number of fields written and read by this codec.
+	 */
+	public int getFieldCount()
+	{
+		return fields.length;
+	}
+
+	private static byte getType(Class type)
+	{
+		if (type == boolean.class)
+		{
+			return TYPE_BOOLEAN;
+		}
+
+		else if (type == int.class)
+		{
+			return TYPE_INT;
+		}
+
+		else if (type == long.class)
+		{
+			return TYPE_LONG;
+		}
+
+		else if (type == float.class)
+		{
+			return TYPE_FLOAT;
+		}
+
+		else if (type == double.class)
+		{
+			return TYPE_DOUBLE;
+		}
+
+		else if (type == String.class)
+		{
+			return TYPE_STRING;
+		}
+
+		return -1;
+	}
+}
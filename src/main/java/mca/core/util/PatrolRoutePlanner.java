@@ -0,0 +1,492 @@
+/*******************************************************************************
+ * PatrolRoutePlanner.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.pathfinding.PathEntity;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.MathHelper;
+import net.minecraft.village.Village;
+import net.minecraft.village.VillageDoorInfo;
+import net.minecraft.world.World;
+
+/**
+ * Plans the patrols of the guards in each village of a server world. The doors of a village are put in one patrol
+ * route when they are first needed, ordered so that each door is followed by the closest door not yet in the route,
+ * and every guard in the village walks the same route from the door nearest to them. Paths from a block to a door are
+ * remembered, including when no path was found, so guards waiting to patrol do not search for the same path again.
+ * A path is forgotten when a block near it changes, or after a while.
+ */
+public final class PatrolRoutePlanner
+{
+	/** Ticks after which a route is ordered again, in case a change to the village's doors was missed. */
+	private static final int ROUTE_LIFETIME_TICKS = 1200;
+
+	/** Ticks after which a path is searched for again, in case a change to the blocks along it was missed. */
+	private static final int PATH_LIFETIME_TICKS = 1200;
+
+	/** Number of paths remembered per world before they are all forgotten. */
+	private static final int MAX_CACHED_PATHS = 512;
+
+	private static final PerWorldRegistry<PatrolRoutePlanner> PLANNERS = new PerWorldRegistry<PatrolRoutePlanner>(new PerWorldRegistry.Factory<PatrolRoutePlanner>()
+	{
+		@Override
+		public PatrolRoutePlanner create(World world)
+		{
+			return new PatrolRoutePlanner(world);
+		}
+
+		@Override
+		public void attach(World world)
+		{
+			world.addWorldAccess(new BlockChangeListener(world));
+		}
+	});
+
+	private static final PathPoint[] NO_PATH = new PathPoint[0];
+
+	private final World world;
+	private final Map<Village, DoorRoute> routes = new WeakHashMap<Village, DoorRoute>();
+	private final Map<PathKey, CachedPath> paths = new HashMap<PathKey, CachedPath>();
+	private final Map<Long, List<PathKey>> pathKeysByChunk = new HashMap<Long, List<PathKey>>();
+	private int routesOrdered;
+	private int pathsSearched;
+	private int pathsReused;
+
+	private PatrolRoutePlanner(World world)
+	{
+		this.world = world;
+	}
+
+	/**
+	 * Gets the planner of the provided world, creating it on first use. Must only be called from the thread that ticks the world.
+	 *
+	 * @param world The world whose villages are patrolled.
+	 * @return The planner for the world.
+	 */
+	public static PatrolRoutePlanner forWorld(World world)
+	{
+		return PLANNERS.get(world);
+	}
+
+	/**
+	 * Gets the patrol route of a village, ordering its doors again if they have changed.
+	 *
+	 * @param village The village being patrolled.
+	 * @return The route shared by every guard in the village.
+	 */
+	public DoorRoute getRoute(Village village)
+	{
+		final List doorInfoList = village.getVillageDoorInfoList();
+		DoorRoute route = routes.get(village);
+
+		if (route == null || route.doors.length != doorInfoList.size() || world.getTotalWorldTime() - route.orderTick > ROUTE_LIFETIME_TICKS)
+		{
+			route = new DoorRoute(orderDoors(doorInfoList), world.getTotalWorldTime(), route == null ? 0 : route.version + 1);
+			routes.put(village, route);
+			routesOrdered++;
+		}
+
+		return route;
+	}
+
+	/**
+	 * Gets a path for an entity from the block it is standing in to a door, without breaking doors along the way.
+	 *
+	 * @param entity The entity that will follow the path.
+	 * @param door The door the path leads to.
+	 * @return A new path that the entity may follow, or null if there is no path to the door.
+	 */
+	public PathEntity getPathToDoor(EntityLiving entity, VillageDoorInfo door)
+	{
+		final PathKey key = new PathKey(getBlockKey(MathHelper.floor_double(entity.posX), MathHelper.floor_double(entity.posY), MathHelper.floor_double(entity.posZ)), getBlockKey(door.posX, door.posY, door.posZ));
+		CachedPath cachedPath = paths.get(key);
+
+		if (cachedPath != null && world.getTotalWorldTime() - cachedPath.searchTick > PATH_LIFETIME_TICKS)
+		{
+			removePath(key);
+			cachedPath = null;
+		}
+
+		if (cachedPath == null)
+		{
+			final boolean canBreakDoors = entity.getNavigator().getCanBreakDoors();
+			entity.getNavigator().setBreakDoors(false);
+			final PathEntity path = entity.getNavigator().getPathToXYZ(door.posX, door.posY, door.posZ);
+			entity.getNavigator().setBreakDoors(canBreakDoors);
+
+			cachedPath = new CachedPath(copyPoints(path), world.getTotalWorldTime());
+			cachedPath.includeInBounds(MathHelper.floor_double(entity.posX), MathHelper.floor_double(entity.posY), MathHelper.floor_double(entity.posZ));
+			cachedPath.includeInBounds(door.posX, door.posY, door.posZ);
+			addPath(key, cachedPath);
+			pathsSearched++;
+		}
+
+		else
+		{
+			pathsReused++;
+		}
+
+		//Followers advance through a path as they walk it, so each gets their own copy of the points.
+		return cachedPath.points == NO_PATH ? null : new PathEntity(cachedPath.points.clone());
+	}
+
+	/**
+	 * @return The number of routes ordered, paths searched for, and paths reused since the world loaded.
+	 */
+	public int[] getCounts()
+	{
+		return new int[] { routesOrdered, pathsSearched, pathsReused };
+	}
+
+	/**
+	 * Forgets every path that passes near a changed area.
+	 */
+	private void invalidate(int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+	{
+		for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++)
+		{
+			for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++)
+			{
+				final List<PathKey> keys = pathKeysByChunk.get(getChunkKey(chunkX, chunkZ));
+
+				if (keys != null)
+				{
+					//Copied since removing a path removes its key from this list.
+					for (final PathKey key : keys.toArray(new PathKey[keys.size()]))
+					{
+						final CachedPath cachedPath = paths.get(key);
+
+						if (cachedPath != null && cachedPath.intersects(minX, minY, minZ, maxX, maxY, maxZ))
+						{
+							removePath(key);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private void addPath(PathKey key, CachedPath cachedPath)
+	{
+		if (paths.size() >= MAX_CACHED_PATHS)
+		{
+			paths.clear();
+			pathKeysByChunk.clear();
+		}
+
+		paths.put(key, cachedPath);
+
+		for (int chunkX = cachedPath.minX >> 4; chunkX <= cachedPath.maxX >> 4; chunkX++)
+		{
+			for (int chunkZ = cachedPath.minZ >> 4; chunkZ <= cachedPath.maxZ >> 4; chunkZ++)
+			{
+				final Long chunkKey = getChunkKey(chunkX, chunkZ);
+				List<PathKey> keys = pathKeysByChunk.get(chunkKey);
+
+				if (keys == null)
+				{
+					keys = new ArrayList<PathKey>(4);
+					pathKeysByChunk.put(chunkKey, keys);
+				}
+
+				keys.add(key);
+			}
+		}
+	}
+
+	private void removePath(PathKey key)
+	{
+		final CachedPath cachedPath = paths.remove(key);
+
+		if (cachedPath != null)
+		{
+			for (int chunkX = cachedPath.minX >> 4; chunkX <= cachedPath.maxX >> 4; chunkX++)
+			{
+				for (int chunkZ = cachedPath.minZ >> 4; chunkZ <= cachedPath.maxZ >> 4; chunkZ++)
+				{
+					final Long chunkKey = getChunkKey(chunkX, chunkZ);
+					final List<PathKey> keys = pathKeysByChunk.get(chunkKey);
+
+					if (keys != null)
+					{
+						keys.remove(key);
+
+						if (keys.isEmpty())
+						{
+							pathKeysByChunk.remove(chunkKey);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Orders doors so that each is followed by the closest door not yet in the route, starting from the first door.
+	 */
+	private static VillageDoorInfo[] orderDoors(List doorInfoList)
+	{
+		final List<VillageDoorInfo> remaining = new ArrayList<VillageDoorInfo>(doorInfoList.size());
+
+		for (final Object obj : doorInfoList)
+		{
+			remaining.add((VillageDoorInfo) obj);
+		}
+
+		final VillageDoorInfo[] orderedDoors = new VillageDoorInfo[remaining.size()];
+
+		for (int index = 0; index < orderedDoors.length; index++)
+		{
+			int closestIndex = 0;
+
+			if (index > 0)
+			{
+				final VillageDoorInfo previousDoor = orderedDoors[index - 1];
+				int closestDistance = Integer.MAX_VALUE;
+
+				for (int remainingIndex = 0; remainingIndex < remaining.size(); remainingIndex++)
+				{
+					final int distance = remaining.get(remainingIndex).getDistanceSquared(previousDoor.posX, previousDoor.posY, previousDoor.posZ);
+
+					if (distance < closestDistance)
+					{
+						closestDistance = distance;
+						closestIndex = remainingIndex;
+					}
+				}
+			}
+
+			//Swap the closest door with the last so that removing it does not shift the list.
+			orderedDoors[index] = remaining.get(closestIndex);
+			remaining.set(closestIndex, remaining.get(remaining.size() - 1));
+			remaining.remove(remaining.size() - 1);
+		}
+
+		return orderedDoors;
+	}
+
+	private static PathPoint[] copyPoints(PathEntity path)
+	{
+		if (path == null || path.getCurrentPathLength() == 0)
+		{
+			return NO_PATH;
+		}
+
+		final PathPoint[] points = new PathPoint[path.getCurrentPathLength()];
+
+		for (int index = 0; index < points.length; index++)
+		{
+			points[index] = path.getPathPointFromIndex(index);
+		}
+
+		return points;
+	}
+
+	/**
+	 * @return The key of a door or block in the maps of this planner.
+	 */
+	public static long getBlockKey(int x, int y, int z)
+	{
+		return ((long) x & 0x3FFFFFFL) << 38 | ((long) y & 0xFFFL) << 26 | (long) z & 0x3FFFFFFL;
+	}
+
+	private static long getChunkKey(int chunkX, int chunkZ)
+	{
+		return (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * The doors of a village in the order they are patrolled.
+	 */
+	public static final class DoorRoute
+	{
+		private final VillageDoorInfo[] doors;
+		private final long orderTick;
+		private final int version;
+
+		private DoorRoute(VillageDoorInfo[] doors, long orderTick, int version)
+		{
+			this.doors = doors;
+			this.orderTick = orderTick;
+			this.version = version;
+		}
+
+		/**
+		 * @return The number of doors in the route.
+		 */
+		public int getDoorCount()
+		{
+			return doors.length;
+		}
+
+		/**
+		 * @param index The position of a door in the route.
+		 * @return The door at the position.
+		 */
+		public VillageDoorInfo getDoor(int index)
+		{
+			return doors[index];
+		}
+
+		/**
+		 * @return A number that changes each time the village's doors are ordered again, so positions in an older
+		 *         route can be recognized.
+		 */
+		public int getVersion()
+		{
+			return version;
+		}
+
+		/**
+		 * Finds the door in the route closest to a position.
+		 *
+		 * @param x The X coordinate of the position.
+		 * @param y The Y coordinate of the position.
+		 * @param z The Z coordinate of the position.
+		 * @return The position of the closest door in the route, or -1 if the route has no doors.
+		 */
+		public int getClosestDoorIndex(int x, int y, int z)
+		{
+			int closestIndex = -1;
+			int closestDistance = Integer.MAX_VALUE;
+
+			for (int index = 0; index < doors.length; index++)
+			{
+				final int distance = doors[index].getDistanceSquared(x, y, z);
+
+				if (distance < closestDistance)
+				{
+					closestDistance = distance;
+					closestIndex = index;
+				}
+			}
+
+			return closestIndex;
+		}
+	}
+
+	/**
+	 * The block a path starts at and the door it leads to.
+	 */
+	private static final class PathKey
+	{
+		private final long start;
+		private final long door;
+
+		private PathKey(long start, long door)
+		{
+			this.start = start;
+			this.door = door;
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (!(obj instanceof PathKey))
+			{
+				return false;
+			}
+
+			final PathKey other = (PathKey) obj;
+			return start == other.start && door == other.door;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			final long hash = start * 31 + door;
+			return (int) (hash ^ hash >>> 32);
+		}
+	}
+
+	/**
+	 * The points of a path, and the area around them in which a block change makes the path stale.
+	 */
+	private static final class CachedPath
+	{
+		private final PathPoint[] points;
+		private final long searchTick;
+		private int minX = Integer.MAX_VALUE;
+		private int minY = Integer.MAX_VALUE;
+		private int minZ = Integer.MAX_VALUE;
+		private int maxX = Integer.MIN_VALUE;
+		private int maxY = Integer.MIN_VALUE;
+		private int maxZ = Integer.MIN_VALUE;
+
+		private CachedPath(PathPoint[] points, long searchTick)
+		{
+			this.points = points;
+			this.searchTick = searchTick;
+
+			for (final PathPoint point : points)
+			{
+				includeInBounds(point.xCoord, point.yCoord, point.zCoord);
+			}
+		}
+
+		/**
+		 * Grows the area around the path to include a block and the blocks next to it.
+		 */
+		private void includeInBounds(int x, int y, int z)
+		{
+			minX = Math.min(minX, x - 1);
+			minY = Math.min(minY, y - 2);
+			minZ = Math.min(minZ, z - 1);
+			maxX = Math.max(maxX, x + 1);
+			maxY = Math.max(maxY, y + 2);
+			maxZ = Math.max(maxZ, z + 1);
+		}
+
+		private boolean intersects(int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+		{
+			return minX <= this.maxX && maxX >= this.minX && minY <= this.maxY && maxY >= this.minY && minZ <= this.maxZ && maxZ >= this.minZ;
+		}
+	}
+
+	/**
+	 * Forgets paths as blocks near them change.
+	 */
+	private static final class BlockChangeListener extends WorldAccessAdapter
+	{
+		private final World world;
+
+		private BlockChangeListener(World world)
+		{
+			this.world = world;
+		}
+
+		@Override
+		public void markBlockForUpdate(int x, int y, int z)
+		{
+			final PatrolRoutePlanner planner = PLANNERS.getIfPresent(world);
+
+			if (planner != null)
+			{
+				planner.invalidate(x, y, z, x, y, z);
+			}
+		}
+
+		@Override
+		public void markBlockRangeForRenderUpdate(int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+		{
+			final PatrolRoutePlanner planner = PLANNERS.getIfPresent(world);
+
+			if (planner != null)
+			{
+				planner.invalidate(minX, minY, minZ, maxX, maxY, maxZ);
+			}
+		}
+	}
+}
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * PerWorldRegistry.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.world.World;
+
+/**
+ * Holds one instance of an MCA service, such as an index or a scheduler, for each loaded world. Instances are created
+ * on first use and are all forgotten at once when their world unloads, so a service does not keep its world loaded.
+ * Listeners a service adds to a world are added only once per world, even if the world's instance is forgotten and
+ * created again, and should look up the world's current instance instead of holding one.
+ *
+ * @param <T> The type of service held for each world.
+ */
+public final class PerWorldRegistry<T>
+{
+	private static final List<PerWorldRegistry<?>> REGISTRIES = new ArrayList<PerWorldRegistry<?>>();
+
+	private final Factory<T> factory;
+	private final Map<World, T> instances = new HashMap<World, T>();
+	private final Set<World> attachedWorlds = Collections.newSetFromMap(new WeakHashMap<World, Boolean>());
+
+	/**
+	 * Constructor
+	 *
+	 * @param factory Creates the service for each world.
+	 */
+	public PerWorldRegistry(Factory<T> factory)
+	{
+		this.factory = factory;
+
+		synchronized (REGISTRIES)
+		{
+			REGISTRIES.add(this);
+		}
+	}
+
+	/**
+	 * Forgets the services of a world that is unloading, in every registry.
+	 *
+	 * @param world The world that is unloading.
+	 */
+	public static void onWorldUnload(World world)
+	{
+		synchronized (REGISTRIES)
+		{
+			for (final PerWorldRegistry<?> registry : REGISTRIES)
+			{
+				registry.remove(world);
+			}
+		}
+	}
+
+	/**
+	 * Gets the service of the provided world, creating it on first use.
+	 *
+	 * @param world The world.
+	 * @return The service for the world.
+	 */
+	public synchronized T get(World world)
+	{
+		T instance = instances.get(world);
+
+		if (instance == null)
+		{
+			instance = factory.create(world);
+			instances.put(world, instance);
+
+			if (attachedWorlds.add(world))
+			{
+				factory.attach(world);
+			}
+		}
+
+		return instance;
+	}
+
+	/**
+	 * Gets the service of the provided world without creating it.
+	 *
+	 * @param world The world.
+	 * @return The service for the world, or null if it has not been used since the world loaded.
+	 */
+	public synchronized T getIfPresent(World world)
+	{
+		return instances.get(world);
+	}
+
+	/**
+	 * @return The services of every world, copied so that worlds may load and unload while they are used.
+	 */
+	public synchronized List<T> getAll()
+	{
+		return new ArrayList<T>(instances.values());
+	}
+
+	private synchronized void remove(World world)
+	{
+		instances.remove(world);
+	}
+
+	/**
+	 * Creates the service for each world.
+	 *
+	 * @param <T> The type of service created.
+	 */
+	public abstract static class Factory<T>
+	{
+		/**
+		 * Creates the service for a world.
+		 *
+		 * @param world The world.
+		 * @return The new service.
+		 */
+		public abstract T create(World world);
+
+		/**
+		 * Adds the listeners the service needs to a world. Called once per world, when its service is first created.
+		 *
+		 * @param world The world.
+		 */
+		public void attach(World world)
+		{
+		}
+	}
+}
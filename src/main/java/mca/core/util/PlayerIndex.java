@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * PlayerIndex.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Two-way index between player names and MCA player IDs, kept up to date as world properties are created,
+ * loaded, saved, and received. Also counts how many lookups are made each tick.
+ */
+public final class PlayerIndex
+{
+	private final Map<String, Integer> idsByName = new ConcurrentHashMap<String, Integer>();
+	private final Map<Integer, String> namesById = new ConcurrentHashMap<Integer, String>();
+	private final AtomicInteger lookupsThisTick = new AtomicInteger();
+	private volatile int lookupsLastTick;
+	private volatile int peakLookupsPerTick;
+
+	/**
+	 * Adds a player to the index or updates the ID they are indexed under.
+	 *
+	 * @param playerName The player's name.
+	 * @param playerId The player's ID. IDs of zero are not valid and only the name will be indexed.
+	 */
+	public synchronized void update(String playerName, int playerId)
+	{
+		if (playerName == null)
+		{
+			return;
+		}
+
+		final Integer previousId = idsByName.put(playerName, playerId);
+
+		if (previousId != null && previousId != playerId && playerName.equals(namesById.get(previousId)))
+		{
+			namesById.remove(previousId);
+		}
+
+		if (playerId != 0)
+		{
+			namesById.put(playerId, playerName);
+		}
+	}
+
+	/**
+	 * Removes every player from the index.
+	 */
+	public synchronized void clear()
+	{
+		idsByName.clear();
+		namesById.clear();
+	}
+
+	/**
+	 * @param playerName The name of a player. Must not be null.
+	 * @return The ID of the player with the provided name, or null if they are not indexed.
+	 */
+	public Integer getId(String playerName)
+	{
+		lookupsThisTick.incrementAndGet();
+		return idsByName.get(playerName);
+	}
+
+	/**
+	 * @param playerId The ID of a player.
+	 * @return The name of the player with the provided ID, or null if no player has that ID.
+	 */
+	public String getName(int playerId)
+	{
+		lookupsThisTick.incrementAndGet();
+		return namesById.get(playerId);
+	}
+
+	/**
+	 * Records the number of lookups made since the last call. Should be called once at the end of each server tick.
+	 */
+	public void onTickEnd()
+	{
+		lookupsLastTick = lookupsThisTick.getAndSet(0);
+
+		if (lookupsLastTick > peakLookupsPerTick)
+		{
+			peakLookupsPerTick = lookupsLastTick;
+		}
+	}
+
+	/**
+	 * @return The number of lookups made during the last complete tick.
+	 */
+	public int getLookupsLastTick()
+	{
+		return lookupsLastTick;
+	}
+
+	/**
+	 * @return The highest number of lookups made during a single tick.
+	 */
+	public int getPeakLookupsPerTick()
+	{
+		return peakLookupsPerTick;
+	}
+
+	/**
+	 * @return The number of players in the index.
+	 */
+	public int size()
+	{
+		return idsByName.size();
+	}
+}
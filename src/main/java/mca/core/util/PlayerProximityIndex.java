@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * PlayerProximityIndex.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.World;
+
+/**
+ * Buckets the players of a world by the chunk they are standing in so that nearby players can be found without
+ * checking every player in the world. The buckets are rebuilt at most once per tick, on the first query of that tick.
+ * Players are held weakly, since the buckets outlive the tick they were built in and a player refers to their world.
+ */
+public final class PlayerProximityIndex
+{
+	private static final PerWorldRegistry<PlayerProximityIndex> INDEXES = new PerWorldRegistry<PlayerProximityIndex>(new PerWorldRegistry.Factory<PlayerProximityIndex>()
+	{
+		@Override
+		public PlayerProximityIndex create(World world)
+		{
+			return new PlayerProximityIndex();
+		}
+	});
+
+	private final Map<Long, List<WeakReference<EntityPlayer>>> playersByChunk = new HashMap<Long, List<WeakReference<EntityPlayer>>>();
+	private final List<List<WeakReference<EntityPlayer>>> unusedBuckets = new ArrayList<List<WeakReference<EntityPlayer>>>();
+	private long lastRefreshTick = -1;
+
+	/**
+	 * Gets the index of the provided world, rebuilding it first if the world has ticked since it was last built.
+	 * Must only be called from the thread that ticks the world.
+	 *
+	 * @param world The world whose players should be indexed.
+	 * @return The up to date index for the world.
+	 */
+	public static PlayerProximityIndex forWorld(World world)
+	{
+		final PlayerProximityIndex index = INDEXES.get(world);
+		index.refreshIfStale(world);
+		return index;
+	}
+
+	/**
+	 * Finds the closest player within a distance of the provided point.
+	 *
+	 * @param posX The X position to search from.
+	 * @param posY The Y position to search from.
+	 * @param posZ The Z position to search from.
+	 * @param maxDistance The maximum distance a player can be from the point.
+	 * @return The closest player within maxDistance, or null if there are none.
+	 */
+	public EntityPlayer getClosestPlayer(double posX, double posY, double posZ, double maxDistance)
+	{
+		final double maxDistanceSq = maxDistance * maxDistance;
+		final int minChunkX = (int) Math.floor(posX - maxDistance) >> 4;
+		final int maxChunkX = (int) Math.floor(posX + maxDistance) >> 4;
+		final int minChunkZ = (int) Math.floor(posZ - maxDistance) >> 4;
+		final int maxChunkZ = (int) Math.floor(posZ + maxDistance) >> 4;
+
+		EntityPlayer closestPlayer = null;
+		double closestDistanceSq = maxDistanceSq;
+
+		for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+		{
+			for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++)
+			{
+				final List<WeakReference<EntityPlayer>> bucket = playersByChunk.get(getChunkKey(chunkX, chunkZ));
+
+				if (bucket != null)
+				{
+					for (final WeakReference<EntityPlayer> reference : bucket)
+					{
+						final EntityPlayer player = reference.get();
+
+						if (player == null || player.isDead)
+						{
+							continue;
+						}
+
+						final double distanceSq = player.getDistanceSq(posX, posY, posZ);
+
+						if (distanceSq <= closestDistanceSq)
+						{
+							closestPlayer = player;
+							closestDistanceSq = distanceSq;
+						}
+					}
+				}
+			}
+		}
+
+		return closestPlayer;
+	}
+
+	/**
+	 * @return The number of chunks that currently contain at least one player.
+	 */
+	public int getOccupiedChunkCount()
+	{
+		return playersByChunk.size();
+	}
+
+	private void refreshIfStale(World world)
+	{
+		final long worldTick = world.getTotalWorldTime();
+
+		if (worldTick == lastRefreshTick)
+		{
+			return;
+		}
+
+		lastRefreshTick = worldTick;
+
+		for (final List<WeakReference<EntityPlayer>> bucket : playersByChunk.values())
+		{
+			bucket.clear();
+			unusedBuckets.add(bucket);
+		}
+
+		playersByChunk.clear();
+
+		for (final Object obj : world.playerEntities)
+		{
+			final EntityPlayer player = (EntityPlayer) obj;
+			final Long chunkKey = getChunkKey((int) Math.floor(player.posX) >> 4, (int) Math.floor(player.posZ) >> 4);
+			List<WeakReference<EntityPlayer>> bucket = playersByChunk.get(chunkKey);
+
+			if (bucket == null)
+			{
+				bucket = unusedBuckets.isEmpty() ? new ArrayList<WeakReference<EntityPlayer>>(2) : unusedBuckets.remove(unusedBuckets.size() - 1);
+				playersByChunk.put(chunkKey, bucket);
+			}
+
+			bucket.add(new WeakReference<EntityPlayer>(player));
+		}
+	}
+
+	private static long getChunkKey(int chunkX, int chunkZ)
+	{
+		return (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
+	}
+}
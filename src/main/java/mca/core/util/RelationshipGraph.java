@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * RelationshipGraph.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+import mca.core.MCA;
+import mca.entity.AbstractEntity;
+import mca.enums.EnumRelation;
+
+/**
+ * Every family tree on the server joined into one graph, so that relatives can be found by ID and relation without
+ * scanning family trees or entities. Each entry of a family tree is an edge from the tree's owner to the relative,
+ * labelled with the relative's relation to the owner. Edges are also indexed the other way around, which is how
+ * descendants are found: a person's children are the people whose trees list them as a parent. Family trees keep the
+ * graph up to date as they change on the server, and stay in it after their owner unloads or dies so that ancestry
+ * can still be followed through them.
+ */
+public final class RelationshipGraph
+{
+	private final Map<Integer, Map<EnumRelation, Set<Integer>>> relativesById = new HashMap<Integer, Map<EnumRelation, Set<Integer>>>();
+	private final Map<Integer, Map<EnumRelation, Set<Integer>>> listedById = new HashMap<Integer, Map<EnumRelation, Set<Integer>>>();
+	private int edgeCount;
+
+	/**
+	 * Adds an entry of a family tree to the graph.
+	 *
+	 * @param ownerId The MCA ID of the owner of the family tree.
+	 * @param relativeId The ID of the relative.
+	 * @param relation The relative's relation to the owner.
+	 */
+	public void addRelative(int ownerId, int relativeId, EnumRelation relation)
+	{
+		if (getEdges(relativesById, ownerId, relation, true).add(relativeId))
+		{
+			getEdges(listedById, relativeId, relation, true).add(ownerId);
+			edgeCount++;
+		}
+	}
+
+	/**
+	 * Removes an entry of a family tree from the graph.
+	 *
+	 * @param ownerId The MCA ID of the owner of the family tree.
+	 * @param relativeId The ID of the relative.
+	 * @param relation The relation the relative was listed with.
+	 */
+	public void removeRelative(int ownerId, int relativeId, EnumRelation relation)
+	{
+		if (removeEdge(relativesById, ownerId, relation, relativeId))
+		{
+			removeEdge(listedById, relativeId, relation, ownerId);
+			edgeCount--;
+		}
+	}
+
+	/**
+	 * Replaces every entry of a person's family tree in the graph.
+	 *
+	 * @param ownerId The MCA ID of the owner of the family tree.
+	 * @param relationMap The entries of the family tree. Key = relative's ID, Value = relative's relation to the owner.
+	 */
+	public void setRelatives(int ownerId, Map<Integer, EnumRelation> relationMap)
+	{
+		final Map<EnumRelation, Set<Integer>> previousEdges = relativesById.remove(ownerId);
+
+		if (previousEdges != null)
+		{
+			for (final Map.Entry<EnumRelation, Set<Integer>> entry : previousEdges.entrySet())
+			{
+				for (final int relativeId : entry.getValue())
+				{
+					removeEdge(listedById, relativeId, entry.getKey(), ownerId);
+					edgeCount--;
+				}
+			}
+		}
+
+		for (final Map.Entry<Integer, EnumRelation> entry : relationMap.entrySet())
+		{
+			addRelative(ownerId, entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * @param ownerId The MCA ID of the owner of a family tree.
+	 * @param relation A relation to the owner.
+	 * @return The IDs of the relatives that the owner's tree lists with the relation, in the order they were added.
+	 */
+	public Set<Integer> getRelatives(int ownerId, EnumRelation relation)
+	{
+		return getEdges(relativesById, ownerId, relation, false);
+	}
+
+	/**
+	 * @param relativeId The ID of a person that may be in other family trees.
+	 * @param relation A relation to the owners of those trees.
+	 * @return The MCA IDs of the people whose trees list the relative with the relation.
+	 */
+	public Set<Integer> getIdsListing(int relativeId, EnumRelation relation)
+	{
+		return getEdges(listedById, relativeId, relation, false);
+	}
+
+	/**
+	 * @param mcaId The MCA ID of a person.
+	 * @return The loaded entity with the ID, or null if the person is not loaded.
+	 */
+	public AbstractEntity getEntity(int mcaId)
+	{
+		return MCA.getInstance().entitiesMap.get(mcaId);
+	}
+
+	/**
+	 * Finds the IDs of a person's parents, their parents, and so on.
+	 *
+	 * @param mcaId The MCA ID of the person.
+	 * @param maxDepth The most generations to go up. One finds only parents.
+	 * @return The IDs of the person's ancestors, nearest generations first.
+	 */
+	public Set<Integer> getAncestors(int mcaId, int maxDepth)
+	{
+		return walk(relativesById, mcaId, maxDepth);
+	}
+
+	/**
+	 * Finds the IDs of a person's children, their children, and so on.
+	 *
+	 * @param mcaId The ID of the person, who may be a player.
+	 * @param maxDepth The most generations to go down. One finds only children.
+	 * @return The IDs of the person's descendants, nearest generations first.
+	 */
+	public Set<Integer> getDescendants(int mcaId, int maxDepth)
+	{
+		return walk(listedById, mcaId, maxDepth);
+	}
+
+	/**
+	 * Finds how many generations separate a person from one of their ancestors.
+	 *
+	 * @param mcaId The MCA ID of the person.
+	 * @param ancestorId The ID of the ancestor, who may be a player.
+	 * @param maxDepth The most generations to go up.
+	 * @return One if the ancestor is a parent, two if a grandparent, and so on. -1 if the ancestor was not found within the depth.
+	 */
+	public int getGenerationsBetween(int mcaId, int ancestorId, int maxDepth)
+	{
+		Set<Integer> generation = Collections.singleton(mcaId);
+		final Set<Integer> visited = new LinkedHashSet<Integer>(generation);
+
+		for (int depth = 1; depth <= maxDepth && !generation.isEmpty(); depth++)
+		{
+			final Set<Integer> nextGeneration = new LinkedHashSet<Integer>();
+
+			for (final int id : generation)
+			{
+				for (final int parentId : getEdges(relativesById, id, EnumRelation.Parent, false))
+				{
+					if (parentId == ancestorId)
+					{
+						return depth;
+					}
+
+					if (visited.add(parentId))
+					{
+						nextGeneration.add(parentId);
+					}
+				}
+			}
+
+			generation = nextGeneration;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * @return The number of people whose family trees are in the graph.
+	 */
+	public int size()
+	{
+		return relativesById.size();
+	}
+
+	/**
+	 * @return The number of family tree entries in the graph.
+	 */
+	public int getEdgeCount()
+	{
+		return edgeCount;
+	}
+
+	/**
+	 * Removes every family tree from the graph.
+	 */
+	public void clear()
+	{
+		relativesById.clear();
+		listedById.clear();
+		edgeCount = 0;
+	}
+
+	/**
+	 * Follows parent edges breadth first from a person, in the direction of the provided index.
+	 */
+	private static Set<Integer> walk(Map<Integer, Map<EnumRelation, Set<Integer>>> index, int mcaId, int maxDepth)
+	{
+		final Set<Integer> found = new LinkedHashSet<Integer>();
+		final Queue<int[]> queue = new ArrayDeque<int[]>();
+		queue.add(new int[] { mcaId, 0 });
+
+		while (!queue.isEmpty())
+		{
+			final int[] next = queue.poll();
+
+			if (next[1] < maxDepth)
+			{
+				for (final int id : getEdges(index, next[0], EnumRelation.Parent, false))
+				{
+					if (id != mcaId && found.add(id))
+					{
+						queue.add(new int[] { id, next[1] + 1 });
+					}
+				}
+			}
+		}
+
+		return found;
+	}
+
+	private static Set<Integer> getEdges(Map<Integer, Map<EnumRelation, Set<Integer>>> index, int id, EnumRelation relation, boolean create)
+	{
+		Map<EnumRelation, Set<Integer>> edgesByRelation = index.get(id);
+
+		if (edgesByRelation == null)
+		{
+			if (!create)
+			{
+				return Collections.emptySet();
+			}
+
+			edgesByRelation = new EnumMap<EnumRelation, Set<Integer>>(EnumRelation.class);
+			index.put(id, edgesByRelation);
+		}
+
+		Set<Integer> edges = edgesByRelation.get(relation);
+
+		if (edges == null)
+		{
+			if (!create)
+			{
+				return Collections.emptySet();
+			}
+
+			edges = new LinkedHashSet<Integer>(4);
+			edgesByRelation.put(relation, edges);
+		}
+
+		return create ? edges : Collections.unmodifiableSet(edges);
+	}
+
+	private static boolean removeEdge(Map<Integer, Map<EnumRelation, Set<Integer>>> index, int id, EnumRelation relation, int otherId)
+	{
+		final Map<EnumRelation, Set<Integer>> edgesByRelation = index.get(id);
+		final Set<Integer> edges = edgesByRelation == null ? null : edgesByRelation.get(relation);
+
+		if (edges == null || !edges.remove(otherId))
+		{
+			return false;
+		}
+
+		if (edges.isEmpty())
+		{
+			edgesByRelation.remove(relation);
+
+			if (edgesByRelation.isEmpty())
+			{
+				index.remove(id);
+			}
+		}
+
+		return true;
+	}
+}
@@ -254,6 +254,19 @@ public final class SelfTester
 				MCA.getInstance().getLogger().log("\tPossible invalid assignment value. <" + fieldName + "> provided as name, <" + providedFieldName + "> provided as assignment value. Method called at (" + fileName + ":" + lineNumber + ")");
 			}
 		}
+
+		else if (line.contains("markFieldDirty(\""))
+		{
+			line = line.trim();
+			final int firstQuoteIndex = line.indexOf('"');
+			final int nextQuoteIndex = line.indexOf('"', firstQuoteIndex + 1);
+			final String fieldName = line.substring(firstQuoteIndex + 1, nextQuoteIndex);
+
+			if (!declaredVariables.contains(fieldName))
+			{
+				MCA.getInstance().getLogger().log("\tReference to <" + fieldName + "> cannot be found. Method called at (" + fileName + ":" + lineNumber + ")");
+			}
+		}
 	}
 
 	private void tryAddLineToDeclaredFields(String line)
@@ -9,7 +9,14 @@ package mca.core.util;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
@@ -21,10 +28,16 @@ import mca.core.MCA;
 import com.radixshock.radixcore.core.RadixCore;
 
 /**
- * Handles loading of MCA's skins and other addon skins.
+ * Handles loading of MCA's skins and other addon skins. Each archive is opened at most once per startup and read in a
+ * single pass, and what was found in it is saved to a manifest so that later startups only open archives that changed.
+ * Skins are matched to villagers with a trie of the profession names registered for each texture folder.
  */
 public final class SkinLoader
 {
+	private static SkinManifest manifest;
+	private static File modDataLocation;
+	private static int archivesScanned;
+
 	/**
 	 * Attempts to find and load skins from MCA's archive.
 	 */
@@ -43,6 +56,8 @@ public final class SkinLoader
 			{
 				loadSkinsFromFolder(modFile);
 			}
+
+			getManifest().save();
 		}
 
 		catch (final IOException e)
@@ -55,13 +70,29 @@ public final class SkinLoader
 	{
 		MCA.getInstance().getLogger().log("Searching for addons...");
 
+		final Map<String, SkinTrie> triesByFolder = buildTries(false);
+
+		//Without addon villagers that provide their own skins, there is nothing to search for.
+		if (triesByFolder.isEmpty())
+		{
+			return;
+		}
+
 		try
 		{
+			final File mcaFile = findModDataFile();
+
 			for (final File fileInMods : new File(RadixCore.getInstance().runningDirectory + "/mods").listFiles())
 			{
-				if (!fileInMods.getName().equals(findModDataFile().getName()) && fileContainsAddonData(fileInMods))
+				if (!fileInMods.equals(mcaFile) && isArchive(fileInMods))
 				{
-					loadAddonSkinsFromFile(fileInMods);
+					final SkinManifest.ArchiveEntry archiveEntry = getArchiveEntry(fileInMods, triesByFolder.keySet());
+
+					if (!archiveEntry.skinPaths.isEmpty())
+					{
+						MCA.getInstance().getLogger().log("Found addon skins in " + fileInMods.getName() + ".");
+						addSkins(archiveEntry.skinPaths, triesByFolder);
+					}
 				}
 			}
 		}
@@ -70,11 +101,25 @@ public final class SkinLoader
 		{
 			e.printStackTrace();
 		}
+
+		final int[] lookupCounts = getManifest().getLookupCounts();
+		MCA.getInstance().getLogger().log("Skin archives scanned: " + archivesScanned + ", read from skin manifest: " + lookupCounts[0] + ".");
+		getManifest().save();
 	}
 
 	private static File findModDataFile() throws ZipException, IOException
 	{
-		File modData = findModAsArchive();
+		if (modDataLocation != null)
+		{
+			return modDataLocation;
+		}
+
+		File modData = findModFromCodeSource();
+
+		if (modData == null)
+		{
+			modData = findModAsArchive();
+		}
 
 		if (modData == null)
 		{
@@ -86,9 +131,33 @@ public final class SkinLoader
 			}
 		}
 
+		modDataLocation = modData;
 		return modData;
 	}
 
+	/**
+	 * Finds MCA's archive from where its classes were loaded, which avoids opening every archive in the mods folder.
+	 */
+	private static File findModFromCodeSource()
+	{
+		try
+		{
+			final File codeSource = new File(MCA.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+
+			if (isArchive(codeSource))
+			{
+				return codeSource;
+			}
+		}
+
+		catch (final Exception e)
+		{
+			//Fall back to searching the mods folder.
+		}
+
+		return null;
+	}
+
 	private static File findModAsArchive() throws ZipException, IOException
 	{
 		final File modsFolder = new File(RadixCore.getInstance().runningDirectory + "/mods");
@@ -147,52 +216,10 @@ public final class SkinLoader
 
 	private static void loadSkinsFromFile(File modDataFile) throws ZipException, IOException
 	{
-		final ZipFile modArchive = new ZipFile(modDataFile);
-		final Enumeration enumerator = modArchive.entries();
-
-		while (enumerator.hasMoreElements())
-		{
-			//Loop through each entry within the JAR until the MCA folder is hit.
-			final ZipEntry file = (ZipEntry) enumerator.nextElement();
-			String archiveFilePath = "/" + file.getName();
-
-			if (archiveFilePath.contains("textures/skins"))
-			{
-				for (final VillagerEntryMCA entry : VillagerRegistryMCA.getRegisteredVillagersMap().values())
-				{
-					if (entry.isDefaultTextureUsed())
-					{
-						entry.addMaleSkin("textures/api/skins/DefaultM1.png");
-						entry.addFemaleSkin("textures/api/skins/DefaultF1.png");
-					}
+		addDefaultSkins();
 
-					else
-					{
-						if (archiveFilePath.contains(entry.getTexturesLocation().replace("/assets/mca/", "")) && !archiveFilePath.contains("sleeping"))
-						{
-							//Fix the file's location in the JAR and determine what type of villager the skin belongs to.
-							//Skins are named like [Profession][Gender][ID].png.
-							archiveFilePath = archiveFilePath.replace("/assets/mca/", "");
-
-							if (archiveFilePath.contains(entry.getUnlocalizedProfessionName()))
-							{
-								if (archiveFilePath.replace("textures/skins/" + entry.getUnlocalizedProfessionName(), "").contains("M"))
-								{
-									entry.addMaleSkin(archiveFilePath);
-								}
-
-								else
-								{
-									entry.addFemaleSkin(archiveFilePath);
-								}
-							}
-						}
-					}
-				}
-			}
-		}
-
-		modArchive.close();
+		final Map<String, SkinTrie> triesByFolder = buildTries(true);
+		addSkins(getArchiveEntry(modDataFile, triesByFolder.keySet()).skinPaths, triesByFolder);
 	}
 
 	private static void loadSkinsFromFolder(File modFolder)
@@ -233,34 +260,184 @@ public final class SkinLoader
 		}
 	}
 
-	private static void loadAddonSkinsFromFile(File addonDataFile) throws ZipException, IOException
+	/**
+	 * Adds the API's default skins to villagers that did not provide their own.
+	 */
+	private static void addDefaultSkins()
+	{
+		for (final VillagerEntryMCA entry : VillagerRegistryMCA.getRegisteredVillagersMap().values())
+		{
+			if (entry.isDefaultTextureUsed())
+			{
+				entry.addMaleSkin("textures/api/skins/DefaultM1.png");
+				entry.addFemaleSkin("textures/api/skins/DefaultF1.png");
+			}
+		}
+	}
+
+	/**
+	 * Builds a trie of the profession names of the registered villagers for each texture folder they use.
+	 *
+	 * @param isMCA True to include only MCA's villagers, false to include only addon villagers.
+	 * @return The tries. Key = texture folder as it is named inside archives, Value = trie of the folder's villagers.
+	 */
+	private static Map<String, SkinTrie> buildTries(boolean isMCA)
 	{
-		final ZipFile modArchive = new ZipFile(addonDataFile);
-		final Enumeration enumerator = modArchive.entries();
+		final Map<String, SkinTrie> triesByFolder = new HashMap<String, SkinTrie>();
+
+		for (final VillagerEntryMCA entry : VillagerRegistryMCA.getRegisteredVillagersMap().values())
+		{
+			if (!entry.isDefaultTextureUsed() && entry.getModId().equals("mca") == isMCA)
+			{
+				final String folder = getArchiveFolder(entry.getTexturesLocation());
+				SkinTrie trie = triesByFolder.get(folder);
 
-		while (enumerator.hasMoreElements())
+				if (trie == null)
+				{
+					trie = new SkinTrie();
+					triesByFolder.put(folder, trie);
+				}
+
+				trie.add(entry);
+			}
+		}
+
+		return triesByFolder;
+	}
+
+	/**
+	 * Gives each skin to the villager whose profession its file name starts with. Skins are named like [Profession][Gender][ID].png.
+	 */
+	private static void addSkins(List<String> skinPaths, Map<String, SkinTrie> triesByFolder)
+	{
+		for (final String skinPath : skinPaths)
 		{
-			final ZipEntry file = (ZipEntry) enumerator.nextElement();
-			for (final VillagerEntryMCA entry : VillagerRegistryMCA.getRegisteredVillagersMap().values())
+			final int folderEnd = skinPath.lastIndexOf('/') + 1;
+			final SkinTrie trie = triesByFolder.get(skinPath.substring(0, folderEnd));
+
+			if (trie == null)
 			{
-				if (file.getName().contains(entry.getTexturesLocation()) && file.getName().contains(entry.professionName) && file.getName().contains(".png"))
+				continue;
+			}
+
+			final int professionEnd = trie.match(skinPath, folderEnd);
+
+			if (professionEnd == -1)
+			{
+				continue;
+			}
+
+			final boolean isMale = skinPath.indexOf('M', professionEnd) != -1;
+
+			for (final VillagerEntryMCA entry : trie.getEntries(skinPath, folderEnd, professionEnd))
+			{
+				//MCA's skins have always been given without a domain.
+				final String assetsFolder = "assets/" + entry.getModId() + "/";
+				final String location = skinPath.startsWith(assetsFolder) ? skinPath.substring(assetsFolder.length()) : skinPath;
+				final String skinLocation = entry.getModId().equals("mca") ? location : entry.getModId() + ":" + location;
+
+				if (isMale)
+				{
+					entry.addMaleSkin(skinLocation);
+				}
+
+				else
 				{
-					MCA.getInstance().getLogger().log(entry.modId);
+					entry.addFemaleSkin(skinLocation);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets what an archive contains from the skin manifest, scanning the archive if it is not in the manifest or has changed.
+	 */
+	private static SkinManifest.ArchiveEntry getArchiveEntry(File archiveFile, Collection<String> folders) throws IOException
+	{
+		final SkinManifest.ArchiveEntry cachedEntry = getManifest().get(archiveFile, folders);
+
+		if (cachedEntry != null)
+		{
+			return cachedEntry;
+		}
 
-					if (file.getName().replace(entry.getTexturesLocation() + "/" + entry.professionName, "").contains("M"))
+		final SkinManifest.ArchiveEntry archiveEntry = scanArchive(archiveFile, folders);
+		getManifest().put(archiveFile, archiveEntry);
+		return archiveEntry;
+	}
+
+	/**
+	 * Reads every entry of an archive once, noting whether it contains MCA and collecting the skins in the provided folders.
+	 */
+	private static SkinManifest.ArchiveEntry scanArchive(File archiveFile, Collection<String> folders) throws IOException
+	{
+		final Set<String> searchedFolders = new LinkedHashSet<String>(folders);
+		final List<String> skinPaths = new ArrayList<String>();
+		boolean isModData = false;
+
+		try
+		{
+			final ZipFile archive = new ZipFile(archiveFile);
+
+			try
+			{
+				final Enumeration enumerator = archive.entries();
+
+				while (enumerator.hasMoreElements())
+				{
+					final String name = ((ZipEntry) enumerator.nextElement()).getName();
+
+					//Test for random files unique to MCA.
+					if (name.endsWith("mca/core/MCA.class") || name.endsWith("sleeping/EE1.png"))
 					{
-						entry.addMaleSkin(entry.getModId() + ":" + file.getName().replace("assets/" + entry.getModId() + "/", ""));
+						isModData = true;
 					}
 
-					else
+					if (name.endsWith(".png") && searchedFolders.contains(name.substring(0, name.lastIndexOf('/') + 1)))
 					{
-						entry.addFemaleSkin(entry.getModId() + ":" + file.getName().replace("assets/" + entry.getModId() + "/", ""));
+						skinPaths.add(name);
 					}
 				}
 			}
+
+			finally
+			{
+				archive.close();
+			}
+		}
+
+		catch (final ZipException e)
+		{
+			e.printStackTrace();
+		}
+
+		archivesScanned++;
+		return new SkinManifest.ArchiveEntry(archiveFile.length(), archiveFile.lastModified(), isModData, searchedFolders, skinPaths);
+	}
+
+	/**
+	 * @return The texture location of a villager as a folder inside an archive, without a leading slash and ending with one.
+	 */
+	private static String getArchiveFolder(String texturesLocation)
+	{
+		final String folder = texturesLocation.startsWith("/") ? texturesLocation.substring(1) : texturesLocation;
+		return folder.endsWith("/") ? folder : folder + "/";
+	}
+
+	private static boolean isArchive(File file)
+	{
+		return file.isFile() && (file.getName().endsWith(".zip") || file.getName().endsWith(".jar"));
+	}
+
+	private static SkinManifest getManifest()
+	{
+		if (manifest == null)
+		{
+			manifest = new SkinManifest(new File(RadixCore.getInstance().runningDirectory + "/config/MCA/SkinManifest.properties"));
+			manifest.load();
 		}
 
-		modArchive.close();
+		return manifest;
 	}
 
 	private static File getModFileFromNestedFolder(File nestedFolder) throws IOException
@@ -311,89 +488,85 @@ public final class SkinLoader
 
 	private static boolean fileContainsModData(File fileToTest) throws IOException
 	{
-		if (fileToTest.getName().contains(".zip") || fileToTest.getName().contains(".jar"))
-		{
-			try
-			{
-				final ZipFile archive = new ZipFile(fileToTest);
-				final Enumeration enumerator = archive.entries();
-				ZipEntry entry;
-
-				while (enumerator.hasMoreElements())
-				{
-					entry = (ZipEntry) enumerator.nextElement();
-
-					//Test for random files unique to MCA.
-					if (entry.getName().contains("mca/core/MCA.class") || entry.getName().contains("sleeping/EE1.png"))
-					{
-						archive.close();
-						return true;
-					}
-				}
+		return isArchive(fileToTest) && getArchiveEntry(fileToTest, buildTries(true).keySet()).isModData;
+	}
 
-				archive.close();
-			}
+	private static boolean folderContainsModData(File folderToTest) throws IOException
+	{
+		final File testFile1 = new File(folderToTest.getAbsolutePath() + "/mca/core/MCA.class");
+		final File testFile2 = new File(folderToTest.getAbsolutePath() + "/assets/mca/textures/skins/EE1.png");
 
-			catch (final ZipException e)
-			{
-				e.printStackTrace();
-			}
+		if (testFile1.exists() || testFile2.exists())
+		{
+			return true;
 		}
 
-		return false;
+		else
+		{
+			return false;
+		}
 	}
 
-	private static boolean fileContainsAddonData(File fileToTest) throws IOException
+	/**
+	 * The profession names of the villagers whose skins are in one texture folder, stored as a trie so that the
+	 * profession a skin belongs to is found by reading its file name once.
+	 */
+	private static final class SkinTrie
 	{
-		if (fileToTest.getName().contains(".zip") || fileToTest.getName().contains(".jar"))
+		private final Map<Character, SkinTrie> children = new HashMap<Character, SkinTrie>();
+		private final List<VillagerEntryMCA> entries = new ArrayList<VillagerEntryMCA>();
+
+		private void add(VillagerEntryMCA entry)
 		{
-			try
+			SkinTrie node = this;
+
+			for (final char character : entry.getUnlocalizedProfessionName().toCharArray())
 			{
-				final ZipFile archive = new ZipFile(fileToTest);
-				final Enumeration enumerator = archive.entries();
-				ZipEntry entry;
+				SkinTrie child = node.children.get(character);
 
-				while (enumerator.hasMoreElements())
+				if (child == null)
 				{
-					entry = (ZipEntry) enumerator.nextElement();
-
-					for (final VillagerEntryMCA villagerEntry : VillagerRegistryMCA.getRegisteredVillagersMap().values())
-					{
-						if (entry.getName().equals(villagerEntry.texturesLocation))
-						{
-							MCA.getInstance().getLogger().log("Found addon skins in " + fileToTest.getName() + ".");
-
-							archive.close();
-							return true;
-						}
-					}
+					child = new SkinTrie();
+					node.children.put(character, child);
 				}
 
-				archive.close();
+				node = child;
 			}
 
-			catch (final ZipException e)
-			{
-				e.printStackTrace();
-			}
+			node.entries.add(entry);
 		}
 
-		return false;
-	}
+		/**
+		 * @return The index in the path just after the longest profession name the file name starts with, or -1 if there is none.
+		 */
+		private int match(String path, int start)
+		{
+			SkinTrie node = this;
+			int matchEnd = -1;
 
-	private static boolean folderContainsModData(File folderToTest) throws IOException
-	{
-		final File testFile1 = new File(folderToTest.getAbsolutePath() + "/mca/core/MCA.class");
-		final File testFile2 = new File(folderToTest.getAbsolutePath() + "/assets/mca/textures/skins/EE1.png");
+			for (int index = start; index < path.length() && node != null; index++)
+			{
+				node = node.children.get(path.charAt(index));
 
-		if (testFile1.exists() || testFile2.exists())
-		{
-			return true;
+				if (node != null && !node.entries.isEmpty())
+				{
+					matchEnd = index + 1;
+				}
+			}
+
+			return matchEnd;
 		}
 
-		else
+		private List<VillagerEntryMCA> getEntries(String path, int start, int end)
 		{
-			return false;
+			SkinTrie node = this;
+
+			for (int index = start; index < end; index++)
+			{
+				node = node.children.get(path.charAt(index));
+			}
+
+			return node.entries;
 		}
 	}
 }
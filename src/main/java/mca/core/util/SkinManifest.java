@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * SkinManifest.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import mca.core.MCA;
+
+/**
+ * What the skin loader found in each archive in the mods folder, saved between startups so that archives that have
+ * not changed since they were last scanned are not opened again. An archive is considered unchanged while its size and
+ * modification time are the same. Since only skins in the texture folders that were searched are remembered, an
+ * archive is also scanned again when a texture folder that was not searched before is needed.
+ */
+public final class SkinManifest
+{
+	private final File file;
+	private final Map<String, ArchiveEntry> entriesByPath = new HashMap<String, ArchiveEntry>();
+	private boolean isDirty;
+	private int hits;
+	private int misses;
+
+	/**
+	 * Constructor
+	 *
+	 * @param file The file the manifest is saved to.
+	 */
+	public SkinManifest(File file)
+	{
+		this.file = file;
+	}
+
+	/**
+	 * Reads the manifest from its file. A missing or unreadable file leaves the manifest empty.
+	 */
+	public void load()
+	{
+		entriesByPath.clear();
+
+		if (!file.exists())
+		{
+			return;
+		}
+
+		final Properties properties = new Properties();
+
+		try
+		{
+			final FileInputStream inputStream = new FileInputStream(file);
+
+			try
+			{
+				properties.load(inputStream);
+			}
+
+			finally
+			{
+				inputStream.close();
+			}
+
+			for (final String key : properties.stringPropertyNames())
+			{
+				if (key.endsWith(".size"))
+				{
+					final String path = key.substring(0, key.length() - ".size".length());
+					final long size = Long.parseLong(properties.getProperty(path + ".size"));
+					final long lastModified = Long.parseLong(properties.getProperty(path + ".modified"));
+					final boolean isModData = Boolean.parseBoolean(properties.getProperty(path + ".modData"));
+
+					entriesByPath.put(path, new ArchiveEntry(size, lastModified, isModData, split(properties.getProperty(path + ".folders")), split(properties.getProperty(path + ".skins"))));
+				}
+			}
+		}
+
+		catch (final Exception e)
+		{
+			MCA.getInstance().getLogger().log("Skin manifest " + file.getPath() + " is unreadable and will be rebuilt.");
+			entriesByPath.clear();
+		}
+	}
+
+	/**
+	 * Writes the manifest to its file if it has changed since it was loaded.
+	 */
+	public void save()
+	{
+		if (!isDirty)
+		{
+			return;
+		}
+
+		final Properties properties = new Properties();
+
+		for (final Map.Entry<String, ArchiveEntry> entry : entriesByPath.entrySet())
+		{
+			final String path = entry.getKey();
+			final ArchiveEntry archiveEntry = entry.getValue();
+
+			properties.put(path + ".size", String.valueOf(archiveEntry.size));
+			properties.put(path + ".modified", String.valueOf(archiveEntry.lastModified));
+			properties.put(path + ".modData", String.valueOf(archiveEntry.isModData));
+			properties.put(path + ".folders", join(archiveEntry.folders));
+			properties.put(path + ".skins", join(archiveEntry.skinPaths));
+		}
+
+		try
+		{
+			file.getParentFile().mkdirs();
+			final FileOutputStream outputStream = new FileOutputStream(file);
+
+			try
+			{
+				properties.store(outputStream, "MCA Skin Manifest");
+			}
+
+			finally
+			{
+				outputStream.close();
+			}
+
+			isDirty = false;
+		}
+
+		catch (final IOException e)
+		{
+			MCA.getInstance().getLogger().log("Unable to save skin manifest to " + file.getPath() + ".");
+			MCA.getInstance().getLogger().log(e);
+		}
+	}
+
+	/**
+	 * Gets what was found in an archive when it was last scanned.
+	 *
+	 * @param archive The archive.
+	 * @param folders The texture folders that must have been searched.
+	 * @return The archive's entry, or null if the archive has changed or was not searched for every folder.
+	 */
+	public ArchiveEntry get(File archive, Collection<String> folders)
+	{
+		final ArchiveEntry entry = entriesByPath.get(archive.getAbsolutePath());
+
+		if (entry != null && entry.size == archive.length() && entry.lastModified == archive.lastModified() && entry.folders.containsAll(folders))
+		{
+			hits++;
+			return entry;
+		}
+
+		misses++;
+		return null;
+	}
+
+	/**
+	 * Remembers what was found in an archive.
+	 *
+	 * @param archive The archive that was scanned.
+	 * @param entry What was found in it.
+	 */
+	public void put(File archive, ArchiveEntry entry)
+	{
+		entriesByPath.put(archive.getAbsolutePath(), entry);
+		isDirty = true;
+	}
+
+	/**
+	 * @return The number of archives found in the manifest, and the number that had to be scanned.
+	 */
+	public int[] getLookupCounts()
+	{
+		return new int[] { hits, misses };
+	}
+
+	private static Set<String> split(String value)
+	{
+		final Set<String> values = new LinkedHashSet<String>();
+
+		if (value != null && !value.isEmpty())
+		{
+			values.addAll(Arrays.asList(value.split(",")));
+		}
+
+		return values;
+	}
+
+	private static String join(Collection<String> values)
+	{
+		final StringBuilder builder = new StringBuilder();
+
+		for (final String value : values)
+		{
+			if (builder.length() > 0)
+			{
+				builder.append(",");
+			}
+
+			builder.append(value);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * What was found in one archive.
+	 */
+	public static final class ArchiveEntry
+	{
+		/** The size of the archive when it was scanned. */
+		public final long size;
+
+		/** The modification time of the archive when it was scanned. */
+		public final long lastModified;
+
+		/** True if the archive contains MCA itself. */
+		public final boolean isModData;
+
+		/** The texture folders that were searched for skins, each ending with a slash. */
+		public final Set<String> folders;
+
+		/** The path of every skin found in the searched folders. */
+		public final List<String> skinPaths;
+
+		/**
+		 * Constructor
+		 *
+		 * @param size The size of the archive.
+		 * @param lastModified The modification time of the archive.
+		 * @param isModData True if the archive contains MCA itself.
+		 * @param folders The texture folders that were searched for skins.
+		 * @param skinPaths The path of every skin found in the searched folders.
+		 */
+		public ArchiveEntry(long size, long lastModified, boolean isModData, Collection<String> folders, Collection<String> skinPaths)
+		{
+			this.size = size;
+			this.lastModified = lastModified;
+			this.isModData = isModData;
+			this.folders = new LinkedHashSet<String>(folders);
+			this.skinPaths = new ArrayList<String>(skinPaths);
+		}
+	}
+}
@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * ThreatMap.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mca.entity.AbstractEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+/**
+ * The creatures near MCA's fighters, shared by every combat chore in a world for the length of a tick. The first
+ * fighter to search a chunk in a tick collects the chunk's creatures, and every other fighter searching that chunk in
+ * the same tick reuses them instead of sweeping the chunk again. Whether a fighter can see a creature is also
+ * remembered for the rest of the tick. Players and MCA's own entities are never collected, since fighters do not
+ * choose them as targets.
+ */
+public final class ThreatMap
+{
+	private static final PerWorldRegistry<ThreatMap> MAPS = new PerWorldRegistry<ThreatMap>(new PerWorldRegistry.Factory<ThreatMap>()
+	{
+		@Override
+		public ThreatMap create(World world)
+		{
+			return new ThreatMap();
+		}
+	});
+
+	private static final List<EntityLivingBase> NO_CANDIDATES = new ArrayList<EntityLivingBase>(0);
+
+	private final Map<Long, List<EntityLivingBase>> candidatesByChunk = new HashMap<Long, List<EntityLivingBase>>();
+	private final List<List<EntityLivingBase>> unusedBuckets = new ArrayList<List<EntityLivingBase>>();
+	private final Map<Long, Boolean> sightByPair = new HashMap<Long, Boolean>();
+	private long lastRefreshTick = -1;
+
+	private long chunksCollected;
+	private long chunksReused;
+	private long sightChecks;
+	private long sightChecksReused;
+
+	/**
+	 * Gets the threat map of the provided world, forgetting what it collected if the world has ticked since.
+	 * Must only be called from the thread that ticks the world.
+	 *
+	 * @param world The world whose creatures are searched.
+	 * @return The up to date threat map for the world.
+	 */
+	public static ThreatMap forWorld(World world)
+	{
+		final ThreatMap map = MAPS.get(world);
+		map.refreshIfStale(world.getTotalWorldTime());
+		return map;
+	}
+
+	/**
+	 * Finds the creatures around a fighter, nearest first.
+	 *
+	 * @param observer The fighter searching.
+	 * @param radius How far the creatures may be from the fighter horizontally.
+	 * @param height How far the creatures may be from the fighter vertically.
+	 * @return The living creatures within the area, excluding players and MCA's entities, nearest first.
+	 */
+	public List<EntityLivingBase> getThreatsByDistance(Entity observer, double radius, double height)
+	{
+		final int minChunkX = (int) Math.floor(observer.posX - radius) >> 4;
+		final int maxChunkX = (int) Math.floor(observer.posX + radius) >> 4;
+		final int minChunkZ = (int) Math.floor(observer.posZ - radius) >> 4;
+		final int maxChunkZ = (int) Math.floor(observer.posZ + radius) >> 4;
+
+		final List<EntityLivingBase> threats = new ArrayList<EntityLivingBase>();
+		final List<Double> distancesSq = new ArrayList<Double>();
+
+		for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+		{
+			for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++)
+			{
+				for (final EntityLivingBase candidate : getCandidates(observer.worldObj, chunkX, chunkZ))
+				{
+					final double deltaX = candidate.posX - observer.posX;
+					final double deltaY = candidate.posY - observer.posY;
+					final double deltaZ = candidate.posZ - observer.posZ;
+
+					if (candidate != observer && !candidate.isDead && Math.abs(deltaX) <= radius && Math.abs(deltaY) <= height && Math.abs(deltaZ) <= radius)
+					{
+						threats.add(candidate);
+						distancesSq.add(deltaX * deltaX + deltaY * deltaY + deltaZ * deltaZ);
+					}
+				}
+			}
+		}
+
+		return sortByDistance(threats, distancesSq);
+	}
+
+	/**
+	 * Checks whether a fighter can see a creature, remembering the answer for the rest of the tick.
+	 *
+	 * @param observer The fighter looking.
+	 * @param target The creature being looked at.
+	 * @return True if nothing blocks the fighter's view of the creature.
+	 */
+	public boolean canSee(EntityLivingBase observer, Entity target)
+	{
+		final Long pairKey = (long) observer.getEntityId() << 32 | target.getEntityId() & 0xFFFFFFFFL;
+		Boolean canSee = sightByPair.get(pairKey);
+
+		if (canSee == null)
+		{
+			canSee = observer.canEntityBeSeen(target);
+			sightByPair.put(pairKey, canSee);
+			sightChecks++;
+		}
+
+		else
+		{
+			sightChecksReused++;
+		}
+
+		return canSee;
+	}
+
+	/**
+	 * Forgets every creature and line of sight collected, as happens when the world ticks.
+	 */
+	public void clear()
+	{
+		for (final List<EntityLivingBase> bucket : candidatesByChunk.values())
+		{
+			if (bucket != NO_CANDIDATES)
+			{
+				bucket.clear();
+				unusedBuckets.add(bucket);
+			}
+		}
+
+		candidatesByChunk.clear();
+		sightByPair.clear();
+	}
+
+	/**
+	 * @return The number of chunks whose creatures were collected, the number of searches of a chunk that reused them,
+	 *         the number of line of sight checks made, and the number that reused an earlier answer.
+	 */
+	public long[] getCounts()
+	{
+		return new long[] { chunksCollected, chunksReused, sightChecks, sightChecksReused };
+	}
+
+	private void refreshIfStale(long worldTick)
+	{
+		if (worldTick != lastRefreshTick)
+		{
+			lastRefreshTick = worldTick;
+			clear();
+		}
+	}
+
+	private List<EntityLivingBase> getCandidates(World world, int chunkX, int chunkZ)
+	{
+		final Long chunkKey = (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
+		List<EntityLivingBase> bucket = candidatesByChunk.get(chunkKey);
+
+		if (bucket != null)
+		{
+			chunksReused++;
+			return bucket;
+		}
+
+		bucket = NO_CANDIDATES;
+
+		if (world.getChunkProvider().chunkExists(chunkX, chunkZ))
+		{
+			final Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+
+			for (final List entityList : chunk.entityLists)
+			{
+				for (final Object obj : entityList)
+				{
+					if (obj instanceof EntityLivingBase && !(obj instanceof EntityPlayer) && !(obj instanceof AbstractEntity))
+					{
+						if (bucket == NO_CANDIDATES)
+						{
+							bucket = unusedBuckets.isEmpty() ? new ArrayList<EntityLivingBase>(4) : unusedBuckets.remove(unusedBuckets.size() - 1);
+						}
+
+						bucket.add((EntityLivingBase) obj);
+					}
+				}
+			}
+		}
+
+		candidatesByChunk.put(chunkKey, bucket);
+		chunksCollected++;
+		return bucket;
+	}
+
+	private static List<EntityLivingBase> sortByDistance(List<EntityLivingBase> threats, List<Double> distancesSq)
+	{
+		if (threats.size() < 2)
+		{
+			return threats;
+		}
+
+		//Sort indexes by the distances already worked out, instead of working them out again for each comparison.
+		final Integer[] order = new Integer[threats.size()];
+		final double[] keys = new double[threats.size()];
+
+		for (int index = 0; index < order.length; index++)
+		{
+			order[index] = index;
+			keys[index] = distancesSq.get(index);
+		}
+
+		Arrays.sort(order, new Comparator<Integer>()
+		{
+			@Override
+			public int compare(Integer index1, Integer index2)
+			{
+				return Double.compare(keys[index1], keys[index2]);
+			}
+		});
+
+		final List<EntityLivingBase> sortedThreats = new ArrayList<EntityLivingBase>(order.length);
+
+		for (final Integer index : order)
+		{
+			sortedThreats.add(threats.get(index));
+		}
+
+		return sortedThreats;
+	}
+}
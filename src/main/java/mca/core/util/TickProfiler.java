@@ -0,0 +1,412 @@
+/*******************************************************************************
+ * TickProfiler.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import mca.chore.AbstractChore;
+import mca.entity.AbstractEntity;
+import mca.enums.EnumUpdatePhase;
+
+/**
+ * Measures how long each update phase of MCA's entities and each chore's AI takes on the server, while profiling is
+ * turned on with /mca.profile. Times are recorded into histograms that are updated with atomic operations instead of
+ * locks, and the total time spent on each villager is kept so that the most expensive ones can be listed. When
+ * profiling is off, the only cost to an entity's update is checking whether it is on.
+ */
+public final class TickProfiler
+{
+	private volatile boolean isEnabled;
+	private volatile long startTime;
+	private final Histogram[] phaseHistograms = new Histogram[EnumUpdatePhase.values().length];
+	private final ConcurrentMap<Class, Histogram> choreHistograms = new ConcurrentHashMap<Class, Histogram>();
+	private final ConcurrentMap<Integer, VillagerTotal> villagerTotals = new ConcurrentHashMap<Integer, VillagerTotal>();
+
+	/**
+	 * Constructor
+	 */
+	public TickProfiler()
+	{
+		for (int index = 0; index < phaseHistograms.length; index++)
+		{
+			phaseHistograms[index] = new Histogram(EnumUpdatePhase.values()[index].name());
+		}
+	}
+
+	/**
+	 * @return True if entity updates are being measured.
+	 */
+	public boolean isEnabled()
+	{
+		return isEnabled;
+	}
+
+	/**
+	 * Turns measuring on or off. Measurements taken so far are kept.
+	 *
+	 * @param value True to measure entity updates.
+	 */
+	public void setEnabled(boolean value)
+	{
+		if (value && !isEnabled)
+		{
+			startTime = System.currentTimeMillis();
+		}
+
+		isEnabled = value;
+	}
+
+	/**
+	 * Forgets every measurement.
+	 */
+	public void reset()
+	{
+		for (final Histogram histogram : phaseHistograms)
+		{
+			histogram.reset();
+		}
+
+		choreHistograms.clear();
+		villagerTotals.clear();
+		startTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Records how long one update phase of an entity took.
+	 *
+	 * @param entity The entity that was updated.
+	 * @param phase The phase that ran.
+	 * @param nanos The nanoseconds the phase took.
+	 */
+	public void recordPhase(AbstractEntity entity, EnumUpdatePhase phase, long nanos)
+	{
+		phaseHistograms[phase.ordinal()].record(nanos);
+
+		VillagerTotal total = villagerTotals.get(entity.getEntityId());
+
+		if (total == null)
+		{
+			final VillagerTotal newTotal = new VillagerTotal(entity.getEntityId());
+			total = villagerTotals.putIfAbsent(entity.getEntityId(), newTotal);
+			total = total == null ? newTotal : total;
+		}
+
+		total.name = entity.name;
+		total.record(nanos);
+	}
+
+	/**
+	 * Records how long one run of a chore's AI took.
+	 *
+	 * @param chore The chore that ran.
+	 * @param nanos The nanoseconds the chore took.
+	 */
+	public void recordChore(AbstractChore chore, long nanos)
+	{
+		Histogram histogram = choreHistograms.get(chore.getClass());
+
+		if (histogram == null)
+		{
+			final Histogram newHistogram = new Histogram(chore.getClass().getSimpleName());
+			histogram = choreHistograms.putIfAbsent(chore.getClass(), newHistogram);
+			histogram = histogram == null ? newHistogram : histogram;
+		}
+
+		histogram.record(nanos);
+	}
+
+	/**
+	 * @return The histogram of every update phase, in the order the phases run.
+	 */
+	public List<Histogram> getPhaseHistograms()
+	{
+		final List<Histogram> histograms = new ArrayList<Histogram>();
+		Collections.addAll(histograms, phaseHistograms);
+		return histograms;
+	}
+
+	/**
+	 * @return The histogram of every chore that has run, most total time first.
+	 */
+	public List<Histogram> getChoreHistograms()
+	{
+		final List<Histogram> histograms = new ArrayList<Histogram>(choreHistograms.values());
+
+		Collections.sort(histograms, new Comparator<Histogram>()
+		{
+			@Override
+			public int compare(Histogram histogram1, Histogram histogram2)
+			{
+				return Long.valueOf(histogram2.getTotalNanos()).compareTo(histogram1.getTotalNanos());
+			}
+		});
+
+		return histograms;
+	}
+
+	/**
+	 * @param count The most villagers to list.
+	 * @return The villagers that took the most total time to update, most first.
+	 */
+	public List<VillagerTotal> getTopVillagers(int count)
+	{
+		final List<VillagerTotal> totals = new ArrayList<VillagerTotal>(villagerTotals.values());
+
+		Collections.sort(totals, new Comparator<VillagerTotal>()
+		{
+			@Override
+			public int compare(VillagerTotal total1, VillagerTotal total2)
+			{
+				return Long.valueOf(total2.getTotalNanos()).compareTo(total1.getTotalNanos());
+			}
+		});
+
+		return totals.size() > count ? totals.subList(0, count) : totals;
+	}
+
+	/**
+	 * @return The milliseconds since measuring was last turned on or reset.
+	 */
+	public long getElapsedMillis()
+	{
+		return startTime == 0 ? 0 : System.currentTimeMillis() - startTime;
+	}
+
+	/**
+	 * Writes every measurement to a CSV file.
+	 *
+	 * @param folder The folder to write the file to.
+	 * @return The file that was written.
+	 * @throws IOException If the file could not be written.
+	 */
+	public File exportCsv(File folder) throws IOException
+	{
+		folder.mkdirs();
+
+		final File file = new File(folder, "TickProfile-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".csv");
+		final FileWriter writer = new FileWriter(file);
+
+		try
+		{
+			writer.write("type,name,count,totalNs,meanNs,p50Ns,p90Ns,p99Ns,maxNs\n");
+
+			for (final Histogram histogram : getPhaseHistograms())
+			{
+				writeRow(writer, "phase", histogram);
+			}
+
+			for (final Histogram histogram : getChoreHistograms())
+			{
+				writeRow(writer, "chore", histogram);
+			}
+
+			for (final VillagerTotal total : getTopVillagers(Integer.MAX_VALUE))
+			{
+				final long count = total.getCount();
+				writer.write("villager," + escape(total.name + " #" + total.entityId) + "," + count + "," + total.getTotalNanos() + "," + (count == 0 ? 0 : total.getTotalNanos() / count) + ",,,," + total.getMaxNanos() + "\n");
+			}
+		}
+
+		finally
+		{
+			writer.close();
+		}
+
+		return file;
+	}
+
+	private static void writeRow(FileWriter writer, String type, Histogram histogram) throws IOException
+	{
+		writer.write(type + "," + escape(histogram.getName()) + "," + histogram.getCount() + "," + histogram.getTotalNanos() + "," + histogram.getMeanNanos() + "," + histogram.getPercentileNanos(0.5D) + "," + histogram.getPercentileNanos(0.9D) + "," + histogram.getPercentileNanos(0.99D) + "," + histogram.getMaxNanos() + "\n");
+	}
+
+	private static String escape(String value)
+	{
+		return value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+
+	/**
+	 * Raises an atomic value to at least the provided value.
+	 */
+	private static void updateMax(AtomicLong max, long value)
+	{
+		long current = max.get();
+
+		while (value > current && !max.compareAndSet(current, value))
+		{
+			current = max.get();
+		}
+	}
+
+	/**
+	 * Counts measured times in buckets that double in size, so that percentiles can be estimated without keeping every
+	 * time. Bucket n holds times of at least 2^n nanoseconds and less than 2^(n+1).
+	 */
+	public static final class Histogram
+	{
+		private final String name;
+		private final AtomicLongArray buckets = new AtomicLongArray(64);
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong totalNanos = new AtomicLong();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		private Histogram(String name)
+		{
+			this.name = name;
+		}
+
+		private void record(long nanos)
+		{
+			final long positiveNanos = Math.max(nanos, 1L);
+
+			buckets.incrementAndGet(63 - Long.numberOfLeadingZeros(positiveNanos));
+			count.incrementAndGet();
+			totalNanos.addAndGet(positiveNanos);
+			updateMax(maxNanos, positiveNanos);
+		}
+
+		private void reset()
+		{
+			for (int index = 0; index < buckets.length(); index++)
+			{
+				buckets.set(index, 0);
+			}
+
+			count.set(0);
+			totalNanos.set(0);
+			maxNanos.set(0);
+		}
+
+		/**
+		 * @return The name of the phase or chore that was measured.
+		 */
+		public String getName()
+		{
+			return name;
+		}
+
+		/**
+		 * @return The number of times measured.
+		 */
+		public long getCount()
+		{
+			return count.get();
+		}
+
+		/**
+		 * @return The sum of every time measured.
+		 */
+		public long getTotalNanos()
+		{
+			return totalNanos.get();
+		}
+
+		/**
+		 * @return The average time measured.
+		 */
+		public long getMeanNanos()
+		{
+			final long currentCount = count.get();
+			return currentCount == 0 ? 0 : totalNanos.get() / currentCount;
+		}
+
+		/**
+		 * @return The longest time measured.
+		 */
+		public long getMaxNanos()
+		{
+			return maxNanos.get();
+		}
+
+		/**
+		 * @param percentile The fraction of times that must be at or below the result, such as 0.99.
+		 * @return The upper bound of the bucket containing the percentile, or 0 if nothing was measured.
+		 */
+		public long getPercentileNanos(double percentile)
+		{
+			final long target = (long) Math.ceil(count.get() * percentile);
+			long seen = 0;
+
+			for (int index = 0; index < buckets.length(); index++)
+			{
+				seen += buckets.get(index);
+
+				if (seen >= target && seen > 0)
+				{
+					return Math.min((1L << index + 1) - 1, maxNanos.get());
+				}
+			}
+
+			return 0;
+		}
+	}
+
+	/**
+	 * The total time spent updating one villager.
+	 */
+	public static final class VillagerTotal
+	{
+		/** The entity ID of the villager. */
+		public final int entityId;
+
+		/** The villager's name when they were last measured. */
+		public volatile String name;
+
+		private final AtomicLong count = new AtomicLong();
+		private final AtomicLong totalNanos = new AtomicLong();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		private VillagerTotal(int entityId)
+		{
+			this.entityId = entityId;
+		}
+
+		private void record(long nanos)
+		{
+			count.incrementAndGet();
+			totalNanos.addAndGet(nanos);
+			updateMax(maxNanos, nanos);
+		}
+
+		/**
+		 * @return The number of phases measured.
+		 */
+		public long getCount()
+		{
+			return count.get();
+		}
+
+		/**
+		 * @return The sum of every phase measured.
+		 */
+		public long getTotalNanos()
+		{
+			return totalNanos.get();
+		}
+
+		/**
+		 * @return The longest phase measured.
+		 */
+		public long getMaxNanos()
+		{
+			return maxNanos.get();
+		}
+	}
+}
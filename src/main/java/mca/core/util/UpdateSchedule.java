@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * UpdateSchedule.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import mca.enums.EnumUpdatePhase;
+
+/**
+ * Decides which update phases of an entity run on a given tick. Phases that do not run every tick are
+ * spread across tick slots by entity ID so that entities do not all run the same phase on the same tick.
+ * Those phases share a per-tick time budget across all entities on the server. Once it is spent, due phases
+ * wait for a later tick, unless they have already waited a full cadence.
+ */
+public final class UpdateSchedule
+{
+	private static final EnumUpdatePhase[] PHASES = EnumUpdatePhase.values();
+
+	private static long budgetNanos;
+	private static long spentNanos;
+	private static int deferredThisTick;
+	private static int deferredLastTick;
+
+	private final int slot;
+	private final long[] lastRunTicks = new long[PHASES.length];
+	private final boolean[] deferred = new boolean[PHASES.length];
+
+	/**
+	 * Constructor
+	 *
+	 * @param entityId The ID of the entity that this schedule belongs to.
+	 */
+	public UpdateSchedule(int entityId)
+	{
+		//Mix the bits of the ID so that entities spawned together still land in different slots.
+		final int hash = entityId * 0x9E3779B9;
+		this.slot = (hash ^ hash >>> 16) & 0x7FFFFFFF;
+	}
+
+	/**
+	 * Resets the shared budget. Called at the start of each server tick.
+	 *
+	 * @param budgetMs Milliseconds that may be spent on deferrable phases during the tick.
+	 */
+	public static void onServerTickStart(int budgetMs)
+	{
+		budgetNanos = budgetMs * 1000000L;
+		spentNanos = 0;
+		deferredLastTick = deferredThisTick;
+		deferredThisTick = 0;
+	}
+
+	/**
+	 * Adds time spent running a deferrable phase to this tick's budget.
+	 *
+	 * @param nanos Nanoseconds spent.
+	 */
+	public static void addSpentNanos(long nanos)
+	{
+		spentNanos += nanos;
+	}
+
+	/**
+	 * @return The number of phases that were delayed during the last complete tick because the budget was spent.
+	 */
+	public static int getDeferredLastTick()
+	{
+		return deferredLastTick;
+	}
+
+	/**
+	 * @return All update phases in the order that they run.
+	 */
+	public static EnumUpdatePhase[] getPhases()
+	{
+		return PHASES;
+	}
+
+	/**
+	 * Checks if a phase should run on the provided tick.
+	 *
+	 * @param phase The phase to check.
+	 * @param worldTick The world's total time.
+	 * @param isRemote True if this is the client side. Every phase runs every tick on the client.
+	 * @return The number of ticks since the phase last ran if it should run now, or 0 if it should not.
+	 */
+	public int getElapsedTicksIfDue(EnumUpdatePhase phase, long worldTick, boolean isRemote)
+	{
+		final int index = phase.ordinal();
+		final int cadence = isRemote ? 1 : phase.getCadence();
+
+		if (lastRunTicks[index] == 0)
+		{
+			lastRunTicks[index] = worldTick - cadence;
+		}
+
+		final long elapsedTicks = worldTick - lastRunTicks[index];
+
+		if (cadence > 1)
+		{
+			//Phases wait for this entity's slot unless they were delayed when the slot last came around.
+			if (!deferred[index] && (worldTick + slot) % cadence != 0)
+			{
+				return 0;
+			}
+
+			//Phases that have already waited a full extra cadence run regardless of the budget.
+			if (spentNanos >= budgetNanos && elapsedTicks < cadence * 2)
+			{
+				deferred[index] = true;
+				deferredThisTick++;
+				return 0;
+			}
+		}
+
+		deferred[index] = false;
+		lastRunTicks[index] = worldTick;
+		return (int) Math.min(Math.max(elapsedTicks, 1), Integer.MAX_VALUE);
+	}
+}
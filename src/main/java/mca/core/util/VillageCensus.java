@@ -0,0 +1,332 @@
+/*******************************************************************************
+ * VillageCensus.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import mca.core.util.object.VillageHelper;
+import mca.entity.AbstractEntity;
+import mca.entity.EntityVillagerAdult;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.MathHelper;
+import net.minecraft.village.Village;
+import net.minecraft.world.World;
+
+/**
+ * Keeps count of the villagers and guards living in each village of a server world. Entities are counted when they
+ * join the world, moved between villages when they check which village they are in, and uncounted when they leave the
+ * world, so the counts never need to be found by searching the area around a village for entities.
+ */
+public final class VillageCensus
+{
+	private static final PerWorldRegistry<VillageCensus> CENSUSES = new PerWorldRegistry<VillageCensus>(new PerWorldRegistry.Factory<VillageCensus>()
+	{
+		@Override
+		public VillageCensus create(World world)
+		{
+			return new VillageCensus(world);
+		}
+
+		@Override
+		public void attach(World world)
+		{
+			world.addWorldAccess(new ResidentListener(world));
+		}
+	});
+
+	private final World world;
+	private final Map<Integer, Resident> residents = new HashMap<Integer, Resident>();
+	private final Map<Village, VillageRecord> records = new HashMap<Village, VillageRecord>();
+	private long lastPruneTime = -1;
+
+	private VillageCensus(World world)
+	{
+		this.world = world;
+	}
+
+	/**
+	 * Gets the census of the provided world, creating it on first use. Must only be called from the thread that ticks the world.
+	 *
+	 * @param world The world whose villages should be counted.
+	 * @return The census for the world.
+	 */
+	public static VillageCensus forWorld(World world)
+	{
+		return CENSUSES.get(world);
+	}
+
+	/**
+	 * Finds the village that an entity is standing in and whether or not it is a guard, and moves it to the right
+	 * count if either has changed since it was last updated.
+	 *
+	 * @param entity The entity to update.
+	 */
+	public void updateResident(AbstractEntity entity)
+	{
+		if (world.isRemote || entity.isDead)
+		{
+			return;
+		}
+
+		pruneRemovedVillages();
+
+		final Village village = findVillage(entity);
+		final boolean isGuard = entity.profession == 5;
+		final boolean isCounted = entity instanceof EntityVillagerAdult || !isGuard;
+		Resident resident = residents.get(entity.getEntityId());
+
+		if (resident != null && resident.village == village && resident.isGuard == isGuard)
+		{
+			return;
+		}
+
+		else if (resident != null)
+		{
+			removeFromRecord(resident);
+		}
+
+		if (village == null || !isCounted)
+		{
+			residents.remove(entity.getEntityId());
+			return;
+		}
+
+		if (resident == null)
+		{
+			resident = new Resident();
+			residents.put(entity.getEntityId(), resident);
+		}
+
+		resident.village = village;
+		resident.isGuard = isGuard;
+
+		VillageRecord record = records.get(village);
+
+		if (record == null)
+		{
+			record = new VillageRecord(new VillageHelper(village, world));
+			records.put(village, record);
+		}
+
+		if (isGuard)
+		{
+			record.numberOfGuards++;
+		}
+
+		else
+		{
+			record.numberOfVillagers++;
+		}
+	}
+
+	/**
+	 * Uncounts an entity that has left the world.
+	 *
+	 * @param entity The entity that left.
+	 */
+	public void removeResident(Entity entity)
+	{
+		final Resident resident = residents.remove(entity.getEntityId());
+
+		if (resident != null)
+		{
+			removeFromRecord(resident);
+		}
+	}
+
+	/**
+	 * @param village The village to check.
+	 * @return The number of entities living in the village that are not guards.
+	 */
+	public int getNumberOfVillagers(Village village)
+	{
+		final VillageRecord record = records.get(village);
+		return record == null ? 0 : record.numberOfVillagers;
+	}
+
+	/**
+	 * @param village The village to check.
+	 * @return The number of guards living in the village.
+	 */
+	public int getNumberOfGuards(Village village)
+	{
+		final VillageRecord record = records.get(village);
+		return record == null ? 0 : record.numberOfGuards;
+	}
+
+	/**
+	 * Gets the helper shared by everyone living in the same village as the provided entity.
+	 *
+	 * @param entity The entity whose village helper should be returned.
+	 * @return The helper of the village the entity was counted in, or null if it was not counted in a village.
+	 */
+	public VillageHelper getVillageHelper(AbstractEntity entity)
+	{
+		final Resident resident = residents.get(entity.getEntityId());
+		return resident == null ? null : records.get(resident.village).villageHelper;
+	}
+
+	/**
+	 * @return The number of villages that currently have at least one resident.
+	 */
+	public int getVillageCount()
+	{
+		return records.size();
+	}
+
+	/**
+	 * @return The number of entities currently counted in a village.
+	 */
+	public int getResidentCount()
+	{
+		return residents.size();
+	}
+
+	/**
+	 * Finds the village whose box the entity is standing in, picking the one with the nearest center if the boxes of
+	 * several villages overlap.
+	 */
+	private Village findVillage(AbstractEntity entity)
+	{
+		Village nearestVillage = null;
+		float nearestDistance = Float.MAX_VALUE;
+
+		for (final Object obj : world.villageCollectionObj.getVillageList())
+		{
+			final Village village = (Village) obj;
+
+			if (VillageHelper.isInVillageBounds(village, entity.posX, entity.posY, entity.posZ))
+			{
+				final float distance = village.getCenter().getDistanceSquared(MathHelper.floor_double(entity.posX), MathHelper.floor_double(entity.posY), MathHelper.floor_double(entity.posZ));
+
+				if (distance < nearestDistance)
+				{
+					nearestVillage = village;
+					nearestDistance = distance;
+				}
+			}
+		}
+
+		return nearestVillage;
+	}
+
+	/**
+	 * Forgets villages that Minecraft has removed, along with the residents counted in them. The residents are counted
+	 * again the next time they are updated. Done at most once per tick.
+	 */
+	private void pruneRemovedVillages()
+	{
+		final long worldTime = world.getTotalWorldTime();
+
+		if (worldTime == lastPruneTime)
+		{
+			return;
+		}
+
+		lastPruneTime = worldTime;
+
+		final List villages = world.villageCollectionObj.getVillageList();
+
+		if (villages.containsAll(records.keySet()))
+		{
+			return;
+		}
+
+		records.keySet().retainAll(villages);
+
+		for (final Iterator<Resident> iterator = residents.values().iterator(); iterator.hasNext();)
+		{
+			if (!records.containsKey(iterator.next().village))
+			{
+				iterator.remove();
+			}
+		}
+	}
+
+	private void removeFromRecord(Resident resident)
+	{
+		final VillageRecord record = records.get(resident.village);
+
+		if (resident.isGuard)
+		{
+			record.numberOfGuards--;
+		}
+
+		else
+		{
+			record.numberOfVillagers--;
+		}
+
+		if (record.numberOfGuards == 0 && record.numberOfVillagers == 0)
+		{
+			records.remove(resident.village);
+		}
+	}
+
+	/**
+	 * The village an entity was last counted in and whether it was counted as a guard.
+	 */
+	private static final class Resident
+	{
+		private Village village;
+		private boolean isGuard;
+	}
+
+	/**
+	 * The counts and shared helper of one village.
+	 */
+	private static final class VillageRecord
+	{
+		private final VillageHelper villageHelper;
+		private int numberOfVillagers;
+		private int numberOfGuards;
+
+		private VillageRecord(VillageHelper villageHelper)
+		{
+			this.villageHelper = villageHelper;
+		}
+	}
+
+	/**
+	 * Counts entities as they join the world and uncounts them as they leave it, whether they died or their chunk unloaded.
+	 */
+	private static final class ResidentListener extends WorldAccessAdapter
+	{
+		private final World world;
+
+		private ResidentListener(World world)
+		{
+			this.world = world;
+		}
+
+		@Override
+		public void onEntityCreate(Entity entity)
+		{
+			final VillageCensus census = CENSUSES.getIfPresent(world);
+
+			if (census != null && entity instanceof AbstractEntity)
+			{
+				census.updateResident((AbstractEntity) entity);
+			}
+		}
+
+		@Override
+		public void onEntityDestroy(Entity entity)
+		{
+			final VillageCensus census = CENSUSES.getIfPresent(world);
+
+			if (census != null && entity instanceof AbstractEntity)
+			{
+				census.removeResident(entity);
+			}
+		}
+	}
+}
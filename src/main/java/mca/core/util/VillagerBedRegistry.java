@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * VillagerBedRegistry.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mca.block.BlockVillagerBed;
+import mca.tileentity.TileEntityVillagerBed;
+import net.minecraft.world.World;
+
+/**
+ * Keeps track of the loaded villager beds of a server world by the chunk they are in, so that a free bed near a villager
+ * can be found without checking every tile entity in the world. Beds add and remove themselves as they are placed,
+ * broken, loaded, and unloaded.
+ */
+public final class VillagerBedRegistry
+{
+	private static final PerWorldRegistry<VillagerBedRegistry> REGISTRIES = new PerWorldRegistry<VillagerBedRegistry>(new PerWorldRegistry.Factory<VillagerBedRegistry>()
+	{
+		@Override
+		public VillagerBedRegistry create(World world)
+		{
+			return new VillagerBedRegistry();
+		}
+	});
+
+	private final Map<Long, List<TileEntityVillagerBed>> bedsByChunk = new HashMap<Long, List<TileEntityVillagerBed>>();
+
+	/**
+	 * Gets the registry of the provided world, creating it on first use. Must only be called from the thread that ticks the world.
+	 *
+	 * @param world The world whose beds are registered.
+	 * @return The registry for the world.
+	 */
+	public static VillagerBedRegistry forWorld(World world)
+	{
+		return REGISTRIES.get(world);
+	}
+
+	/**
+	 * Adds a bed to the registry. Adding a bed that is already registered has no effect.
+	 *
+	 * @param bed The bed that was placed or loaded.
+	 */
+	public void addBed(TileEntityVillagerBed bed)
+	{
+		final Long chunkKey = getChunkKey(bed.xCoord >> 4, bed.zCoord >> 4);
+		List<TileEntityVillagerBed> bucket = bedsByChunk.get(chunkKey);
+
+		if (bucket == null)
+		{
+			bucket = new ArrayList<TileEntityVillagerBed>(4);
+			bedsByChunk.put(chunkKey, bucket);
+		}
+
+		if (!bucket.contains(bed))
+		{
+			bucket.add(bed);
+		}
+	}
+
+	/**
+	 * Removes a bed from the registry.
+	 *
+	 * @param bed The bed that was broken or unloaded.
+	 */
+	public void removeBed(TileEntityVillagerBed bed)
+	{
+		final Long chunkKey = getChunkKey(bed.xCoord >> 4, bed.zCoord >> 4);
+		final List<TileEntityVillagerBed> bucket = bedsByChunk.get(chunkKey);
+
+		if (bucket != null && bucket.remove(bed) && bucket.isEmpty())
+		{
+			bedsByChunk.remove(chunkKey);
+		}
+	}
+
+	/**
+	 * Finds the closest free bed within a distance of a point and claims it for a villager.
+	 *
+	 * @param posX The X position to search from.
+	 * @param posY The Y position to search from.
+	 * @param posZ The Z position to search from.
+	 * @param maxDistance Beds must be closer to the point than this distance.
+	 * @param villagerId The MCA ID of the villager that will sleep in the bed.
+	 * @return The bed that was claimed, or null if there was no free bed in range.
+	 */
+	public TileEntityVillagerBed claimNearestFreeBed(double posX, double posY, double posZ, double maxDistance, int villagerId)
+	{
+		final int minChunkX = (int) Math.floor(posX - maxDistance) >> 4;
+		final int maxChunkX = (int) Math.floor(posX + maxDistance) >> 4;
+		final int minChunkZ = (int) Math.floor(posZ - maxDistance) >> 4;
+		final int maxChunkZ = (int) Math.floor(posZ + maxDistance) >> 4;
+
+		TileEntityVillagerBed nearestBed = null;
+		double nearestDistanceSq = maxDistance * maxDistance;
+
+		for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+		{
+			for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++)
+			{
+				final List<TileEntityVillagerBed> bucket = bedsByChunk.get(getChunkKey(chunkX, chunkZ));
+
+				if (bucket != null)
+				{
+					for (final TileEntityVillagerBed bed : bucket)
+					{
+						final double distanceSq = bed.getDistanceFrom(posX, posY, posZ);
+
+						if (distanceSq < nearestDistanceSq && !bed.getIsVillagerSleepingIn() && !BlockVillagerBed.isBlockHeadOfBed(bed.getBlockMetadata()))
+						{
+							nearestBed = bed;
+							nearestDistanceSq = distanceSq;
+						}
+					}
+				}
+			}
+		}
+
+		return nearestBed != null && nearestBed.tryClaim(villagerId) ? nearestBed : null;
+	}
+
+	private static long getChunkKey(int chunkX, int chunkZ)
+	{
+		return (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
+	}
+}
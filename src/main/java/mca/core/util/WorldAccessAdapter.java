@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * WorldAccessAdapter.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.IWorldAccess;
+
+/**
+ * World listener that ignores every notification. Subclasses override only the notifications they need.
+ */
+public abstract class WorldAccessAdapter implements IWorldAccess
+{
+	@Override
+	public void markBlockForUpdate(int x, int y, int z)
+	{
+	}
+
+	@Override
+	public void markBlockForRenderUpdate(int x, int y, int z)
+	{
+	}
+
+	@Override
+	public void markBlockRangeForRenderUpdate(int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+	{
+	}
+
+	@Override
+	public void playSound(String soundName, double x, double y, double z, float volume, float pitch)
+	{
+	}
+
+	@Override
+	public void playSoundToNearExcept(EntityPlayer player, String soundName, double x, double y, double z, float volume, float pitch)
+	{
+	}
+
+	@Override
+	public void spawnParticle(String particleName, double x, double y, double z, double velocityX, double velocityY, double velocityZ)
+	{
+	}
+
+	@Override
+	public void onEntityCreate(Entity entity)
+	{
+	}
+
+	@Override
+	public void onEntityDestroy(Entity entity)
+	{
+	}
+
+	@Override
+	public void playRecord(String recordName, int x, int y, int z)
+	{
+	}
+
+	@Override
+	public void broadcastSound(int soundId, int x, int y, int z, int data)
+	{
+	}
+
+	@Override
+	public void playAuxSFX(EntityPlayer player, int sfxType, int x, int y, int z, int data)
+	{
+	}
+
+	@Override
+	public void destroyBlockPartially(int breakerId, int x, int y, int z, int progress)
+	{
+	}
+
+	@Override
+	public void onStaticEntitiesChanged()
+	{
+	}
+}
@@ -0,0 +1,433 @@
+/*******************************************************************************
+ * WorldPropertiesIndex.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import mca.core.MCA;
+import mca.core.WorldPropertiesList;
+import net.minecraft.server.MinecraftServer;
+
+/**
+ * Summary of every player's world properties in the current world, kept so that the full properties of a player only
+ * need to be loaded while they are in use. Each player's name is stored with their ID, their spouse's ID, their heir's
+ * ID, and whether they are a monarch, which is enough to answer the questions asked about offline players. The index
+ * is saved beside the players' properties folders and is built from their properties files the first time a world is
+ * loaded without one.
+ */
+public final class WorldPropertiesIndex
+{
+	private static final String INDEX_FILE_NAME = "PlayerIndex.properties";
+	private static final String[] PROPERTIES_FILE_NAMES = { "ServerWorldProps.properties", "WorldProps.properties" };
+
+	private final Map<String, Entry> entriesByName = new HashMap<String, Entry>();
+	private final Map<String, Long> lastAccessTimes = new HashMap<String, Long>();
+	private File folder;
+	private String worldName;
+	private boolean isDirty;
+	private int managersLoaded;
+	private int managersEvicted;
+
+	/**
+	 * Loads the index of a world's properties folder, building it from the players' properties files if it has not been saved before.
+	 *
+	 * @param folder The folder containing a properties folder for each player of the world.
+	 * @param worldName The name of the world.
+	 */
+	public synchronized void load(File folder, String worldName)
+	{
+		this.folder = folder;
+		this.worldName = worldName;
+		entriesByName.clear();
+		lastAccessTimes.clear();
+		isDirty = false;
+
+		final File indexFile = new File(folder, INDEX_FILE_NAME);
+		WorldPropertiesStore.restoreInterruptedWrite(indexFile);
+
+		if (indexFile.exists())
+		{
+			try
+			{
+				final Properties properties = readProperties(indexFile);
+
+				for (final String playerName : properties.stringPropertyNames())
+				{
+					entriesByName.put(playerName, Entry.parse(properties.getProperty(playerName)));
+				}
+
+				return;
+			}
+
+			catch (final Exception e)
+			{
+				MCA.getInstance().getLogger().log("Player index " + indexFile.getPath() + " is unreadable and will be rebuilt.");
+				MCA.getInstance().getLogger().log(e);
+				entriesByName.clear();
+			}
+		}
+
+		rebuild();
+	}
+
+	/**
+	 * Queues the index to be written if it has changed since it was last written.
+	 *
+	 * @param store The store that writes the file.
+	 */
+	public void save(WorldPropertiesStore store)
+	{
+		final Properties properties = new Properties();
+		final File indexFile;
+
+		synchronized (this)
+		{
+			if (!isDirty || folder == null)
+			{
+				return;
+			}
+
+			for (final Map.Entry<String, Entry> entry : entriesByName.entrySet())
+			{
+				properties.put(entry.getKey(), entry.getValue().toString());
+			}
+
+			indexFile = new File(folder, INDEX_FILE_NAME);
+			isDirty = false;
+		}
+
+		store.queueWrite(indexFile, properties, "MCA Player Index for World: " + worldName);
+	}
+
+	/**
+	 * Removes every player from the index and forgets the world it belonged to.
+	 */
+	public synchronized void clear()
+	{
+		entriesByName.clear();
+		lastAccessTimes.clear();
+		folder = null;
+		worldName = null;
+		isDirty = false;
+	}
+
+	/**
+	 * Updates a player's entry from their world properties and records that their properties were used.
+	 *
+	 * @param playerName The player's name.
+	 * @param properties The player's world properties.
+	 */
+	public synchronized void update(String playerName, WorldPropertiesList properties)
+	{
+		if (playerName == null)
+		{
+			return;
+		}
+
+		final Entry entry = new Entry(properties.playerID, properties.playerSpouseID, properties.heirId, properties.isMonarch);
+
+		if (!entry.equals(entriesByName.put(playerName, entry)))
+		{
+			isDirty = true;
+		}
+
+		lastAccessTimes.put(playerName, System.currentTimeMillis());
+	}
+
+	/**
+	 * Records that a player's properties were used, delaying when they may be unloaded.
+	 *
+	 * @param playerName The player's name.
+	 */
+	public synchronized void touch(String playerName)
+	{
+		lastAccessTimes.put(playerName, System.currentTimeMillis());
+	}
+
+	/**
+	 * Records that a player's properties were loaded from disk.
+	 */
+	public synchronized void onManagerLoaded()
+	{
+		managersLoaded++;
+	}
+
+	/**
+	 * Stops tracking when a player's properties were used, after they were unloaded.
+	 *
+	 * @param playerName The player's name.
+	 * @param wasLoaded False if the player's properties were not in memory.
+	 */
+	public synchronized void onManagerEvicted(String playerName, boolean wasLoaded)
+	{
+		lastAccessTimes.remove(playerName);
+
+		if (wasLoaded)
+		{
+			managersEvicted++;
+		}
+	}
+
+	/**
+	 * @param playerName The player's name.
+	 * @return True if the player has properties on disk that can be loaded.
+	 */
+	public synchronized boolean hasProperties(String playerName)
+	{
+		return folder != null && (entriesByName.containsKey(playerName) || new File(folder, playerName).isDirectory());
+	}
+
+	/**
+	 * Gets the file a player's world properties are saved to, in the same place WorldPropertiesManager reads them from.
+	 *
+	 * @param playerName The player's name.
+	 * @return The player's properties file, or null if no world is loaded.
+	 */
+	public synchronized File getPropertiesFile(String playerName)
+	{
+		if (folder == null)
+		{
+			return null;
+		}
+
+		final String fileName = MinecraftServer.getServer().isDedicatedServer() ? PROPERTIES_FILE_NAMES[0] : PROPERTIES_FILE_NAMES[1];
+		return new File(new File(folder, playerName.trim()), fileName);
+	}
+
+	/**
+	 * @param playerName The player's name.
+	 * @return The player's entry, or null if they are not in the index.
+	 */
+	public synchronized Entry getEntry(String playerName)
+	{
+		return entriesByName.get(playerName);
+	}
+
+	/**
+	 * @param spouseId The MCA ID of a spouse.
+	 * @return The names of the players married or engaged to the spouse.
+	 */
+	public synchronized List<String> getPlayersWithSpouse(int spouseId)
+	{
+		final List<String> playerNames = new ArrayList<String>();
+
+		for (final Map.Entry<String, Entry> entry : entriesByName.entrySet())
+		{
+			if (entry.getValue().spouseId == spouseId)
+			{
+				playerNames.add(entry.getKey());
+			}
+		}
+
+		return playerNames;
+	}
+
+	/**
+	 * @param idleMillis How long a player's properties must have gone unused.
+	 * @return The names of the players whose properties have not been used for the provided time.
+	 */
+	public synchronized List<String> getIdlePlayers(long idleMillis)
+	{
+		final List<String> playerNames = new ArrayList<String>();
+		final long oldestAccessTime = System.currentTimeMillis() - idleMillis;
+
+		for (final Map.Entry<String, Long> entry : lastAccessTimes.entrySet())
+		{
+			if (entry.getValue() < oldestAccessTime)
+			{
+				playerNames.add(entry.getKey());
+			}
+		}
+
+		return playerNames;
+	}
+
+	/**
+	 * Adds the name and ID of every player in the index to a player index.
+	 *
+	 * @param playerIndex The player index to add to.
+	 */
+	public synchronized void addTo(PlayerIndex playerIndex)
+	{
+		for (final Map.Entry<String, Entry> entry : entriesByName.entrySet())
+		{
+			playerIndex.update(entry.getKey(), entry.getValue().playerId);
+		}
+	}
+
+	/**
+	 * @return The name of the world the index belongs to, or null if no world is loaded.
+	 */
+	public synchronized String getWorldName()
+	{
+		return worldName;
+	}
+
+	/**
+	 * @return The number of players in the index.
+	 */
+	public synchronized int size()
+	{
+		return entriesByName.size();
+	}
+
+	/**
+	 * @return The number of times a player's properties were loaded from disk after the world was loaded.
+	 */
+	public synchronized int getManagersLoaded()
+	{
+		return managersLoaded;
+	}
+
+	/**
+	 * @return The number of times a player's properties were unloaded for being unused.
+	 */
+	public synchronized int getManagersEvicted()
+	{
+		return managersEvicted;
+	}
+
+	private void rebuild()
+	{
+		final File[] playerFolders = folder.listFiles();
+
+		if (playerFolders == null)
+		{
+			return;
+		}
+
+		for (final File playerFolder : playerFolders)
+		{
+			final File propertiesFile = getPropertiesFile(playerFolder);
+
+			if (propertiesFile != null)
+			{
+				try
+				{
+					final Properties properties = readProperties(propertiesFile);
+					entriesByName.put(playerFolder.getName(), new Entry(parseInt(properties, "playerID", 0), parseInt(properties, "playerSpouseID", 0), parseInt(properties, "heirId", -1), Boolean.parseBoolean(properties.getProperty("isMonarch"))));
+				}
+
+				catch (final IOException e)
+				{
+					MCA.getInstance().getLogger().log("Unable to index world properties " + propertiesFile.getPath() + ".");
+					MCA.getInstance().getLogger().log(e);
+				}
+			}
+		}
+
+		isDirty = true;
+		MCA.getInstance().getLogger().log("Built player index of " + entriesByName.size() + " players from " + folder.getPath() + ".");
+	}
+
+	private static File getPropertiesFile(File playerFolder)
+	{
+		if (playerFolder.isDirectory())
+		{
+			for (final String fileName : PROPERTIES_FILE_NAMES)
+			{
+				final File propertiesFile = new File(playerFolder, fileName);
+				WorldPropertiesStore.restoreInterruptedWrite(propertiesFile);
+
+				if (propertiesFile.exists())
+				{
+					return propertiesFile;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private static Properties readProperties(File file) throws IOException
+	{
+		final Properties properties = new Properties();
+		final FileInputStream inputStream = new FileInputStream(file);
+
+		try
+		{
+			properties.load(inputStream);
+		}
+
+		finally
+		{
+			inputStream.close();
+		}
+
+		return properties;
+	}
+
+	private static int parseInt(Properties properties, String key, int defaultValue)
+	{
+		try
+		{
+			return Integer.parseInt(properties.getProperty(key).trim());
+		}
+
+		catch (final Exception e)
+		{
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * The parts of one player's world properties that are kept in the index.
+	 */
+	public static final class Entry
+	{
+		public final int playerId;
+		public final int spouseId;
+		public final int heirId;
+		public final boolean isMonarch;
+
+		private Entry(int playerId, int spouseId, int heirId, boolean isMonarch)
+		{
+			this.playerId = playerId;
+			this.spouseId = spouseId;
+			this.heirId = heirId;
+			this.isMonarch = isMonarch;
+		}
+
+		private static Entry parse(String value)
+		{
+			final String[] parts = value.split(",");
+			return new Entry(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), Boolean.parseBoolean(parts[3]));
+		}
+
+		@Override
+		public boolean equals(Object object)
+		{
+			if (object instanceof Entry)
+			{
+				final Entry entry = (Entry) object;
+				return entry.playerId == playerId && entry.spouseId == spouseId && entry.heirId == heirId && entry.isMonarch == isMonarch;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return ((playerId * 31 + spouseId) * 31 + heirId) * 31 + (isMonarch ? 1 : 0);
+		}
+
+		@Override
+		public String toString()
+		{
+			return playerId + "," + spouseId + "," + heirId + "," + isMonarch;
+		}
+	}
+}
@@ -0,0 +1,430 @@
+/*******************************************************************************
+ * WorldPropertiesStore.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.core.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import mca.core.MCA;
+
+import com.radixshock.radixcore.file.WorldPropertiesManager;
+
+import cpw.mods.fml.common.FMLCommonHandler;
+
+/**
+ * Saves world properties on a background thread instead of the server thread. The properties are copied when a save
+ * is requested, and the copy is written later. If a player's properties are saved again before the earlier copy was
+ * written, only the newest copy is written. Each file is written to a temporary file first and then renamed over the
+ * old one. Where a file cannot be renamed over another, the old file is first renamed to a backup, and a crash between
+ * the two renames is repaired by restoreInterruptedWrite before the file is next read.
+ */
+public final class WorldPropertiesStore
+{
+	private final Object lock = new Object();
+	private final Map<File, PendingWrite> pendingWrites = new LinkedHashMap<File, PendingWrite>();
+	private Thread writerThread;
+	private File writingFile;
+
+	private long savesRequested;
+	private long savesCoalesced;
+	private long writesCompleted;
+	private long writesFailed;
+	private long lastLatencyNanos;
+	private long peakLatencyNanos;
+	private long totalLatencyNanos;
+	private int peakQueueDepth;
+
+	/**
+	 * Saves a player's world properties. On the server, the properties are queued to be written and sent to the
+	 * player right away. On the client, they are sent to the server as before.
+	 *
+	 * @param manager The manager of the properties to save.
+	 */
+	public void save(WorldPropertiesManager manager)
+	{
+		final File file = FMLCommonHandler.instance().getEffectiveSide().isServer() ? MCA.getInstance().worldPropertiesIndex.getPropertiesFile(manager.getCurrentPlayerName()) : null;
+
+		if (file == null)
+		{
+			manager.saveWorldProperties();
+			return;
+		}
+
+		queueWrite(file, toProperties(manager.worldPropertiesInstance), manager.mod.getShortModName() + " Properties for World: " + MCA.getInstance().worldPropertiesIndex.getWorldName());
+
+		MCA.getInstance().onSaveWorldProperties(manager);
+		MCA.getInstance().onUpdateWorldProperties(manager);
+	}
+
+	/**
+	 * Queues properties to be written to a file in the same way as world properties. Used for files that do not
+	 * belong to a WorldPropertiesManager.
+	 *
+	 * @param file The file to write.
+	 * @param properties The properties to write. Must not be changed after being queued.
+	 * @param comment The comment written at the top of the file.
+	 */
+	public void queueWrite(File file, Properties properties, String comment)
+	{
+		synchronized (lock)
+		{
+			//A newer save keeps the place of the one it replaces.
+			final PendingWrite previousWrite = pendingWrites.get(file);
+			final long queuedTime = previousWrite == null ? System.nanoTime() : previousWrite.queuedTime;
+
+			pendingWrites.put(file, new PendingWrite(properties, comment, queuedTime));
+			savesRequested++;
+
+			if (previousWrite != null)
+			{
+				savesCoalesced++;
+			}
+
+			peakQueueDepth = Math.max(peakQueueDepth, pendingWrites.size());
+			startWriterThread();
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * Blocks until every queued save has been written. Called before a world's properties are indexed and when the server stops.
+	 */
+	public void flush()
+	{
+		synchronized (lock)
+		{
+			while (!pendingWrites.isEmpty() || writingFile != null)
+			{
+				try
+				{
+					lock.wait();
+				}
+
+				catch (final InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Makes a properties file ready to be read. A save of the file that is still queued is written right away on the
+	 * calling thread, so the caller waits for that one file instead of every queued save.
+	 *
+	 * @param file The file that is about to be read. Nothing is done if it is null.
+	 */
+	public void prepareRead(File file)
+	{
+		if (file == null)
+		{
+			return;
+		}
+
+		synchronized (lock)
+		{
+			while (file.equals(writingFile))
+			{
+				try
+				{
+					lock.wait();
+				}
+
+				catch (final InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+
+			final PendingWrite write = pendingWrites.remove(file);
+
+			if (write != null)
+			{
+				recordWrite(write, write(file, write));
+			}
+		}
+
+		restoreInterruptedWrite(file);
+	}
+
+	/**
+	 * @return The number of saves waiting to be written.
+	 */
+	public int getQueueDepth()
+	{
+		synchronized (lock)
+		{
+			return pendingWrites.size();
+		}
+	}
+
+	/**
+	 * @return The highest number of saves that have waited to be written at once.
+	 */
+	public int getPeakQueueDepth()
+	{
+		synchronized (lock)
+		{
+			return peakQueueDepth;
+		}
+	}
+
+	/**
+	 * @return The number of saves requested, the number of those that were replaced by a newer save before being written,
+	 *         the number of files written, and the number of writes that failed.
+	 */
+	public long[] getSaveCounts()
+	{
+		synchronized (lock)
+		{
+			return new long[] { savesRequested, savesCoalesced, writesCompleted, writesFailed };
+		}
+	}
+
+	/**
+	 * @return The last, average, and highest nanoseconds between a save being requested and its file being written.
+	 */
+	public long[] getLatencyNanos()
+	{
+		synchronized (lock)
+		{
+			return new long[] { lastLatencyNanos, writesCompleted == 0 ? 0 : totalLatencyNanos / writesCompleted, peakLatencyNanos };
+		}
+	}
+
+	private void startWriterThread()
+	{
+		if (writerThread == null)
+		{
+			writerThread = new Thread(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					runWriter();
+				}
+			}, "MCA World Properties Writer");
+
+			writerThread.setDaemon(true);
+			writerThread.start();
+		}
+	}
+
+	private void runWriter()
+	{
+		while (true)
+		{
+			final File file;
+			final PendingWrite write;
+
+			synchronized (lock)
+			{
+				while (pendingWrites.isEmpty())
+				{
+					try
+					{
+						lock.wait();
+					}
+
+					catch (final InterruptedException e)
+					{
+						writerThread = null;
+						return;
+					}
+				}
+
+				final Iterator<Map.Entry<File, PendingWrite>> iterator = pendingWrites.entrySet().iterator();
+				final Map.Entry<File, PendingWrite> entry = iterator.next();
+				iterator.remove();
+
+				file = entry.getKey();
+				write = entry.getValue();
+				writingFile = file;
+			}
+
+			final boolean wasWritten = write(file, write);
+
+			synchronized (lock)
+			{
+				recordWrite(write, wasWritten);
+				writingFile = null;
+				lock.notifyAll();
+			}
+		}
+	}
+
+	private static boolean write(File file, PendingWrite write)
+	{
+		try
+		{
+			writeAtomically(file, write);
+			return true;
+		}
+
+		catch (final IOException e)
+		{
+			MCA.getInstance().getLogger().log("Unable to save world properties to " + file.getPath() + ".");
+			MCA.getInstance().getLogger().log(e);
+			return false;
+		}
+	}
+
+	private void recordWrite(PendingWrite write, boolean wasWritten)
+	{
+		if (wasWritten)
+		{
+			lastLatencyNanos = System.nanoTime() - write.queuedTime;
+			peakLatencyNanos = Math.max(peakLatencyNanos, lastLatencyNanos);
+			totalLatencyNanos += lastLatencyNanos;
+			writesCompleted++;
+		}
+
+		else
+		{
+			writesFailed++;
+		}
+	}
+
+	/**
+	 * Repairs a file whose replacement was interrupted after the old file was moved to its backup, leaving no file at
+	 * all. The temporary file is complete by then, so it is used if it exists, otherwise the backup is restored.
+	 *
+	 * @param file The file that is about to be read. Nothing is done if it is null.
+	 */
+	public static void restoreInterruptedWrite(File file)
+	{
+		if (file == null || file.exists())
+		{
+			return;
+		}
+
+		final File backupFile = new File(file.getPath() + ".bak");
+
+		if (backupFile.exists())
+		{
+			final File tempFile = new File(file.getPath() + ".tmp");
+
+			if (!(tempFile.exists() && tempFile.renameTo(file)) && !backupFile.renameTo(file))
+			{
+				MCA.getInstance().getLogger().log("Unable to restore " + file.getPath() + " from " + backupFile.getName() + ".");
+			}
+		}
+	}
+
+	private static void writeAtomically(File file, PendingWrite write) throws IOException
+	{
+		final File tempFile = new File(file.getPath() + ".tmp");
+		file.getParentFile().mkdirs();
+
+		final FileOutputStream outputStream = new FileOutputStream(tempFile);
+
+		try
+		{
+			write.properties.store(outputStream, write.comment);
+			outputStream.getFD().sync();
+		}
+
+		finally
+		{
+			outputStream.close();
+		}
+
+		if (tempFile.renameTo(file))
+		{
+			return;
+		}
+
+		//Renaming over an existing file fails on some platforms. The old file is kept as a backup until the new one is in place.
+		final File backupFile = new File(file.getPath() + ".bak");
+		backupFile.delete();
+
+		if (!file.renameTo(backupFile))
+		{
+			throw new IOException("Unable to move " + file.getPath() + " to " + backupFile.getName());
+		}
+
+		if (!tempFile.renameTo(file))
+		{
+			backupFile.renameTo(file);
+			throw new IOException("Unable to replace " + file.getPath() + " with " + tempFile.getName());
+		}
+
+		backupFile.delete();
+	}
+
+	/**
+	 * Copies world properties into Properties in the same format as WorldPropertiesManager writes them.
+	 */
+	private static Properties toProperties(Object worldProperties)
+	{
+		final Properties properties = new Properties();
+
+		for (final Field field : worldProperties.getClass().getFields())
+		{
+			try
+			{
+				final Object value = field.get(worldProperties);
+
+				if (value instanceof List)
+				{
+					final StringBuilder builder = new StringBuilder();
+
+					for (final Object element : (List) value)
+					{
+						if (builder.length() > 0)
+						{
+							builder.append(",");
+						}
+
+						builder.append(element);
+					}
+
+					properties.put(field.getName(), builder.toString());
+				}
+
+				else if (value instanceof Boolean || value instanceof Integer || value instanceof String)
+				{
+					properties.put(field.getName(), value.toString());
+				}
+			}
+
+			catch (final IllegalAccessException e)
+			{
+				MCA.getInstance().getLogger().log(e);
+			}
+		}
+
+		return properties;
+	}
+
+	/**
+	 * A copy of one player's properties waiting to be written.
+	 */
+	private static final class PendingWrite
+	{
+		private final Properties properties;
+		private final String comment;
+		private final long queuedTime;
+
+		private PendingWrite(Properties properties, String comment, long queuedTime)
+		{
+			this.properties = properties;
+			this.comment = comment;
+			this.queuedTime = queuedTime;
+		}
+	}
+}
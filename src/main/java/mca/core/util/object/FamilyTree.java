@@ -12,8 +12,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import mca.core.MCA;
+import mca.core.util.RelationshipGraph;
 import mca.entity.AbstractEntity;
 import mca.enums.EnumRelation;
 import net.minecraft.entity.player.EntityPlayer;
@@ -111,7 +113,7 @@ public class FamilyTree implements Serializable, Cloneable
 	 */
 	public void addFamilyTreeEntry(EntityPlayer player, EnumRelation relation)
 	{
-		relationMap.put(MCA.getInstance().getIdOfPlayer(player), relation);
+		putEntry(MCA.getInstance().getIdOfPlayer(player), relation);
 	}
 
 	/**
@@ -124,7 +126,7 @@ public class FamilyTree implements Serializable, Cloneable
 	{
 		if (entity != null)
 		{
-			relationMap.put(entity.mcaID, relation);
+			putEntry(entity.mcaID, relation);
 		}
 	}
 
@@ -136,7 +138,7 @@ public class FamilyTree implements Serializable, Cloneable
 	 */
 	public void addFamilyTreeEntry(int idToAdd, EnumRelation relation)
 	{
-		relationMap.put(idToAdd, relation);
+		putEntry(idToAdd, relation);
 	}
 
 	/**
@@ -146,7 +148,7 @@ public class FamilyTree implements Serializable, Cloneable
 	 */
 	public void removeFamilyTreeEntry(EntityPlayer player)
 	{
-		relationMap.remove(MCA.getInstance().getIdOfPlayer(player));
+		removeEntry(MCA.getInstance().getIdOfPlayer(player));
 	}
 
 	/**
@@ -156,7 +158,7 @@ public class FamilyTree implements Serializable, Cloneable
 	 */
 	public void removeFamilyTreeEntry(AbstractEntity entity)
 	{
-		relationMap.remove(entity.mcaID);
+		removeEntry(entity.mcaID);
 	}
 
 	/**
@@ -166,7 +168,7 @@ public class FamilyTree implements Serializable, Cloneable
 	 */
 	public void removeFamilyTreeEntry(int mcaId)
 	{
-		relationMap.remove(mcaId);
+		removeEntry(mcaId);
 	}
 
 	/**
@@ -176,17 +178,7 @@ public class FamilyTree implements Serializable, Cloneable
 	 */
 	public void removeFamilyTreeEntry(EnumRelation relation)
 	{
-		int removalKey = 0;
-
-		for (final Map.Entry<Integer, EnumRelation> entry : relationMap.entrySet())
-		{
-			if (entry.getValue().equals(relation))
-			{
-				removalKey = entry.getKey();
-			}
-		}
-
-		relationMap.remove(removalKey);
+		removeEntry(getFirstIDWithRelation(relation));
 	}
 
 	/**
@@ -349,6 +341,14 @@ public class FamilyTree implements Serializable, Cloneable
 	 */
 	public int getFirstIDWithRelation(EnumRelation relation)
 	{
+		final RelationshipGraph graph = getGraph();
+
+		if (graph != null)
+		{
+			final Set<Integer> relativeIds = graph.getRelatives(owner.mcaID, relation);
+			return relativeIds.isEmpty() ? 0 : relativeIds.iterator().next();
+		}
+
 		for (final Map.Entry<Integer, EnumRelation> entry : relationMap.entrySet())
 		{
 			if (entry.getValue() == relation)
@@ -368,6 +368,13 @@ public class FamilyTree implements Serializable, Cloneable
 	 */
 	public List<Integer> getIDsWithRelation(EnumRelation relation)
 	{
+		final RelationshipGraph graph = getGraph();
+
+		if (graph != null)
+		{
+			return new ArrayList<Integer>(graph.getRelatives(owner.mcaID, relation));
+		}
+
 		final List<Integer> returnList = new ArrayList<Integer>();
 
 		for (final Map.Entry<Integer, EnumRelation> entry : relationMap.entrySet())
@@ -451,14 +458,13 @@ public class FamilyTree implements Serializable, Cloneable
 	 */
 	public AbstractEntity getRelativeAsEntity(EnumRelation relation)
 	{
-		for (final Map.Entry<Integer, EnumRelation> entrySet : relationMap.entrySet())
+		for (final Integer relativeId : relationMap.keySet())
 		{
-			for (final AbstractEntity entity : MCA.getInstance().entitiesMap.values())
+			final AbstractEntity entity = MCA.getInstance().entitiesMap.get(relativeId);
+
+			if (entity != null && entity.familyTree.getRelationOf(owner) == relation)
 			{
-				if (entity.mcaID == entrySet.getKey() && entity.familyTree.getRelationOf(owner) == relation)
-				{
-					return entity;
-				}
+				return entity;
 			}
 		}
 
@@ -494,6 +500,7 @@ public class FamilyTree implements Serializable, Cloneable
 	public void setRelationMap(Map<Integer, EnumRelation> map)
 	{
 		relationMap = map;
+		registerWithGraph();
 	}
 
 	public Map<Integer, EnumRelation> getRelationMap()
@@ -501,6 +508,20 @@ public class FamilyTree implements Serializable, Cloneable
 		return relationMap;
 	}
 
+	/**
+	 * Adds every entry of this tree to the server's relationship graph, replacing the entries it had for the owner.
+	 * Called once the owner's MCA ID is known after the tree was loaded or replaced.
+	 */
+	public void registerWithGraph()
+	{
+		final RelationshipGraph graph = getGraph();
+
+		if (graph != null)
+		{
+			graph.setRelatives(owner.mcaID, relationMap);
+		}
+	}
+
 	/**
 	 * Returns a clone of this family tree.
 	 * 
@@ -513,4 +534,39 @@ public class FamilyTree implements Serializable, Cloneable
 		returnTree.setRelationMap(relationMap);
 		return returnTree;
 	}
+
+	private void putEntry(int relativeId, EnumRelation relation)
+	{
+		final EnumRelation previousRelation = relationMap.put(relativeId, relation);
+		final RelationshipGraph graph = getGraph();
+
+		if (graph != null)
+		{
+			if (previousRelation != null)
+			{
+				graph.removeRelative(owner.mcaID, relativeId, previousRelation);
+			}
+
+			graph.addRelative(owner.mcaID, relativeId, relation);
+		}
+	}
+
+	private void removeEntry(int relativeId)
+	{
+		final EnumRelation previousRelation = relationMap.remove(relativeId);
+		final RelationshipGraph graph = getGraph();
+
+		if (graph != null && previousRelation != null)
+		{
+			graph.removeRelative(owner.mcaID, relativeId, previousRelation);
+		}
+	}
+
+	/**
+	 * @return The server's relationship graph if this is the server's copy of the owner's tree, otherwise null.
+	 */
+	private RelationshipGraph getGraph()
+	{
+		return owner != null && owner.worldObj != null && !owner.worldObj.isRemote ? MCA.getInstance().relationshipGraph : null;
+	}
 }
@@ -11,6 +11,8 @@ import java.io.Serializable;
 import java.lang.reflect.Field;
 
 import mca.core.MCA;
+import mca.core.util.NBTFieldCodec;
+import mca.network.SyncSnapshot;
 import net.minecraft.nbt.NBTTagCompound;
 
 /**
@@ -24,8 +26,11 @@ public class PlayerMemory implements Serializable
 	/** The hearts value towards the player. */
 	public int hearts;
 
-	/** The amount of time since greeting the player. */
-	public int greetingTicks = 2000;
+	/** The total world time at which the player may be greeted again. */
+	public long nextGreetingTime;
+
+	/** The total world time at which the player was last near or interacting with the villager. */
+	public long lastSeenTime;
 
 	/** Does this villager have a gift for the player? */
 	public boolean hasGift;
@@ -39,6 +44,15 @@ public class PlayerMemory implements Serializable
 	/** How long it has been since the villager has been hired. */
 	public int minutesSinceHired;
 
+	/**
+	 * The minute of the server's minute clock at which the hire ends. Not saved or sent, so it is worked out again from
+	 * hoursHired and minutesSinceHired when zero, such as after the villager is loaded or hired.
+	 */
+	public transient long hireDeadlineMinute;
+
+	/** The values of this memory's synced fields that the other side already has, or null if it has none of them. */
+	public transient SyncSnapshot syncedValues;
+
 	/** Is this villager in gift mode for this player? */
 	public boolean isInGiftMode;
 
@@ -77,46 +91,32 @@ public class PlayerMemory implements Serializable
 	}
 
 	/**
-	 * Writes the player memory to NBT.
+	 * Writes the player memory to its own NBTTagCompound.
 	 * 
-	 * @param nbt An instance of the NBTTagCompound used to write info about an entity.
+	 * @param nbt The NBTTagCompound that will contain only this player memory.
 	 */
 	public void writePlayerMemoryToNBT(NBTTagCompound nbt)
 	{
-		for (final Field field : PlayerMemory.class.getFields())
-		{
-			try
-			{
-				if (field.getType().getName().contains("boolean"))
-				{
-					nbt.setBoolean("playerMemoryValue" + playerName + field.getName(), field.getBoolean(this));
-				}
-
-				else if (field.getType().getName().contains("int"))
-				{
-					nbt.setInteger("playerMemoryValue" + playerName + field.getName(), field.getInt(this));
-				}
-
-				else if (field.getType().getName().contains("String"))
-				{
-					nbt.setString("playerMemoryValue" + playerName + field.getName(), field.get(this).toString());
-				}
-			}
+		NBTFieldCodec.forClass(PlayerMemory.class, PlayerMemory.class).write(this, nbt);
+	}
 
-			catch (final IllegalAccessException e)
-			{
-				MCA.getInstance().getLogger().log(e);
-				continue;
-			}
-		}
+	/**
+	 * Reads the player memory from its own NBTTagCompound.
+	 * 
+	 * @param nbt The NBTTagCompound written by writePlayerMemoryToNBT().
+	 */
+	public void readPlayerMemoryFromNBT(NBTTagCompound nbt)
+	{
+		NBTFieldCodec.forClass(PlayerMemory.class, PlayerMemory.class).read(this, nbt);
 	}
 
 	/**
-	 * Reads the player memory from NBT.
+	 * Reads the player memory from an entity saved before player memories had their own NBTTagCompound, when every
+	 * memory's fields were written to the entity's NBT prefixed by the player's name.
 	 * 
 	 * @param nbt An instance of the NBTTagCompound used to load info about an entity.
 	 */
-	public void readPlayerMemoryFromNBT(NBTTagCompound nbt)
+	public void readLegacyPlayerMemoryFromNBT(NBTTagCompound nbt)
 	{
 		for (final Field field : this.getClass().getFields())
 		{
@@ -132,6 +132,11 @@ public class PlayerMemory implements Serializable
 					field.set(this, nbt.getInteger("playerMemoryValue" + playerName + field.getName()));
 				}
 
+				else if (field.getType().getName().contains("long"))
+				{
+					field.set(this, nbt.getLong("playerMemoryValue" + playerName + field.getName()));
+				}
+
 				else if (field.getType().getName().contains("String"))
 				{
 					field.set(this, nbt.getString("playerMemoryValue" + playerName + field.getName()));
@@ -7,12 +7,9 @@
 
 package mca.core.util.object;
 
-import java.util.List;
-
 import mca.core.MCA;
-import mca.entity.AbstractEntity;
+import mca.core.util.VillageCensus;
 import mca.entity.EntityVillagerAdult;
-import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.MathHelper;
 import net.minecraft.util.Vec3;
 import net.minecraft.village.Village;
@@ -27,8 +24,7 @@ public class VillageHelper
 	private final World world;
 
 	private int tickCounter;
-	private int numberOfVillagers;
-	private int numberOfGuards;
+	private long lastTickTime = -1;
 
 	/**
 	 * Constructor
@@ -43,40 +39,35 @@ public class VillageHelper
 	}
 
 	/**
-	 * Updates the village helper.
+	 * Updates the village helper. The helper is shared by everyone in the village, so only the first call of each tick has any effect.
 	 */
 	public void tick()
 	{
-		tickCounter++;
+		final long worldTime = world.getTotalWorldTime();
 
-		if (tickCounter % 20 == 0)
+		if (worldTime == lastTickTime)
 		{
-			updateNumberOfVillagers();
+			return;
 		}
 
-		if (tickCounter % 30 == 0)
+		lastTickTime = worldTime;
+		tickCounter++;
+
+		if (tickCounter % 30 == 0 && MCA.getInstance().getModProperties().guardSpawnRate != 0)
 		{
-			updateNumberOfGuards();
+			final VillageCensus census = VillageCensus.forWorld(world);
+			final int maxGuards = census.getNumberOfVillagers(village) / MCA.getInstance().getModProperties().guardSpawnRate;
 
-			if (MCA.getInstance().getModProperties().guardSpawnRate != 0)
+			if (census.getNumberOfGuards(village) < maxGuards)
 			{
-				final int maxGuards = numberOfVillagers / MCA.getInstance().getModProperties().guardSpawnRate;
+				final Vec3 vector = tryGetGuardSpawnLocation(MathHelper.floor_float(village.getCenter().posX), MathHelper.floor_float(village.getCenter().posY), MathHelper.floor_float(village.getCenter().posZ), 2, 4, 2);
 
-				if (numberOfGuards < maxGuards)
+				if (vector != null && !world.isRemote)
 				{
-					final Vec3 vector = tryGetGuardSpawnLocation(MathHelper.floor_float(village.getCenter().posX), MathHelper.floor_float(village.getCenter().posY), MathHelper.floor_float(village.getCenter().posZ), 2, 4, 2);
-
-					if (vector != null)
-					{
-						if (!world.isRemote)
-						{
-							final EntityVillagerAdult guard = new EntityVillagerAdult(world, 5);
-							guard.setPosition(vector.xCoord, vector.yCoord, vector.zCoord);
-							world.spawnEntityInWorld(guard);
-						}
-
-						numberOfGuards++;
-					}
+					//The census counts the guard as soon as it joins the world.
+					final EntityVillagerAdult guard = new EntityVillagerAdult(world, 5);
+					guard.setPosition(vector.xCoord, vector.yCoord, vector.zCoord);
+					world.spawnEntityInWorld(guard);
 				}
 			}
 		}
@@ -87,6 +78,23 @@ public class VillageHelper
 		}
 	}
 
+	/**
+	 * Checks whether a position is inside the box a village's residents are counted in. The box reaches the village's
+	 * radius from its center horizontally, and 4 blocks above and below its center.
+	 * 
+	 * @param village The village.
+	 * @param posX The X position.
+	 * @param posY The Y position.
+	 * @param posZ The Z position.
+	 * @return True if the position is inside the village's box.
+	 */
+	public static boolean isInVillageBounds(Village village, double posX, double posY, double posZ)
+	{
+		final int radius = village.getVillageRadius();
+
+		return Math.abs(posX - village.getCenter().posX) <= radius && Math.abs(posZ - village.getCenter().posZ) <= radius && Math.abs(posY - village.getCenter().posY) <= 4;
+	}
+
 	/**
 	 * Tries to find a valid spawn location for a guard.
 	 * 
@@ -155,43 +163,4 @@ public class VillageHelper
 			return false;
 		}
 	}
-
-	/**
-	 * Discovers how many guards are in the village.
-	 */
-	private void updateNumberOfGuards()
-	{
-		final List villagers = world.getEntitiesWithinAABB(EntityVillagerAdult.class, AxisAlignedBB.getBoundingBox(village.getCenter().posX - village.getVillageRadius(), village.getCenter().posY - 4, village.getCenter().posZ - village.getVillageRadius(), village.getCenter().posX + village.getVillageRadius(), village.getCenter().posY + 4, village.getCenter().posZ + village.getVillageRadius()));
-		numberOfGuards = 0;
-
-		for (final Object obj : villagers)
-		{
-			final AbstractEntity entity = (AbstractEntity) obj;
-
-			if (entity.profession == 5)
-			{
-				numberOfGuards++;
-			}
-		}
-	}
-
-	/**
-	 * Discovers how many villagers are in the village.
-	 */
-	private void updateNumberOfVillagers()
-	{
-		final List villagers = world.getEntitiesWithinAABB(AbstractEntity.class, AxisAlignedBB.getBoundingBox(village.getCenter().posX - village.getVillageRadius(), village.getCenter().posY - 4, village.getCenter().posZ - village.getVillageRadius(), village.getCenter().posX + village.getVillageRadius(), village.getCenter().posY + 4, village.getCenter().posZ + village.getVillageRadius()));
-		numberOfVillagers = villagers.size();
-
-		for (final Object obj : villagers)
-		{
-			final AbstractEntity entity = (AbstractEntity) obj;
-
-			//Skip guards, they don't count because they don't need a home.
-			if (entity.profession == 5)
-			{
-				numberOfVillagers--;
-			}
-		}
-	}
 }
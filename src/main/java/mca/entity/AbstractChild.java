@@ -7,8 +7,6 @@
 
 package mca.entity;
 
-import java.util.Calendar;
-
 import mca.core.MCA;
 import net.minecraft.world.World;
 
@@ -29,9 +27,6 @@ public abstract class AbstractChild extends AbstractEntity
 	/** The name of the player who owns this child. */
 	public String ownerPlayerName = "";
 
-	private int growMinutes = Calendar.getInstance().get(Calendar.MINUTE);
-	private int prevGrowMinutes = Calendar.getInstance().get(Calendar.MINUTE);
-
 	/**
 	 * Constructor
 	 * 
@@ -51,18 +46,21 @@ public abstract class AbstractChild extends AbstractEntity
 		updateDebug();
 	}
 
+	@Override
+	protected void updateEveryMinute(long minute)
+	{
+		super.updateEveryMinute(minute);
+
+		if (!MCA.getInstance().getModProperties().haltChildGrowth && age < MCA.getInstance().getModProperties().kidGrowUpTimeMinutes)
+		{
+			age++;
+		}
+	}
+
 	private void updateGrowth()
 	{
 		if (!MCA.getInstance().getModProperties().haltChildGrowth)
 		{
-			growMinutes = Calendar.getInstance().get(Calendar.MINUTE);
-
-			if ((growMinutes > prevGrowMinutes || growMinutes == 0 && prevGrowMinutes == 59) && age < MCA.getInstance().getModProperties().kidGrowUpTimeMinutes)
-			{
-				age++;
-				prevGrowMinutes = growMinutes;
-			}
-
 			if (age >= MCA.getInstance().getModProperties().kidGrowUpTimeMinutes)
 			{
 				//Set age to the maximum to prevent the renderer from going nuts just in case age is higher than grow up time.
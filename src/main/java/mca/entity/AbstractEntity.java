@@ -12,10 +12,14 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import mca.api.items.IGiftableItem;
 import mca.api.registries.VillagerRegistryMCA;
@@ -33,17 +37,29 @@ import mca.chore.ChoreMining;
 import mca.chore.ChoreWoodcutting;
 import mca.core.Constants;
 import mca.core.MCA;
+import mca.core.ModPropertiesList;
 import mca.core.WorldPropertiesList;
+import mca.core.util.FurnaceReservations;
+import mca.core.util.HomecomingScheduler;
+import mca.core.util.MinuteClock;
+import mca.core.util.NBTFieldCodec;
+import mca.core.util.PlayerProximityIndex;
 import mca.core.util.ServerLimits;
 import mca.core.util.TickMarkerBaby;
+import mca.core.util.UpdateSchedule;
 import mca.core.util.Utility;
+import mca.core.util.VillageCensus;
+import mca.core.util.VillagerBedRegistry;
+import mca.core.util.WorldPropertiesIndex;
 import mca.core.util.object.FamilyTree;
 import mca.core.util.object.PlayerMemory;
 import mca.enums.EnumMood;
 import mca.enums.EnumMoodChangeContext;
 import mca.enums.EnumRelation;
 import mca.enums.EnumTrait;
+import mca.enums.EnumUpdatePhase;
 import mca.inventory.Inventory;
+import mca.network.DirtyFieldTracker;
 import mca.network.packets.PacketNotifyPlayer;
 import mca.network.packets.PacketOnEngagement;
 import mca.network.packets.PacketOnVillagerProcreate;
@@ -52,9 +68,12 @@ import mca.network.packets.PacketSetChore;
 import mca.network.packets.PacketSetFamilyTree;
 import mca.network.packets.PacketSetFieldValue;
 import mca.network.packets.PacketSetInventory;
+import mca.network.packets.PacketSetMoodPoints;
 import mca.network.packets.PacketSetTarget;
 import mca.network.packets.PacketStopJumping;
 import mca.network.packets.PacketSwingArm;
+import mca.network.packets.PacketSyncDelta;
+import mca.network.packets.PacketSyncPlayerMemory;
 import mca.network.packets.PacketSyncRequest;
 import mca.network.packets.TypeIDs;
 import mca.tileentity.TileEntityVillagerBed;
@@ -82,6 +101,7 @@ import net.minecraft.item.ItemPickaxe;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.ItemSword;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ChatComponentText;
@@ -99,7 +119,6 @@ import com.radixshock.radixcore.core.RadixCore;
 import com.radixshock.radixcore.entity.ITickableEntity;
 import com.radixshock.radixcore.file.WorldPropertiesManager;
 import com.radixshock.radixcore.logic.LogicHelper;
-import com.radixshock.radixcore.logic.NBTHelper;
 
 import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.common.ObfuscationReflectionHelper;
@@ -108,7 +127,7 @@ import cpw.mods.fml.relauncher.Side;
 /**
  * This behemoth is the base class for all mod entities.
  */
-public abstract class AbstractEntity extends AbstractSerializableEntity implements Serializable, ITickableEntity
+public abstract class AbstractEntity extends AbstractSerializableEntity implements Serializable, ITickableEntity, MinuteClock.IMinuteListener
 {
 	public String name = "";
 	public String currentChore = "";
@@ -126,13 +145,9 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 	public int healthRegenerationTicks;
 	public int swingProgressTicks;
 	public int traitId;
-	public int moodUpdateTicks;
-	public int moodUpdateDeviation = MCA.rand.nextInt(50) + MCA.rand.nextInt(50);
 	public int particleTicks;
 	public int procreateTicks;
 	public int heldBabyProfession;
-	public int workPrevMinutes = Calendar.getInstance().get(Calendar.MINUTE);
-	public int workCurrentMinutes = Calendar.getInstance().get(Calendar.MINUTE);
 	public int cookingSpeed = Time.SECOND * MCA.rand.nextInt(10) + 1;
 	public int bedPosX = 0;
 	public int bedPosY = 0;
@@ -194,11 +209,18 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 	public Inventory inventory = new Inventory(this);
 	public Map<String, PlayerMemory> playerMemoryMap = new HashMap<String, PlayerMemory>();
 
+	/** Entities whose changed fields have not been sent yet. Server side only. */
+	private static final Set<AbstractEntity> ENTITIES_WITH_DIRTY_FIELDS = Collections.newSetFromMap(new IdentityHashMap<AbstractEntity, Boolean>());
+
 	public transient EnumMood mood = EnumMood.Passive;
 	public transient EnumTrait trait = EnumTrait.None;
 	public transient EntityLivingBase target;
 	public transient boolean sentSyncRequest;
 	public transient boolean addedAI;
+	private transient DirtyFieldTracker dirtyFieldTracker;
+	private transient UpdateSchedule updateSchedule;
+	private transient int moodCycleTicks = -1;
+	private transient int moodCycleDeviation;
 
 	/**
 	 * Constructor
@@ -216,6 +238,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 			MCA.getInstance().idsMap.put(mcaID, getEntityId());
 		}
 
+		MinuteClock.forWorld(world).subscribe(this);
 		getEntityAttribute(SharedMonsterAttributes.maxHealth).setBaseValue(MCA.getInstance().getModProperties().villagerBaseHealth);
 		setHealth(MCA.getInstance().getModProperties().villagerBaseHealth);
 		setSize(Constants.WIDTH_ADULT, Constants.HEIGHT_ADULT);
@@ -254,6 +277,70 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 		this.texture = texture;
 	}
 
+	/**
+	 * Marks a field as changed so that its value is sent to nearby clients at the end of this entity's update.
+	 * Every field changed during the same tick is sent in a single packet. Fields changed outside of the update,
+	 * such as by a packet, are sent at the end of the server tick.
+	 * 
+	 * @param fieldName The name of the field that has changed.
+	 */
+	public void markFieldDirty(String fieldName)
+	{
+		if (dirtyFieldTracker == null)
+		{
+			dirtyFieldTracker = new DirtyFieldTracker(getClass());
+		}
+
+		dirtyFieldTracker.markDirty(fieldName);
+
+		if (!worldObj.isRemote)
+		{
+			ENTITIES_WITH_DIRTY_FIELDS.add(this);
+		}
+	}
+
+	/**
+	 * Sends the values of all fields changed since the last call to the players tracking this entity.
+	 */
+	protected void flushDirtyFields()
+	{
+		if (!worldObj.isRemote && dirtyFieldTracker != null && dirtyFieldTracker.isDirty())
+		{
+			MCA.packetHandler.sendPacketToTrackingPlayers(new PacketSyncDelta(this, dirtyFieldTracker.drainDirtyFields()), this);
+		}
+
+		ENTITIES_WITH_DIRTY_FIELDS.remove(this);
+	}
+
+	/**
+	 * Sends the changed fields of every entity that changed after its update. Called at the end of each server tick.
+	 */
+	public static void flushAllDirtyFields()
+	{
+		if (ENTITIES_WITH_DIRTY_FIELDS.isEmpty())
+		{
+			return;
+		}
+
+		for (final AbstractEntity entity : ENTITIES_WITH_DIRTY_FIELDS.toArray(new AbstractEntity[ENTITIES_WITH_DIRTY_FIELDS.size()]))
+		{
+			entity.flushDirtyFields();
+		}
+
+		ENTITIES_WITH_DIRTY_FIELDS.clear();
+	}
+
+	/**
+	 * Gets the IDs of all fields changed since they were last sent and clears them, so that they can be sent by the caller instead.
+	 * 
+	 * @return The IDs of every changed field, or an empty array if none have changed.
+	 */
+	public int[] drainDirtyFields()
+	{
+		ENTITIES_WITH_DIRTY_FIELDS.remove(this);
+		return dirtyFieldTracker == null ? new int[0] : dirtyFieldTracker.drainDirtyFields();
+	}
+
 	/**
 	 * Returns the string placed before the ID of a dialogue response that identifies what kind of character is speaking.
 	 * 
@@ -288,21 +375,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 			lifeTicks++;
 
 			updateTickMarkers();
-			updateGiftMode();
-			updateSleeping();
-			updateMovement();
-			updateGreeting();
-			updateIdle();
-			updateHealing();
-			updateSwinging();
-			updateChores();
-			updateRetaliation();
-			updateMonarchs();
-			updateMood();
-			updateWorkTime();
-			updateDivorce();
-			updateProcreationWithPlayer();
-			updateProcreationWithVillager();
+			updatePhases();
 
 			//Check if inventory should be opened.
 			if (doOpenInventory)
@@ -353,6 +426,8 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 				}
 			}
 		}
+
+		flushDirtyFields();
 	}
 
 	@Override
@@ -401,17 +476,26 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 		nbt.setString("texture", texture);
 
-		NBTHelper.autoWriteEntityToNBT(this, nbt, AbstractChild.class, EntityPlayerChild.class, EntityVillagerChild.class, EntityVillagerAdult.class, AbstractEntity.class);
+		NBTFieldCodec.forClass(getClass(), AbstractEntity.class).write(this, nbt);
 
-		int counter = 0;
+		//Save each player memory to its own compound, along with the player's ID when it is known.
+		final NBTTagList memoryList = new NBTTagList();
 
-		//Save the player memories to NBT.
-		for (final Map.Entry<String, PlayerMemory> keyValuePair : playerMemoryMap.entrySet())
+		for (final PlayerMemory memory : playerMemoryMap.values())
 		{
-			nbt.setString("playerMemoryKey" + counter, keyValuePair.getKey());
-			keyValuePair.getValue().writePlayerMemoryToNBT(nbt);
-			counter++;
+			final NBTTagCompound memoryNBT = new NBTTagCompound();
+			final Integer playerId = MCA.getInstance().playerIndex.getId(memory.playerName);
+
+			if (playerId != null)
+			{
+				memoryNBT.setInteger("playerId", playerId);
+			}
+
+			memory.writePlayerMemoryToNBT(memoryNBT);
+			memoryList.appendTag(memoryNBT);
 		}
+
+		nbt.setTag("playerMemories", memoryList);
 	}
 
 	@Override
@@ -431,32 +515,145 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 		texture = nbt.getString("texture");
 
-		NBTHelper.autoReadEntityFromNBT(this, nbt, AbstractChild.class, EntityPlayerChild.class, EntityVillagerChild.class, EntityVillagerAdult.class, AbstractEntity.class);
+		NBTFieldCodec.forClass(getClass(), AbstractEntity.class).read(this, nbt);
 
 		//Get the player memories.
-		int counter = 0;
+		if (nbt.hasKey("playerMemories"))
+		{
+			final NBTTagList memoryList = nbt.getTagList("playerMemories", 10);
+
+			for (int i = 0; i < memoryList.tagCount(); i++)
+			{
+				final NBTTagCompound memoryNBT = memoryList.getCompoundTagAt(i);
+				final PlayerMemory playerMemory = new PlayerMemory(null);
+				playerMemory.readPlayerMemoryFromNBT(memoryNBT);
 
-		while (true)
+				if (playerMemory.playerName.equals("") && memoryNBT.hasKey("playerId"))
+				{
+					playerMemory.playerName = MCA.getInstance().playerIndex.getName(memoryNBT.getInteger("playerId"));
+				}
+
+				if (playerMemory.playerName != null)
+				{
+					playerMemoryMap.put(playerMemory.playerName, playerMemory);
+				}
+			}
+		}
+
+		else
+		{
+			readLegacyPlayerMemories(nbt);
+		}
+
+		trait = EnumTrait.getTraitById(traitId);
+		MCA.getInstance().entitiesMap.put(mcaID, this);
+		familyTree.registerWithGraph();
+	}
+
+	/**
+	 * Reads player memories saved before each memory had its own compound, when their keys were written to the
+	 * entity's NBT as playerMemoryKey0 to playerMemoryKeyN.
+	 * 
+	 * @param nbt The NBTTagCompound of the entity.
+	 */
+	private void readLegacyPlayerMemories(NBTTagCompound nbt)
+	{
+		for (int counter = 0; nbt.hasKey("playerMemoryKey" + counter); counter++)
 		{
 			final String playerName = nbt.getString("playerMemoryKey" + counter);
+			final PlayerMemory playerMemory = new PlayerMemory(playerName);
+			playerMemory.readLegacyPlayerMemoryFromNBT(nbt);
+			playerMemoryMap.put(playerName, playerMemory);
+		}
+	}
 
-			if (playerName.equals(""))
+	/**
+	 * Forgets players who have not been near this villager for longer than the configured expiry time, then the least
+	 * recently seen players if more are remembered than the configured limit. Players who hired this villager, are
+	 * engaged or married to it, or are related to it are never forgotten. Runs in the MemoryExpiry update phase.
+	 */
+	private void evictStalePlayerMemories()
+	{
+		if (worldObj == null || worldObj.isRemote)
+		{
+			return;
+		}
+
+		final ModPropertiesList modProperties = MCA.getInstance().getModProperties();
+		final long worldTime = worldObj.getTotalWorldTime();
+		final long expiryTicks = (long) modProperties.server_playerMemoryExpiryHours * Time.HOUR;
+		final List<PlayerMemory> evictableMemories = new ArrayList<PlayerMemory>();
+		final String partnerName = getPlayerPartnerName();
+
+		for (final Iterator<PlayerMemory> iterator = playerMemoryMap.values().iterator(); iterator.hasNext();)
+		{
+			final PlayerMemory memory = iterator.next();
+
+			if (memory.lastSeenTime == 0 || memory.lastSeenTime > worldTime)
 			{
-				break;
+				//Memories from older saves, or from before the world's time was changed, start aging now.
+				memory.lastSeenTime = worldTime;
+			}
+
+			final Integer playerId = MCA.getInstance().playerIndex.getId(memory.playerName);
+
+			if (memory.isHired || memory.playerName.equals(partnerName) || playerId != null && familyTree.idIsARelative(playerId))
+			{
+				continue;
+			}
+
+			else if (expiryTicks > 0 && worldTime - memory.lastSeenTime > expiryTicks)
+			{
+				iterator.remove();
 			}
 
 			else
 			{
-				final PlayerMemory playerMemory = new PlayerMemory(playerName);
-				playerMemory.readPlayerMemoryFromNBT(nbt);
-				playerMemoryMap.put(playerName, playerMemory);
+				evictableMemories.add(memory);
+			}
+		}
+
+		final int memoryLimit = modProperties.server_playerMemoryLimit;
+
+		if (memoryLimit > 0 && playerMemoryMap.size() > memoryLimit)
+		{
+			Collections.sort(evictableMemories, new Comparator<PlayerMemory>()
+			{
+				@Override
+				public int compare(PlayerMemory memory1, PlayerMemory memory2)
+				{
+					return memory1.lastSeenTime < memory2.lastSeenTime ? -1 : memory1.lastSeenTime > memory2.lastSeenTime ? 1 : 0;
+				}
+			});
 
-				counter++;
+			for (int i = 0; i < evictableMemories.size() && playerMemoryMap.size() > memoryLimit; i++)
+			{
+				playerMemoryMap.remove(evictableMemories.get(i).playerName);
 			}
 		}
+	}
 
-		trait = EnumTrait.getTraitById(traitId);
-		MCA.getInstance().entitiesMap.put(mcaID, this);
+	/**
+	 * Gets the name of the player this villager is engaged or married to.
+	 * 
+	 * @return The player's name, or null if the villager has no player partner or the player is unknown.
+	 */
+	private String getPlayerPartnerName()
+	{
+		if (isMarriedToPlayer && !spousePlayerName.equals(""))
+		{
+			return spousePlayerName;
+		}
+
+		else if (isEngaged || isMarriedToPlayer)
+		{
+			return MCA.getInstance().playerIndex.getName(familyTree.getFirstIDWithRelation(EnumRelation.Spouse));
+		}
+
+		else
+		{
+			return null;
+		}
 	}
 
 	@Override
@@ -515,7 +712,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 					say(MCA.getInstance().getLanguageLoader().getString("hitbyplayer", player, this, true));
 				}
 
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "lastInteractingPlayer", lastInteractingPlayer));
+				markFieldDirty("lastInteractingPlayer");
 
 				if (this instanceof EntityVillagerAdult)
 				{
@@ -542,7 +739,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 									entity.target = player;
 
 									MCA.packetHandler.sendPacketToAllPlayers(new PacketSetTarget(entity.getEntityId(), player.getEntityId()));
-									MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(entity.getEntityId(), "isRetaliating", entity.isRetaliating));
+									entity.markFieldDirty("isRetaliating");
 								}
 							}
 						}
@@ -561,8 +758,8 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 			isSleeping = false;
 			idleTicks = 0;
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "idleTicks", idleTicks));
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isSleeping", isSleeping));
+			markFieldDirty("idleTicks");
+			markFieldDirty("isSleeping");
 		}
 	}
 
@@ -573,15 +770,17 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 		if (!worldObj.isRemote)
 		{
+			FurnaceReservations.forWorld(worldObj).release(mcaID);
+
 			if (this instanceof EntityPlayerChild)
 			{
 				final EntityPlayerChild playerChild = (EntityPlayerChild) this;
-				final WorldPropertiesManager manager = MCA.getInstance().playerWorldManagerMap.get(playerChild.ownerPlayerName);
+				final WorldPropertiesManager manager = MCA.getInstance().getWorldPropertiesManager(playerChild.ownerPlayerName);
 
 				if (manager != null && MCA.getInstance().getWorldProperties(manager).heirId == mcaID)
 				{
 					MCA.getInstance().getWorldProperties(manager).heirId = -1;
-					manager.saveWorldProperties();
+					MCA.getInstance().worldPropertiesStore.save(manager);
 				}
 			}
 
@@ -646,7 +845,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 						spouse.isMarriedToVillager = false;
 						spouse.familyTree.removeFamilyTreeEntry(EnumRelation.Spouse);
 
-						MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(spouse.getEntityId(), "isMarriedToVillager", spouse.isMarriedToVillager));
+						spouse.markFieldDirty("isMarriedToVillager");
 						MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFamilyTree(spouse.getEntityId(), spouse.familyTree));
 					}
 				}
@@ -702,6 +901,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 			playerMemoryMap.put(player.getCommandSenderName(), new PlayerMemory(player.getCommandSenderName()));
 		}
 
+		playerMemoryMap.get(player.getCommandSenderName()).lastSeenTime = worldObj.getTotalWorldTime();
 		return false;
 	}
 
@@ -814,6 +1014,117 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 		return lifeTicks;
 	}
 
+	/**
+	 * Runs each update phase that is due this tick according to the entity's update schedule.
+	 */
+	private void updatePhases()
+	{
+		if (updateSchedule == null)
+		{
+			updateSchedule = new UpdateSchedule(getEntityId());
+		}
+
+		final long worldTick = worldObj.getTotalWorldTime();
+		final boolean isProfiling = !worldObj.isRemote && MCA.getInstance().tickProfiler.isEnabled();
+
+		for (final EnumUpdatePhase phase : UpdateSchedule.getPhases())
+		{
+			final int elapsedTicks = updateSchedule.getElapsedTicksIfDue(phase, worldTick, worldObj.isRemote);
+
+			if (elapsedTicks > 0)
+			{
+				if (phase.getCadence() > 1 && !worldObj.isRemote || isProfiling)
+				{
+					final long startTime = System.nanoTime();
+					runUpdatePhase(phase, elapsedTicks);
+					final long spentNanos = System.nanoTime() - startTime;
+
+					if (phase.getCadence() > 1)
+					{
+						UpdateSchedule.addSpentNanos(spentNanos);
+					}
+
+					if (isProfiling)
+					{
+						MCA.getInstance().tickProfiler.recordPhase(this, phase, spentNanos);
+					}
+				}
+
+				else
+				{
+					runUpdatePhase(phase, elapsedTicks);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Runs a single update phase.
+	 * 
+	 * @param phase The phase to run.
+	 * @param elapsedTicks The number of ticks since the phase last ran.
+	 */
+	private void runUpdatePhase(EnumUpdatePhase phase, int elapsedTicks)
+	{
+		switch (phase)
+		{
+		case GiftMode:
+			updateGiftMode();
+			break;
+		case Sleeping:
+			updateSleeping();
+			break;
+		case Movement:
+			updateMovement();
+			break;
+		case Greeting:
+			updateGreeting();
+			break;
+		case Idle:
+			updateIdle(elapsedTicks);
+			break;
+		case Healing:
+			updateHealing(elapsedTicks);
+			break;
+		case Swinging:
+			updateSwinging();
+			break;
+		case Chores:
+			updateChores();
+			break;
+		case Retaliation:
+			updateRetaliation();
+			break;
+		case Monarchs:
+			updateMonarchs(elapsedTicks);
+			break;
+		case Mood:
+			updateMood(elapsedTicks);
+			break;
+		case Divorce:
+			updateDivorce();
+			break;
+		case ProcreationWithPlayer:
+			updateProcreationWithPlayer();
+			break;
+		case ProcreationWithVillager:
+			updateProcreationWithVillager();
+			break;
+		case Census:
+			if (!worldObj.isRemote)
+			{
+				VillageCensus.forWorld(worldObj).updateResident(this);
+			}
+
+			break;
+		case MemoryExpiry:
+			evictStalePlayerMemories();
+			break;
+		default:
+			break;
+		}
+	}
+
 	/**
 	 * Calls update() on all tick markers.
 	 */
@@ -923,6 +1234,15 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 	 */
 	public void setDeadWithoutNotification()
 	{
+		flushDirtyFields();
+		super.setDead();
+	}
+
+	@Override
+	public void setDead()
+	{
+		//Players stop tracking this entity once it is removed, so changes made as it dies must be sent now.
+		flushDirtyFields();
 		super.setDead();
 	}
 
@@ -944,15 +1264,15 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 		if (worldObj.isRemote)
 		{
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(getEntityId(), "isInChoreMode", isInChoreMode));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(getEntityId(), "currentChore", currentChore));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(this, "isInChoreMode", isInChoreMode));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(this, "currentChore", currentChore));
 			MCA.packetHandler.sendPacketToServer(new PacketSetChore(getEntityId(), chore));
 		}
 
 		else
 		{
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isInChoreMode", isInChoreMode));
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "currentChore", currentChore));
+			markFieldDirty("isInChoreMode");
+			markFieldDirty("currentChore");
 			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetChore(getEntityId(), chore));
 		}
 	}
@@ -969,8 +1289,8 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 		{
 			isSleeping = false;
 			idleTicks = 0;
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isSleeping", isSleeping));
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "idleTicks", idleTicks));
+			markFieldDirty("isSleeping");
+			markFieldDirty("idleTicks");
 
 			return;
 		}
@@ -991,8 +1311,8 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 				player.addChatMessage(new ChatComponentText(getTitle(MCA.getInstance().getIdOfPlayer(player), true) + ": " + text));
 			}
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(getEntityId(), "isSleeping", isSleeping));
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(getEntityId(), "idleTicks", idleTicks));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(this, "isSleeping", isSleeping));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(this, "idleTicks", idleTicks));
 		}
 	}
 
@@ -1038,6 +1358,48 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 		}
 	}
 
+	/**
+	 * Sends the fields of a player's memory that have changed since the other side last had them. On the server, the
+	 * memory is sent to its player only, since each player only needs their own. On the client, it is sent to the server.
+	 * 
+	 * @param player The player whose memory should be sent. Nothing is sent if null.
+	 */
+	public void syncPlayerMemory(EntityPlayer player)
+	{
+		final PlayerMemory memory = player == null ? null : playerMemoryMap.get(player.getCommandSenderName());
+
+		if (memory != null && (worldObj.isRemote || player instanceof EntityPlayerMP))
+		{
+			final int[] fieldIds = PacketSyncPlayerMemory.drainChangedFields(memory);
+
+			if (fieldIds.length == 0)
+			{
+				return;
+			}
+
+			else if (worldObj.isRemote)
+			{
+				MCA.packetHandler.sendPacketToServer(new PacketSyncPlayerMemory(this, memory, fieldIds));
+			}
+
+			else
+			{
+				MCA.packetHandler.sendPacketToPlayer(new PacketSyncPlayerMemory(this, memory, fieldIds), (EntityPlayerMP) player);
+			}
+		}
+	}
+
+	/**
+	 * Sends each player in this entity's world the fields of their memory that have changed since it was last sent to them.
+	 */
+	public void syncPlayerMemories()
+	{
+		for (final String playerName : playerMemoryMap.keySet())
+		{
+			syncPlayerMemory(worldObj.getPlayerEntityByName(playerName));
+		}
+	}
+
 	/**
 	 * Spawns the entity at their home point if it is safe.
 	 */
@@ -1059,7 +1421,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 					{
 						isSleeping = true;
 
-						MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isSleeping", isSleeping));
+						markFieldDirty("isSleeping");
 
 						if (familyTree.idIsARelative(MCA.getInstance().getIdOfPlayer(player)))
 						{
@@ -1096,71 +1458,42 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 					isSleeping = true;
 					hasTeleportedHome = true;
-					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isSleeping", isSleeping));
+					markFieldDirty("isSleeping");
+
+					TileEntityVillagerBed villagerBed = null;
 
 					if (hasBed)
 					{
 						final TileEntity tileEntity = worldObj.getTileEntity(bedPosX, bedPosY, bedPosZ);
 
-						if (tileEntity instanceof TileEntityVillagerBed)
+						if (tileEntity instanceof TileEntityVillagerBed && ((TileEntityVillagerBed) tileEntity).tryClaim(mcaID))
 						{
-							final TileEntityVillagerBed villagerBed = (TileEntityVillagerBed) tileEntity;
-
-							if (!villagerBed.getIsVillagerSleepingIn())
-							{
-								villagerBed.setIsVillagerSleepingIn(true);
-								villagerBed.setSleepingVillagerId(mcaID);
-
-								hasBed = true;
-								bedPosX = tileEntity.xCoord;
-								bedPosY = tileEntity.yCoord;
-								bedPosZ = tileEntity.zCoord;
-
-								setPosition(bedPosX, bedPosY, bedPosZ);
-
-								MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "hasBed", hasBed));
-								MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "bedPosX", bedPosX));
-								MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "bedPosY", bedPosY));
-								MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "bedPosZ", bedPosZ));
-
-								return;
-							}
+							villagerBed = (TileEntityVillagerBed) tileEntity;
 						}
 
-						resetBedStatus();
+						else
+						{
+							resetBedStatus();
+						}
 					}
 
-					for (final Object obj : worldObj.loadedTileEntityList)
+					if (villagerBed == null)
 					{
-						if (obj instanceof TileEntityVillagerBed)
-						{
-							final TileEntityVillagerBed tileEntity = (TileEntityVillagerBed) obj;
-							final double distance = LogicHelper.getDistanceToXYZ(posX, posY, posZ, tileEntity.xCoord, tileEntity.yCoord, tileEntity.zCoord);
-
-							if (distance < 5.0D)
-							{
-								final int meta = worldObj.getBlockMetadata(tileEntity.xCoord, tileEntity.yCoord, tileEntity.zCoord);
-
-								if (!BlockVillagerBed.isBlockHeadOfBed(meta) && !tileEntity.getIsVillagerSleepingIn())
-								{
-									tileEntity.setIsVillagerSleepingIn(true);
-									tileEntity.setSleepingVillagerId(mcaID);
-
-									hasBed = true;
-									bedPosX = tileEntity.xCoord;
-									bedPosY = tileEntity.yCoord;
-									bedPosZ = tileEntity.zCoord;
-
-									setPosition(bedPosX, bedPosY, bedPosZ);
-									MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "hasBed", hasBed));
-									MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "bedPosX", bedPosX));
-									MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "bedPosY", bedPosY));
-									MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "bedPosZ", bedPosZ));
+						villagerBed = VillagerBedRegistry.forWorld(worldObj).claimNearestFreeBed(posX, posY, posZ, 5.0D, mcaID);
+					}
 
-									break;
-								}
-							}
-						}
+					if (villagerBed != null)
+					{
+						hasBed = true;
+						bedPosX = villagerBed.xCoord;
+						bedPosY = villagerBed.yCoord;
+						bedPosZ = villagerBed.zCoord;
+
+						setPosition(bedPosX, bedPosY, bedPosZ);
+						markFieldDirty("hasBed");
+						markFieldDirty("bedPosX");
+						markFieldDirty("bedPosY");
+						markFieldDirty("bedPosZ");
 					}
 				}
 
@@ -1228,7 +1561,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 			notifyPlayer(worldObj.getPlayerEntityByName(lastInteractingPlayer), MCA.getInstance().getLanguageLoader().getString("notify.homepoint.invalid"));
 			hasHomePoint = false;
 
-			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(getEntityId(), "hasHomePoint", hasHomePoint));
+			MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(this, "hasHomePoint", hasHomePoint));
 		}
 	}
 
@@ -1369,65 +1702,42 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 	 */
 	public void setMoodByMoodPoints(boolean dispatchPackets)
 	{
-		final List<Float> moodValues = new ArrayList<Float>();
-		moodValues.add(moodPointsHappy);
-		moodValues.add(moodPointsSad);
-		moodValues.add(moodPointsAnger);
-
+		//Ties go to happiness, then sadness.
 		float highestValue = 0.0F;
-		int moodIndex = 0;
+		int moodType = EnumMood.TYPE_HAPPY;
 
-		int index = 0;
-		while (index != 3)
+		if (moodPointsHappy > highestValue)
 		{
-			if (moodValues.get(index) > highestValue)
-			{
-				highestValue = moodValues.get(index);
-				moodIndex = index;
-			}
-
-			index++;
+			highestValue = moodPointsHappy;
 		}
 
-		//Mood will be passive if the highest value of each is between -0.5 and 0.5.
-		if (highestValue < 0.5F && highestValue > -0.5F)
+		if (moodPointsSad > highestValue)
 		{
-			mood = EnumMood.Passive;
-			return;
+			highestValue = moodPointsSad;
+			moodType = EnumMood.TYPE_SADNESS;
 		}
 
-		else
+		if (moodPointsAnger > highestValue)
 		{
-			switch (moodIndex)
-			{
-			case 0:
-				mood = EnumMood.getMoodByPointValue("happy", highestValue);
-				break;
-			case 1:
-				mood = EnumMood.getMoodByPointValue("sadness", highestValue);
-				break;
-			case 2:
-				mood = EnumMood.getMoodByPointValue("anger", highestValue);
-				break;
-			default:
-				return;
-			}
+			highestValue = moodPointsAnger;
+			moodType = EnumMood.TYPE_ANGER;
 		}
 
+		//Mood will be passive if the highest value of each is below 0.5.
+		mood = highestValue < 0.5F ? EnumMood.Passive : EnumMood.getMoodByPointValue(moodType, highestValue);
+
 		if (dispatchPackets)
 		{
 			if (worldObj.isRemote)
 			{
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(getEntityId(), "moodPointsHappy", moodPointsHappy));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(getEntityId(), "moodPointsSad", moodPointsSad));
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(getEntityId(), "moodPointsAnger", moodPointsAnger));
+				MCA.packetHandler.sendPacketToServer(new PacketSetMoodPoints(this));
 			}
 
 			else
 			{
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "moodPointsHappy", moodPointsHappy));
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "moodPointsSad", moodPointsSad));
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "moodPointsAnger", moodPointsAnger));
+				markFieldDirty("moodPointsHappy");
+				markFieldDirty("moodPointsSad");
+				markFieldDirty("moodPointsAnger");
 			}
 		}
 	}
@@ -1530,15 +1840,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 		{
 			playerMemoryMap.put(player.getCommandSenderName(), new PlayerMemory(player.getCommandSenderName()));
 
-			if (worldObj.isRemote)
-			{
-				MCA.packetHandler.sendPacketToServer(new PacketSetFieldValue(getEntityId(), "playerMemoryMap", playerMemoryMap));
-			}
-
-			else
-			{
-				MCA.packetHandler.sendPacketToPlayer(new PacketSetFieldValue(getEntityId(), "playerMemoryMap", playerMemoryMap), (EntityPlayerMP) player);
-			}
+			syncPlayerMemory(player);
 		}
 
 		return hearts;
@@ -1585,7 +1887,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 		if (!worldObj.isRemote)
 		{
-			MCA.packetHandler.sendPacketToPlayer(new PacketSetFieldValue(getEntityId(), "playerMemoryMap", playerMemoryMap), (EntityPlayerMP) player);
+			syncPlayerMemory(player);
 		}
 
 		if (isDispatchAllowed)
@@ -1768,7 +2070,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 		memory.isInGiftMode = false;
 		playerMemoryMap.put(player.getCommandSenderName(), memory);
 
-		MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "playerMemoryMap", playerMemoryMap));
+		syncPlayerMemory(player);
 	}
 
 	/**
@@ -1882,24 +2184,24 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 				if (generation != 0)
 				{
 					nearestVillager.generation = generation;
-					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(nearestVillager.getEntityId(), "generation", generation));
+					nearestVillager.markFieldDirty("generation");
 				}
 
 				else if (nearestVillager.generation != 0)
 				{
 					generation = nearestVillager.generation;
-					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "generation", nearestVillager.generation));
+					markFieldDirty("generation");
 				}
 
 				//Update relevant data on client and server.
 				isMarriedToVillager = true;
 				familyTree.addFamilyTreeEntry(nearestVillager, EnumRelation.Spouse);
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isMarriedToVillager", isMarriedToVillager));
+				markFieldDirty("isMarriedToVillager");
 				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFamilyTree(getEntityId(), familyTree));
 
 				nearestVillager.isMarriedToVillager = true;
 				nearestVillager.familyTree.addFamilyTreeEntry(this, EnumRelation.Spouse);
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(nearestVillager.getEntityId(), "isMarriedToVillager", nearestVillager.isMarriedToVillager));
+				nearestVillager.markFieldDirty("isMarriedToVillager");
 				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFamilyTree(nearestVillager.getEntityId(), nearestVillager.familyTree));
 
 				//Check if the now-spouse is a player child for achievement.
@@ -1957,11 +2259,11 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 					familyTree.addFamilyTreeEntry(player, EnumRelation.Spouse);
 
 					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFamilyTree(getEntityId(), familyTree));
-					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isEngaged", isEngaged));
+					markFieldDirty("isEngaged");
 
 					MCA.getInstance().getWorldProperties(manager).playerSpouseID = mcaID;
 					MCA.getInstance().getWorldProperties(manager).isEngaged = true;
-					manager.saveWorldProperties();
+					MCA.getInstance().worldPropertiesStore.save(manager);
 				}
 
 				else
@@ -2028,14 +2330,14 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 					MCA.getInstance().getWorldProperties(manager).playerSpouseID = mcaID;
 					MCA.getInstance().getWorldProperties(manager).isEngaged = false;
-					manager.saveWorldProperties();
+					MCA.getInstance().worldPropertiesStore.save(manager);
 
 					isMarriedToPlayer = true;
 					spousePlayerName = player.getCommandSenderName();
 					familyTree.addFamilyTreeEntry(player, EnumRelation.Spouse);
 
-					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isMarriedToPlayer", isMarriedToPlayer));
-					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "spousePlayerName", spousePlayerName));
+					markFieldDirty("isMarriedToPlayer");
+					markFieldDirty("spousePlayerName");
 					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFamilyTree(getEntityId(), familyTree));
 
 					player.triggerAchievement(MCA.getInstance().achievementGetMarried);
@@ -2063,7 +2365,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 						}
 
 						MCA.packetHandler.sendPacketToAllPlayers(new PacketOnEngagement(getEntityId()));
-						MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isEngaged", isEngaged));
+						markFieldDirty("isEngaged");
 					}
 				}
 			}
@@ -2126,9 +2428,9 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 					//This couple doesn't have a baby.
 				{
 					isProcreatingWithVillager = true;
-					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isProcreatingWithVillager", isProcreatingWithVillager));
+					markFieldDirty("isProcreatingWithVillager");
 					nearestVillager.isProcreatingWithVillager = true;
-					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(nearestVillager.getEntityId(), "isProcreatingWithVillager", nearestVillager.isProcreatingWithVillager));
+					nearestVillager.markFieldDirty("isProcreatingWithVillager");
 
 					//Remove two cakes.
 					for (int loops = 0; loops < 2; loops++)
@@ -2207,15 +2509,19 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 			tickMarkerBaby.reset();
 
 			//Send to clients.
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isHeldBabyMale", isHeldBabyMale));
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "hasBaby", hasBaby));
+			markFieldDirty("isHeldBabyMale");
+			markFieldDirty("hasBaby");
 
 			//Check for achievement.
 			final EntityPlayer player = worldObj.getPlayerEntityByName(lastInteractingPlayer);
 
 			if (player != null)
 			{
-				switch (child.generation)
+				//Count the generations down from the player through the child's parents, falling back to the stored
+				//generation when an ancestor in between has not been loaded since the server started.
+				final int generationsFromPlayer = MCA.getInstance().relationshipGraph.getGenerationsBetween(child.mcaID, MCA.getInstance().getIdOfPlayer(player), 12);
+
+				switch (generationsFromPlayer >= 2 ? generationsFromPlayer - 2 : child.generation)
 				{
 				case 0:
 					player.triggerAchievement(MCA.getInstance().achievementHaveGrandchild);
@@ -2275,14 +2581,14 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 								heldBabyProfession = spouse.profession;
 								tickMarkerBaby = new TickMarkerBaby(this, Time.MINUTE * MCA.getInstance().getModProperties().babyGrowUpTimeMinutes);
 
-								MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isHeldBabyMale", isHeldBabyMale));
-								MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "hasBaby", hasBaby));
+								markFieldDirty("isHeldBabyMale");
+								markFieldDirty("hasBaby");
 							}
 						}
 
 						procreateTicks = 0;
 						isProcreatingWithVillager = false;
-						MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isProcreatingWithVillager", isProcreatingWithVillager));
+						markFieldDirty("isProcreatingWithVillager");
 						MCA.packetHandler.sendPacketToAllPlayers(new PacketStopJumping(getEntityId()));
 					}
 
@@ -2389,7 +2695,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 				final WorldPropertiesManager worldManager = MCA.getInstance().playerWorldManagerMap.get(player.getCommandSenderName());
 				final WorldPropertiesList properties = MCA.getInstance().getWorldProperties(worldManager);
 				properties.playerSpouseID = 0;
-				worldManager.saveWorldProperties();
+				MCA.getInstance().worldPropertiesStore.save(worldManager);
 
 				modifyHearts(player, -200);
 				modifyMoodPoints(EnumMoodChangeContext.BadInteraction, 5.0F);
@@ -2415,7 +2721,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 				spousePlayerName = "";
 				familyTree.removeFamilyTreeEntry(properties.playerID);
 
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "spousePlayerName", spousePlayerName));
+				markFieldDirty("spousePlayerName");
 			}
 
 			else if (isMarriedToVillager)
@@ -2431,11 +2737,11 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 			isMarriedToVillager = false;
 			isMarriageToPlayerArranged = false;
 
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "doDivorce", doDivorce));
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isFollowing", isFollowing));
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isHeldBabyMale", isHeldBabyMale));
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isMarriedToPlayer", isMarriedToPlayer));
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isMarriedToVillager", isMarriedToVillager));
+			markFieldDirty("doDivorce");
+			markFieldDirty("isFollowing");
+			markFieldDirty("isHeldBabyMale");
+			markFieldDirty("isMarriedToPlayer");
+			markFieldDirty("isMarriedToVillager");
 			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFamilyTree(getEntityId(), familyTree));
 		}
 	}
@@ -2455,7 +2761,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 				if (player != null && memory.isInGiftMode && getDistanceToEntity(player) > 10.0F || player == null && memory.isInGiftMode)
 				{
 					memory.isInGiftMode = false;
-					MCA.packetHandler.sendPacketToPlayer(new PacketSetFieldValue(getEntityId(), "playerMemoryMap", playerMemoryMap), (EntityPlayerMP) player);
+					syncPlayerMemory(player);
 				}
 			}
 		}
@@ -2475,7 +2781,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 				isSleeping = false;
 				hasTeleportedHome = false;
 				modifyMoodPoints(EnumMoodChangeContext.MoodCycle, 0);
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isSleeping", isSleeping));
+				markFieldDirty("isSleeping");
 			}
 
 			else if (!isSleeping && !serverWorldObj.isDaytime() && !hasTeleportedHome) //Going to sleep.
@@ -2490,7 +2796,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 				else
 				{
-					spawnAtHomePoint();
+					HomecomingScheduler.forWorld(worldObj).enqueue(this);
 				}
 			}
 
@@ -2502,13 +2808,13 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 			if (isSleeping && !texture.contains("sleeping")) //Check for sleeping texture.
 			{
 				texture = texture.replace("/skins/", "/skins/sleeping/");
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "texture", texture));
+				markFieldDirty("texture");
 			}
 
 			else if (!isSleeping && texture.contains("sleeping")) //Replace sleeping texture with normal texture.
 			{
 				texture = texture.replace("/skins/sleeping/", "/skins/");
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "texture", texture));
+				markFieldDirty("texture");
 			}
 		}
 	}
@@ -2521,8 +2827,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 			if (bed != null)
 			{
-				bed.setIsVillagerSleepingIn(false);
-				bed.setSleepingVillagerId(-1);
+				bed.release(mcaID);
 			}
 		}
 
@@ -2538,10 +2843,10 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 			bedPosY = 0;
 			bedPosZ = 0;
 
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "hasBed", hasBed));
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "bedPosX", bedPosX));
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "bedPosY", bedPosY));
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "bedPosZ", bedPosZ));
+			markFieldDirty("hasBed");
+			markFieldDirty("bedPosX");
+			markFieldDirty("bedPosY");
+			markFieldDirty("bedPosZ");
 		}
 	}
 
@@ -2636,95 +2941,90 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 	}
 
 	/**
-	 * Handles greeting a player.
+	 * Handles greeting the closest player within greeting distance.
 	 */
 	private void updateGreeting()
 	{
-		if (!worldObj.isRemote && !isInChoreMode && !isFollowing && !name.equals(""))
+		if (!worldObj.isRemote && !isInChoreMode && !isFollowing && !isSleeping && !name.equals(""))
 		{
-			final EntityPlayer nearestPlayer = worldObj.getClosestPlayer(posX, posY, posZ, -1);
+			final EntityPlayer nearestPlayer = PlayerProximityIndex.forWorld(worldObj).getClosestPlayer(posX, posY, posZ, Constants.GREETING_DISTANCE);
 
 			if (nearestPlayer != null)
 			{
-				if (!playerMemoryMap.containsKey(nearestPlayer.getCommandSenderName()))
+				PlayerMemory memory = playerMemoryMap.get(nearestPlayer.getCommandSenderName());
+
+				if (memory == null)
 				{
-					playerMemoryMap.put(nearestPlayer.getCommandSenderName(), new PlayerMemory(nearestPlayer.getCommandSenderName()));
+					memory = new PlayerMemory(nearestPlayer.getCommandSenderName());
+					playerMemoryMap.put(nearestPlayer.getCommandSenderName(), memory);
 				}
 
-				for (final PlayerMemory memory : playerMemoryMap.values())
+				final long worldTime = worldObj.getTotalWorldTime();
+				memory.lastSeenTime = worldTime;
+
+				if (worldTime >= memory.nextGreetingTime && canEntityBeSeen(nearestPlayer))
 				{
-					if (memory.greetingTicks < 2000)
-					{
-						memory.greetingTicks++;
-					}
+					memory.nextGreetingTime = worldTime + Constants.GREETING_COOLDOWN_TICKS;
 
-					else
+					if (Utility.getBooleanWithProbability(70))
 					{
-						if (!isSleeping && canEntityBeSeen(nearestPlayer) && getDistanceToEntity(nearestPlayer) <= 5.0D && nearestPlayer.getCommandSenderName().equals(memory.playerName))
+						final WorldPropertiesManager manager = MCA.getInstance().playerWorldManagerMap.get(nearestPlayer.getCommandSenderName());
+
+						if (manager != null)
 						{
-							memory.greetingTicks = 0;
+							final int hearts = getHearts(nearestPlayer);
+							lastInteractingPlayer = nearestPlayer.getCommandSenderName();
+							markFieldDirty("lastInteractingPlayer");
+
+							Utility.faceCoordinates(this, nearestPlayer.posX, nearestPlayer.posY, nearestPlayer.posZ, -10);
 
-							if (Utility.getBooleanWithProbability(70))
+							if (getCharacterType(MCA.getInstance().getIdOfPlayer(nearestPlayer)).equals("heir"))
 							{
-								final WorldPropertiesManager manager = MCA.getInstance().playerWorldManagerMap.get(nearestPlayer.getCommandSenderName());
+								say(MCA.getInstance().getLanguageLoader().getString("heir.bad.demandtribute", nearestPlayer, this, false));
+								memory.tributeRequests++;
+							}
 
-								if (manager != null)
+							else
+							{
+								if (hearts < 0)
 								{
-									final int hearts = getHearts(nearestPlayer);
-									lastInteractingPlayer = nearestPlayer.getCommandSenderName();
-									MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "lastInteractingPlayer", lastInteractingPlayer));
+									say(MCA.getInstance().getLanguageLoader().getString("greeting.hate", nearestPlayer, this, true));
+								}
 
-									Utility.faceCoordinates(this, nearestPlayer.posX, nearestPlayer.posY, nearestPlayer.posZ, -10);
+								else if (hearts >= 0 && hearts <= 25)
+								{
+									if (getCharacterType(MCA.getInstance().getIdOfPlayer(nearestPlayer)).equals("villager") && MCA.getInstance().getWorldProperties(manager).isEngaged)
+									{
+										say(MCA.getInstance().getLanguageLoader().getString("greeting.wedding", nearestPlayer, this, true));
+									}
 
-									if (getCharacterType(MCA.getInstance().getIdOfPlayer(nearestPlayer)).equals("heir"))
+									else
 									{
-										say(MCA.getInstance().getLanguageLoader().getString("heir.bad.demandtribute", nearestPlayer, this, false));
-										memory.tributeRequests++;
+										say(MCA.getInstance().getLanguageLoader().getString("greeting.basic", nearestPlayer, this, true));
+									}
+								}
+
+								else if (hearts > 25)
+								{
+									if (getCharacterType(MCA.getInstance().getIdOfPlayer(nearestPlayer)).equals("villager") && MCA.getInstance().getWorldProperties(manager).isEngaged)
+									{
+										say(MCA.getInstance().getLanguageLoader().getString("greeting.wedding", nearestPlayer, this, true));
 									}
 
 									else
 									{
-										if (hearts < 0)
-										{
-											say(MCA.getInstance().getLanguageLoader().getString("greeting.hate", nearestPlayer, this, true));
-										}
-
-										else if (hearts >= 0 && hearts <= 25)
-										{
-											if (getCharacterType(MCA.getInstance().getIdOfPlayer(nearestPlayer)).equals("villager") && MCA.getInstance().getWorldProperties(manager).isEngaged)
-											{
-												say(MCA.getInstance().getLanguageLoader().getString("greeting.wedding", nearestPlayer, this, true));
-											}
-
-											else
-											{
-												say(MCA.getInstance().getLanguageLoader().getString("greeting.basic", nearestPlayer, this, true));
-											}
-										}
-
-										else if (hearts > 25)
-										{
-											if (getCharacterType(MCA.getInstance().getIdOfPlayer(nearestPlayer)).equals("villager") && MCA.getInstance().getWorldProperties(manager).isEngaged)
-											{
-												say(MCA.getInstance().getLanguageLoader().getString("greeting.wedding", nearestPlayer, this, true));
-											}
-
-											else
-											{
-												say(MCA.getInstance().getLanguageLoader().getString("greeting.friend", nearestPlayer, this, true));
-											}
-										}
-
-										else if (hearts > 50 && getCharacterType(MCA.getInstance().getIdOfPlayer(nearestPlayer)).equals("villager") && !MCA.getInstance().getWorldProperties(manager).isEngaged && MCA.getInstance().getWorldProperties(manager).playerSpouseID == 0)
-										{
-											say(MCA.getInstance().getLanguageLoader().getString("greeting.interest", nearestPlayer, this, true));
-										}
-
-										//Increase hearts 1 to 3 points each greeting.
-										modifyHearts(nearestPlayer, worldObj.rand.nextInt(3) + 1);
-										MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "lastInteractingPlayer", lastInteractingPlayer));
+										say(MCA.getInstance().getLanguageLoader().getString("greeting.friend", nearestPlayer, this, true));
 									}
 								}
+
+								else if (hearts > 50 && getCharacterType(MCA.getInstance().getIdOfPlayer(nearestPlayer)).equals("villager") && !MCA.getInstance().getWorldProperties(manager).isEngaged && MCA.getInstance().getWorldProperties(manager).playerSpouseID == 0)
+								{
+									say(MCA.getInstance().getLanguageLoader().getString("greeting.interest", nearestPlayer, this, true));
+								}
+
+								//Increase hearts 1 to 3 points each greeting.
+								modifyHearts(nearestPlayer, worldObj.rand.nextInt(3) + 1);
+								markFieldDirty("lastInteractingPlayer");
 							}
 						}
 					}
@@ -2735,12 +3035,14 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 	/**
 	 * Handles updating idle time.
+	 * 
+	 * @param elapsedTicks The number of ticks since idle time was last updated.
 	 */
-	private void updateIdle()
+	private void updateIdle(int elapsedTicks)
 	{
 		if (!worldObj.isRemote && worldObj.provider.dimensionId == 0 && !isFollowing && profession != 5)
 		{
-			idleTicks++;
+			idleTicks += elapsedTicks;
 
 			if (idleTicks >= Time.MINUTE * 1 && !worldObj.isDaytime())
 			{
@@ -2754,7 +3056,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 				{
 					if (!hasTeleportedHome)
 					{
-						spawnAtHomePoint();
+						HomecomingScheduler.forWorld(worldObj).enqueue(this);
 					}
 				}
 			}
@@ -2763,8 +3065,10 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 	/**
 	 * Handles health regeneration.
+	 * 
+	 * @param elapsedTicks The number of ticks since healing was last updated.
 	 */
-	private void updateHealing()
+	private void updateHealing(int elapsedTicks)
 	{
 		if (!worldObj.isRemote)
 		{
@@ -2786,7 +3090,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 				else
 				{
-					healthRegenerationTicks++;
+					healthRegenerationTicks += elapsedTicks;
 				}
 			}
 
@@ -2806,7 +3110,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 			else
 			{
-				eatingTicks++;
+				eatingTicks += elapsedTicks;
 			}
 		}
 	}
@@ -2852,7 +3156,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 			else if (chore.hasBegun)
 			{
-				chore.runChoreAI();
+				runChoreAI(chore);
 			}
 
 			else
@@ -2863,7 +3167,27 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 		else
 		{
-			combatChore.runChoreAI();
+			runChoreAI(combatChore);
+		}
+	}
+
+	/**
+	 * Runs a chore's AI, measuring how long it takes if the tick profiler is on.
+	 * 
+	 * @param chore The chore to run.
+	 */
+	private void runChoreAI(AbstractChore chore)
+	{
+		if (!worldObj.isRemote && MCA.getInstance().tickProfiler.isEnabled())
+		{
+			final long startTime = System.nanoTime();
+			chore.runChoreAI();
+			MCA.getInstance().tickProfiler.recordChore(chore, System.nanoTime() - startTime);
+		}
+
+		else
+		{
+			chore.runChoreAI();
 		}
 	}
 
@@ -2899,9 +3223,10 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 	/**
 	 * Updates fields having to do with players that are monarchs.
 	 * 
+	 * @param elapsedTicks The number of ticks since monarchs were last updated.
 	 * @category Needs Repair
 	 */
-	private void updateMonarchs()
+	private void updateMonarchs(int elapsedTicks)
 	{
 		//TODO
 		//First check if they've been executed.
@@ -2917,16 +3242,16 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 		{
 			for (final Map.Entry<String, PlayerMemory> entry : playerMemoryMap.entrySet())
 			{
-				final WorldPropertiesManager manager = MCA.getInstance().playerWorldManagerMap.get(entry.getKey());
+				final WorldPropertiesIndex.Entry indexEntry = MCA.getInstance().worldPropertiesIndex.getEntry(entry.getKey());
 
-				if (manager != null)
+				if (indexEntry != null)
 				{
 					final PlayerMemory memory = entry.getValue();
 
 					if (memory != null)
 					{
 						//Check if they're acknowledged as a monarch.
-						if (memory.hasBoostedHearts && !MCA.getInstance().getWorldProperties(manager).isMonarch)
+						if (memory.hasBoostedHearts && !indexEntry.isMonarch)
 						{
 							//The player is no longer a monarch.
 							memory.hasBoostedHearts = false;
@@ -2946,7 +3271,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 							//Check if this person is the player's heir.
 							if (this instanceof EntityPlayerChild)
 							{
-								if (MCA.getInstance().getWorldProperties(manager).heirId == mcaID)
+								if (indexEntry.heirId == mcaID)
 								{
 									doActAsHeir = true;
 
@@ -2956,7 +3281,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 										//isGoodHeir = Utility.getBooleanWithProbability(90);
 
 										isGoodHeir = true;
-										MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "isGoodHeir", isGoodHeir));
+										markFieldDirty("isGoodHeir");
 									}
 
 									//Add kings armor.
@@ -2980,7 +3305,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 							}
 						}
 
-						else if (!memory.hasBoostedHearts && MCA.getInstance().getWorldProperties(manager).isMonarch)
+						else if (!memory.hasBoostedHearts && indexEntry.isMonarch)
 						{
 							memory.hasBoostedHearts = true;
 							memory.hearts = 100;
@@ -2995,7 +3320,7 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 						else
 						{
-							memory.monarchResetTicks--;
+							memory.monarchResetTicks -= elapsedTicks;
 						}
 					}
 				}
@@ -3005,8 +3330,10 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 
 	/**
 	 * Updates the villager's mood and assigns a trait if one has not been assigned.
+	 * 
+	 * @param elapsedTicks The number of ticks since the mood was last updated.
 	 */
-	private void updateMood()
+	private void updateMood(int elapsedTicks)
 	{
 		if (worldObj.isRemote && !(getInstanceOfCurrentChore() instanceof ChoreHunting))
 		{
@@ -3104,122 +3431,158 @@ public abstract class AbstractEntity extends AbstractSerializableEntity implemen
 			{
 				trait = EnumTrait.values()[rand.nextInt(EnumTrait.values().length - 1) + 1];
 				traitId = trait.getId();
-				MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "traitId", traitId));
+				markFieldDirty("traitId");
 			}
 
-			if (worldObj.getWorldTime() % 600 == 0 || moodUpdateTicks != 0)
+			if (moodCycleTicks == -1)
 			{
-				if (moodUpdateTicks == moodUpdateDeviation)
-				{
-					final boolean doRandomCycle = worldObj.rand.nextBoolean() && worldObj.rand.nextBoolean() && worldObj.rand.nextBoolean();
-					final float positiveCooldown = trait.getPositiveCooldownModifier();
-					final float negativeCooldown = trait.getNegativeCooldownModifier();
-					final boolean doModifyAnger = moodPointsAnger > 0.0F;
-					final boolean doModifyHappy = moodPointsHappy > 0.0F;
-					final boolean doModifySad = moodPointsSad > 0.0F;
+				//Spread the first cycle of villagers loaded together across the whole interval.
+				final int hash = getEntityId() * 0x9E3779B9;
+				moodCycleTicks = ((hash ^ hash >>> 16) & 0x7FFFFFFF) % 600;
+			}
 
-					if (!isSleeping && doRandomCycle)
-					{
-						modifyMoodPoints(EnumMoodChangeContext.MoodCycle, 0);
-					}
+			moodCycleTicks -= elapsedTicks;
 
-					//Update interaction fatigue on all memories.
-					for (final PlayerMemory memory : playerMemoryMap.values())
-					{
-						memory.interactionFatigue = 0;
-					}
+			if (moodCycleTicks <= 0)
+			{
+				final boolean doRandomCycle = worldObj.rand.nextBoolean() && worldObj.rand.nextBoolean() && worldObj.rand.nextBoolean();
+				final float positiveCooldown = trait.getPositiveCooldownModifier();
+				final float negativeCooldown = trait.getNegativeCooldownModifier();
+				final boolean doModifyAnger = moodPointsAnger > 0.0F;
+				final boolean doModifyHappy = moodPointsHappy > 0.0F;
+				final boolean doModifySad = moodPointsSad > 0.0F;
 
-					//Do natural mood cooldowns.
-					if (doModifyAnger)
-					{
-						moodPointsAnger -= negativeCooldown;
+				if (!isSleeping && doRandomCycle)
+				{
+					modifyMoodPoints(EnumMoodChangeContext.MoodCycle, 0);
+				}
 
-						if (moodPointsAnger < 0.0F)
-						{
-							moodPointsAnger = 0.0F;
-						}
+				//Update interaction fatigue on all memories.
+				for (final PlayerMemory memory : playerMemoryMap.values())
+				{
+					memory.interactionFatigue = 0;
+				}
 
-						MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "moodPointsAnger", moodPointsAnger));
-					}
+				//Do natural mood cooldowns.
+				if (doModifyAnger)
+				{
+					moodPointsAnger -= negativeCooldown;
 
-					if (doModifyHappy)
+					if (moodPointsAnger < 0.0F)
 					{
-						moodPointsHappy -= positiveCooldown;
-
-						if (moodPointsHappy < 0.0F)
-						{
-							moodPointsHappy = 0.0F;
-						}
-
-						MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "moodPointsHappy", moodPointsHappy));
+						moodPointsAnger = 0.0F;
 					}
 
-					if (doModifySad)
-					{
-						moodPointsSad -= negativeCooldown;
+					markFieldDirty("moodPointsAnger");
+				}
 
-						if (moodPointsSad < 0.0F)
-						{
-							moodPointsSad = 0.0F;
-						}
+				if (doModifyHappy)
+				{
+					moodPointsHappy -= positiveCooldown;
 
-						MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "moodPointsSad", moodPointsSad));
+					if (moodPointsHappy < 0.0F)
+					{
+						moodPointsHappy = 0.0F;
 					}
 
-					//Assign different update deviation and reset.
-					moodUpdateDeviation = worldObj.rand.nextInt(50) + worldObj.rand.nextInt(50);
-					moodUpdateTicks = 0;
-					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "playerMemoryMap", playerMemoryMap));
+					markFieldDirty("moodPointsHappy");
 				}
 
-				else
+				if (doModifySad)
 				{
-					moodUpdateTicks++;
+					moodPointsSad -= negativeCooldown;
+
+					if (moodPointsSad < 0.0F)
+					{
+						moodPointsSad = 0.0F;
+					}
+
+					markFieldDirty("moodPointsSad");
 				}
+
+				//Wait for the next cycle with a different deviation. The previous deviation is taken back out so that
+				//cycles still run every 600 ticks on average, and ticks run over by this cycle are carried forward.
+				final int nextDeviation = worldObj.rand.nextInt(50) + worldObj.rand.nextInt(50);
+				moodCycleTicks += 600 - moodCycleDeviation + nextDeviation;
+				moodCycleDeviation = nextDeviation;
+				setMoodByMoodPoints(false);
+				syncPlayerMemories();
 			}
 		}
 	}
 
 	/**
-	 * Updates the amount of time the entity has been working.
+	 * Called by the minute clock of the entity's side once a minute while the entity is loaded.
+	 * 
+	 * @param minute The new minute, counted since the epoch.
 	 */
-	private void updateWorkTime()
+	@Override
+	public void onMinuteElapsed(long minute)
 	{
-		if (!worldObj.isRemote)
+		//Entities that have died or been unloaded may not have been collected yet.
+		if (isDead || worldObj.getEntityByID(getEntityId()) != this)
 		{
-			workCurrentMinutes = Calendar.getInstance().get(Calendar.MINUTE);
-
-			if (workCurrentMinutes > workPrevMinutes || workCurrentMinutes == 0 && workPrevMinutes == 59)
-			{
-				workPrevMinutes = workCurrentMinutes;
+			MinuteClock.forWorld(worldObj).unsubscribe(this);
+		}
 
-				boolean hasChanged = false;
+		else
+		{
+			updateEveryMinute(minute);
+		}
+	}
 
-				for (final PlayerMemory memory : playerMemoryMap.values())
-				{
-					if (memory.isHired)
-					{
-						memory.minutesSinceHired++;
+	/**
+	 * Runs once a minute while the entity is loaded.
+	 * 
+	 * @param minute The new minute, counted since the epoch.
+	 */
+	protected void updateEveryMinute(long minute)
+	{
+		if (!worldObj.isRemote)
+		{
+			updateHiring(minute);
+		}
+	}
 
-						if (memory.minutesSinceHired / 60 >= memory.hoursHired)
-						{
-							memory.isHired = false;
-							memory.minutesSinceHired = 0;
-							memory.hoursHired = 0;
-							setChoresStopped();
-							notifyPlayer(RadixCore.getPlayerByName(memory.playerName), MCA.getInstance().getLanguageLoader().getString("notify.hiring.complete", null, this, false));
-						}
+	/**
+	 * Updates the amount of time the entity has been working, ending hires whose deadline has passed.
+	 * 
+	 * @param minute The current minute of the server's minute clock.
+	 */
+	private void updateHiring(long minute)
+	{
+		boolean hasChanged = false;
 
-						hasChanged = true;
-					}
+		for (final PlayerMemory memory : playerMemoryMap.values())
+		{
+			if (memory.isHired)
+			{
+				if (memory.hireDeadlineMinute == 0)
+				{
+					//This is the first minute counted towards the time left.
+					memory.hireDeadlineMinute = minute - 1 + memory.hoursHired * 60 - memory.minutesSinceHired;
 				}
 
-				if (hasChanged)
+				memory.minutesSinceHired = (int) (memory.hoursHired * 60 - (memory.hireDeadlineMinute - minute));
+
+				if (minute >= memory.hireDeadlineMinute)
 				{
-					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "playerMemoryMap", playerMemoryMap));
+					memory.isHired = false;
+					memory.minutesSinceHired = 0;
+					memory.hoursHired = 0;
+					memory.hireDeadlineMinute = 0;
+					setChoresStopped();
+					notifyPlayer(RadixCore.getPlayerByName(memory.playerName), MCA.getInstance().getLanguageLoader().getString("notify.hiring.complete", null, this, false));
 				}
+
+				hasChanged = true;
 			}
 		}
+
+		if (hasChanged)
+		{
+			syncPlayerMemories();
+		}
 	}
 
 	/**
@@ -7,11 +7,13 @@
 
 package mca.entity;
 
-import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import mca.core.Constants;
+import mca.core.util.PatrolRoutePlanner;
+import mca.core.util.PatrolRoutePlanner.DoorRoute;
 import net.minecraft.entity.ai.EntityAIBase;
 import net.minecraft.entity.ai.RandomPositionGenerator;
 import net.minecraft.pathfinding.PathEntity;
@@ -21,16 +23,24 @@ import net.minecraft.village.Village;
 import net.minecraft.village.VillageDoorInfo;
 
 /**
- * Modified EntityAIMoveThroughVillage to allow constant patrolling.
+ * Modified EntityAIMoveThroughVillage to allow constant patrolling. Guards walk the patrol route their village shares,
+ * skipping the doors they visited most recently.
  */
 public class EntityAIPatrolVillage extends EntityAIBase
 {
+	/** The number of recently visited doors a guard skips. */
+	private static final int MAX_VISITED_DOORS = 15;
+
 	/** The guard running this AI task. */
 	private final EntityVillagerAdult guard;
 
 	private PathEntity entityPathNavigate;
 	private VillageDoorInfo doorInfo;
-	private final List doorList = new ArrayList();
+
+	/** Keys of the doors visited most recently, oldest first. */
+	private final Set<Long> visitedDoors = new LinkedHashSet<Long>();
+	private int routeIndex = -1;
+	private int routeVersion = -1;
 
 	/**
 	 * Constructor
@@ -50,19 +60,21 @@ public class EntityAIPatrolVillage extends EntityAIBase
 	@Override
 	public boolean shouldExecute()
 	{
-		removeNextDoor();
+		removeOldestDoor();
 
 		final Village village = guard.villageObj;
 
 		if (village != null)
 		{
-			doorInfo = getDoorInfo(village);
+			final PatrolRoutePlanner planner = PatrolRoutePlanner.forWorld(guard.worldObj);
+			final DoorRoute route = planner.getRoute(village);
+			doorInfo = getNextDoor(route);
 
 			if (doorInfo == null)
 			{
-				if (guard.villageObj.getVillageDoorInfoList().size() == doorList.size())
+				if (route.getDoorCount() == visitedDoors.size())
 				{
-					doorList.clear();
+					visitedDoors.clear();
 				}
 
 				return false;
@@ -70,10 +82,7 @@ public class EntityAIPatrolVillage extends EntityAIBase
 
 			else
 			{
-				final boolean flag = guard.getNavigator().getCanBreakDoors();
-				guard.getNavigator().setBreakDoors(false);
-				entityPathNavigate = guard.getNavigator().getPathToXYZ(doorInfo.posX, doorInfo.posY, doorInfo.posZ);
-				guard.getNavigator().setBreakDoors(flag);
+				entityPathNavigate = planner.getPathToDoor(guard, doorInfo);
 
 				if (entityPathNavigate != null)
 				{
@@ -91,6 +100,7 @@ public class EntityAIPatrolVillage extends EntityAIBase
 
 					else
 					{
+						final boolean flag = guard.getNavigator().getCanBreakDoors();
 						guard.getNavigator().setBreakDoors(false);
 						entityPathNavigate = guard.getNavigator().getPathToXYZ(vec3.xCoord, vec3.yCoord, vec3.zCoord);
 						guard.getNavigator().setBreakDoors(flag);
@@ -143,71 +153,57 @@ public class EntityAIPatrolVillage extends EntityAIBase
 	{
 		if (guard.getNavigator().noPath() || guard.getDistanceSq(doorInfo.posX, doorInfo.posY, doorInfo.posZ) < 16.0D)
 		{
-			doorList.add(doorInfo);
+			visitedDoors.add(getDoorKey(doorInfo));
 		}
 	}
 
 	/**
-	 * Gets the number and location of each door in the village.
+	 * Gets the next door along the village's patrol route that the guard has not visited recently. A guard new to the
+	 * route, or whose village's doors have changed, starts from the door closest to them.
 	 * 
-	 * @param village An instance of the village this AI is running in.
-	 * @return VillageDoorInfo object containing
+	 * @param route The patrol route of the guard's village.
+	 * @return The door to patrol to next, or null if every door in the route was visited recently.
 	 */
-	private VillageDoorInfo getDoorInfo(Village village)
+	private VillageDoorInfo getNextDoor(DoorRoute route)
 	{
-		VillageDoorInfo villagedoorinfo = null;
-		int i = Integer.MAX_VALUE;
-		final List list = village.getVillageDoorInfoList();
-		final Iterator iterator = list.iterator();
+		final int doorCount = route.getDoorCount();
+
+		if (routeVersion != route.getVersion() || routeIndex < 0 || routeIndex >= doorCount)
+		{
+			routeVersion = route.getVersion();
+			routeIndex = route.getClosestDoorIndex(MathHelper.floor_double(guard.posX), MathHelper.floor_double(guard.posY), MathHelper.floor_double(guard.posZ));
+		}
 
-		while (iterator.hasNext())
+		for (int step = 0; step < doorCount; step++)
 		{
-			final VillageDoorInfo villagedoorinfo1 = (VillageDoorInfo) iterator.next();
-			final int j = villagedoorinfo1.getDistanceSquared(MathHelper.floor_double(guard.posX), MathHelper.floor_double(guard.posY), MathHelper.floor_double(guard.posZ));
+			final int index = (routeIndex + step) % doorCount;
+			final VillageDoorInfo door = route.getDoor(index);
 
-			if (j < i && !func_75413_a(villagedoorinfo1))
+			if (!visitedDoors.contains(getDoorKey(door)))
 			{
-				villagedoorinfo = villagedoorinfo1;
-				i = j;
+				routeIndex = index;
+				return door;
 			}
 		}
 
-		return villagedoorinfo;
+		return null;
 	}
 
 	/**
-	 * Unknown function.
-	 * 
-	 * @param villageDoorInfo An instance of a VillageDoorInfo object.
-	 * @return Unknown boolean.
+	 * Forgets the oldest visited door once more than the maximum have been visited, so that it may be patrolled again.
 	 */
-	private boolean func_75413_a(VillageDoorInfo villageDoorInfo)
+	private void removeOldestDoor()
 	{
-		final Iterator iterator = doorList.iterator();
-		VillageDoorInfo tempDoorInfo;
-
-		do
+		if (visitedDoors.size() > MAX_VISITED_DOORS)
 		{
-			if (!iterator.hasNext())
-			{
-				return false;
-			}
-
-			tempDoorInfo = (VillageDoorInfo) iterator.next();
+			final Iterator<Long> iterator = visitedDoors.iterator();
+			iterator.next();
+			iterator.remove();
 		}
-		while (villageDoorInfo.posX != tempDoorInfo.posX || villageDoorInfo.posY != tempDoorInfo.posY || villageDoorInfo.posZ != tempDoorInfo.posZ);
-
-		return true;
 	}
 
-	/**
-	 * Unknown purpose.
-	 */
-	private void removeNextDoor()
+	private static Long getDoorKey(VillageDoorInfo door)
 	{
-		if (doorList.size() > 15)
-		{
-			doorList.remove(0);
-		}
+		return PatrolRoutePlanner.getBlockKey(door.posX, door.posY, door.posZ);
 	}
 }
@@ -22,7 +22,6 @@ import mca.item.ItemEngagementRing;
 import mca.item.ItemVillagerEditor;
 import mca.item.ItemWeddingRing;
 import mca.network.packets.PacketOpenGui;
-import mca.network.packets.PacketSetFieldValue;
 import mca.network.packets.PacketSetInventory;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.ai.EntityAIMoveTowardsRestriction;
@@ -302,7 +301,7 @@ public class EntityPlayerChild extends AbstractChild
 						name = itemStack.getDisplayName();
 						Utility.removeItemFromPlayer(itemStack, player);
 
-						MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "name", name));
+						markFieldDirty("name");
 					}
 
 					return true;
@@ -427,7 +426,7 @@ public class EntityPlayerChild extends AbstractChild
 				else if (itemStack.getItem() instanceof ItemAppleGold)
 				{
 					age += LogicHelper.getNumberInRange(30, 90);
-					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "age", age));
+					markFieldDirty("age");
 				}
 
 				else
@@ -435,7 +434,7 @@ public class EntityPlayerChild extends AbstractChild
 					doGift(itemStack, player);
 				}
 
-				MCA.packetHandler.sendPacketToPlayer(new PacketSetFieldValue(getEntityId(), "playerMemoryMap", playerMemoryMap), (EntityPlayerMP) player);
+				syncPlayerMemory(player);
 			}
 		}
 
@@ -607,7 +606,7 @@ public class EntityPlayerChild extends AbstractChild
 						Utility.removeItemFromPlayer(itemStack, player);
 
 						MCA.getInstance().getWorldProperties(manager).heirId = mcaID;
-						manager.saveWorldProperties();
+						MCA.getInstance().worldPropertiesStore.save(manager);
 
 						MCA.packetHandler.sendPacketToServer(new PacketSetInventory(getEntityId(), inventory));
 						notifyPlayer(player, MCA.getInstance().getLanguageLoader().getString("heir.set.success", null, this, false));
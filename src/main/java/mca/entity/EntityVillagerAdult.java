@@ -7,8 +7,6 @@
 
 package mca.entity;
 
-import java.util.Map;
-
 import mca.api.registries.VillagerRegistryMCA;
 import mca.api.villagers.AbstractVillagerPlugin;
 import mca.chore.AbstractChore;
@@ -21,6 +19,7 @@ import mca.chore.ChoreWoodcutting;
 import mca.core.Constants;
 import mca.core.MCA;
 import mca.core.util.Utility;
+import mca.core.util.VillageCensus;
 import mca.core.util.object.PlayerMemory;
 import mca.core.util.object.VillageHelper;
 import mca.enums.EnumRelation;
@@ -31,7 +30,6 @@ import mca.item.ItemLostRelativeDocument;
 import mca.item.ItemVillagerEditor;
 import mca.item.ItemWeddingRing;
 import mca.network.packets.PacketOpenGui;
-import mca.network.packets.PacketSetFieldValue;
 import mca.network.packets.PacketSetInventory;
 import net.minecraft.block.Block;
 import net.minecraft.entity.EntityLivingBase;
@@ -291,25 +289,24 @@ public class EntityVillagerAdult extends AbstractEntity
 
 		isFollowing = false;
 
-		for (final Map.Entry<String, WorldPropertiesManager> entry : MCA.getInstance().playerWorldManagerMap.entrySet())
+		if (isMarriedToPlayer || isEngaged)
 		{
-			final WorldPropertiesManager manager = entry.getValue();
-			boolean propertiesChanged = false;
-
-			if ((isMarriedToPlayer || isEngaged) && MCA.getInstance().getWorldProperties(manager).playerSpouseID == mcaID)
+			//Only the players the index lists as this villager's spouse need their properties loaded.
+			for (final String playerName : MCA.getInstance().worldPropertiesIndex.getPlayersWithSpouse(mcaID))
 			{
-				propertiesChanged = true;
-				MCA.getInstance().getWorldProperties(manager).playerSpouseID = 0;
+				final WorldPropertiesManager manager = MCA.getInstance().getWorldPropertiesManager(playerName);
 
-				if (inventory.contains(MCA.getInstance().itemBabyBoy) || inventory.contains(MCA.getInstance().itemBabyGirl))
+				if (manager != null && MCA.getInstance().getWorldProperties(manager).playerSpouseID == mcaID)
 				{
-					MCA.getInstance().getWorldProperties(manager).babyExists = false;
-				}
-			}
+					MCA.getInstance().getWorldProperties(manager).playerSpouseID = 0;
 
-			if (propertiesChanged)
-			{
-				manager.saveWorldProperties();
+					if (inventory.contains(MCA.getInstance().itemBabyBoy) || inventory.contains(MCA.getInstance().itemBabyGirl))
+					{
+						MCA.getInstance().getWorldProperties(manager).babyExists = false;
+					}
+
+					MCA.getInstance().worldPropertiesStore.save(manager);
+				}
 			}
 		}
 	}
@@ -537,7 +534,7 @@ public class EntityVillagerAdult extends AbstractEntity
 						name = itemStack.getDisplayName();
 						Utility.removeItemFromPlayer(itemStack, player);
 
-						MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "name", name));
+						markFieldDirty("name");
 					}
 
 					return true;
@@ -650,7 +647,7 @@ public class EntityVillagerAdult extends AbstractEntity
 					doGift(itemStack, player);
 				}
 
-				MCA.packetHandler.sendPacketToPlayer(new PacketSetFieldValue(getEntityId(), "playerMemoryMap", playerMemoryMap), (EntityPlayerMP) player);
+				syncPlayerMemory(player);
 			}
 		}
 
@@ -728,14 +725,14 @@ public class EntityVillagerAdult extends AbstractEntity
 	 */
 	private void updateVillage()
 	{
-		if (villageObj != null && villageHelper == null)
+		if (!worldObj.isRemote)
 		{
-			villageHelper = new VillageHelper(villageObj, worldObj);
-		}
+			villageHelper = VillageCensus.forWorld(worldObj).getVillageHelper(this);
 
-		if (villageHelper != null)
-		{
-			villageHelper.tick();
+			if (villageHelper != null)
+			{
+				villageHelper.tick();
+			}
 		}
 	}
 }
@@ -14,7 +14,6 @@ import mca.core.util.object.PlayerMemory;
 import mca.enums.EnumRelation;
 import mca.item.ItemVillagerEditor;
 import mca.network.packets.PacketOpenGui;
-import mca.network.packets.PacketSetFieldValue;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.ai.EntityAIAvoidEntity;
 import net.minecraft.entity.ai.EntityAIMoveTowardsRestriction;
@@ -172,7 +171,7 @@ public class EntityVillagerChild extends AbstractChild
 				if (itemStack.getItem() instanceof ItemAppleGold)
 				{
 					age += LogicHelper.getNumberInRange(30, 90);
-					MCA.packetHandler.sendPacketToAllPlayers(new PacketSetFieldValue(getEntityId(), "age", age));
+					markFieldDirty("age");
 				}
 
 				else
@@ -180,7 +179,7 @@ public class EntityVillagerChild extends AbstractChild
 					doGift(itemStack, player);
 				}
 
-				MCA.packetHandler.sendPacketToPlayer(new PacketSetFieldValue(getEntityId(), "playerMemoryMap", playerMemoryMap), (EntityPlayerMP) player);
+				syncPlayerMemory(player);
 			}
 		}
 
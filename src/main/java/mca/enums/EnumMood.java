@@ -19,6 +19,18 @@ public enum EnumMood
 {
 	Ecstatic("mood.happy.ecstatic"), Cheerful("mood.happy.cheerful"), Happy("mood.happy.happy"), Fine("mood.happy.fine"), Okay("mood.happy.okay"), Passive("mood.neutral.passive"), Blue("mood.sadness.blue"), Unhappy("mood.sadness.unhappy"), Sad("mood.sadness.sad"), Cheerless("mood.sadness.cheerless"), Depressed("mood.sadness.depressed"), Annoyed("mood.anger.annoyed"), Agitated("mood.anger.agitated"), Mad("mood.anger.mad"), Seething("mood.anger.seething"), Infuriated("mood.anger.infuriated");
 
+	/** Index of happy moods in the mood table. */
+	public static final int TYPE_HAPPY = 0;
+
+	/** Index of sad moods in the mood table. */
+	public static final int TYPE_SADNESS = 1;
+
+	/** Index of angry moods in the mood table. */
+	public static final int TYPE_ANGER = 2;
+
+	/** The mood of each type for each whole number of mood points from 0 to 5. */
+	private static final EnumMood[][] MOODS_BY_LEVEL = { { Okay, Okay, Fine, Happy, Cheerful, Ecstatic }, { Blue, Blue, Unhappy, Sad, Cheerless, Depressed }, { Annoyed, Annoyed, Agitated, Mad, Seething, Infuriated } };
+
 	private String value;
 
 	/**
@@ -42,35 +54,7 @@ public enum EnumMood
 	{
 		if (moodType.equals("happy"))
 		{
-			if (moodValue < 1.0F)
-			{
-				return Okay;
-			}
-
-			else if (moodValue >= 1.0F && moodValue < 2.0F)
-			{
-				return Okay;
-			}
-
-			else if (moodValue >= 2.0F && moodValue < 3.0F)
-			{
-				return Fine;
-			}
-
-			else if (moodValue >= 3.0F && moodValue < 4.0F)
-			{
-				return Happy;
-			}
-
-			else if (moodValue >= 4.0F && moodValue < 5.0F)
-			{
-				return Cheerful;
-			}
-
-			else
-			{
-				return Ecstatic;
-			}
+			return getMoodByPointValue(TYPE_HAPPY, moodValue);
 		}
 
 		else if (moodType.equals("neutral"))
@@ -80,68 +64,12 @@ public enum EnumMood
 
 		else if (moodType.equals("sadness"))
 		{
-			if (moodValue < 1.0F)
-			{
-				return Blue;
-			}
-
-			else if (moodValue >= 1.0F && moodValue < 2.0F)
-			{
-				return Blue;
-			}
-
-			else if (moodValue >= 2.0F && moodValue < 3.0F)
-			{
-				return Unhappy;
-			}
-
-			else if (moodValue >= 3.0F && moodValue < 4.0F)
-			{
-				return Sad;
-			}
-
-			else if (moodValue >= 4.0F && moodValue < 5.0F)
-			{
-				return Cheerless;
-			}
-
-			else
-			{
-				return Depressed;
-			}
+			return getMoodByPointValue(TYPE_SADNESS, moodValue);
 		}
 
 		else if (moodType.equals("anger"))
 		{
-			if (moodValue < 1.0F)
-			{
-				return Annoyed;
-			}
-
-			else if (moodValue >= 1.0F && moodValue < 2.0F)
-			{
-				return Annoyed;
-			}
-
-			else if (moodValue >= 2.0F && moodValue < 3.0F)
-			{
-				return Agitated;
-			}
-
-			else if (moodValue >= 3.0F && moodValue < 4.0F)
-			{
-				return Mad;
-			}
-
-			else if (moodValue >= 4.0F && moodValue < 5.0F)
-			{
-				return Seething;
-			}
-
-			else
-			{
-				return Infuriated;
-			}
+			return getMoodByPointValue(TYPE_ANGER, moodValue);
 		}
 
 		else
@@ -150,6 +78,20 @@ public enum EnumMood
 		}
 	}
 
+	/**
+	 * Gets the appropriate mood for a villager from the table of moods by type and whole point value.
+	 * 
+	 * @param moodType TYPE_HAPPY, TYPE_SADNESS, or TYPE_ANGER.
+	 * @param moodValue The mood level that should be applied.
+	 * @return EnumMood of the appropriate type based on provided type and value.
+	 */
+	public static EnumMood getMoodByPointValue(int moodType, float moodValue)
+	{
+		//Values below 1 share the mood of values below 2, and values of 5 or more share the strongest mood.
+		final int level = moodValue >= 5.0F ? 5 : moodValue < 1.0F ? 0 : (int) moodValue;
+		return MOODS_BY_LEVEL[moodType][level];
+	}
+
 	/**
 	 * Gets all possible moods as a list.
 	 * 
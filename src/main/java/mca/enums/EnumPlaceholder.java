@@ -0,0 +1,410 @@
+/*******************************************************************************
+ * EnumPlaceholder.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.enums;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import mca.core.MCA;
+import mca.core.util.Utility;
+import mca.entity.AbstractChild;
+import mca.entity.AbstractEntity;
+import mca.entity.EntityPlayerChild;
+import mca.lang.ParseContext;
+import net.minecraft.client.entity.EntityOtherPlayerMP;
+
+/**
+ * The placeholders that may appear in phrases, written as the name between percent signs, and how each is resolved.
+ * A resolver returning null leaves its placeholder in the phrase.
+ */
+public enum EnumPlaceholder
+{
+	Name
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return context.entity.name;
+		}
+	},
+
+	RelationToPlayer
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return context.entity.familyTree.getMyRelationTo(context.getPlayerId()).toString();
+		}
+	},
+
+	RelationOfPlayer
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return context.entity.familyTree.getRelationOf(context.getPlayerId()).toString();
+		}
+	},
+
+	MotherName
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			final AbstractEntity entity = context.entity;
+			final List<Integer> parents = entity.familyTree.getIDsWithRelation(EnumRelation.Parent);
+
+			if (entity instanceof EntityPlayerChild)
+			{
+				//One of the parents may not be a player. Since this is a player child no further logic is required.
+				//Always use the player's name as the first name.
+				return parents.get(0) < 0 && parents.get(1) < 0 ? context.player.getCommandSenderName() : ((EntityPlayerChild) entity).ownerPlayerName;
+			}
+
+			final AbstractEntity parent1 = MCA.getInstance().entitiesMap.get(parents.get(0));
+			final AbstractEntity parent2 = MCA.getInstance().entitiesMap.get(parents.get(1));
+
+			if (parent1 == null || parent2 == null)
+			{
+				context.replaceText(MCA.getInstance().getLanguageLoader().getString("gui.info.family.parents.deceased"));
+				return null;
+			}
+
+			return parent1.isMale != parent2.isMale && parent1.isMale ? parent2.name : parent1.name;
+		}
+	},
+
+	FatherName
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			final AbstractEntity entity = context.entity;
+			final List<Integer> parents = entity.familyTree.getIDsWithRelation(EnumRelation.Parent);
+
+			if (entity instanceof EntityPlayerChild)
+			{
+				if (parents.get(0) < 0 && parents.get(1) < 0)
+				{
+					return context.getProperties().playerSpouseName;
+				}
+
+				//One of the parents is not a player. Always use the villager as the last name.
+				try
+				{
+					final AbstractEntity parent = (AbstractEntity) entity.worldObj.getEntityByID(MCA.getInstance().idsMap.get(parents.get(1)));
+					return parent.getTitle(0, false);
+				}
+
+				catch (final NullPointerException e)
+				{
+					final AbstractEntity parent = (AbstractEntity) entity.worldObj.getEntityByID(MCA.getInstance().idsMap.get(parents.get(0)));
+					return parent.getTitle(0, false);
+				}
+			}
+
+			final AbstractEntity parent1 = MCA.getInstance().entitiesMap.get(parents.get(0));
+			final AbstractEntity parent2 = MCA.getInstance().entitiesMap.get(parents.get(1));
+
+			if (parent1 == null || parent2 == null)
+			{
+				context.replaceText(MCA.getInstance().getLanguageLoader().getString("gui.info.family.parents.deceased"));
+				return null;
+			}
+
+			return parent1.isMale != parent2.isMale && parent1.isMale ? parent1.name : parent2.name;
+		}
+	},
+
+	SpouseRelation
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			final AbstractEntity spouse = context.entity.familyTree.getRelativeAsEntity(EnumRelation.Spouse);
+			return spouse.familyTree.getMyRelationTo(context.getPlayerId()).toString(spouse, spouse.isMale, true);
+		}
+	},
+
+	PlayerSpouseName
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			if (context.player instanceof EntityOtherPlayerMP)
+			{
+				return context.player.getCommandSenderName();
+			}
+
+			//Check world properties to see if the player is married to another player or an NPC.
+			else if (context.getProperties().playerSpouseID > 0)
+			{
+				//Player married to NPC, so the NPC is provided.
+				return context.entity.familyTree.getRelativeAsEntity(EnumRelation.Spouse).name;
+			}
+
+			else
+			{
+				return context.getProperties().playerSpouseName;
+			}
+		}
+	},
+
+	VillagerSpouseName
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			final AbstractEntity spouse = context.entity.familyTree.getRelativeAsEntity(EnumRelation.Spouse);
+			return spouse != null ? spouse.name : null;
+		}
+	},
+
+	SpouseFullName
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			final AbstractEntity spouse = context.entity.familyTree.getRelativeAsEntity(EnumRelation.Spouse);
+
+			//Must be a player if spouse is null. Use the value of that field.
+			return spouse != null ? spouse.getTitle(context.getPlayerId(), true) : context.entity.spousePlayerName;
+		}
+	},
+
+	Generation
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return String.valueOf(context.entity.generation);
+		}
+	},
+
+	OreType
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			final String oreName = ((AbstractChild) context.entity).miningChore.oreEntry.getOreName();
+			return MCA.getInstance().getLanguageLoader().isValidString(oreName) ? MCA.getInstance().getLanguageLoader().getString(oreName).toLowerCase() : oreName.toLowerCase();
+		}
+	},
+
+	OreDistance
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return String.valueOf(((AbstractChild) context.entity).miningChore.distanceToOre);
+		}
+	},
+
+	OreX
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return String.valueOf(((AbstractChild) context.entity).miningChore.nearestX);
+		}
+	},
+
+	OreY
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return String.valueOf(((AbstractChild) context.entity).miningChore.nearestY);
+		}
+	},
+
+	OreZ
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return String.valueOf(((AbstractChild) context.entity).miningChore.nearestZ);
+		}
+	},
+
+	ChildTitle
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return MCA.getInstance().getLanguageLoader().getString(context.entity.isMale ? "family.son" : "family.daughter");
+		}
+	},
+
+	RandomName
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return Utility.getRandomName(false);
+		}
+	},
+
+	CallPlayerParent
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return getGenderedString(context, "callplayerparent");
+		}
+	},
+
+	PlayerName
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return context.getProperties().playerName;
+		}
+	},
+
+	TruePlayerName
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return context.player.getCommandSenderName();
+		}
+	},
+
+	ParentOpposite
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return getGenderedString(context, "parentopposite");
+		}
+	},
+
+	BabyName
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return context.getProperties().babyName;
+		}
+	},
+
+	MonarchTitle
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return MCA.getInstance().getLanguageLoader().getString(context.getProperties().playerGender.equals("Male") ? "monarch.title.male.player" : "monarch.title.female.player");
+		}
+	},
+
+	MonarchPlayerName
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return context.entity.monarchPlayerName;
+		}
+	},
+
+	Trait
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			return context.entity.trait.getLocalizedValue();
+		}
+	},
+
+	LivingParent
+	{
+		@Override
+		public String resolve(ParseContext context)
+		{
+			final List<Integer> parents = context.entity.familyTree.getIDsWithRelation(EnumRelation.Parent);
+			final AbstractEntity parent1 = MCA.getInstance().entitiesMap.get(parents.get(0));
+			final AbstractEntity parent2 = MCA.getInstance().entitiesMap.get(parents.get(1));
+			AbstractEntity nonNullParent = parent1 != null ? parent1 : parent2;
+
+			if (nonNullParent == parent1 && parent1.isDead)
+			{
+				nonNullParent = parent2;
+			}
+
+			if (nonNullParent == parent2 && parent2.isDead)
+			{
+				nonNullParent = parent1;
+			}
+
+			if (!nonNullParent.isDead)
+			{
+				return nonNullParent.name;
+			}
+
+			context.replaceText(MCA.getInstance().getLanguageLoader().getString("gui.info.family.parents.deceased"));
+			return null;
+		}
+	};
+
+	private static final Map<String, EnumPlaceholder> PLACEHOLDERS_BY_NAME = new HashMap<String, EnumPlaceholder>();
+
+	private final String token = "%" + name() + "%";
+
+	/**
+	 * Gets the text that replaces this placeholder. Throws NullPointerException when the information it needs is missing.
+	 *
+	 * @param context The player and entity the phrase is parsed for.
+	 * @return The text to replace the placeholder with, or null to leave the placeholder as it is.
+	 */
+	public abstract String resolve(ParseContext context);
+
+	/**
+	 * @return The placeholder as it is written in phrases, including the percent signs.
+	 */
+	public String getToken()
+	{
+		return token;
+	}
+
+	/**
+	 * @param name The name of a placeholder, without percent signs.
+	 * @return The placeholder with the provided name, or null if there is none.
+	 */
+	public static EnumPlaceholder getByName(String name)
+	{
+		return PLACEHOLDERS_BY_NAME.get(name);
+	}
+
+	private static String getGenderedString(ParseContext context, String phraseId)
+	{
+		final String playerGender = context.getProperties().playerGender;
+		final String characterType = context.entity.getCharacterType(context.getPlayerId());
+
+		if (playerGender.equals("Male"))
+		{
+			return MCA.getInstance().getLanguageLoader().getString("parser." + characterType + "." + phraseId + ".male");
+		}
+
+		else if (playerGender.equals("Female"))
+		{
+			return MCA.getInstance().getLanguageLoader().getString("parser." + characterType + "." + phraseId + ".female");
+		}
+
+		return null;
+	}
+
+	static
+	{
+		for (final EnumPlaceholder placeholder : values())
+		{
+			PLACEHOLDERS_BY_NAME.put(placeholder.name(), placeholder);
+		}
+	}
+}
@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * EnumUpdatePhase.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.enums;
+
+/**
+ * Defines the phases of an MCA entity's update and how often, in ticks, each one runs on the server.
+ * Phases with a cadence of 1 run every tick. All phases run every tick on the client.
+ */
+public enum EnumUpdatePhase
+{
+	GiftMode(20), Sleeping(20), Movement(1), Greeting(10), Idle(20), Healing(10), Swinging(1), Chores(1), Retaliation(1), Monarchs(20), Mood(20), Divorce(10), ProcreationWithPlayer(1), ProcreationWithVillager(1), Census(100), MemoryExpiry(1200);
+
+	private int cadence;
+
+	private EnumUpdatePhase(int cadence)
+	{
+		this.cadence = cadence;
+	}
+
+	public int getCadence()
+	{
+		return cadence;
+	}
+}
@@ -79,7 +79,7 @@ public abstract class AbstractBaby extends Item
 				MCA.getInstance().getWorldProperties(manager).babyReadyToGrow = false;
 				MCA.getInstance().getWorldProperties(manager).babyIsMale = false;
 				MCA.getInstance().getWorldProperties(manager).minutesBabyExisted = 0;
-				manager.saveWorldProperties();
+				MCA.getInstance().worldPropertiesStore.save(manager);
 
 				//Check if married to another player.
 				if (MCA.getInstance().getWorldProperties(manager).playerSpouseID < 0)
@@ -90,8 +90,8 @@ public abstract class AbstractBaby extends Item
 
 					if (spouseEntity == null)
 					{
-						//Properties for player will still be loaded when they are not logged in.
-						spouseManager = MCA.getInstance().playerWorldManagerMap.get(MCA.getInstance().getWorldProperties(manager).playerSpouseName);
+						//Properties for player are loaded from disk when they are not logged in.
+						spouseManager = MCA.getInstance().getWorldPropertiesManager(MCA.getInstance().getWorldProperties(manager).playerSpouseName);
 					}
 
 					else
@@ -104,7 +104,7 @@ public abstract class AbstractBaby extends Item
 					MCA.getInstance().getWorldProperties(spouseManager).babyReadyToGrow = false;
 					MCA.getInstance().getWorldProperties(spouseManager).babyIsMale = false;
 					MCA.getInstance().getWorldProperties(spouseManager).minutesBabyExisted = 0;
-					spouseManager.saveWorldProperties();
+					MCA.getInstance().worldPropertiesStore.save(spouseManager);
 				}
 
 				MCA.getInstance().hasNotifiedOfBabyReadyToGrow = false;
@@ -7,8 +7,6 @@
 
 package mca.lang;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Map;
 
 import mca.core.MCA;
@@ -81,7 +79,6 @@ public class LanguageLoaderHook implements ILanguageLoaderHook
 			}
 		}
 
-		final List<String> matchingValues = new ArrayList();
 		String outputString = "";
 		elementId = elementId.toLowerCase();
 
@@ -111,30 +108,9 @@ public class LanguageLoaderHook implements ILanguageLoaderHook
 			elementId = entity.getCharacterType(MCA.getInstance().getIdOfPlayer(player)) + "." + elementId;
 		}
 
-		//Loop through each item in the string translations map.
-		for (final Map.Entry<String, String> entrySet : MCA.getInstance().getLanguageLoader().getTranslations().entrySet())
-		{
-			//Check if the entry's key contains the ID.
-			if (entrySet.getKey().contains(elementId))
-			{
-				//Then check if it completely equals the ID.
-				if (entrySet.getKey().equals(elementId))
-				{
-					//In this case, clear the values list and add only the value that equals the ID.
-					matchingValues.clear();
-					matchingValues.add(entrySet.getValue());
-					break;
-				}
-
-				else
-					//Otherwise just add the matching ID's value to the matching values list.
-				{
-					matchingValues.add(entrySet.getValue());
-				}
-			}
-		}
+		final PhraseTemplate template = MCA.getInstance().getLanguageParser().getPhraseIndex().getRandomVariant(elementId, MCA.rand);
 
-		if (matchingValues.isEmpty())
+		if (template == null)
 		{
 			outputString = "(" + elementId + " not found)";
 		}
@@ -143,7 +119,7 @@ public class LanguageLoaderHook implements ILanguageLoaderHook
 		{
 			prefix = prefix == null ? "" : prefix;
 			suffix = suffix == null ? "" : suffix;
-			outputString = prefix + MCA.getInstance().getLanguageParser().parseString(matchingValues.get(MCA.rand.nextInt(matchingValues.size())), player, entity, useCharacterType, prefix, suffix) + suffix;
+			outputString = prefix + template.render(new ParseContext(player, entity)) + suffix;
 		}
 
 		return outputString;
@@ -7,405 +7,149 @@
 
 package mca.lang;
 
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import mca.core.MCA;
-import mca.core.WorldPropertiesList;
-import mca.core.util.Utility;
-import mca.entity.AbstractChild;
 import mca.entity.AbstractEntity;
-import mca.entity.EntityPlayerChild;
-import mca.enums.EnumRelation;
-import net.minecraft.client.entity.EntityOtherPlayerMP;
 import net.minecraft.entity.player.EntityPlayer;
 
-import com.radixshock.radixcore.file.WorldPropertiesManager;
 import com.radixshock.radixcore.lang.ILanguageParser;
-import com.radixshock.radixcore.lang.LanguageLoader;
 
 /**
- * MCA's language parser.
+ * MCA's language parser. Each phrase is compiled into a template the first time it is parsed, and the template is
+ * reused every time the phrase is parsed after that. The parser also keeps the phrase index of each language that has
+ * been loaded, and which of them is in use.
  */
 public class LanguageParser implements ILanguageParser
 {
+	private final Map<String, PhraseTemplate> templates = new ConcurrentHashMap<String, PhraseTemplate>();
+	private final Map<String, PhraseIndex> phraseIndexesByLanguage = new ConcurrentHashMap<String, PhraseIndex>();
+	private volatile PhraseIndex phraseIndex;
+	private int languagesLoaded;
+	private int phraseIndexSwaps;
+
 	@Override
 	public String parseString(String text, Object... arguments)
 	{
-		final LanguageLoader languageLoader = MCA.getInstance().getLanguageLoader();
-
-		int playerId = 0;
-		final EntityPlayer player = (EntityPlayer) arguments[0];
-		final AbstractEntity entity = (AbstractEntity) arguments[1];
+		return getTemplate(text).render(new ParseContext((EntityPlayer) arguments[0], (AbstractEntity) arguments[1]));
+	}
 
-		WorldPropertiesManager manager = null;
-		WorldPropertiesList properties = null;
+	/**
+	 * Gets the compiled template of a phrase, compiling it if it has not been compiled before.
+	 *
+	 * @param text The phrase.
+	 * @return The phrase's template.
+	 */
+	public PhraseTemplate getTemplate(String text)
+	{
+		PhraseTemplate template = templates.get(text);
 
-		if (player != null)
+		if (template == null)
 		{
-			manager = MCA.getInstance().playerWorldManagerMap.get(player.getCommandSenderName());
-
-			if (manager != null)
-			{
-				properties = (WorldPropertiesList) manager.worldPropertiesInstance;
-				playerId = MCA.getInstance().getIdOfPlayer(player);
-			}
+			template = PhraseTemplate.compile(text);
+			templates.put(text, template);
 		}
 
-		try
-		{
-			if (text.contains("%Name%"))
-			{
-				text = text.replace("%Name%", entity.name);
-			}
-
-			if (text.contains("%RelationToPlayer%"))
-			{
-				text = text.replace("%RelationToPlayer%", entity.familyTree.getMyRelationTo(playerId).toString());
-			}
-
-			if (text.contains("%RelationOfPlayer%"))
-			{
-				text = text.replace("%RelationOfPlayer%", entity.familyTree.getRelationOf(playerId).toString());
-			}
-
-			if (text.contains("%MotherName%"))
-			{
-				if (entity instanceof EntityPlayerChild)
-				{
-					final List<Integer> parents = entity.familyTree.getIDsWithRelation(EnumRelation.Parent);
-					if (parents.get(0) < 0 && parents.get(1) < 0)
-					{
-						text = text.replace("%MotherName%", player.getCommandSenderName());
-					}
-
-					//One of the parents is not a player (since this is a player child no further logic is required.)
-					//Always use the player's name as the first name.
-					else
-					{
-						text = text.replace("%MotherName%", ((EntityPlayerChild) entity).ownerPlayerName);
-					}
-				}
-
-				else
-				{
-					try
-					{
-						final List<Integer> parents = entity.familyTree.getIDsWithRelation(EnumRelation.Parent);
-						final AbstractEntity parent1 = MCA.getInstance().entitiesMap.get(parents.get(0));
-						final AbstractEntity parent2 = MCA.getInstance().entitiesMap.get(parents.get(1));
-
-						if (parent1.isMale == parent2.isMale)
-						{
-							text = text.replace("%MotherName%", parent1.name);
-						}
-
-						else if (parent1.isMale)
-						{
-							text = text.replace("%MotherName%", parent2.name);
-						}
-
-						else
-						{
-							text = text.replace("%MotherName%", parent1.name);
-						}
-					}
-
-					catch (final NullPointerException e)
-					{
-						text = languageLoader.getString("gui.info.family.parents.deceased");
-					}
-				}
-			}
-
-			if (text.contains("%FatherName%"))
-			{
-				if (entity instanceof EntityPlayerChild)
-				{
-					final List<Integer> parents = entity.familyTree.getIDsWithRelation(EnumRelation.Parent);
-
-					if (parents.get(0) < 0 && parents.get(1) < 0)
-					{
-						text = text.replace("%FatherName%", properties.playerSpouseName);
-					}
-
-					//One of the parents is not a player (since this is a player child, no further logic is required.)
-					//Always use the villager as the last name.
-					else
-					{
-						try
-						{
-							final AbstractEntity parent = (AbstractEntity) entity.worldObj.getEntityByID(MCA.getInstance().idsMap.get(parents.get(1)));
-							text = text.replace("%FatherName%", parent.getTitle(0, false));
-						}
-
-						catch (final NullPointerException e)
-						{
-							final AbstractEntity parent = (AbstractEntity) entity.worldObj.getEntityByID(MCA.getInstance().idsMap.get(parents.get(0)));
-							text = text.replace("%FatherName%", parent.getTitle(0, false));
-						}
-					}
-				}
-
-				else
-				{
-					try
-					{
-						final List<Integer> parents = entity.familyTree.getIDsWithRelation(EnumRelation.Parent);
-						final AbstractEntity parent1 = MCA.getInstance().entitiesMap.get(parents.get(0));
-						final AbstractEntity parent2 = MCA.getInstance().entitiesMap.get(parents.get(1));
-
-						if (parent1.isMale == parent2.isMale)
-						{
-							text = text.replace("%FatherName%", parent2.name);
-						}
-
-						else if (parent1.isMale)
-						{
-							text = text.replace("%FatherName%", parent1.name);
-						}
-
-						else
-						{
-							text = text.replace("%FatherName%", parent2.name);
-						}
-					}
-
-					catch (final NullPointerException e)
-					{
-						text = languageLoader.getString("gui.info.family.parents.deceased");
-					}
-				}
-			}
-
-			if (text.contains("%SpouseRelation%"))
-			{
-				final AbstractEntity spouse = entity.familyTree.getRelativeAsEntity(EnumRelation.Spouse);
-				text = text.replace("%SpouseRelation%", spouse.familyTree.getMyRelationTo(playerId).toString(spouse, spouse.isMale, true));
-			}
-
-			if (text.contains("%PlayerSpouseName%"))
-			{
-				if (player instanceof EntityOtherPlayerMP)
-				{
-					text = text.replace("%PlayerSpouseName%", player.getCommandSenderName());
-				}
-
-				//Check world properties to see if the player is married to another player or an NPC.
-				else if (MCA.getInstance().getWorldProperties(manager).playerSpouseID > 0)
-				{
-					//Player married to NPC, so the NPC is provided.
-					text = text.replace("%PlayerSpouseName%", entity.familyTree.getRelativeAsEntity(EnumRelation.Spouse).name);
-				}
-
-				else
-				{
-					text = text.replace("%PlayerSpouseName%", MCA.getInstance().getWorldProperties(manager).playerSpouseName);
-				}
-			}
-
-			if (text.contains("%VillagerSpouseName%"))
-			{
-				final AbstractEntity spouse = entity.familyTree.getRelativeAsEntity(EnumRelation.Spouse);
-
-				if (spouse != null)
-				{
-					text = text.replace("%VillagerSpouseName%", spouse.name);
-				}
-			}
-
-			if (text.contains("%SpouseFullName%"))
-			{
-				final AbstractEntity spouse = entity.familyTree.getRelativeAsEntity(EnumRelation.Spouse);
-
-				if (spouse != null)
-				{
-					text = text.replace("%SpouseFullName%", entity.familyTree.getRelativeAsEntity(EnumRelation.Spouse).getTitle(playerId, true));
-				}
-
-				else
-				{
-					//Must be a player if spouse is null. Use the value of that field.
-					text = text.replace("%SpouseFullName%", entity.spousePlayerName);
-				}
-			}
-
-			if (text.contains("%Generation%"))
-			{
-				text = text.replace("%Generation%", String.valueOf(entity.generation));
-			}
-
-			if (text.contains("%OreType%"))
-			{
-				final AbstractChild child = (AbstractChild) entity;
-
-				final String oreName = child.miningChore.oreEntry.getOreName();
-
-				if (MCA.getInstance().getLanguageLoader().isValidString(oreName))
-				{
-					text = text.replace("%OreType%", languageLoader.getString(oreName).toLowerCase());
-				}
-
-				else
-				{
-					text = text.replace("%OreType%", oreName.toLowerCase());
-				}
-			}
-
-			if (text.contains("%OreDistance%"))
-			{
-				final AbstractChild child = (AbstractChild) entity;
-				text = text.replace("%OreDistance%", String.valueOf(child.miningChore.distanceToOre));
-			}
-
-			if (text.contains("%OreX"))
-			{
-				final AbstractChild child = (AbstractChild) entity;
-				text = text.replace("%OreX%", String.valueOf(child.miningChore.nearestX));
-			}
-
-			if (text.contains("%OreY"))
-			{
-				final AbstractChild child = (AbstractChild) entity;
-				text = text.replace("%OreY%", String.valueOf(child.miningChore.nearestY));
-			}
-
-			if (text.contains("%OreZ"))
-			{
-				final AbstractChild child = (AbstractChild) entity;
-				text = text.replace("%OreZ%", String.valueOf(child.miningChore.nearestZ));
-			}
-
-			if (text.contains("%ChildTitle%"))
-			{
-				if (entity.isMale)
-				{
-					text = text.replace("%ChildTitle%", languageLoader.getString("family.son"));
-				}
-
-				else
-				{
-					text = text.replace("%ChildTitle%", languageLoader.getString("family.daughter"));
-				}
-			}
-
-			if (text.contains("%RandomName%"))
-			{
-				if (entity.isMale)
-				{
-					text = text.replace("%RandomName%", Utility.getRandomName(!entity.isMale));
-				}
-
-				else
-				{
-					text = text.replace("%RandomName%", Utility.getRandomName(entity.isMale));
-				}
-			}
-
-			if (text.contains("%CallPlayerParent%"))
-			{
-				if (MCA.getInstance().getWorldProperties(manager).playerGender.equals("Male"))
-				{
-					text = text.replace("%CallPlayerParent%", languageLoader.getString("parser." + entity.getCharacterType(playerId) + ".callplayerparent.male"));
-				}
-
-				else if (MCA.getInstance().getWorldProperties(manager).playerGender.equals("Female"))
-				{
-					text = text.replace("%CallPlayerParent%", languageLoader.getString("parser." + entity.getCharacterType(playerId) + ".callplayerparent.female"));
-				}
-			}
+		return template;
+	}
 
-			if (text.contains("%PlayerName%"))
-			{
-				final WorldPropertiesManager serverPropertiesManager = MCA.getInstance().playerWorldManagerMap.get(player.getCommandSenderName());
-				final WorldPropertiesList serverProperties = (WorldPropertiesList) serverPropertiesManager.worldPropertiesInstance;
-				text = text.replace("%PlayerName%", serverProperties.playerName);
-			}
+	/**
+	 * @return The number of phrases that have been compiled.
+	 */
+	public int getTemplateCount()
+	{
+		return templates.size();
+	}
 
-			if (text.contains("%TruePlayerName%"))
-			{
-				text = text.replace("%TruePlayerName%", player.getCommandSenderName());
-			}
+	/**
+	 * Gets the index of the phrases in use, building it from the language loader's phrases if no language has been indexed yet.
+	 *
+	 * @return The phrase index in use.
+	 */
+	public PhraseIndex getPhraseIndex()
+	{
+		PhraseIndex index = phraseIndex;
 
-			if (text.contains("%ParentOpposite%"))
-			{
-				final WorldPropertiesManager serverPropertiesManager = MCA.getInstance().playerWorldManagerMap.get(player.getCommandSenderName());
-				final WorldPropertiesList serverProperties = (WorldPropertiesList) serverPropertiesManager.worldPropertiesInstance;
+		if (index == null)
+		{
+			index = buildPhraseIndex(MCA.getInstance().getLanguageLoader().getLanguageIDFromOptions(), MCA.getInstance().getLanguageLoader().getTranslations());
+			phraseIndex = index;
+		}
 
-				if (serverProperties.playerGender.equals("Male"))
-				{
-					text = text.replace("%ParentOpposite%", languageLoader.getString("parser." + entity.getCharacterType(playerId) + ".parentopposite.male"));
-				}
+		return index;
+	}
 
-				else if (serverProperties.playerGender.equals("Female"))
-				{
-					text = text.replace("%ParentOpposite%", languageLoader.getString("parser." + entity.getCharacterType(playerId) + ".parentopposite.female"));
-				}
-			}
+	/**
+	 * Indexes the phrases the language loader has just loaded. The first language is indexed right away. After that,
+	 * the phrases are indexed on a background thread and the previous index stays in use until the new one is ready,
+	 * unless the language was indexed before, in which case its old index is used in the meantime.
+	 *
+	 * @param languageId The ID of the language that was loaded, such as en_US.
+	 */
+	public void onLanguageLoaded(final String languageId)
+	{
+		final Map<String, String> translations = new HashMap<String, String>(MCA.getInstance().getLanguageLoader().getTranslations());
+		final int languageNumber;
 
-			if (text.contains("%BabyName%"))
-			{
-				final WorldPropertiesManager serverPropertiesManager = MCA.getInstance().playerWorldManagerMap.get(player.getCommandSenderName());
-				final WorldPropertiesList serverProperties = (WorldPropertiesList) serverPropertiesManager.worldPropertiesInstance;
-				text = text.replace("%BabyName%", serverProperties.babyName);
-			}
+		synchronized (this)
+		{
+			languageNumber = ++languagesLoaded;
+		}
 
-			if (text.contains("%MonarchTitle%"))
-			{
-				if (MCA.getInstance().getWorldProperties(manager).playerGender.equals("Male"))
-				{
-					text = text.replace("%MonarchTitle%", languageLoader.getString("monarch.title.male.player"));
-				}
+		if (phraseIndex == null)
+		{
+			phraseIndex = buildPhraseIndex(languageId, translations);
+			return;
+		}
 
-				else
-				{
-					text = text.replace("%MonarchTitle%", languageLoader.getString("monarch.title.female.player"));
-				}
-			}
+		final PhraseIndex previousIndex = phraseIndexesByLanguage.get(languageId);
 
-			if (text.contains("%MonarchPlayerName%"))
-			{
-				text = text.replace("%MonarchPlayerName%", entity.monarchPlayerName);
-			}
+		if (previousIndex != null)
+		{
+			swapPhraseIndex(previousIndex, languageNumber);
+		}
 
-			if (text.contains("%Trait%"))
+		final Thread indexerThread = new Thread(new Runnable()
+		{
+			@Override
+			public void run()
 			{
-				text = text.replace("%Trait%", entity.trait.getLocalizedValue());
+				swapPhraseIndex(buildPhraseIndex(languageId, translations), languageNumber);
 			}
+		}, "MCA Phrase Indexer");
 
-			if (text.contains("%LivingParent%"))
-			{
-				final List<Integer> parents = entity.familyTree.getIDsWithRelation(EnumRelation.Parent);
-				final AbstractEntity parent1 = MCA.getInstance().entitiesMap.get(parents.get(0));
-				final AbstractEntity parent2 = MCA.getInstance().entitiesMap.get(parents.get(1));
-				AbstractEntity nonNullParent = parent1 != null ? parent1 : parent2 != null ? parent2 : null;
-
-				if (nonNullParent == parent1 && parent1.isDead)
-				{
-					nonNullParent = parent2;
-				}
-
-				if (nonNullParent == parent2 && parent2.isDead)
-				{
-					nonNullParent = parent1;
-				}
-
-				if (!nonNullParent.isDead)
-				{
-					text = text.replace("%LivingParent%", nonNullParent.name);
-				}
+		indexerThread.setDaemon(true);
+		indexerThread.start();
+	}
 
-				else
-				{
-					text = languageLoader.getString("gui.info.family.parents.deceased");
-				}
-			}
-		}
+	/**
+	 * @return The number of times the phrase index in use was replaced by the index of a newly loaded language.
+	 */
+	public synchronized int getPhraseIndexSwaps()
+	{
+		return phraseIndexSwaps;
+	}
 
-		catch (final NullPointerException e)
+	/**
+	 * Puts an index in use, unless another language has been loaded since the index's language was.
+	 */
+	private synchronized void swapPhraseIndex(PhraseIndex index, int languageNumber)
+	{
+		if (languageNumber == languagesLoaded)
 		{
-			text += " (Parsing error)";
+			phraseIndex = index;
+			phraseIndexSwaps++;
 		}
+	}
+
+	private PhraseIndex buildPhraseIndex(String languageId, Map<String, String> translations)
+	{
+		final PhraseIndex index = PhraseIndex.build(languageId, translations);
+		phraseIndexesByLanguage.put(languageId, index);
 
-		return text;
+		MCA.getInstance().getLogger().log("Indexed " + index.getPhraseCount() + " phrases of " + languageId + " in " + index.getBuildNanos() / 1000000 + " ms.");
+		return index;
 	}
 }
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * ParseContext.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.lang;
+
+import mca.core.MCA;
+import mca.core.WorldPropertiesList;
+import mca.entity.AbstractEntity;
+import mca.enums.EnumPlaceholder;
+import net.minecraft.entity.player.EntityPlayer;
+
+import com.radixshock.radixcore.file.WorldPropertiesManager;
+
+/**
+ * The player and entity a phrase is being parsed for. The player's properties and ID are looked up the first time a
+ * placeholder needs them, and each placeholder is resolved at most once however many times it appears in the phrase.
+ */
+public class ParseContext
+{
+	/** The player the phrase is shown to. May be null. */
+	public final EntityPlayer player;
+
+	/** The entity saying the phrase. May be null. */
+	public final AbstractEntity entity;
+
+	private final String[] resolvedValues = new String[EnumPlaceholder.values().length];
+	private boolean hasLookedUpPlayer;
+	private WorldPropertiesList properties;
+	private int playerId;
+	private String replacementText;
+
+	/**
+	 * Constructor
+	 *
+	 * @param player The player the phrase is shown to.
+	 * @param entity The entity saying the phrase.
+	 */
+	public ParseContext(EntityPlayer player, AbstractEntity entity)
+	{
+		this.player = player;
+		this.entity = entity;
+	}
+
+	/**
+	 * Gets the text that replaces a placeholder.
+	 *
+	 * @param placeholder The placeholder to resolve.
+	 * @return The placeholder's text, or null if the placeholder should be left in the phrase as it is.
+	 */
+	public String resolve(EnumPlaceholder placeholder)
+	{
+		String value = resolvedValues[placeholder.ordinal()];
+
+		if (value == null)
+		{
+			value = placeholder.resolve(this);
+			resolvedValues[placeholder.ordinal()] = value;
+		}
+
+		return value;
+	}
+
+	/**
+	 * @return The world properties of the player, or null if there is no player or their properties are not loaded.
+	 */
+	public WorldPropertiesList getProperties()
+	{
+		lookUpPlayer();
+		return properties;
+	}
+
+	/**
+	 * @return The ID of the player, or 0 if there is no player or their properties are not loaded.
+	 */
+	public int getPlayerId()
+	{
+		lookUpPlayer();
+		return playerId;
+	}
+
+	/**
+	 * Replaces the whole phrase with other text, such as when the people a placeholder names have died.
+	 *
+	 * @param text The text to show instead of the phrase.
+	 */
+	public void replaceText(String text)
+	{
+		replacementText = text;
+	}
+
+	/**
+	 * @return The text that replaces the whole phrase, or null if the phrase is shown.
+	 */
+	public String getReplacementText()
+	{
+		return replacementText;
+	}
+
+	private void lookUpPlayer()
+	{
+		if (!hasLookedUpPlayer)
+		{
+			hasLookedUpPlayer = true;
+
+			if (player != null)
+			{
+				final WorldPropertiesManager manager = MCA.getInstance().playerWorldManagerMap.get(player.getCommandSenderName());
+
+				if (manager != null)
+				{
+					properties = (WorldPropertiesList) manager.worldPropertiesInstance;
+					playerId = MCA.getInstance().getIdOfPlayer(player);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * PhraseIndex.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.lang;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The phrases of one language, compiled and grouped by the ID they are requested with. A phrase ID names either one
+ * phrase, or every numbered variant of a phrase, such as greeting1 to greeting5 for greeting. Both are found when the
+ * index is built, so that picking a phrase is one map lookup and one random number. IDs that are neither, which match
+ * every phrase whose key contains them, are found by searching the phrases once and remembered after that. The
+ * phrases of an index never change after it is built, so it can be replaced by the index of another language while it
+ * is being read.
+ */
+public final class PhraseIndex
+{
+	private final String languageId;
+	private final Map<String, String> phrases;
+	private final Map<String, PhraseTemplate[]> variantsById;
+	private final Map<String, PhraseTemplate[]> searchedVariantsById = new ConcurrentHashMap<String, PhraseTemplate[]>();
+	private final long buildNanos;
+
+	private PhraseIndex(String languageId, Map<String, String> phrases, Map<String, PhraseTemplate[]> variantsById, long buildNanos)
+	{
+		this.languageId = languageId;
+		this.phrases = phrases;
+		this.variantsById = variantsById;
+		this.buildNanos = buildNanos;
+	}
+
+	/**
+	 * Compiles and groups the phrases of a language.
+	 *
+	 * @param languageId The ID of the language, such as en_US.
+	 * @param translations The phrases of the language. Key = phrase key, Value = phrase. Copied, so may change afterwards.
+	 * @return The index of the language's phrases.
+	 */
+	public static PhraseIndex build(String languageId, Map<String, String> translations)
+	{
+		final long startTime = System.nanoTime();
+		final Map<String, String> phrases = new HashMap<String, String>(translations);
+		final Map<String, PhraseTemplate[]> variantsById = new HashMap<String, PhraseTemplate[]>();
+		final Map<String, Map<String, PhraseTemplate>> numberedVariants = new HashMap<String, Map<String, PhraseTemplate>>();
+
+		for (final Map.Entry<String, String> entry : phrases.entrySet())
+		{
+			final String key = entry.getKey();
+			final PhraseTemplate template = PhraseTemplate.compile(entry.getValue());
+			variantsById.put(key, new PhraseTemplate[] { template });
+
+			final String baseKey = getBaseKey(key);
+
+			if (baseKey != null)
+			{
+				Map<String, PhraseTemplate> variants = numberedVariants.get(baseKey);
+
+				if (variants == null)
+				{
+					//Sorted so that the same random number always picks the same variant.
+					variants = new TreeMap<String, PhraseTemplate>();
+					numberedVariants.put(baseKey, variants);
+				}
+
+				variants.put(key, template);
+			}
+		}
+
+		for (final Map.Entry<String, Map<String, PhraseTemplate>> entry : numberedVariants.entrySet())
+		{
+			//A phrase with exactly the requested key is always used over variants of it.
+			if (!variantsById.containsKey(entry.getKey()))
+			{
+				final Map<String, PhraseTemplate> variants = entry.getValue();
+				variantsById.put(entry.getKey(), variants.values().toArray(new PhraseTemplate[variants.size()]));
+			}
+		}
+
+		return new PhraseIndex(languageId, phrases, variantsById, System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Gets every phrase that may be said for a phrase ID.
+	 *
+	 * @param phraseId The lower case ID of the phrase.
+	 * @return The phrases for the ID, or an empty array if there are none.
+	 */
+	public PhraseTemplate[] getVariants(String phraseId)
+	{
+		PhraseTemplate[] variants = variantsById.get(phraseId);
+
+		if (variants == null)
+		{
+			variants = searchedVariantsById.get(phraseId);
+
+			if (variants == null)
+			{
+				variants = search(phraseId);
+
+				if (variants.length > 0)
+				{
+					searchedVariantsById.put(phraseId, variants);
+				}
+			}
+		}
+
+		return variants;
+	}
+
+	/**
+	 * Picks one of the phrases that may be said for a phrase ID.
+	 *
+	 * @param phraseId The lower case ID of the phrase.
+	 * @param random The random number generator to pick with.
+	 * @return One of the phrases for the ID, or null if there are none.
+	 */
+	public PhraseTemplate getRandomVariant(String phraseId, Random random)
+	{
+		final PhraseTemplate[] variants = getVariants(phraseId);
+
+		if (variants.length == 0)
+		{
+			return null;
+		}
+
+		return variants.length == 1 ? variants[0] : variants[random.nextInt(variants.length)];
+	}
+
+	/**
+	 * @return The ID of the language the phrases belong to.
+	 */
+	public String getLanguageId()
+	{
+		return languageId;
+	}
+
+	/**
+	 * @return The number of phrases in the index.
+	 */
+	public int getPhraseCount()
+	{
+		return phrases.size();
+	}
+
+	/**
+	 * @return The number of phrase IDs that were found when the index was built, and the number found by searching since.
+	 */
+	public int[] getIdCounts()
+	{
+		return new int[] { variantsById.size(), searchedVariantsById.size() };
+	}
+
+	/**
+	 * @return The nanoseconds it took to compile and group the phrases.
+	 */
+	public long getBuildNanos()
+	{
+		return buildNanos;
+	}
+
+	/**
+	 * Finds the phrases whose keys contain an ID, the way phrases were found before they were indexed.
+	 */
+	private PhraseTemplate[] search(String phraseId)
+	{
+		final Map<String, PhraseTemplate> matches = new TreeMap<String, PhraseTemplate>();
+
+		for (final Map.Entry<String, String> entry : phrases.entrySet())
+		{
+			if (entry.getKey().contains(phraseId))
+			{
+				matches.put(entry.getKey(), variantsById.get(entry.getKey())[0]);
+			}
+		}
+
+		return matches.values().toArray(new PhraseTemplate[matches.size()]);
+	}
+
+	/**
+	 * @return The key without the number at its end, or null if it does not end with a number.
+	 */
+	private static String getBaseKey(String key)
+	{
+		int index = key.length();
+
+		while (index > 0 && Character.isDigit(key.charAt(index - 1)))
+		{
+			index--;
+		}
+
+		return index == key.length() || index == 0 ? null : key.substring(0, index);
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * PhraseTemplate.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.lang;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import mca.enums.EnumPlaceholder;
+
+/**
+ * A phrase split into its literal text and the placeholders between it, so that parsing the phrase is one pass that
+ * appends each piece in order instead of searching the whole phrase once for every placeholder. Text between percent
+ * signs that is not the name of a placeholder is kept as literal text.
+ */
+public final class PhraseTemplate
+{
+	private static final ThreadLocal<StringBuilder> BUILDERS = new ThreadLocal<StringBuilder>()
+	{
+		@Override
+		protected StringBuilder initialValue()
+		{
+			return new StringBuilder(128);
+		}
+	};
+
+	private final String source;
+	private final String[] literals;
+	private final EnumPlaceholder[] placeholders;
+
+	private PhraseTemplate(String source, String[] literals, EnumPlaceholder[] placeholders)
+	{
+		this.source = source;
+		this.literals = literals;
+		this.placeholders = placeholders;
+	}
+
+	/**
+	 * Splits a phrase into literal text and placeholders.
+	 *
+	 * @param text The phrase to compile.
+	 * @return The compiled phrase.
+	 */
+	public static PhraseTemplate compile(String text)
+	{
+		final List<String> literals = new ArrayList<String>();
+		final List<EnumPlaceholder> placeholders = new ArrayList<EnumPlaceholder>();
+		final StringBuilder literal = new StringBuilder();
+		int index = 0;
+
+		while (index < text.length())
+		{
+			final int start = text.indexOf('%', index);
+			final int end = start == -1 ? -1 : text.indexOf('%', start + 1);
+
+			if (end == -1)
+			{
+				literal.append(text, index, text.length());
+				break;
+			}
+
+			final EnumPlaceholder placeholder = EnumPlaceholder.getByName(text.substring(start + 1, end));
+			literal.append(text, index, start);
+
+			if (placeholder == null)
+			{
+				//Not a placeholder. The closing percent sign may still open one.
+				literal.append('%');
+				index = start + 1;
+			}
+
+			else
+			{
+				literals.add(literal.toString());
+				placeholders.add(placeholder);
+				literal.setLength(0);
+				index = end + 1;
+			}
+		}
+
+		literals.add(literal.toString());
+		return new PhraseTemplate(text, literals.toArray(new String[literals.size()]), placeholders.toArray(new EnumPlaceholder[placeholders.size()]));
+	}
+
+	/**
+	 * Replaces the placeholders of the phrase with their text.
+	 *
+	 * @param context The player and entity the phrase is parsed for.
+	 * @return The parsed phrase.
+	 */
+	public String render(ParseContext context)
+	{
+		if (placeholders.length == 0)
+		{
+			return source;
+		}
+
+		//A placeholder may parse another phrase while this one is being built, which then uses a builder of its own.
+		StringBuilder builder = BUILDERS.get();
+
+		if (builder == null)
+		{
+			builder = new StringBuilder(source.length() + 32);
+		}
+
+		else
+		{
+			BUILDERS.set(null);
+		}
+
+		try
+		{
+			boolean hasFailed = false;
+
+			for (int index = 0; index < placeholders.length; index++)
+			{
+				builder.append(literals[index]);
+
+				String value = null;
+
+				try
+				{
+					value = context.resolve(placeholders[index]);
+				}
+
+				catch (final NullPointerException e)
+				{
+					hasFailed = true;
+				}
+
+				if (context.getReplacementText() != null)
+				{
+					return context.getReplacementText();
+				}
+
+				builder.append(value != null ? value : placeholders[index].getToken());
+			}
+
+			builder.append(literals[placeholders.length]);
+
+			if (hasFailed)
+			{
+				builder.append(" (Parsing error)");
+			}
+
+			return builder.toString();
+		}
+
+		finally
+		{
+			builder.setLength(0);
+			BUILDERS.set(builder);
+		}
+	}
+
+	/**
+	 * @return The phrase the template was compiled from.
+	 */
+	public String getSource()
+	{
+		return source;
+	}
+
+	/**
+	 * @return The number of placeholders in the phrase.
+	 */
+	public int getPlaceholderCount()
+	{
+		return placeholders.length;
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * DirtyFieldTracker.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.network;
+
+import java.util.BitSet;
+
+import mca.core.MCA;
+
+/**
+ * Records which synced fields of an object have changed since they were last sent, so that every change made
+ * during a tick can be sent together in one delta packet.
+ */
+public final class DirtyFieldTracker
+{
+	private final SyncSchema schema;
+	private final BitSet dirtyFields;
+
+	/**
+	 * Constructor
+	 *
+	 * @param trackedClass The class of the object whose fields are being tracked.
+	 */
+	public DirtyFieldTracker(Class trackedClass)
+	{
+		this.schema = SyncSchema.forClass(trackedClass);
+		this.dirtyFields = new BitSet(schema.getFieldCount());
+	}
+
+	/**
+	 * @return The schema of the tracked class.
+	 */
+	public SyncSchema getSchema()
+	{
+		return schema;
+	}
+
+	/**
+	 * Marks the field with the provided name as changed.
+	 *
+	 * @param fieldName The name of the field that has changed.
+	 */
+	public void markDirty(String fieldName)
+	{
+		final int fieldId = schema.getFieldId(fieldName);
+
+		if (fieldId == -1)
+		{
+			MCA.getInstance().getLogger().log("WARNING: " + fieldName + " is not a synced field of " + schema.getSchemaClass().getSimpleName() + ".");
+		}
+
+		else
+		{
+			dirtyFields.set(fieldId);
+		}
+	}
+
+	/**
+	 * @return True if any field has changed since the last call to drainDirtyFields.
+	 */
+	public boolean isDirty()
+	{
+		return !dirtyFields.isEmpty();
+	}
+
+	/**
+	 * Gets the IDs of all changed fields and clears them.
+	 *
+	 * @return The IDs of every field marked as changed, in ascending order.
+	 */
+	public int[] drainDirtyFields()
+	{
+		final int[] fieldIds = new int[dirtyFields.cardinality()];
+		int index = 0;
+
+		for (int id = dirtyFields.nextSetBit(0); id >= 0; id = dirtyFields.nextSetBit(id + 1))
+		{
+			fieldIds[index++] = id;
+		}
+
+		dirtyFields.clear();
+		return fieldIds;
+	}
+}
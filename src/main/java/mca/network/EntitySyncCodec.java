@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * EntitySyncCodec.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.network;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import mca.chore.AbstractChore;
+import mca.core.MCA;
+import mca.core.util.TickMarkerBaby;
+import mca.core.util.object.FamilyTree;
+import mca.core.util.object.PlayerMemory;
+import mca.entity.AbstractEntity;
+import mca.enums.EnumRelation;
+import mca.inventory.Inventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import cpw.mods.fml.common.network.ByteBufUtils;
+
+/**
+ * Writes and reads the complete state of an AbstractEntity in MCA's binary sync format.
+ *
+ * Layout: format version, entity schema version, entity fields, each chore's schema version and fields,
+ * family tree entries, non-empty inventory slots, player memories, and the baby growth marker. Strings share one string
+ * table.
+ */
+public final class EntitySyncCodec
+{
+	/** Incremented whenever the layout written by this class changes. */
+	public static final int FORMAT_VERSION = 2;
+
+	private static final EnumRelation[] RELATIONS = EnumRelation.values();
+
+	private EntitySyncCodec()
+	{
+	}
+
+	/**
+	 * Writes the provided entity to the buffer, including every player's memory.
+	 *
+	 * @param entity The entity to write.
+	 * @param byteBuf The buffer to write to.
+	 */
+	public static void writeEntity(AbstractEntity entity, ByteBuf byteBuf)
+	{
+		writeEntity(entity, null, byteBuf);
+	}
+
+	/**
+	 * Writes the provided entity to the buffer for one player, including only that player's memory.
+	 *
+	 * @param entity The entity to write.
+	 * @param playerName The name of the player the data is for, or null to include every player's memory.
+	 * @param byteBuf The buffer to write to.
+	 */
+	public static void writeEntity(AbstractEntity entity, String playerName, ByteBuf byteBuf)
+	{
+		final SyncOutput output = new SyncOutput(byteBuf);
+		final SyncSchema entitySchema = SyncSchema.forClass(entity.getClass());
+
+		output.writeVarInt(FORMAT_VERSION);
+		byteBuf.writeInt(entitySchema.getVersion());
+		entitySchema.writeFields(entity, output);
+
+		for (final AbstractChore chore : getChores(entity))
+		{
+			final SyncSchema choreSchema = SyncSchema.forClass(chore.getClass());
+			byteBuf.writeInt(choreSchema.getVersion());
+			choreSchema.writeFields(chore, output);
+		}
+
+		writeFamilyTree(entity.familyTree, output);
+		writeInventory(entity.inventory, output);
+		writePlayerMemories(entity.playerMemoryMap, playerName, output);
+		writeTickMarker(entity, entity.tickMarkerBaby, output);
+	}
+
+	/**
+	 * Reads data written by writeEntity directly into the provided entity.
+	 *
+	 * @param entity The entity that will receive the data.
+	 * @param byteBuf The buffer to read from.
+	 * @return True if the data was applied. False if it was written with a different layout.
+	 */
+	public static boolean readEntity(AbstractEntity entity, ByteBuf byteBuf)
+	{
+		final SyncInput input = new SyncInput(byteBuf);
+		final SyncSchema entitySchema = SyncSchema.forClass(entity.getClass());
+		final int formatVersion = input.readVarInt();
+		final int schemaVersion = byteBuf.readInt();
+
+		if (formatVersion != FORMAT_VERSION || schemaVersion != entitySchema.getVersion())
+		{
+			MCA.getInstance().getLogger().log("WARNING: Sync format mismatch for " + entity.getClass().getSimpleName() + ". Client and server MCA versions may differ.");
+			return false;
+		}
+
+		entitySchema.readFields(entity, input);
+
+		for (final AbstractChore chore : getChores(entity))
+		{
+			final SyncSchema choreSchema = SyncSchema.forClass(chore.getClass());
+
+			if (byteBuf.readInt() != choreSchema.getVersion())
+			{
+				MCA.getInstance().getLogger().log("WARNING: Sync format mismatch for " + chore.getClass().getSimpleName() + ".");
+				return false;
+			}
+
+			choreSchema.readFields(chore, input);
+			chore.owner = entity;
+		}
+
+		readFamilyTree(entity.familyTree, input);
+		entity.familyTree.owner = entity;
+
+		readInventory(entity.inventory, input);
+		entity.inventory.owner = entity;
+
+		readPlayerMemories(entity.playerMemoryMap, input);
+		entity.tickMarkerBaby = readTickMarker(entity, input);
+		return true;
+	}
+
+	/**
+	 * @return The entity's chores in the fixed order they are written in.
+	 */
+	private static AbstractChore[] getChores(AbstractEntity entity)
+	{
+		return new AbstractChore[] { entity.combatChore, entity.farmingChore, entity.fishingChore, entity.woodcuttingChore, entity.miningChore, entity.huntingChore, entity.cookingChore };
+	}
+
+	private static void writeFamilyTree(FamilyTree familyTree, SyncOutput output)
+	{
+		final Map<Integer, EnumRelation> relationMap = familyTree.getRelationMap();
+		output.writeVarInt(relationMap.size());
+
+		for (final Map.Entry<Integer, EnumRelation> entry : relationMap.entrySet())
+		{
+			output.writeSignedVarInt(entry.getKey());
+			output.writeVarInt(entry.getValue().ordinal());
+		}
+	}
+
+	private static void readFamilyTree(FamilyTree familyTree, SyncInput input)
+	{
+		final int size = input.readVarInt();
+		final Map<Integer, EnumRelation> relationMap = new HashMap<Integer, EnumRelation>();
+
+		for (int i = 0; i < size; i++)
+		{
+			final int id = input.readSignedVarInt();
+			relationMap.put(id, RELATIONS[input.readVarInt()]);
+		}
+
+		familyTree.setRelationMap(relationMap);
+	}
+
+	private static void writeInventory(Inventory inventory, SyncOutput output)
+	{
+		int stackCount = 0;
+
+		for (final ItemStack stack : inventory.inventoryItems)
+		{
+			if (stack != null)
+			{
+				stackCount++;
+			}
+		}
+
+		output.writeVarInt(stackCount);
+
+		for (int slot = 0; slot < inventory.inventoryItems.length; slot++)
+		{
+			if (inventory.inventoryItems[slot] != null)
+			{
+				output.writeVarInt(slot);
+				ByteBufUtils.writeItemStack(output.getBuffer(), inventory.inventoryItems[slot]);
+			}
+		}
+	}
+
+	private static void readInventory(Inventory inventory, SyncInput input)
+	{
+		final int stackCount = input.readVarInt();
+		inventory.inventoryItems = new ItemStack[inventory.getSizeInventory()];
+		inventory.armorItems = new ItemStack[4];
+
+		for (int i = 0; i < stackCount; i++)
+		{
+			final int slot = input.readVarInt();
+			final ItemStack stack = ByteBufUtils.readItemStack(input.getBuffer());
+
+			if (slot < inventory.inventoryItems.length)
+			{
+				inventory.inventoryItems[slot] = stack;
+			}
+		}
+
+		inventory.setWornArmorItems();
+	}
+
+	private static void writePlayerMemories(Map<String, PlayerMemory> memoryMap, String playerName, SyncOutput output)
+	{
+		final SyncSchema memorySchema = SyncSchema.forClass(PlayerMemory.class);
+
+		if (playerName != null)
+		{
+			final PlayerMemory memory = memoryMap.get(playerName);
+			output.writeVarInt(memory == null ? 0 : 1);
+
+			if (memory != null)
+			{
+				output.writeString(playerName);
+				memorySchema.writeFields(memory, output);
+			}
+
+			return;
+		}
+
+		output.writeVarInt(memoryMap.size());
+
+		for (final Map.Entry<String, PlayerMemory> entry : memoryMap.entrySet())
+		{
+			output.writeString(entry.getKey());
+			memorySchema.writeFields(entry.getValue(), output);
+		}
+	}
+
+	private static void readPlayerMemories(Map<String, PlayerMemory> memoryMap, SyncInput input)
+	{
+		final SyncSchema memorySchema = SyncSchema.forClass(PlayerMemory.class);
+		final int size = input.readVarInt();
+		memoryMap.clear();
+
+		for (int i = 0; i < size; i++)
+		{
+			final String playerName = input.readString();
+			final PlayerMemory memory = new PlayerMemory(playerName);
+
+			memorySchema.readFields(memory, input);
+			memoryMap.put(playerName, memory);
+
+			//The sender has every value just read, so only later changes need to be sent back.
+			memory.syncedValues = new SyncSnapshot(memorySchema);
+			memory.syncedValues.recordAll(memory);
+		}
+	}
+
+	/**
+	 * Writes the end tick and completion of a tick marker. They are private to RadixCore, so they are taken from the
+	 * marker's NBT.
+	 */
+	private static void writeTickMarker(AbstractEntity entity, TickMarkerBaby tickMarker, SyncOutput output)
+	{
+		final NBTTagCompound nbt = new NBTTagCompound();
+		tickMarker.writeMarkerToNBT(entity, nbt);
+
+		output.writeSignedVarInt(nbt.getInteger("endTicks"));
+		output.writeBoolean(nbt.getBoolean("isComplete"));
+	}
+
+	private static TickMarkerBaby readTickMarker(AbstractEntity entity, SyncInput input)
+	{
+		final NBTTagCompound nbt = new NBTTagCompound();
+		nbt.setInteger("endTicks", input.readSignedVarInt());
+		nbt.setBoolean("isComplete", input.readBoolean());
+
+		final TickMarkerBaby tickMarker = new TickMarkerBaby(entity, -1);
+		tickMarker.readMarkerFromNBT(entity, nbt);
+		return tickMarker;
+	}
+}
@@ -30,6 +30,7 @@ import mca.network.packets.PacketSetChore;
 import mca.network.packets.PacketSetFamilyTree;
 import mca.network.packets.PacketSetFieldValue;
 import mca.network.packets.PacketSetInventory;
+import mca.network.packets.PacketSetMoodPoints;
 import mca.network.packets.PacketSetPosition;
 import mca.network.packets.PacketSetTarget;
 import mca.network.packets.PacketSetTombstoneText;
@@ -38,12 +39,22 @@ import mca.network.packets.PacketStopJumping;
 import mca.network.packets.PacketSwingArm;
 import mca.network.packets.PacketSync;
 import mca.network.packets.PacketSyncEditorSettings;
+import mca.network.packets.PacketSyncDelta;
+import mca.network.packets.PacketSyncDeltaBatch;
+import mca.network.packets.PacketSyncPlayerMemory;
 import mca.network.packets.PacketSyncRequest;
 import mca.network.packets.PacketUpdateFurnace;
 
+import mca.core.Constants;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.world.WorldServer;
+
 import com.radixshock.radixcore.core.IEnforcedCore;
 import com.radixshock.radixcore.network.AbstractPacketHandler;
 
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+
 public class PacketRegistry extends AbstractPacketHandler
 {
 	public PacketRegistry(IEnforcedCore ownerMod)
@@ -87,5 +98,40 @@ public class PacketRegistry extends AbstractPacketHandler
 		registerDoubleSidedPacket(PacketPlayerInteraction.class, 34);
 		registerDoubleSidedPacket(PacketNotifyLocalized.class, 35);
 		registerDoubleSidedPacket(PacketProcreate.class, 36);
+		registerDoubleSidedPacket(PacketSyncDelta.class, 37);
+		registerDoubleSidedPacket(PacketSyncDeltaBatch.class, 38);
+		registerDoubleSidedPacket(PacketSyncPlayerMemory.class, 39);
+		registerDoubleSidedPacket(PacketSetMoodPoints.class, 40);
+	}
+
+	/**
+	 * Sends a packet only to the players whose clients are currently tracking the provided entity.
+	 * Players out of tracking range will request a full sync when the entity comes back into view.
+	 * 
+	 * @param packet The packet to send.
+	 * @param entity The entity that the packet is about.
+	 */
+	public void sendPacketToTrackingPlayers(IMessage packet, Entity entity)
+	{
+		if (entity.worldObj instanceof WorldServer)
+		{
+			((WorldServer) entity.worldObj).getEntityTracker().func_151247_a(entity, wrapper.getPacketFrom(packet));
+		}
+	}
+
+	/**
+	 * Checks whether a player's client may be tracking the provided entity. This is the check the entity tracker makes
+	 * before it starts tracking an entity for a player, using the widest tracking distance, so it never misses a player
+	 * that is tracking the entity.
+	 * 
+	 * @param player The player.
+	 * @param entity The entity.
+	 * @return True if the player is within tracking range of the entity and is watching its chunk.
+	 */
+	public static boolean mayBeTracking(EntityPlayerMP player, Entity entity)
+	{
+		return Math.abs(player.posX - entity.posX) <= Constants.ENTITY_TRACKING_RANGE
+				&& Math.abs(player.posZ - entity.posZ) <= Constants.ENTITY_TRACKING_RANGE
+				&& player.getServerForPlayer().getPlayerManager().isPlayerWatchingChunk(player, entity.chunkCoordX, entity.chunkCoordZ);
 	}
 }
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * SyncInput.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.network;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Reads binary sync data written by a SyncOutput.
+ */
+public final class SyncInput
+{
+	private final ByteBuf buffer;
+	private final List<String> stringTable = new ArrayList<String>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param buffer The buffer that data will be read from.
+	 */
+	public SyncInput(ByteBuf buffer)
+	{
+		this.buffer = buffer;
+	}
+
+	/**
+	 * @return The buffer this input reads from.
+	 */
+	public ByteBuf getBuffer()
+	{
+		return buffer;
+	}
+
+	public int readVarInt()
+	{
+		int value = 0;
+		int shift = 0;
+		byte read;
+
+		do
+		{
+			if (shift > 28)
+			{
+				throw new IllegalStateException("Varint is too long.");
+			}
+
+			read = buffer.readByte();
+			value |= (read & 0x7F) << shift;
+			shift += 7;
+		}
+		while ((read & 0x80) != 0);
+
+		return value;
+	}
+
+	public int readSignedVarInt()
+	{
+		final int zigzag = readVarInt();
+		return zigzag >>> 1 ^ -(zigzag & 1);
+	}
+
+	public long readSignedVarLong()
+	{
+		long zigzag = 0L;
+		int shift = 0;
+		byte read;
+
+		do
+		{
+			if (shift > 63)
+			{
+				throw new IllegalStateException("Varlong is too long.");
+			}
+
+			read = buffer.readByte();
+			zigzag |= (long) (read & 0x7F) << shift;
+			shift += 7;
+		}
+		while ((read & 0x80) != 0);
+
+		return zigzag >>> 1 ^ -(zigzag & 1);
+	}
+
+	public boolean readBoolean()
+	{
+		return buffer.readBoolean();
+	}
+
+	public float readFloat()
+	{
+		return buffer.readFloat();
+	}
+
+	public double readDouble()
+	{
+		return buffer.readDouble();
+	}
+
+	public String readString()
+	{
+		final int header = readVarInt();
+
+		if (header == 0)
+		{
+			return null;
+		}
+
+		else if ((header & 1) == 1)
+		{
+			return stringTable.get(header >>> 1);
+		}
+
+		else
+		{
+			final int length = (header >>> 1) - 1;
+			final byte[] bytes = new byte[length];
+			buffer.readBytes(bytes);
+
+			final String value = new String(bytes, Charsets.UTF_8);
+			stringTable.add(value);
+			return value;
+		}
+	}
+}
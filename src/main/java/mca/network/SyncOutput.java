@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * SyncOutput.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.network;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Writes compact binary sync data to a ByteBuf. Integers are written as varints and
+ * repeated strings are written once and then referenced by their index in a string table.
+ */
+public final class SyncOutput
+{
+	private final ByteBuf buffer;
+	private final Map<String, Integer> stringTable = new HashMap<String, Integer>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param buffer The buffer that data will be written to.
+	 */
+	public SyncOutput(ByteBuf buffer)
+	{
+		this.buffer = buffer;
+	}
+
+	/**
+	 * @return The buffer this output writes to.
+	 */
+	public ByteBuf getBuffer()
+	{
+		return buffer;
+	}
+
+	/**
+	 * Writes an unsigned variable length integer. Values under 128 take a single byte.
+	 *
+	 * @param value The value to write. Treated as unsigned.
+	 */
+	public void writeVarInt(int value)
+	{
+		while ((value & ~0x7F) != 0)
+		{
+			buffer.writeByte(value & 0x7F | 0x80);
+			value >>>= 7;
+		}
+
+		buffer.writeByte(value);
+	}
+
+	/**
+	 * Writes a signed integer using zigzag encoding so that small negative values stay small.
+	 *
+	 * @param value The value to write.
+	 */
+	public void writeSignedVarInt(int value)
+	{
+		writeVarInt(value << 1 ^ value >> 31);
+	}
+
+	/**
+	 * Writes a signed long using zigzag encoding.
+	 *
+	 * @param value The value to write.
+	 */
+	public void writeSignedVarLong(long value)
+	{
+		long zigzag = value << 1 ^ value >> 63;
+
+		while ((zigzag & ~0x7FL) != 0)
+		{
+			buffer.writeByte((int) (zigzag & 0x7F) | 0x80);
+			zigzag >>>= 7;
+		}
+
+		buffer.writeByte((int) zigzag);
+	}
+
+	public void writeBoolean(boolean value)
+	{
+		buffer.writeBoolean(value);
+	}
+
+	public void writeFloat(float value)
+	{
+		buffer.writeFloat(value);
+	}
+
+	public void writeDouble(double value)
+	{
+		buffer.writeDouble(value);
+	}
+
+	/**
+	 * Writes a string. The header is 0 for null, odd for a reference into the string table,
+	 * and even for a literal that is then added to the table.
+	 *
+	 * @param value The string to write. May be null.
+	 */
+	public void writeString(String value)
+	{
+		if (value == null)
+		{
+			writeVarInt(0);
+			return;
+		}
+
+		final Integer tableIndex = stringTable.get(value);
+
+		if (tableIndex != null)
+		{
+			writeVarInt(tableIndex << 1 | 1);
+		}
+
+		else
+		{
+			final byte[] bytes = value.getBytes(Charsets.UTF_8);
+
+			writeVarInt(bytes.length + 1 << 1);
+			buffer.writeBytes(bytes);
+			stringTable.put(value, stringTable.size());
+		}
+	}
+}
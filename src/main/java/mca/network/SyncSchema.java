@@ -0,0 +1,387 @@
+/*******************************************************************************
+ * SyncSchema.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.network;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The list of fields of an MCA class that can be sent over the network. Fields are resolved once per class,
+ * sorted by name and given a small integer ID and a fixed type tag so that both sides agree on the layout
+ * without sending any field names.
+ */
+public final class SyncSchema
+{
+	public static final byte TYPE_BOOLEAN = 0;
+	public static final byte TYPE_INT = 1;
+	public static final byte TYPE_LONG = 2;
+	public static final byte TYPE_FLOAT = 3;
+	public static final byte TYPE_DOUBLE = 4;
+	public static final byte TYPE_STRING = 5;
+
+	private static final Map<Class, SyncSchema> schemaMap = new HashMap<Class, SyncSchema>();
+
+	private final Class schemaClass;
+	private final Field[] fields;
+	private final byte[] types;
+	private final int[] booleanIds;
+	private final int[] valueIds;
+	private final Map<String, Integer> idsByName = new HashMap<String, Integer>();
+	private final int version;
+
+	private SyncSchema(Class schemaClass)
+	{
+		final List<Field> fieldList = new ArrayList<Field>();
+
+		//Only fields declared by MCA classes are synced. Anything above them belongs to Minecraft.
+		for (Class clazz = schemaClass; clazz != null && clazz.getName().startsWith("mca."); clazz = clazz.getSuperclass())
+		{
+			for (final Field field : clazz.getDeclaredFields())
+			{
+				final int modifiers = field.getModifiers();
+
+				if (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !Modifier.isFinal(modifiers) && getTypeTag(field.getType()) != -1)
+				{
+					fieldList.add(field);
+				}
+			}
+		}
+
+		Collections.sort(fieldList, new Comparator<Field>()
+		{
+			@Override
+			public int compare(Field field1, Field field2)
+			{
+				return field1.getName().compareTo(field2.getName());
+			}
+		});
+
+		this.schemaClass = schemaClass;
+		this.fields = fieldList.toArray(new Field[fieldList.size()]);
+		this.types = new byte[fields.length];
+
+		int booleanCount = 0;
+		int hash = 17;
+
+		for (int id = 0; id < fields.length; id++)
+		{
+			fields[id].setAccessible(true);
+			types[id] = getTypeTag(fields[id].getType());
+			idsByName.put(fields[id].getName(), id);
+			hash = 31 * hash + fields[id].getName().hashCode();
+			hash = 31 * hash + types[id];
+
+			if (types[id] == TYPE_BOOLEAN)
+			{
+				booleanCount++;
+			}
+		}
+
+		this.version = hash;
+		this.booleanIds = new int[booleanCount];
+		this.valueIds = new int[fields.length - booleanCount];
+
+		int booleanIndex = 0;
+		int valueIndex = 0;
+
+		for (int id = 0; id < fields.length; id++)
+		{
+			if (types[id] == TYPE_BOOLEAN)
+			{
+				booleanIds[booleanIndex++] = id;
+			}
+
+			else
+			{
+				valueIds[valueIndex++] = id;
+			}
+		}
+	}
+
+	/**
+	 * Gets the schema of the provided class, building it the first time it is requested.
+	 *
+	 * @param clazz The class whose schema should be returned.
+	 * @return The class's schema.
+	 */
+	public static SyncSchema forClass(Class clazz)
+	{
+		synchronized (schemaMap)
+		{
+			SyncSchema schema = schemaMap.get(clazz);
+
+			if (schema == null)
+			{
+				schema = new SyncSchema(clazz);
+				schemaMap.put(clazz, schema);
+			}
+
+			return schema;
+		}
+	}
+
+	/**
+	 * @return Hash of every field name and type in this schema. Differs when the two sides have different layouts.
+	 */
+	public int getVersion()
+	{
+		return version;
+	}
+
+	public Class getSchemaClass()
+	{
+		return schemaClass;
+	}
+
+	public int getFieldCount()
+	{
+		return fields.length;
+	}
+
+	public String getFieldName(int fieldId)
+	{
+		return fields[fieldId].getName();
+	}
+
+	public byte getFieldType(int fieldId)
+	{
+		return types[fieldId];
+	}
+
+	/**
+	 * @param fieldId The ID of a field.
+	 * @return The field with the provided ID. It has already been made accessible.
+	 */
+	public Field getField(int fieldId)
+	{
+		return fields[fieldId];
+	}
+
+	/**
+	 * @param fieldName The name of a field.
+	 * @return The ID of the field with the provided name, or -1 if it is not part of this schema.
+	 */
+	public int getFieldId(String fieldName)
+	{
+		final Integer id = idsByName.get(fieldName);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Writes every field of the provided object. Booleans are packed eight to a byte ahead of the other values.
+	 *
+	 * @param obj The object to write. Must be an instance of this schema's class.
+	 * @param output The output to write to.
+	 */
+	public void writeFields(Object obj, SyncOutput output)
+	{
+		try
+		{
+			int packed = 0;
+
+			for (int i = 0; i < booleanIds.length; i++)
+			{
+				if (fields[booleanIds[i]].getBoolean(obj))
+				{
+					packed |= 1 << (i & 7);
+				}
+
+				if ((i & 7) == 7 || i == booleanIds.length - 1)
+				{
+					output.getBuffer().writeByte(packed);
+					packed = 0;
+				}
+			}
+
+			for (final int id : valueIds)
+			{
+				writeValue(obj, id, output);
+			}
+		}
+
+		catch (final IllegalAccessException e)
+		{
+			throw new IllegalStateException("Unable to read field of " + schemaClass.getSimpleName(), e);
+		}
+	}
+
+	/**
+	 * Reads every field written by writeFields into the provided object.
+	 *
+	 * @param obj The object to assign values to. Must be an instance of this schema's class.
+	 * @param input The input to read from.
+	 */
+	public void readFields(Object obj, SyncInput input)
+	{
+		try
+		{
+			int packed = 0;
+
+			for (int i = 0; i < booleanIds.length; i++)
+			{
+				if ((i & 7) == 0)
+				{
+					packed = input.getBuffer().readUnsignedByte();
+				}
+
+				fields[booleanIds[i]].setBoolean(obj, (packed & 1 << (i & 7)) != 0);
+			}
+
+			for (final int id : valueIds)
+			{
+				readValue(obj, id, input);
+			}
+		}
+
+		catch (final IllegalAccessException e)
+		{
+			throw new IllegalStateException("Unable to set field of " + schemaClass.getSimpleName(), e);
+		}
+	}
+
+	/**
+	 * Writes the value of a single field without its ID.
+	 *
+	 * @param obj The object containing the field.
+	 * @param fieldId The ID of the field.
+	 * @param output The output to write to.
+	 */
+	public void writeValue(Object obj, int fieldId, SyncOutput output) throws IllegalAccessException
+	{
+		final Field field = fields[fieldId];
+
+		switch (types[fieldId])
+		{
+			case TYPE_BOOLEAN:
+				output.writeBoolean(field.getBoolean(obj));
+				break;
+			case TYPE_INT:
+				output.writeSignedVarInt(field.getInt(obj));
+				break;
+			case TYPE_LONG:
+				output.writeSignedVarLong(field.getLong(obj));
+				break;
+			case TYPE_FLOAT:
+				output.writeFloat(field.getFloat(obj));
+				break;
+			case TYPE_DOUBLE:
+				output.writeDouble(field.getDouble(obj));
+				break;
+			case TYPE_STRING:
+				output.writeString((String) field.get(obj));
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Reads the value of a single field and assigns it to the provided object.
+	 *
+	 * @param obj The object containing the field.
+	 * @param fieldId The ID of the field.
+	 * @param input The input to read from.
+	 */
+	public void readValue(Object obj, int fieldId, SyncInput input) throws IllegalAccessException
+	{
+		final Field field = fields[fieldId];
+
+		switch (types[fieldId])
+		{
+			case TYPE_BOOLEAN:
+				field.setBoolean(obj, input.readBoolean());
+				break;
+			case TYPE_INT:
+				field.setInt(obj, input.readSignedVarInt());
+				break;
+			case TYPE_LONG:
+				field.setLong(obj, input.readSignedVarLong());
+				break;
+			case TYPE_FLOAT:
+				field.setFloat(obj, input.readFloat());
+				break;
+			case TYPE_DOUBLE:
+				field.setDouble(obj, input.readDouble());
+				break;
+			case TYPE_STRING:
+				field.set(obj, input.readString());
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Gets the value of a single field that is not a string as a primitive, without boxing it.
+	 *
+	 * @param obj The object containing the field.
+	 * @param fieldId The ID of the field.
+	 * @return The field's value, or the raw bits of the value if it is a float or double. Booleans are 1 or 0.
+	 */
+	public long getValueBits(Object obj, int fieldId) throws IllegalAccessException
+	{
+		final Field field = fields[fieldId];
+
+		switch (types[fieldId])
+		{
+			case TYPE_BOOLEAN:
+				return field.getBoolean(obj) ? 1 : 0;
+			case TYPE_INT:
+				return field.getInt(obj);
+			case TYPE_LONG:
+				return field.getLong(obj);
+			case TYPE_FLOAT:
+				return Float.floatToRawIntBits(field.getFloat(obj));
+			case TYPE_DOUBLE:
+				return Double.doubleToRawLongBits(field.getDouble(obj));
+			default:
+				throw new IllegalArgumentException(getFieldName(fieldId) + " of " + schemaClass.getSimpleName() + " is a string.");
+		}
+	}
+
+	private static byte getTypeTag(Class type)
+	{
+		if (type == boolean.class)
+		{
+			return TYPE_BOOLEAN;
+		}
+
+		else if (type == int.class)
+		{
+			return TYPE_INT;
+		}
+
+		else if (type == long.class)
+		{
+			return TYPE_LONG;
+		}
+
+		else if (type == float.class)
+		{
+			return TYPE_FLOAT;
+		}
+
+		else if (type == double.class)
+		{
+			return TYPE_DOUBLE;
+		}
+
+		else if (type == String.class)
+		{
+			return TYPE_STRING;
+		}
+
+		return -1;
+	}
+}
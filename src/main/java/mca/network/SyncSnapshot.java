@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * SyncSnapshot.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.network;
+
+/**
+ * The values of an object's synced fields that the other side is known to have, because they were sent to it or
+ * received from it. Values are kept as primitives so that finding the fields that changed does not box any of them.
+ * A field is unknown until it has been sent or received once.
+ */
+public final class SyncSnapshot
+{
+	private final SyncSchema schema;
+	private final long[] values;
+	private final String[] strings;
+	private final boolean[] isKnown;
+
+	/**
+	 * Constructor
+	 *
+	 * @param schema The schema of the object whose values are kept.
+	 */
+	public SyncSnapshot(SyncSchema schema)
+	{
+		this.schema = schema;
+		this.values = new long[schema.getFieldCount()];
+		this.strings = new String[schema.getFieldCount()];
+		this.isKnown = new boolean[schema.getFieldCount()];
+	}
+
+	/**
+	 * Finds the fields of an object whose values differ from the snapshot or are unknown, and records their current
+	 * values as known.
+	 *
+	 * @param obj The object about to be sent. Must be an instance of the schema's class.
+	 * @return The schema IDs of the changed fields, in ascending order.
+	 */
+	public int[] drainChangedFields(Object obj)
+	{
+		final int[] changedIds = new int[values.length];
+		int changedCount = 0;
+
+		try
+		{
+			for (int fieldId = 0; fieldId < values.length; fieldId++)
+			{
+				if (!matches(obj, fieldId))
+				{
+					recordField(obj, fieldId);
+					changedIds[changedCount++] = fieldId;
+				}
+			}
+		}
+
+		catch (final IllegalAccessException e)
+		{
+			throw new IllegalStateException("Unable to read field of " + schema.getSchemaClass().getSimpleName(), e);
+		}
+
+		final int[] fieldIds = new int[changedCount];
+		System.arraycopy(changedIds, 0, fieldIds, 0, changedCount);
+		return fieldIds;
+	}
+
+	/**
+	 * Records the current value of a field as known, such as after it was received from the other side.
+	 *
+	 * @param obj The object containing the field.
+	 * @param fieldId The ID of the field.
+	 */
+	public void record(Object obj, int fieldId)
+	{
+		try
+		{
+			recordField(obj, fieldId);
+		}
+
+		catch (final IllegalAccessException e)
+		{
+			throw new IllegalStateException("Unable to read field of " + schema.getSchemaClass().getSimpleName(), e);
+		}
+	}
+
+	/**
+	 * Records the current value of every field as known, such as after the whole object was sent or received.
+	 *
+	 * @param obj The object.
+	 */
+	public void recordAll(Object obj)
+	{
+		for (int fieldId = 0; fieldId < values.length; fieldId++)
+		{
+			record(obj, fieldId);
+		}
+	}
+
+	private boolean matches(Object obj, int fieldId) throws IllegalAccessException
+	{
+		if (!isKnown[fieldId])
+		{
+			return false;
+		}
+
+		else if (schema.getFieldType(fieldId) == SyncSchema.TYPE_STRING)
+		{
+			final Object value = schema.getField(fieldId).get(obj);
+			return value == null ? strings[fieldId] == null : value.equals(strings[fieldId]);
+		}
+
+		else
+		{
+			return schema.getValueBits(obj, fieldId) == values[fieldId];
+		}
+	}
+
+	private void recordField(Object obj, int fieldId) throws IllegalAccessException
+	{
+		if (schema.getFieldType(fieldId) == SyncSchema.TYPE_STRING)
+		{
+			strings[fieldId] = (String) schema.getField(fieldId).get(obj);
+		}
+
+		else
+		{
+			values[fieldId] = schema.getValueBits(obj, fieldId);
+		}
+
+		isKnown[fieldId] = true;
+	}
+}
@@ -66,7 +66,13 @@ public class PacketBabyInfo extends AbstractPacket implements IMessage, IMessage
 	public IMessage onMessage(PacketBabyInfo packet, MessageContext context)
 	{
 		//Set the player's spouse's manager to have the same baby info.
-		final WorldPropertiesManager spouseManager = MCA.getInstance().playerWorldManagerMap.get(packet.targetSpouseName);
+		final WorldPropertiesManager spouseManager = MCA.getInstance().getWorldPropertiesManager(packet.targetSpouseName);
+
+		if (spouseManager == null)
+		{
+			return null;
+		}
+
 		final WorldPropertiesList properties = (WorldPropertiesList) spouseManager.worldPropertiesInstance;
 
 		properties.babyExists = packet.babyExists;
@@ -74,7 +80,7 @@ public class PacketBabyInfo extends AbstractPacket implements IMessage, IMessage
 		properties.babyName = packet.babyName;
 		properties.babyReadyToGrow = packet.babyReadyToGrow;
 
-		spouseManager.saveWorldProperties();
+		MCA.getInstance().worldPropertiesStore.save(spouseManager);
 
 		return null;
 	}
@@ -79,7 +79,7 @@ public class PacketOnVillagerProcreate extends AbstractPacket implements IMessag
 		final WorldPropertiesManager manager = MCA.getInstance().playerWorldManagerMap.get(player.getCommandSenderName());
 		MCA.getInstance().getWorldProperties(manager).babyIsMale = packet.babyIsMale;
 		MCA.getInstance().getWorldProperties(manager).babyExists = true;
-		manager.saveWorldProperties();
+		MCA.getInstance().worldPropertiesStore.save(manager);
 
 		//Make the player choose a name for the baby.
 		player.openGui(MCA.getInstance(), Constants.ID_GUI_NAMECHILD, player.worldObj, (int) player.posX, (int) player.posY, (int) player.posZ);
@@ -124,8 +124,8 @@ public class PacketPlayerInteraction extends AbstractPacket implements IMessage,
 		targetList.playerSpouseName = senderInfo.getPlayer().getCommandSenderName();
 		targetList.playerSpouseID = senderList.playerID;
 
-		senderInfo.getManager().saveWorldProperties();
-		targetInfo.getManager().saveWorldProperties();
+		MCA.getInstance().worldPropertiesStore.save(senderInfo.getManager());
+		MCA.getInstance().worldPropertiesStore.save(targetInfo.getManager());
 
 		MCA.packetHandler.sendPacketToPlayer(new PacketNotifyLocalized("multiplayer.command.output.marry.accept", targetInfo.getPlayer()), (EntityPlayerMP) senderInfo.getPlayer());
 		MCA.packetHandler.sendPacketToPlayer(new PacketNotifyLocalized("multiplayer.command.output.marry.accept", senderInfo.getPlayer()), (EntityPlayerMP) targetInfo.getPlayer());
@@ -178,8 +178,8 @@ public class PacketPlayerInteraction extends AbstractPacket implements IMessage,
 		senderInfo.getPropertiesList().babyExists = true;
 		targetInfo.getPropertiesList().babyExists = true;
 		
-		senderInfo.getManager().saveWorldProperties();
-		targetInfo.getManager().saveWorldProperties();
+		MCA.getInstance().worldPropertiesStore.save(senderInfo.getManager());
+		MCA.getInstance().worldPropertiesStore.save(targetInfo.getManager());
 		
 		MCA.packetHandler.sendPacketToPlayer(new PacketOpenGui(targetInfo.getPlayer().getEntityId(), Constants.ID_GUI_NAMECHILD), (EntityPlayerMP)targetInfo.getPlayer());
 	}
@@ -200,8 +200,8 @@ public class PacketPlayerInteraction extends AbstractPacket implements IMessage,
 		targetList.playerSpouseName = "";
 		targetList.playerSpouseID = 0;
 
-		senderInfo.getManager().saveWorldProperties();
-		targetInfo.getManager().saveWorldProperties();
+		MCA.getInstance().worldPropertiesStore.save(senderInfo.getManager());
+		MCA.getInstance().worldPropertiesStore.save(targetInfo.getManager());
 
 		MCA.packetHandler.sendPacketToPlayer(new PacketNotifyLocalized("multiplayer.command.output.divorce.successful", senderInfo.getPlayer()), (EntityPlayerMP) senderInfo.getPlayer());
 		MCA.packetHandler.sendPacketToPlayer(new PacketNotifyLocalized("multiplayer.command.output.divorce.successful", senderInfo.getPlayer()), (EntityPlayerMP) targetInfo.getPlayer());
@@ -60,6 +60,7 @@ public class PacketSetFamilyTree extends AbstractPacket implements IMessage, IMe
 		{
 			packet.familyTree.owner = entity;
 			entity.familyTree = packet.familyTree;
+			entity.familyTree.registerWithGraph();
 
 			if (context.side == Side.SERVER)
 			{
@@ -10,19 +10,21 @@ package mca.network.packets;
 import io.netty.buffer.ByteBuf;
 
 import java.lang.reflect.Field;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 import mca.core.MCA;
-import mca.core.util.object.PlayerMemory;
 import mca.entity.AbstractEntity;
 import mca.enums.EnumRelation;
 import mca.enums.EnumTrait;
+import mca.network.SyncInput;
+import mca.network.SyncOutput;
+import mca.network.SyncSchema;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 
 import com.radixshock.radixcore.file.WorldPropertiesManager;
-import com.radixshock.radixcore.network.ByteBufIO;
 import com.radixshock.radixcore.network.packets.AbstractPacket;
 
 import cpw.mods.fml.common.network.simpleimpl.IMessage;
@@ -31,35 +33,107 @@ import cpw.mods.fml.common.network.simpleimpl.MessageContext;
 
 public class PacketSetFieldValue extends AbstractPacket implements IMessage, IMessageHandler<PacketSetFieldValue, IMessage>
 {
+	/** Fields that clients may set. Every other field, such as a villager's texture, is only ever set by the server. */
+	private static final Set<String> CLIENT_SETTABLE_FIELDS = new HashSet<String>(Arrays.asList(
+		"aidCooldown", "currentChore", "doActAsHeir", "doApplyGirth", "doApplyHeight", "doDivorce",
+		"doOpenInventory", "followingPlayer", "girthFactor", "hasBeenExecuted", "hasBeenHeir", "hasHomePoint",
+		"hasReturnedInventory", "heightFactor", "homePointX", "homePointY", "homePointZ", "idleTicks",
+		"isFollowing", "isGrowthApproved", "isInChoreMode", "isKnight", "isMarriageToPlayerArranged",
+		"isMarriedToPlayer", "isPeasant", "isSleeping", "isStaying", "monarchPlayerName", "spousePlayerName"));
+
 	private int entityId;
-	private String fieldName;
+	private int fieldId;
+	private byte fieldType;
+	private long integralValue;
+	private double decimalValue;
+	private String stringValue;
 	private Object fieldValue;
 
 	public PacketSetFieldValue()
 	{
 	}
 
-	public PacketSetFieldValue(int entityId, String fieldName, Object fieldValue)
+	public PacketSetFieldValue(AbstractEntity entity, String fieldName, Object fieldValue)
 	{
-		this.entityId = entityId;
-		this.fieldName = fieldName;
+		final SyncSchema schema = SyncSchema.forClass(entity.getClass());
+
+		this.entityId = entity.getEntityId();
 		this.fieldValue = fieldValue;
+		this.fieldId = schema.getFieldId(fieldName);
+
+		//Player memories are sent with PacketSyncPlayerMemory.
+		if (fieldId == -1)
+		{
+			throw new IllegalArgumentException(fieldName + " is not a synced field of " + entity.getClass().getSimpleName() + ".");
+		}
+
+		this.fieldType = schema.getFieldType(fieldId);
 	}
 
 	@Override
 	public void fromBytes(ByteBuf byteBuf)
 	{
+		final SyncInput input = new SyncInput(byteBuf);
 		entityId = byteBuf.readInt();
-		fieldName = (String) ByteBufIO.readObject(byteBuf);
-		fieldValue = ByteBufIO.readObject(byteBuf);
+		fieldId = input.readSignedVarInt();
+		fieldType = byteBuf.readByte();
+
+		switch (fieldType)
+		{
+			case SyncSchema.TYPE_BOOLEAN:
+				integralValue = input.readBoolean() ? 1 : 0;
+				break;
+			case SyncSchema.TYPE_INT:
+				integralValue = input.readSignedVarInt();
+				break;
+			case SyncSchema.TYPE_LONG:
+				integralValue = input.readSignedVarLong();
+				break;
+			case SyncSchema.TYPE_FLOAT:
+				decimalValue = input.readFloat();
+				break;
+			case SyncSchema.TYPE_DOUBLE:
+				decimalValue = input.readDouble();
+				break;
+			case SyncSchema.TYPE_STRING:
+				stringValue = input.readString();
+				break;
+			default:
+				break;
+		}
 	}
 
 	@Override
 	public void toBytes(ByteBuf byteBuf)
 	{
+		final SyncOutput output = new SyncOutput(byteBuf);
 		byteBuf.writeInt(entityId);
-		ByteBufIO.writeObject(byteBuf, fieldName);
-		ByteBufIO.writeObject(byteBuf, fieldValue);
+		output.writeSignedVarInt(fieldId);
+		byteBuf.writeByte(fieldType);
+
+		switch (fieldType)
+		{
+			case SyncSchema.TYPE_BOOLEAN:
+				output.writeBoolean((Boolean) fieldValue);
+				break;
+			case SyncSchema.TYPE_INT:
+				output.writeSignedVarInt(((Number) fieldValue).intValue());
+				break;
+			case SyncSchema.TYPE_LONG:
+				output.writeSignedVarLong(((Number) fieldValue).longValue());
+				break;
+			case SyncSchema.TYPE_FLOAT:
+				output.writeFloat(((Number) fieldValue).floatValue());
+				break;
+			case SyncSchema.TYPE_DOUBLE:
+				output.writeDouble(((Number) fieldValue).doubleValue());
+				break;
+			case SyncSchema.TYPE_STRING:
+				output.writeString(fieldValue == null ? null : fieldValue.toString());
+				break;
+			default:
+				break;
+		}
 	}
 
 	@Override
@@ -67,174 +141,150 @@ public class PacketSetFieldValue extends AbstractPacket implements IMessage, IMe
 	{
 		final EntityPlayer player = getPlayer(context);
 		final WorldPropertiesManager manager = MCA.getInstance().playerWorldManagerMap.get(player.getCommandSenderName());
+		final Entity entity = player.worldObj.getEntityByID(packet.entityId);
 
-		if (MCA.getInstance().debugDoLogPackets && MCA.getInstance().inDebugMode)
+		if (manager == null || !(entity instanceof AbstractEntity))
 		{
-			MCA.getInstance().getLogger().log("\t" + packet.entityId + " | " + packet.fieldName + " | " + packet.fieldValue);
+			return null;
 		}
 
-		if (manager != null)
+		final AbstractEntity abstractEntity = (AbstractEntity) entity;
+
+		try
 		{
-			for (final Object obj : player.worldObj.loadedEntityList)
+			final SyncSchema schema = SyncSchema.forClass(abstractEntity.getClass());
+
+			if (packet.fieldId < 0 || packet.fieldId >= schema.getFieldCount() || schema.getFieldType(packet.fieldId) != packet.fieldType)
 			{
-				try
-				{
-					final Entity entity = (Entity) obj;
-
-					if (entity.getEntityId() == packet.entityId)
-					{
-						final AbstractEntity abstractEntity = (AbstractEntity) entity;
-
-						for (final Field f : entity.getClass().getFields())
-						{
-							if (!packet.fieldName.equals("texture"))
-							{
-								if (f.getName().equals(packet.fieldName))
-								{
-									//Achievements
-									if (f.getName().equals("isPeasant") && packet.fieldValue.toString().equals("true"))
-									{
-										MCA.getInstance().getWorldProperties(manager).stat_villagersMadePeasants++;
-										player.triggerAchievement(MCA.getInstance().achievementMakePeasant);
-
-										if (MCA.getInstance().getWorldProperties(manager).stat_villagersMadePeasants >= 20)
-										{
-											player.triggerAchievement(MCA.getInstance().achievementPeasantArmy);
-										}
-
-										manager.saveWorldProperties();
-									}
-
-									if (f.getName().equals("isKnight") && packet.fieldValue.toString().equals("true"))
-									{
-										MCA.getInstance().getWorldProperties(manager).stat_guardsMadeKnights++;
-										player.triggerAchievement(MCA.getInstance().achievementMakeKnight);
-
-										if (MCA.getInstance().getWorldProperties(manager).stat_guardsMadeKnights >= 20)
-										{
-											player.triggerAchievement(MCA.getInstance().achievementKnightArmy);
-										}
-
-										manager.saveWorldProperties();
-									}
-
-									if (f.getName().equals("hasBeenExecuted") && packet.fieldValue.toString().equals("true"))
-									{
-										MCA.getInstance().getWorldProperties(manager).stat_villagersExecuted++;
-										player.triggerAchievement(MCA.getInstance().achievementExecuteVillager);
-
-										if (abstractEntity.familyTree.getRelationOf(MCA.getInstance().getIdOfPlayer(player)) == EnumRelation.Spouse)
-										{
-											MCA.getInstance().getWorldProperties(manager).stat_wivesExecuted++;
-
-											if (MCA.getInstance().getWorldProperties(manager).stat_wivesExecuted >= 6)
-											{
-												player.triggerAchievement(MCA.getInstance().achievementMonarchSecret);
-											}
-										}
-										manager.saveWorldProperties();
-
-									}
-									//Setting the value.
-									if (f.getType().getName().contains("boolean"))
-									{
-										entity.getClass().getField(packet.fieldName).set(entity, Boolean.parseBoolean(packet.fieldValue.toString()));
-
-										//Special condition. When isSpouse is changed, a villager's AI must be updated just in case it is a guard who is
-										//either getting married or getting divorced.
-										if (f.getName().equals("isSpouse"))
-										{
-											abstractEntity.addAI();
-										}
-									}
-
-									else if (f.getType().getName().contains("int"))
-									{
-										entity.getClass().getField(packet.fieldName).set(entity, Integer.parseInt(packet.fieldValue.toString()));
-
-										if (f.getName().equals("traitId"))
-										{
-											abstractEntity.trait = EnumTrait.getTraitById(abstractEntity.traitId);
-										}
-
-										if (f.getName().equals("profession"))
-										{
-											abstractEntity.addAI();
-										}
-									}
-
-									else if (f.getType().getName().contains("double"))
-									{
-										entity.getClass().getField(packet.fieldName).set(entity, Double.parseDouble(packet.fieldValue.toString()));
-									}
-
-									else if (f.getType().getName().contains("float"))
-									{
-										entity.getClass().getField(packet.fieldName).set(entity, Float.parseFloat(packet.fieldValue.toString()));
-
-										abstractEntity.setMoodByMoodPoints(false);
-									}
-
-									else if (f.getType().getName().contains("String"))
-									{
-										entity.getClass().getField(packet.fieldName).set(entity, packet.fieldValue.toString());
-									}
-
-									else if (f.getType().getName().contains("Map"))
-									{
-										if (f.getName().equals("playerMemoryMap"))
-										{
-											//Player name must be set if the map is a memory map since it is transient.
-											final Map<String, PlayerMemory> memoryMap = (Map<String, PlayerMemory>) packet.fieldValue;
-											final PlayerMemory memory = memoryMap.get(player.getCommandSenderName());
-
-											if (memory != null)
-											{
-												memory.playerName = player.getCommandSenderName();
-												memoryMap.put(player.getCommandSenderName(), memory);
-											}
-
-											else
-											{
-												memoryMap.put(player.getCommandSenderName(), new PlayerMemory(player.getCommandSenderName()));
-											}
-
-											entity.getClass().getField(packet.fieldName).set(entity, memoryMap);
-										}
-
-										else
-										{
-											entity.getClass().getField(packet.fieldName).set(entity, packet.fieldValue);
-										}
-									}
-								}
-							}
-
-							else
-							{
-								((AbstractEntity) entity).setTexture(packet.fieldValue.toString());
-							}
-						}
-
-						break;
-					}
-				}
+				MCA.getInstance().getLogger().log("WARNING: Field ID " + packet.fieldId + " does not match any field of " + abstractEntity.getClass().getSimpleName() + ". Client and server MCA versions may differ.");
+				return null;
+			}
 
-				catch (final Throwable e)
-				{
-					MCA.getInstance().getLogger().log("Error setting field value.");
-					MCA.getInstance().getLogger().log(e);
-					continue;
-				}
+			final String fieldName = schema.getFieldName(packet.fieldId);
+
+			if (!player.worldObj.isRemote && !CLIENT_SETTABLE_FIELDS.contains(fieldName))
+			{
+				MCA.getInstance().getLogger().log("WARNING: " + player.getCommandSenderName() + " tried to set " + fieldName + ", which clients may not set.");
+				return null;
 			}
 
-			//Sync with all other players if server side.
+			setValue(schema.getField(packet.fieldId), abstractEntity, packet);
+
+			if (MCA.getInstance().debugDoLogPackets && MCA.getInstance().inDebugMode)
+			{
+				MCA.getInstance().getLogger().log("\t" + packet.entityId + " | " + fieldName + " | " + schema.getField(packet.fieldId).get(abstractEntity));
+			}
+
+			onFieldValueSet(abstractEntity, fieldName, player, manager);
+
+			if (fieldName.startsWith("moodPoints"))
+			{
+				abstractEntity.setMoodByMoodPoints(false);
+			}
+
+			//Sync with all other players tracking this entity if server side.
 			if (!player.worldObj.isRemote)
 			{
-				MCA.packetHandler.sendPacketToAllPlayersExcept(new PacketSetFieldValue(packet.entityId, packet.fieldName, packet.fieldValue), (EntityPlayerMP) player);
+				abstractEntity.markFieldDirty(fieldName);
 			}
 		}
 
+		catch (final Throwable e)
+		{
+			MCA.getInstance().getLogger().log("Error setting field value.");
+			MCA.getInstance().getLogger().log(e);
+		}
+
 		return null;
 	}
+
+	private static void setValue(Field field, AbstractEntity entity, PacketSetFieldValue packet) throws IllegalAccessException
+	{
+		switch (packet.fieldType)
+		{
+			case SyncSchema.TYPE_BOOLEAN:
+				field.setBoolean(entity, packet.integralValue != 0);
+				break;
+			case SyncSchema.TYPE_INT:
+				field.setInt(entity, (int) packet.integralValue);
+				break;
+			case SyncSchema.TYPE_LONG:
+				field.setLong(entity, packet.integralValue);
+				break;
+			case SyncSchema.TYPE_FLOAT:
+				field.setFloat(entity, (float) packet.decimalValue);
+				break;
+			case SyncSchema.TYPE_DOUBLE:
+				field.setDouble(entity, packet.decimalValue);
+				break;
+			case SyncSchema.TYPE_STRING:
+				field.set(entity, packet.stringValue);
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Handles achievements and other updates that depend on the value of the field that was just set.
+	 */
+	private static void onFieldValueSet(AbstractEntity entity, String fieldName, EntityPlayer player, WorldPropertiesManager manager)
+	{
+		//Achievements
+		if (fieldName.equals("isPeasant") && entity.isPeasant)
+		{
+			MCA.getInstance().getWorldProperties(manager).stat_villagersMadePeasants++;
+			player.triggerAchievement(MCA.getInstance().achievementMakePeasant);
+
+			if (MCA.getInstance().getWorldProperties(manager).stat_villagersMadePeasants >= 20)
+			{
+				player.triggerAchievement(MCA.getInstance().achievementPeasantArmy);
+			}
+
+			MCA.getInstance().worldPropertiesStore.save(manager);
+		}
+
+		else if (fieldName.equals("isKnight") && entity.isKnight)
+		{
+			MCA.getInstance().getWorldProperties(manager).stat_guardsMadeKnights++;
+			player.triggerAchievement(MCA.getInstance().achievementMakeKnight);
+
+			if (MCA.getInstance().getWorldProperties(manager).stat_guardsMadeKnights >= 20)
+			{
+				player.triggerAchievement(MCA.getInstance().achievementKnightArmy);
+			}
+
+			MCA.getInstance().worldPropertiesStore.save(manager);
+		}
+
+		else if (fieldName.equals("hasBeenExecuted") && entity.hasBeenExecuted)
+		{
+			MCA.getInstance().getWorldProperties(manager).stat_villagersExecuted++;
+			player.triggerAchievement(MCA.getInstance().achievementExecuteVillager);
+
+			if (entity.familyTree.getRelationOf(MCA.getInstance().getIdOfPlayer(player)) == EnumRelation.Spouse)
+			{
+				MCA.getInstance().getWorldProperties(manager).stat_wivesExecuted++;
+
+				if (MCA.getInstance().getWorldProperties(manager).stat_wivesExecuted >= 6)
+				{
+					player.triggerAchievement(MCA.getInstance().achievementMonarchSecret);
+				}
+			}
+
+			MCA.getInstance().worldPropertiesStore.save(manager);
+		}
+
+		//Special condition. When isSpouse or profession is changed, a villager's AI must be updated just in case it is a guard who is
+		//either getting married or getting divorced.
+		else if (fieldName.equals("isSpouse") || fieldName.equals("profession"))
+		{
+			entity.addAI();
+		}
+
+		else if (fieldName.equals("traitId"))
+		{
+			entity.trait = EnumTrait.getTraitById(entity.traitId);
+		}
+	}
 }
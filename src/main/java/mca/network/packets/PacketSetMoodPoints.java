@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * PacketSetMoodPoints.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.network.packets;
+
+import io.netty.buffer.ByteBuf;
+import mca.core.MCA;
+import mca.entity.AbstractEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+
+import com.radixshock.radixcore.network.packets.AbstractPacket;
+
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+
+/**
+ * Sends the server all three mood point values of an entity whose mood was changed on the client.
+ */
+public class PacketSetMoodPoints extends AbstractPacket implements IMessage, IMessageHandler<PacketSetMoodPoints, IMessage>
+{
+	private int entityId;
+	private float moodPointsHappy;
+	private float moodPointsSad;
+	private float moodPointsAnger;
+
+	public PacketSetMoodPoints()
+	{
+	}
+
+	public PacketSetMoodPoints(AbstractEntity entity)
+	{
+		this.entityId = entity.getEntityId();
+		this.moodPointsHappy = entity.moodPointsHappy;
+		this.moodPointsSad = entity.moodPointsSad;
+		this.moodPointsAnger = entity.moodPointsAnger;
+	}
+
+	@Override
+	public void fromBytes(ByteBuf byteBuf)
+	{
+		entityId = byteBuf.readInt();
+		moodPointsHappy = byteBuf.readFloat();
+		moodPointsSad = byteBuf.readFloat();
+		moodPointsAnger = byteBuf.readFloat();
+	}
+
+	@Override
+	public void toBytes(ByteBuf byteBuf)
+	{
+		byteBuf.writeInt(entityId);
+		byteBuf.writeFloat(moodPointsHappy);
+		byteBuf.writeFloat(moodPointsSad);
+		byteBuf.writeFloat(moodPointsAnger);
+	}
+
+	@Override
+	public IMessage onMessage(PacketSetMoodPoints packet, MessageContext context)
+	{
+		final EntityPlayer player = getPlayer(context);
+		final Entity entity = player.worldObj.getEntityByID(packet.entityId);
+
+		if (!(entity instanceof AbstractEntity))
+		{
+			return null;
+		}
+
+		final AbstractEntity abstractEntity = (AbstractEntity) entity;
+		abstractEntity.moodPointsHappy = packet.moodPointsHappy;
+		abstractEntity.moodPointsSad = packet.moodPointsSad;
+		abstractEntity.moodPointsAnger = packet.moodPointsAnger;
+
+		if (MCA.getInstance().debugDoLogPackets && MCA.getInstance().inDebugMode)
+		{
+			MCA.getInstance().getLogger().log("\t" + packet.entityId + " | mood points | " + packet.moodPointsHappy + ", " + packet.moodPointsSad + ", " + packet.moodPointsAnger);
+		}
+
+		//Sync with all other players tracking this entity if server side.
+		abstractEntity.setMoodByMoodPoints(!player.worldObj.isRemote);
+		return null;
+	}
+}
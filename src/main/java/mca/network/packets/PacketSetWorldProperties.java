@@ -74,6 +74,8 @@ public class PacketSetWorldProperties extends AbstractPacket implements IMessage
 							field.set(myManager.worldPropertiesInstance, serverValue);
 						}
 					}
+
+					MCA.getInstance().indexPlayer(myManager, player.getCommandSenderName());
 				}
 
 				else
@@ -91,13 +93,14 @@ public class PacketSetWorldProperties extends AbstractPacket implements IMessage
 						}
 					}
 
-					myManager.saveWorldProperties();
+					MCA.getInstance().worldPropertiesStore.save(myManager);
 				}
 			}
 
 			else
 			{
 				MCA.getInstance().playerWorldManagerMap.put(player.getCommandSenderName(), recvManager);
+				MCA.getInstance().indexPlayer(recvManager, player.getCommandSenderName());
 			}
 		}
 
@@ -8,24 +8,14 @@
 package mca.network.packets;
 
 import io.netty.buffer.ByteBuf;
-
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.List;
-
-import mca.chore.AbstractChore;
+import io.netty.buffer.Unpooled;
 import mca.core.MCA;
-import mca.core.util.object.FamilyTree;
-import mca.entity.AbstractChild;
+import mca.core.util.object.PlayerMemory;
 import mca.entity.AbstractEntity;
-import mca.entity.EntityPlayerChild;
-import mca.entity.EntityVillagerChild;
 import mca.enums.EnumTrait;
-import mca.inventory.Inventory;
+import mca.network.EntitySyncCodec;
 import net.minecraft.entity.player.EntityPlayer;
 
-import com.radixshock.radixcore.network.ByteBufIO;
 import com.radixshock.radixcore.network.packets.AbstractPacket;
 
 import cpw.mods.fml.common.network.simpleimpl.IMessage;
@@ -36,29 +26,48 @@ public class PacketSync extends AbstractPacket implements IMessage, IMessageHand
 {
 	private int entityId;
 	private AbstractEntity entity;
+	private String playerName;
+	private byte[] entityData;
 
 	public PacketSync()
 	{
 	}
 
-	public PacketSync(int entityId, AbstractEntity entity)
+	/**
+	 * Constructor
+	 * 
+	 * @param entityId The ID of the entity being synced.
+	 * @param entity The entity being synced.
+	 * @param player The player the packet will be sent to. Only their memory of the entity is sent.
+	 */
+	public PacketSync(int entityId, AbstractEntity entity, EntityPlayer player)
 	{
 		this.entityId = entityId;
 		this.entity = entity;
+		this.playerName = player.getCommandSenderName();
+
+		//The player's memory is sent in full, so later changes must be compared against it.
+		final PlayerMemory memory = entity.playerMemoryMap.get(playerName);
+
+		if (memory != null)
+		{
+			PacketSyncPlayerMemory.markAllFieldsSynced(memory);
+		}
 	}
 
 	@Override
 	public void fromBytes(ByteBuf byteBuf)
 	{
 		entityId = byteBuf.readInt();
-		entity = (AbstractEntity) ByteBufIO.readObject(byteBuf);
+		entityData = new byte[byteBuf.readableBytes()];
+		byteBuf.readBytes(entityData);
 	}
 
 	@Override
 	public void toBytes(ByteBuf byteBuf)
 	{
 		byteBuf.writeInt(entityId);
-		ByteBufIO.writeObject(byteBuf, entity);
+		EntitySyncCodec.writeEntity(entity, playerName, byteBuf);
 	}
 
 	@Override
@@ -72,69 +81,10 @@ public class PacketSync extends AbstractPacket implements IMessage, IMessageHand
 			MCA.getInstance().getLogger().log("WARNING: Sync failure. Entity ID not found on client - " + packet.entityId);
 		}
 
-		else
+		else if (EntitySyncCodec.readEntity(clientEntity, Unpooled.wrappedBuffer(packet.entityData)))
 		{
-			//Figure out which classes the entity is composed of.
-			final List<Class> classList = new ArrayList<Class>();
-			classList.add(AbstractEntity.class);
-			classList.add(packet.entity.getClass());
-
-			if (packet.entity instanceof EntityPlayerChild || packet.entity instanceof EntityVillagerChild)
-			{
-				classList.add(AbstractChild.class);
-			}
-
-			for (final Class clazz : classList)
-			{
-				for (final Field field : clazz.getDeclaredFields())
-				{
-					try
-					{
-						//Assign each chore an owner.
-						if (field.get(packet.entity) instanceof AbstractChore)
-						{
-							final AbstractChore theChore = (AbstractChore) field.get(packet.entity);
-							theChore.owner = clientEntity;
-
-							field.set(clientEntity, theChore);
-						}
-
-						//Assign the family tree an owner.
-						else if (field.get(packet.entity) instanceof FamilyTree)
-						{
-							final FamilyTree theFamilyTree = (FamilyTree) field.get(packet.entity);
-							theFamilyTree.owner = clientEntity;
-
-							field.set(clientEntity, theFamilyTree);
-						}
-
-						//Assign the inventory an owner.
-						else if (field.get(packet.entity) instanceof Inventory)
-						{
-							final Inventory theInventory = (Inventory) field.get(packet.entity);
-							theInventory.owner = clientEntity;
-
-							if (!clientEntity.inventory.equals(theInventory))
-							{
-								field.set(clientEntity, theInventory);
-							}
-						}
-
-						else if (!Modifier.isFinal(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
-						{
-							field.set(clientEntity, field.get(packet.entity));
-						}
-					}
-
-					catch (final IllegalAccessException e)
-					{
-						continue;
-					}
-				}
-			}
-
 			clientEntity.addAI();
-			clientEntity.setTexture(packet.entity.getTexture());
+			clientEntity.setTexture(clientEntity.getTexture());
 			clientEntity.setMoodByMoodPoints(false);
 			clientEntity.trait = EnumTrait.getTraitById(clientEntity.traitId);
 
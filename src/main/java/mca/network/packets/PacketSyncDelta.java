@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * PacketSyncDelta.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.network.packets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import mca.core.MCA;
+import mca.entity.AbstractEntity;
+import mca.enums.EnumTrait;
+import mca.network.SyncInput;
+import mca.network.SyncOutput;
+import mca.network.SyncSchema;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+
+import com.radixshock.radixcore.network.packets.AbstractPacket;
+
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+
+/**
+ * Sends the values of every field of an entity that changed during the last tick.
+ */
+public class PacketSyncDelta extends AbstractPacket implements IMessage, IMessageHandler<PacketSyncDelta, IMessage>
+{
+	private int entityId;
+	private AbstractEntity entity;
+	private int[] fieldIds;
+	private byte[] fieldData;
+
+	public PacketSyncDelta()
+	{
+	}
+
+	public PacketSyncDelta(AbstractEntity entity, int[] fieldIds)
+	{
+		this.entityId = entity.getEntityId();
+		this.entity = entity;
+		this.fieldIds = fieldIds;
+	}
+
+	@Override
+	public void fromBytes(ByteBuf byteBuf)
+	{
+		entityId = byteBuf.readInt();
+		fieldData = new byte[byteBuf.readableBytes()];
+		byteBuf.readBytes(fieldData);
+	}
+
+	@Override
+	public void toBytes(ByteBuf byteBuf)
+	{
+		byteBuf.writeInt(entityId);
+		writeFields(entity, fieldIds, new SyncOutput(byteBuf));
+	}
+
+	@Override
+	public IMessage onMessage(PacketSyncDelta packet, MessageContext context)
+	{
+		final EntityPlayer player = getPlayer(context);
+		final Entity entity = player.worldObj.getEntityByID(packet.entityId);
+
+		//The entity may have left this client's view before the packet arrived, and its ID may have been reused since.
+		//A full sync is requested when it returns.
+		if (!(entity instanceof AbstractEntity))
+		{
+			return null;
+		}
+
+		readFields((AbstractEntity) entity, new SyncInput(Unpooled.wrappedBuffer(packet.fieldData)));
+		return null;
+	}
+
+	/**
+	 * Writes the values of some of an entity's fields.
+	 * 
+	 * @param entity The entity whose fields are written.
+	 * @param fieldIds The schema IDs of the fields to write.
+	 * @param output The output to write to.
+	 */
+	static void writeFields(AbstractEntity entity, int[] fieldIds, SyncOutput output)
+	{
+		final SyncSchema schema = SyncSchema.forClass(entity.getClass());
+		output.writeVarInt(fieldIds.length);
+
+		try
+		{
+			for (final int fieldId : fieldIds)
+			{
+				output.writeVarInt(fieldId);
+				schema.writeValue(entity, fieldId, output);
+			}
+		}
+
+		catch (final IllegalAccessException e)
+		{
+			throw new IllegalStateException("Unable to read field of " + entity.getClass().getSimpleName(), e);
+		}
+	}
+
+	/**
+	 * Reads field values written by writeFields into an entity on the client.
+	 * 
+	 * @param clientEntity The entity to read into.
+	 * @param input The input to read from.
+	 */
+	static void readFields(AbstractEntity clientEntity, SyncInput input)
+	{
+		final SyncSchema schema = SyncSchema.forClass(clientEntity.getClass());
+		final int fieldCount = input.readVarInt();
+		boolean doAddAI = false;
+		boolean doUpdateMood = false;
+
+		try
+		{
+			for (int i = 0; i < fieldCount; i++)
+			{
+				final int fieldId = input.readVarInt();
+				final String fieldName = schema.getFieldName(fieldId);
+				schema.readValue(clientEntity, fieldId, input);
+
+				if (MCA.getInstance().debugDoLogPackets && MCA.getInstance().inDebugMode)
+				{
+					MCA.getInstance().getLogger().log("\t" + clientEntity.getEntityId() + " | " + fieldName);
+				}
+
+				//A villager's AI must be updated when it may have become or stopped being a guard or spouse.
+				if (fieldName.equals("isSpouse") || fieldName.equals("profession"))
+				{
+					doAddAI = true;
+				}
+
+				else if (fieldName.equals("traitId"))
+				{
+					clientEntity.trait = EnumTrait.getTraitById(clientEntity.traitId);
+				}
+
+				else if (schema.getFieldType(fieldId) == SyncSchema.TYPE_FLOAT)
+				{
+					doUpdateMood = true;
+				}
+			}
+		}
+
+		catch (final IllegalAccessException e)
+		{
+			MCA.getInstance().getLogger().log("Error setting field value.");
+			MCA.getInstance().getLogger().log(e);
+		}
+
+		if (doAddAI)
+		{
+			clientEntity.addAI();
+		}
+
+		if (doUpdateMood)
+		{
+			clientEntity.setMoodByMoodPoints(false);
+		}
+	}
+}
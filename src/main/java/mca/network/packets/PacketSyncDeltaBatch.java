@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * PacketSyncDeltaBatch.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.network.packets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.util.List;
+
+import mca.entity.AbstractEntity;
+import mca.network.SyncInput;
+import mca.network.SyncOutput;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+
+import com.radixshock.radixcore.network.packets.AbstractPacket;
+
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+
+/**
+ * Sends the changed fields of several entities at once. Each entity's fields are written the same way as PacketSyncDelta,
+ * prefixed with their length so that entities the client cannot see can be skipped.
+ */
+public class PacketSyncDeltaBatch extends AbstractPacket implements IMessage, IMessageHandler<PacketSyncDeltaBatch, IMessage>
+{
+	private List<AbstractEntity> entities;
+	private List<int[]> fieldIds;
+	private byte[] batchData;
+
+	public PacketSyncDeltaBatch()
+	{
+	}
+
+	public PacketSyncDeltaBatch(List<AbstractEntity> entities, List<int[]> fieldIds)
+	{
+		this.entities = entities;
+		this.fieldIds = fieldIds;
+	}
+
+	@Override
+	public void fromBytes(ByteBuf byteBuf)
+	{
+		batchData = new byte[byteBuf.readableBytes()];
+		byteBuf.readBytes(batchData);
+	}
+
+	@Override
+	public void toBytes(ByteBuf byteBuf)
+	{
+		final SyncOutput output = new SyncOutput(byteBuf);
+		final ByteBuf entityBuffer = Unpooled.buffer();
+
+		output.writeVarInt(entities.size());
+
+		for (int i = 0; i < entities.size(); i++)
+		{
+			entityBuffer.clear();
+			PacketSyncDelta.writeFields(entities.get(i), fieldIds.get(i), new SyncOutput(entityBuffer));
+
+			byteBuf.writeInt(entities.get(i).getEntityId());
+			output.writeVarInt(entityBuffer.readableBytes());
+			byteBuf.writeBytes(entityBuffer);
+		}
+	}
+
+	@Override
+	public IMessage onMessage(PacketSyncDeltaBatch packet, MessageContext context)
+	{
+		final EntityPlayer player = getPlayer(context);
+		final ByteBuf buffer = Unpooled.wrappedBuffer(packet.batchData);
+		final SyncInput input = new SyncInput(buffer);
+		final int entityCount = input.readVarInt();
+
+		for (int i = 0; i < entityCount; i++)
+		{
+			final int entityId = buffer.readInt();
+			final int length = input.readVarInt();
+			final Entity entity = player.worldObj.getEntityByID(entityId);
+
+			//Entities out of this client's view are skipped. A full sync is requested when they come into view.
+			if (entity instanceof AbstractEntity)
+			{
+				PacketSyncDelta.readFields((AbstractEntity) entity, new SyncInput(buffer.slice(buffer.readerIndex(), length)));
+			}
+
+			buffer.skipBytes(length);
+		}
+
+		return null;
+	}
+}
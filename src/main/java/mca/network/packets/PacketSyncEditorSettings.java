@@ -9,9 +9,11 @@ package mca.network.packets;
 
 import io.netty.buffer.ByteBuf;
 import mca.core.MCA;
+import mca.core.util.VillageCensus;
 import mca.entity.AbstractEntity;
 import mca.inventory.Inventory;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 
 import com.radixshock.radixcore.network.ByteBufIO;
 import com.radixshock.radixcore.network.packets.AbstractPacket;
@@ -98,8 +100,14 @@ public class PacketSyncEditorSettings extends AbstractPacket implements IMessage
 			entity.traitId = packet.traitId;
 			entity.inventory = packet.inventory;
 			entity.texture = packet.texture;
+			VillageCensus.forWorld(entity.worldObj).updateResident(entity);
 
-			MCA.packetHandler.sendPacketToAllPlayers(new PacketSync(entity.getEntityId(), entity));
+			//Each player is only sent their own memory of the entity. Players in other worlds request a sync when they see it.
+			for (final Object obj : entity.worldObj.playerEntities)
+			{
+				final EntityPlayer worldPlayer = (EntityPlayer) obj;
+				MCA.packetHandler.sendPacketToPlayer(new PacketSync(entity.getEntityId(), entity, worldPlayer), (EntityPlayerMP) worldPlayer);
+			}
 		}
 
 		return null;
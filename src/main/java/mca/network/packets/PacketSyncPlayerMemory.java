@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * PacketSyncPlayerMemory.java
+ * Copyright (c) 2014 WildBamaBoy.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the MCA Minecraft Mod license.
+ ******************************************************************************/
+
+package mca.network.packets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import mca.core.MCA;
+import mca.core.util.object.PlayerMemory;
+import mca.entity.AbstractEntity;
+import mca.network.SyncInput;
+import mca.network.SyncOutput;
+import mca.network.SyncSchema;
+import mca.network.SyncSnapshot;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+
+import com.radixshock.radixcore.network.packets.AbstractPacket;
+
+import cpw.mods.fml.common.network.simpleimpl.IMessage;
+import cpw.mods.fml.common.network.simpleimpl.IMessageHandler;
+import cpw.mods.fml.common.network.simpleimpl.MessageContext;
+
+/**
+ * Sends the fields of a player's memory in an entity that changed since the other side last had them. The server
+ * sends a player only their own memory, and a client sends the server only its player's memory.
+ */
+public class PacketSyncPlayerMemory extends AbstractPacket implements IMessage, IMessageHandler<PacketSyncPlayerMemory, IMessage>
+{
+	private int entityId;
+	private PlayerMemory memory;
+	private int[] fieldIds;
+	private byte[] fieldData;
+
+	public PacketSyncPlayerMemory()
+	{
+	}
+
+	public PacketSyncPlayerMemory(AbstractEntity entity, PlayerMemory memory, int[] fieldIds)
+	{
+		this.entityId = entity.getEntityId();
+		this.memory = memory;
+		this.fieldIds = fieldIds;
+	}
+
+	@Override
+	public void fromBytes(ByteBuf byteBuf)
+	{
+		entityId = byteBuf.readInt();
+		fieldData = new byte[byteBuf.readableBytes()];
+		byteBuf.readBytes(fieldData);
+	}
+
+	@Override
+	public void toBytes(ByteBuf byteBuf)
+	{
+		final SyncSchema schema = SyncSchema.forClass(PlayerMemory.class);
+		final SyncOutput output = new SyncOutput(byteBuf);
+
+		byteBuf.writeInt(entityId);
+		output.writeVarInt(fieldIds.length);
+
+		try
+		{
+			for (final int fieldId : fieldIds)
+			{
+				output.writeVarInt(fieldId);
+				schema.writeValue(memory, fieldId, output);
+			}
+		}
+
+		catch (final IllegalAccessException e)
+		{
+			throw new IllegalStateException("Unable to read field of PlayerMemory", e);
+		}
+	}
+
+	@Override
+	public IMessage onMessage(PacketSyncPlayerMemory packet, MessageContext context)
+	{
+		final EntityPlayer player = getPlayer(context);
+		final Entity entity = player.worldObj.getEntityByID(packet.entityId);
+
+		//The entity may have left this client's view before the packet arrived. A full sync is requested when it returns.
+		if (!(entity instanceof AbstractEntity))
+		{
+			return null;
+		}
+
+		final AbstractEntity abstractEntity = (AbstractEntity) entity;
+		final String playerName = player.getCommandSenderName();
+		PlayerMemory memory = abstractEntity.playerMemoryMap.get(playerName);
+
+		if (memory == null)
+		{
+			memory = new PlayerMemory(playerName);
+			abstractEntity.playerMemoryMap.put(playerName, memory);
+		}
+
+		final SyncSchema schema = SyncSchema.forClass(PlayerMemory.class);
+		final SyncSnapshot syncedValues = getSyncedValues(memory);
+		final SyncInput input = new SyncInput(Unpooled.wrappedBuffer(packet.fieldData));
+		final int fieldCount = input.readVarInt();
+
+		try
+		{
+			for (int i = 0; i < fieldCount; i++)
+			{
+				final int fieldId = input.readVarInt();
+
+				if (fieldId >= schema.getFieldCount())
+				{
+					MCA.getInstance().getLogger().log("WARNING: Field ID " + fieldId + " does not match any field of PlayerMemory. Client and server MCA versions may differ.");
+					return null;
+				}
+
+				schema.readValue(memory, fieldId, input);
+
+				//The sender already has this value, so it does not need to be sent back.
+				syncedValues.record(memory, fieldId);
+			}
+		}
+
+		catch (final IllegalAccessException e)
+		{
+			MCA.getInstance().getLogger().log("Error setting player memory value.");
+			MCA.getInstance().getLogger().log(e);
+		}
+
+		//A client may only change its own player's memory.
+		memory.playerName = playerName;
+
+		if (MCA.getInstance().debugDoLogPackets && MCA.getInstance().inDebugMode)
+		{
+			MCA.getInstance().getLogger().log("\t" + packet.entityId + " | playerMemory | " + fieldCount + " fields");
+		}
+
+		return null;
+	}
+
+	/**
+	 * Finds the fields of a memory that changed since the other side last had them, and remembers their current
+	 * values as sent.
+	 *
+	 * @param memory The memory about to be sent.
+	 * @return The schema IDs of the changed fields, in ascending order. Every field if the other side has none of them.
+	 */
+	public static int[] drainChangedFields(PlayerMemory memory)
+	{
+		return getSyncedValues(memory).drainChangedFields(memory);
+	}
+
+	/**
+	 * Remembers every field of a memory as known by the other side, such as after the memory was sent or received in full.
+	 *
+	 * @param memory The memory that was sent or received.
+	 */
+	public static void markAllFieldsSynced(PlayerMemory memory)
+	{
+		getSyncedValues(memory).recordAll(memory);
+	}
+
+	private static SyncSnapshot getSyncedValues(PlayerMemory memory)
+	{
+		if (memory.syncedValues == null)
+		{
+			memory.syncedValues = new SyncSnapshot(SyncSchema.forClass(PlayerMemory.class));
+		}
+
+		return memory.syncedValues;
+	}
+}
@@ -63,7 +63,7 @@ public class PacketSyncRequest extends AbstractPacket implements IMessage, IMess
 
 						if (entity != null && entity.getEntityId() == packet.entityId)
 						{
-							MCA.packetHandler.sendPacketToPlayer(new PacketSync(entity.getEntityId(), entity), (EntityPlayerMP) player);
+							MCA.packetHandler.sendPacketToPlayer(new PacketSync(entity.getEntityId(), entity, player), (EntityPlayerMP) player);
 							MCA.packetHandler.sendPacketToPlayer(new PacketSetInventory(entity.getEntityId(), entity.inventory), (EntityPlayerMP) player);
 							MCA.getInstance().entitiesMap.put(entity.mcaID, entity);
 							break;
@@ -7,6 +7,7 @@
 
 package mca.tileentity;
 
+import mca.core.util.VillagerBedRegistry;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 
@@ -31,12 +32,78 @@ public class TileEntityVillagerBed extends TileEntity
 		isVillagerSleepingIn = value;
 	}
 
+	/**
+	 * Marks the bed as occupied by a villager, unless a different villager is already sleeping in it. The check and
+	 * the change are made together so that two villagers can never be given the same bed.
+	 * 
+	 * @param villagerId The MCA ID of the villager that wants the bed.
+	 * @return True if the villager now has the bed.
+	 */
+	public synchronized boolean tryClaim(int villagerId)
+	{
+		if (isVillagerSleepingIn && sleepingVillagerId != villagerId)
+		{
+			return false;
+		}
+
+		isVillagerSleepingIn = true;
+		sleepingVillagerId = villagerId;
+		return true;
+	}
+
+	/**
+	 * Marks the bed as free if the provided villager is the one sleeping in it.
+	 * 
+	 * @param villagerId The MCA ID of the villager leaving the bed.
+	 */
+	public synchronized void release(int villagerId)
+	{
+		if (sleepingVillagerId == villagerId)
+		{
+			isVillagerSleepingIn = false;
+			sleepingVillagerId = -1;
+		}
+	}
+
 	@Override
 	public void updateEntity()
 	{
 		super.updateEntity();
 	}
 
+	@Override
+	public void validate()
+	{
+		super.validate();
+
+		if (worldObj != null && !worldObj.isRemote)
+		{
+			VillagerBedRegistry.forWorld(worldObj).addBed(this);
+		}
+	}
+
+	@Override
+	public void invalidate()
+	{
+		super.invalidate();
+
+		if (worldObj != null && !worldObj.isRemote)
+		{
+			VillagerBedRegistry.forWorld(worldObj).removeBed(this);
+		}
+	}
+
+	@Override
+	public void onChunkUnload()
+	{
+		super.onChunkUnload();
+
+		if (worldObj != null && !worldObj.isRemote)
+		{
+			VillagerBedRegistry.forWorld(worldObj).removeBed(this);
+		}
+	}
+
 	@Override
 	public void writeToNBT(NBTTagCompound nbt)
 	{